@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.aerospike.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor writing {@value #INDEX_LOCATION}, an index of the Aerospike entities and repositories
+ * of a module, so that the starters look them up instead of scanning the classpath on startup.
+ * <p>
+ * Entities are classes annotated, directly or as a meta-annotation, with {@code @Document} or {@code @Persistent},
+ * repositories are interfaces extending {@code Repository} or annotated with {@code @RepositoryDefinition},
+ * except for {@code @NoRepositoryBean} ones. Each line of the index is {@code <binary class name>=<kind>}.
+ * Entries of an index left by a previous, incremental compilation are kept.
+ */
+@SupportedAnnotationTypes("*")
+public class AerospikeComponentsIndexer extends AbstractProcessor {
+
+    public static final String INDEX_LOCATION = "META-INF/aerospike.components";
+    public static final String ENTITY = "entity";
+    public static final String REPOSITORY = "repository";
+
+    private static final Set<String> ENTITY_ANNOTATIONS = Set.of(
+            "org.springframework.data.aerospike.mapping.Document",
+            "org.springframework.data.annotation.Persistent");
+    private static final String REPOSITORY_INTERFACE = "org.springframework.data.repository.Repository";
+    private static final String REPOSITORY_DEFINITION = "org.springframework.data.repository.RepositoryDefinition";
+    private static final String NO_REPOSITORY_BEAN = "org.springframework.data.repository.NoRepositoryBean";
+
+    private final Map<String, String> components = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        if (roundEnv.processingOver() && !components.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        String kind = kind(type);
+        if (kind != null) {
+            components.put(processingEnv.getElementUtils().getBinaryName(type).toString(), kind);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    private String kind(TypeElement type) {
+        if (type.getKind() == ElementKind.INTERFACE) {
+            if (isAnnotated(type, Set.of(NO_REPOSITORY_BEAN), new HashSet<>())) {
+                return null;
+            }
+            return isRepository(type) || isAnnotated(type, Set.of(REPOSITORY_DEFINITION), new HashSet<>())
+                    ? REPOSITORY : null;
+        }
+        if (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD) {
+            return isAnnotated(type, ENTITY_ANNOTATIONS, new HashSet<>()) ? ENTITY : null;
+        }
+        return null;
+    }
+
+    private boolean isRepository(TypeElement type) {
+        TypeElement repository = processingEnv.getElementUtils().getTypeElement(REPOSITORY_INTERFACE);
+        if (repository == null || repository.equals(type)) {
+            return false;
+        }
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(repository.asType());
+        return processingEnv.getTypeUtils().isAssignable(type.asType(), erasure);
+    }
+
+    private boolean isAnnotated(Element element, Set<String> annotationNames, Set<String> visited) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            String name = annotationType.getQualifiedName().toString();
+            if (annotationNames.contains(name)) {
+                return true;
+            }
+            if (!name.startsWith("java.lang.annotation.") && visited.add(name)
+                    && isAnnotated(annotationType, annotationNames, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write() {
+        Map<String, String> index = readExisting();
+        index.putAll(components);
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, String> entry : index.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + INDEX_LOCATION + ": " + e);
+        }
+    }
+
+    private Map<String, String> readExisting() {
+        Map<String, String> index = new TreeMap<>();
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int separator = line.indexOf('=');
+                    if (separator > 0) {
+                        index.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+                    }
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // first compilation
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Ignoring existing " + INDEX_LOCATION + ": " + e);
+        }
+        return index;
+    }
+}
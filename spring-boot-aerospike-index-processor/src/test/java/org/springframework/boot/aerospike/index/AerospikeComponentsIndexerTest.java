@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.aerospike.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AerospikeComponentsIndexer}.
+ */
+public class AerospikeComponentsIndexerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void indexesEntitiesAndRepositories() throws IOException {
+        source("Customer", """
+                @org.springframework.data.aerospike.mapping.Document
+                public class Customer {
+
+                    @org.springframework.data.annotation.Persistent
+                    public static class Address {
+                    }
+
+                    public interface Lookup extends org.springframework.data.repository.Repository<Customer, String> {
+                    }
+                }
+                """);
+        source("CustomerRepository", """
+                public interface CustomerRepository
+                        extends org.springframework.data.aerospike.repository.AerospikeRepository<Customer, String> {
+                }
+                """);
+        source("BaseRepository", """
+                @org.springframework.data.repository.NoRepositoryBean
+                public interface BaseRepository<T>
+                        extends org.springframework.data.repository.CrudRepository<T, String> {
+                }
+                """);
+        source("Plain", "public class Plain {}");
+
+        assertThat(compile()).containsExactly(
+                "app.Customer=entity",
+                "app.Customer$Address=entity",
+                "app.Customer$Lookup=repository",
+                "app.CustomerRepository=repository");
+    }
+
+    @Test
+    public void keepsEntriesOfPreviousCompilation() throws IOException {
+        Path index = directory.resolve("classes").resolve(AerospikeComponentsIndexer.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "app.Order=entity\n");
+        source("Customer", "@org.springframework.data.aerospike.mapping.Document public class Customer {}");
+
+        assertThat(compile()).containsExactly("app.Customer=entity", "app.Order=entity");
+    }
+
+    private void source(String name, String body) throws IOException {
+        Path file = directory.resolve("src").resolve("app").resolve(name + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "package app;\n\n" + body);
+    }
+
+    private List<String> compile() throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+             var sources = Files.walk(directory.resolve("src"))) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    List.of("-d", classes.toString(), "-classpath", System.getProperty("java.class.path")), null,
+                    fileManager.getJavaFileObjectsFromPaths(sources.filter(Files::isRegularFile).toList()));
+            task.setProcessors(List.of(new AerospikeComponentsIndexer()));
+            assertThat(task.call()).isTrue();
+        }
+        return Files.readAllLines(classes.resolve(AerospikeComponentsIndexer.INDEX_LOCATION));
+    }
+}
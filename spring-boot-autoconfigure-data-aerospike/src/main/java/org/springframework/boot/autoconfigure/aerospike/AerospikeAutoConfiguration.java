@@ -19,14 +19,20 @@ package org.springframework.boot.autoconfigure.aerospike;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.async.NioEventLoops;
 import com.aerospike.client.policy.ClientPolicy;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ValidateHostsProperty;
+import org.springframework.boot.autoconfigure.util.AerospikeRuntimeHints;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.autoconfigure.util.AerospikeStartupStepsPostProcessor;
+import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 import static org.springframework.boot.autoconfigure.util.AerospikeConfigurationUtils.getClientPolicyConfig;
 
@@ -39,13 +45,27 @@ import static org.springframework.boot.autoconfigure.util.AerospikeConfiguration
 @ConditionalOnClass(IAerospikeClient.class)
 @Conditional(ValidateHostsProperty.class)
 @EnableConfigurationProperties(AerospikeProperties.class)
+@ImportRuntimeHints(AerospikeRuntimeHints.class)
 public class AerospikeAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public ClientPolicy aerospikeClientPolicy(AerospikeProperties properties) {
+    public ClientPolicy aerospikeClientPolicy(AerospikeProperties properties,
+                                              ObjectProvider<SslBundles> sslBundles) {
         ClientPolicy clientPolicy = new ClientPolicy();
         clientPolicy.eventLoops = new NioEventLoops();
-        return getClientPolicyConfig(clientPolicy, properties);
+        return getClientPolicyConfig(clientPolicy, properties, sslBundles.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public static AerospikeStartupStepsPostProcessor aerospikeStartupStepsPostProcessor() {
+        return new AerospikeStartupStepsPostProcessor();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AerospikeClientsVerifier aerospikeClientsVerifier(ListableBeanFactory beanFactory) {
+        return new AerospikeClientsVerifier(beanFactory);
     }
 }
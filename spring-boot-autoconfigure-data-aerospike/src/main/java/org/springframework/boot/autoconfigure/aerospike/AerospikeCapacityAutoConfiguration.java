@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ValidateHostsProperty;
+import org.springframework.boot.autoconfigure.util.AerospikeClientAdvisingPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for validating Aerospike connection limits
+ * against the expected workload and, when the {@code aerospikecapacity} Actuator endpoint is available,
+ * against the measured one.
+ */
+@AutoConfiguration(after = AerospikeAutoConfiguration.class)
+@ConditionalOnClass(IAerospikeClient.class)
+@Conditional(ValidateHostsProperty.class)
+public class AerospikeCapacityAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AerospikeCapacityValidator aerospikeCapacityValidator(AerospikeProperties properties) {
+        return new AerospikeCapacityValidator(properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ConditionalOnAvailableEndpoint.class)
+    @ConditionalOnAvailableEndpoint(endpoint = AerospikeCapacityEndpoint.class)
+    static class CapacityEndpointConfiguration {
+
+        @Bean
+        public static AerospikeCommandStats aerospikeCommandStats() {
+            return new AerospikeCommandStats();
+        }
+
+        @Bean
+        public static AerospikeClientAdvisingPostProcessor aerospikeCommandStatsPostProcessor(
+                AerospikeCommandStats aerospikeCommandStats) {
+            return new AerospikeClientAdvisingPostProcessor(aerospikeCommandStats,
+                    AerospikeClientAdvisingPostProcessor.COMMAND_STATS_ORDER);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AerospikeCapacityEndpoint aerospikeCapacityEndpoint(AerospikeProperties properties,
+                                                                   AerospikeCommandStats aerospikeCommandStats,
+                                                                   ObjectProvider<IAerospikeClient> aerospikeClient) {
+            return new AerospikeCapacityEndpoint(properties, aerospikeCommandStats, aerospikeClient);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Duration;
+
+/**
+ * Actuator endpoint applying {@link AerospikeCapacityPlanner} to the throughput and latency of sync and async commands
+ * averaged since startup, and the live number of cluster nodes.
+ */
+@Endpoint(id = "aerospikecapacity")
+public class AerospikeCapacityEndpoint {
+
+    private final AerospikeProperties properties;
+    private final AerospikeCommandStats commandStats;
+    private final ObjectProvider<IAerospikeClient> client;
+
+    public AerospikeCapacityEndpoint(AerospikeProperties properties, AerospikeCommandStats commandStats,
+                                     ObjectProvider<IAerospikeClient> client) {
+        this.properties = properties;
+        this.commandStats = commandStats;
+        this.client = client;
+    }
+
+    @ReadOperation
+    public CapacityDescriptor capacity() {
+        IAerospikeClient aerospikeClient = client.getIfAvailable();
+        int nodes = aerospikeClient != null ? aerospikeClient.getNodes().length : properties.getCapacity().nodes;
+        double throughput = commandStats.getThroughput();
+        Duration latency = commandStats.getAverageLatency();
+        AerospikeCapacityPlanner.Report report = AerospikeCapacityPlanner.plan(properties,
+                AerospikeCapacityPlanner.Workload.measured(throughput, latency, nodes, commandStats.getAsyncShare(),
+                        properties.getCapacity()));
+        return new CapacityDescriptor(commandStats.getCommands(), commandStats.getAsyncCommands(), throughput,
+                latency.toNanos() / 1_000_000d, commandStats.getInFlight(), commandStats.getMaxInFlight(), report);
+    }
+
+    /**
+     * Measured workload and the resulting capacity report.
+     *
+     * @param commands            commands completed since startup
+     * @param asyncCommands       async commands completed since startup, included in {@code commands}
+     * @param averageThroughput   average commands per second since startup, not the current or peak rate
+     * @param averageLatencyMs    average command latency in milliseconds since startup
+     * @param inFlight            commands currently in flight
+     * @param maxInFlight         highest number of commands in flight observed
+     * @param report              capacity report for the average workload since startup
+     */
+    public record CapacityDescriptor(long commands, long asyncCommands, double averageThroughput,
+                                     double averageLatencyMs, int inFlight, int maxInFlight,
+                                     AerospikeCapacityPlanner.Report report) {
+    }
+}
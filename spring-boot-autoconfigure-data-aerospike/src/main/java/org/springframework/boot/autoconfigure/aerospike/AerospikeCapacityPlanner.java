@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.ClientPolicy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks connection pool and event loop limits against an expected workload.
+ * <p>
+ * The number of commands in flight is derived with Little's law (throughput multiplied by latency) and
+ * multiplied by the configured headroom. Sync commands and async (or reactive) commands use separate connection
+ * pools, so the commands in flight are split by the workload's async share. The following limits are then checked:
+ * <ul>
+ *     <li>{@code maxConnsPerNode} and {@code asyncMaxConnsPerNode} cover single record commands spread over
+ *     the nodes plus the connections held by batch commands, which use up to {@code batch.maxConcurrentThreads}
+ *     nodes at once;</li>
+ *     <li>{@code maxConnsPerNode} divides evenly into {@code connPoolsPerNode} pools
+ *     and minimums are not higher than maximums;</li>
+ *     <li>when async commands are throttled, event loop threads multiplied by {@code maxCommandsInProcess}
+ *     cover the async commands in flight without exceeding {@code asyncMaxConnsPerNode}.</li>
+ * </ul>
+ */
+public class AerospikeCapacityPlanner {
+
+    public static Report plan(AerospikeProperties properties, Workload workload) {
+        ClientPolicy clientDefaults = new ClientPolicy();
+        List<Finding> findings = new ArrayList<>();
+        double inFlight = workload.inFlight() * workload.headroom();
+        double asyncInFlight = inFlight * workload.asyncShare();
+        double syncInFlight = inFlight - asyncInFlight;
+        int nodes = Math.max(workload.nodes(), 1);
+
+        int batchThreads = properties.getBatch().maxConcurrentThreads != null
+                ? properties.getBatch().maxConcurrentThreads : new BatchPolicy().maxConcurrentThreads;
+        // a batch command holds connections to this many nodes at the same time
+        int batchNodes = batchThreads == 0 ? nodes : Math.min(batchThreads, nodes);
+        int requiredConns = connsPerNode(syncInFlight, workload.batchShare(), batchNodes, nodes);
+        String requiredReason = "%.0f sync commands in flight need %d connections per node"
+                .formatted(syncInFlight, requiredConns);
+        int requiredAsyncConns = connsPerNode(asyncInFlight, workload.batchShare(), batchNodes, nodes);
+        String requiredAsyncReason = "%.0f async commands in flight need %d connections per node"
+                .formatted(asyncInFlight, requiredAsyncConns);
+
+        int maxConns = properties.getMaxConnsPerNode() != null
+                ? properties.getMaxConnsPerNode() : clientDefaults.maxConnsPerNode;
+        int pools = properties.getConnPoolsPerNode() != null
+                ? properties.getConnPoolsPerNode() : clientDefaults.connPoolsPerNode;
+        int minConns = properties.getMinConnsPerNode() != null
+                ? properties.getMinConnsPerNode() : clientDefaults.minConnsPerNode;
+        int asyncMaxConns = properties.getAsyncMaxConnsPerNode() != null
+                ? properties.getAsyncMaxConnsPerNode() : clientDefaults.asyncMaxConnsPerNode;
+        int asyncMinConns = properties.getAsyncMinConnsPerNode() != null
+                ? properties.getAsyncMinConnsPerNode() : clientDefaults.asyncMinConnsPerNode;
+
+        AerospikeProperties.EventLoopsProperties eventLoops = properties.getEventLoops();
+        int loops = eventLoopThreads(eventLoops);
+        int asyncCapacity = loops * eventLoops.maxCommandsInProcess;
+        if (eventLoops.maxCommandsInProcess > 0 && asyncCapacity > requiredAsyncConns) {
+            requiredAsyncConns = asyncCapacity;
+            requiredAsyncReason = "%d event loops may send %d commands to the same node"
+                    .formatted(loops, asyncCapacity);
+        }
+
+        if (maxConns < requiredConns) {
+            findings.add(new Finding("max-conns-per-node", maxConns, roundUp(requiredConns, pools), requiredReason));
+        } else if (maxConns % pools != 0 || maxConns / pools < 1) {
+            findings.add(new Finding("max-conns-per-node", maxConns, roundUp(maxConns, pools),
+                    "connections are split unevenly across %d pools per node".formatted(pools)));
+        }
+        if (minConns > maxConns) {
+            findings.add(new Finding("min-conns-per-node", minConns, maxConns,
+                    "minimum exceeds the maximum number of connections per node"));
+        }
+        if (asyncMaxConns < requiredAsyncConns) {
+            findings.add(new Finding("async-max-conns-per-node", asyncMaxConns, requiredAsyncConns,
+                    requiredAsyncReason));
+        }
+        if (asyncMinConns > asyncMaxConns) {
+            findings.add(new Finding("async-min-conns-per-node", asyncMinConns, asyncMaxConns,
+                    "minimum exceeds the maximum number of async connections per node"));
+        }
+        if (eventLoops.maxCommandsInProcess > 0 && asyncCapacity < Math.ceil(asyncInFlight)) {
+            int recommended = (int) Math.ceil(asyncInFlight / loops);
+            findings.add(new Finding("event-loops.max-commands-in-process", eventLoops.maxCommandsInProcess,
+                    recommended, "%d event loops process only %d of %.0f async commands in flight, the rest is queued"
+                    .formatted(loops, asyncCapacity, asyncInFlight)));
+        }
+        if (maxConns < requiredConns && batchThreads != 1 && workload.batchShare() > 0
+                && Math.ceil(syncInFlight / nodes) <= maxConns) {
+            findings.add(new Finding("batch.max-concurrent-threads", batchThreads, 1,
+                    "alternatively, sequential batch commands hold one connection at a time instead of %d"
+                            .formatted(batchNodes)));
+        }
+        return new Report(workload.inFlight(), inFlight, nodes, requiredConns, requiredAsyncConns,
+                List.copyOf(findings));
+    }
+
+    private static int connsPerNode(double inFlight, double batchShare, int batchNodes, int nodes) {
+        double batchInFlight = inFlight * batchShare;
+        return (int) Math.ceil((inFlight - batchInFlight) / nodes + batchInFlight * batchNodes / nodes);
+    }
+
+    /**
+     * Returns the number of event loop threads, resolving {@code threads=0} to the default of the event loop type:
+     * Netty event loop groups default to twice the number of processors, NIO event loops to the number of processors.
+     */
+    static int eventLoopThreads(AerospikeProperties.EventLoopsProperties eventLoops) {
+        if (eventLoops.threads > 0) {
+            return eventLoops.threads;
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        if ("netty".equalsIgnoreCase(eventLoops.eventLoopsType)) {
+            return Math.max(1, Integer.getInteger("io.netty.eventLoopThreads", processors * 2));
+        }
+        return processors;
+    }
+
+    private static int roundUp(int value, int multiple) {
+        return multiple <= 1 ? value : (value + multiple - 1) / multiple * multiple;
+    }
+
+    /**
+     * Expected or measured workload.
+     *
+     * @param inFlight   commands in flight, before headroom is applied
+     * @param nodes      number of cluster nodes
+     * @param headroom   factor applied on top of {@code inFlight}
+     * @param batchShare share of commands in flight that are batch commands
+     * @param asyncShare share of commands in flight that are async or reactive commands
+     */
+    public record Workload(double inFlight, int nodes, double headroom, double batchShare, double asyncShare) {
+
+        /**
+         * Returns the workload declared in properties, or {@code null} if none is declared.
+         */
+        public static Workload declared(AerospikeProperties.CapacityProperties capacity) {
+            if (capacity.expectedConcurrency != null) {
+                return new Workload(capacity.expectedConcurrency, capacity.nodes, capacity.headroom,
+                        capacity.batchShare, capacity.asyncShare);
+            }
+            if (capacity.expectedThroughput != null && capacity.expectedLatency != null) {
+                return measured(capacity.expectedThroughput, capacity.expectedLatency, capacity.nodes,
+                        capacity.asyncShare, capacity);
+            }
+            return null;
+        }
+
+        /**
+         * Returns the workload for the given throughput in commands per second, latency and share of async commands.
+         */
+        public static Workload measured(double throughput, Duration latency, int nodes, double asyncShare,
+                                        AerospikeProperties.CapacityProperties capacity) {
+            double inFlight = throughput * latency.toNanos() / 1_000_000_000d;
+            return new Workload(inFlight, nodes, capacity.headroom, capacity.batchShare, asyncShare);
+        }
+    }
+
+    /**
+     * Result of checking the configured limits against a workload.
+     *
+     * @param inFlight              commands in flight
+     * @param plannedInFlight       commands in flight including headroom
+     * @param nodes                 number of cluster nodes
+     * @param requiredConnsPerNode       sync connections per node needed for the planned commands in flight
+     * @param requiredAsyncConnsPerNode  async connections per node needed for the planned commands in flight
+     * @param findings                   limits that are too low or inconsistent, empty if all limits are fine
+     */
+    public record Report(double inFlight, double plannedInFlight, int nodes, int requiredConnsPerNode,
+                         int requiredAsyncConnsPerNode, List<Finding> findings) {
+
+        public boolean isValid() {
+            return findings.isEmpty();
+        }
+    }
+
+    /**
+     * A limit that should be changed.
+     *
+     * @param property    property name relative to {@code spring.aerospike}
+     * @param configured  configured (or default) value
+     * @param recommended recommended value
+     * @param reason      why the configured value is not sufficient
+     */
+    public record Finding(String property, int configured, int recommended, String reason) {
+
+        @Override
+        public String toString() {
+            return "spring.aerospike.%s=%d (recommended %d): %s".formatted(property, configured, recommended, reason);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.stream.Collectors;
+
+/**
+ * Validates configured connection pool and event loop limits against the workload declared in
+ * {@link AerospikeProperties.CapacityProperties} on startup.
+ */
+@Slf4j
+public class AerospikeCapacityValidator implements InitializingBean {
+
+    private final AerospikeProperties properties;
+
+    public AerospikeCapacityValidator(AerospikeProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        AerospikeCapacityPlanner.Workload workload =
+                AerospikeCapacityPlanner.Workload.declared(properties.getCapacity());
+        if (workload == null) {
+            return;
+        }
+        AerospikeCapacityPlanner.Report report = AerospikeCapacityPlanner.plan(properties, workload);
+        if (report.isValid()) {
+            log.info("Aerospike connection limits cover {} commands in flight ({} sync and {} async connections "
+                            + "per node)", Math.round(report.plannedInFlight()), report.requiredConnsPerNode(),
+                    report.requiredAsyncConnsPerNode());
+            return;
+        }
+        String findings = report.findings().stream()
+                .map(finding -> "  " + finding)
+                .collect(Collectors.joining(System.lineSeparator()));
+        String message = "Aerospike connection limits are too low for %d commands in flight:%n%s"
+                .formatted(Math.round(report.plannedInFlight()), findings);
+        if (properties.getCapacity().failOnViolation) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
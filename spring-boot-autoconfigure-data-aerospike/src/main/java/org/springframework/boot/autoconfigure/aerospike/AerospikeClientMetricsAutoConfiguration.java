@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.ClientPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeAsyncIndexCreator;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeCompressionInterceptor;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeCompressionMetrics;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeIndexMetrics;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeMetadataRefreshMetrics;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeMetadataRefreshScheduler;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeReadCoalescer;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeReadCoalescingMetrics;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeWriteBehind;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeWriteBehindMetrics;
+import org.springframework.boot.autoconfigure.util.AerospikeClientAdvisingPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_CONNECTION;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for metrics of the Aerospike client.
+ * Loaded when Micrometer is on the classpath.
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.client.autoconfigure.AerospikeClientConfiguration",
+        "org.springframework.boot.client.reactive.autoconfigure.AerospikeReactorClientConfiguration",
+        "org.springframework.boot.aerospike.data.AerospikeDataAutoConfiguration",
+        "org.springframework.boot.aerospike.reactive.data.AerospikeReactiveDataAutoConfiguration"
+})
+@ConditionalOnClass({IAerospikeClient.class, MeterRegistry.class})
+public class AerospikeClientMetricsAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean({IAerospikeClient.class, ClientPolicy.class})
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_CONNECTION, name = "rack-aware", havingValue = "true")
+    static class RackMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public static AerospikeRackMetrics aerospikeRackMetrics(ObjectProvider<ClientPolicy> aerospikeClientPolicy) {
+            return new AerospikeRackMetrics(aerospikeClientPolicy);
+        }
+
+        @Bean
+        public static AerospikeClientAdvisingPostProcessor aerospikeRackMetricsPostProcessor(
+                AerospikeRackMetrics aerospikeRackMetrics) {
+            return new AerospikeClientAdvisingPostProcessor(aerospikeRackMetrics,
+                    AerospikeClientAdvisingPostProcessor.RACK_METRICS_ORDER);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(AerospikeCompressionInterceptor.class)
+    static class CompressionMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AerospikeCompressionMetrics aerospikeCompressionMetrics(
+                AerospikeCompressionInterceptor aerospikeCompressionInterceptor) {
+            return new AerospikeCompressionMetrics(aerospikeCompressionInterceptor);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(AerospikeAsyncIndexCreator.class)
+    static class IndexMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AerospikeIndexMetrics aerospikeIndexMetrics(AerospikeAsyncIndexCreator aerospikeAsyncIndexCreator) {
+            return new AerospikeIndexMetrics(aerospikeAsyncIndexCreator);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(AerospikeMetadataRefreshScheduler.class)
+    static class MetadataRefreshMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AerospikeMetadataRefreshMetrics aerospikeMetadataRefreshMetrics(
+                AerospikeMetadataRefreshScheduler aerospikeMetadataRefreshScheduler) {
+            return new AerospikeMetadataRefreshMetrics(aerospikeMetadataRefreshScheduler);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(AerospikeReadCoalescer.class)
+    static class ReadCoalescingMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AerospikeReadCoalescingMetrics aerospikeReadCoalescingMetrics(
+                AerospikeReadCoalescer aerospikeReadCoalescer) {
+            return new AerospikeReadCoalescingMetrics(aerospikeReadCoalescer);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(AerospikeWriteBehind.class)
+    static class WriteBehindMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AerospikeWriteBehindMetrics aerospikeWriteBehindMetrics(AerospikeWriteBehind aerospikeWriteBehind) {
+            return new AerospikeWriteBehindMetrics(aerospikeWriteBehind);
+        }
+    }
+}
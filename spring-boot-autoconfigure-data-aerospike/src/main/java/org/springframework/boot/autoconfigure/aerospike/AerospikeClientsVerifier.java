@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.Arrays;
+
+/**
+ * Warns on startup when more than one {@link IAerospikeClient} bean is defined. Every client opens its own
+ * connection pools, tend thread and event loop commands against the cluster, so starters and applications
+ * are expected to share a single one.
+ */
+@Slf4j
+public class AerospikeClientsVerifier implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+
+    public AerospikeClientsVerifier(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String[] names = beanFactory.getBeanNamesForType(IAerospikeClient.class, false, false);
+        if (names.length > 1) {
+            log.warn("Found {} Aerospike clients {}, each of them keeps its own connections to the cluster. "
+                    + "Define a single IAerospikeClient bean to share it across starters", names.length,
+                    Arrays.toString(names));
+        }
+    }
+}
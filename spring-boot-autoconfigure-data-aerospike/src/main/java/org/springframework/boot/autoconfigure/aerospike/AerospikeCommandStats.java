@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.async.EventLoop;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.boot.autoconfigure.util.AerospikeCommandLayout;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures count, latency and concurrency of {@link com.aerospike.client.IAerospikeClient} commands.
+ * <p>
+ * Async commands, including the ones issued by the reactor client, are measured from the call until their listener
+ * receives {@code onSuccess} or {@code onFailure}. Fire-and-forget async commands without a listener are not measured.
+ */
+public class AerospikeCommandStats implements MethodInterceptor {
+
+    private static final String LISTENER_PACKAGE = "com.aerospike.client.listener";
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder asyncCommands = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (AerospikeCommandLayout.forMethod(method) == AerospikeCommandLayout.NONE) {
+            return invocation.proceed();
+        }
+        if (isAsync(method)) {
+            return invokeAsync(invocation);
+        }
+        long start = start();
+        try {
+            return invocation.proceed();
+        } finally {
+            complete(start);
+        }
+    }
+
+    private Object invokeAsync(MethodInvocation invocation) throws Throwable {
+        Class<?>[] parameterTypes = invocation.getMethod().getParameterTypes();
+        Object[] args = invocation.getArguments();
+        int listenerIndex = -1;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isInterface() && LISTENER_PACKAGE.equals(parameterTypes[i].getPackageName())) {
+                listenerIndex = i;
+                break;
+            }
+        }
+        if (listenerIndex < 0 || args[listenerIndex] == null) {
+            return invocation.proceed();
+        }
+        Completion completion = new Completion(start());
+        args[listenerIndex] = completion.wrap(parameterTypes[listenerIndex], args[listenerIndex]);
+        try {
+            return invocation.proceed();
+        } catch (Throwable ex) {
+            // the command was rejected before it was queued, e.g. because the delay queue is full
+            completion.complete();
+            throw ex;
+        }
+    }
+
+    private static boolean isAsync(Method method) {
+        return method.getParameterCount() > 0 && method.getParameterTypes()[0] == EventLoop.class;
+    }
+
+    private long start() {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return System.nanoTime();
+    }
+
+    private void complete(long start) {
+        totalNanos.add(System.nanoTime() - start);
+        commands.increment();
+        inFlight.decrementAndGet();
+    }
+
+    public long getCommands() {
+        return commands.sum();
+    }
+
+    /**
+     * Returns the number of completed async commands, a subset of {@link #getCommands()}.
+     */
+    public long getAsyncCommands() {
+        return asyncCommands.sum();
+    }
+
+    /**
+     * Returns the share of completed commands that are async commands, between 0 and 1.
+     */
+    public double getAsyncShare() {
+        long count = getCommands();
+        return count > 0 ? (double) getAsyncCommands() / count : 0;
+    }
+
+    /**
+     * Returns the average throughput in commands per second since startup.
+     */
+    public double getThroughput() {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000d;
+        return seconds > 0 ? getCommands() / seconds : 0;
+    }
+
+    /**
+     * Returns the average command latency since startup.
+     */
+    public Duration getAverageLatency() {
+        long count = getCommands();
+        return count > 0 ? Duration.ofNanos(totalNanos.sum() / count) : Duration.ZERO;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * Completes an async command once, when its listener receives the final callback.
+     */
+    private final class Completion {
+
+        private final long start;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        Completion(long start) {
+            this.start = start;
+        }
+
+        Object wrap(Class<?> listenerType, Object listener) {
+            return Proxy.newProxyInstance(listenerType.getClassLoader(), new Class<?>[]{listenerType},
+                    (proxy, method, args) -> {
+                        if (method.getDeclaringClass() == Object.class) {
+                            return method.invoke(listener, args);
+                        }
+                        if ("onSuccess".equals(method.getName()) || "onFailure".equals(method.getName())) {
+                            complete();
+                        }
+                        try {
+                            return method.invoke(listener, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getTargetException();
+                        }
+                    });
+        }
+
+        void complete() {
+            if (completed.compareAndSet(false, true)) {
+                asyncCommands.increment();
+                AerospikeCommandStats.this.complete(start);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import org.crac.Resource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ValidateHostsProperty;
+import org.springframework.boot.autoconfigure.util.AerospikeCracResource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+
+import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_CONNECTION;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for checkpoint/restore (CRaC) of Aerospike clients
+ * and event loops. Loaded when {@code org.crac:crac} is on the classpath.
+ */
+@AutoConfiguration(after = AerospikeAutoConfiguration.class)
+@ConditionalOnClass({IAerospikeClient.class, Resource.class})
+@Conditional(ValidateHostsProperty.class)
+@ConditionalOnProperty(prefix = CONFIG_PREFIX_CONNECTION, name = "crac.enabled", matchIfMissing = true)
+public class AerospikeCracAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public static AerospikeCracResource aerospikeCracResource(ObjectProvider<AerospikeProperties> properties) {
+        return new AerospikeCracResource(properties);
+    }
+}
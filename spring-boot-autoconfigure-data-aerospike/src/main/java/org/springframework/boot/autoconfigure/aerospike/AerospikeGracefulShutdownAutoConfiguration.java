@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ValidateHostsProperty;
+import org.springframework.boot.autoconfigure.util.AerospikeClientAdvisingPostProcessor;
+import org.springframework.boot.autoconfigure.util.AerospikeCommandGate;
+import org.springframework.boot.autoconfigure.util.AerospikeGracefulShutdown;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+
+import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_CONNECTION;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for draining in-flight Aerospike commands
+ * before clients and event loops are closed, enabled with {@code spring.aerospike.shutdown.enabled=true}.
+ */
+@AutoConfiguration(after = AerospikeAutoConfiguration.class)
+@ConditionalOnClass(IAerospikeClient.class)
+@Conditional(ValidateHostsProperty.class)
+@ConditionalOnProperty(prefix = CONFIG_PREFIX_CONNECTION, name = "shutdown.enabled")
+public class AerospikeGracefulShutdownAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public static AerospikeCommandGate aerospikeCommandGate() {
+        return new AerospikeCommandGate();
+    }
+
+    @Bean
+    public static AerospikeClientAdvisingPostProcessor aerospikeCommandGatePostProcessor(
+            AerospikeCommandGate aerospikeCommandGate) {
+        return new AerospikeClientAdvisingPostProcessor(aerospikeCommandGate,
+                AerospikeClientAdvisingPostProcessor.COMMAND_GATE_ORDER);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AerospikeGracefulShutdown aerospikeGracefulShutdown(AerospikeProperties properties,
+                                                               AerospikeCommandGate aerospikeCommandGate,
+                                                               ListableBeanFactory beanFactory) {
+        return new AerospikeGracefulShutdown(properties.getShutdown(), aerospikeCommandGate, beanFactory);
+    }
+}
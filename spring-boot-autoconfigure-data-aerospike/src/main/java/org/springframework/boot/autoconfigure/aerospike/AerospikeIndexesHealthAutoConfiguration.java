@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeAsyncIndexCreator;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeIndexesHealthIndicator;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for the {@code aerospikeIndexes} health indicator
+ * reporting secondary indexes created in the background. Add it to the readiness group to keep traffic
+ * away until all indexes are built.
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.aerospike.data.AerospikeDataAutoConfiguration",
+        "org.springframework.boot.aerospike.reactive.data.AerospikeReactiveDataAutoConfiguration"
+})
+@ConditionalOnClass({HealthIndicator.class, ConditionalOnEnabledHealthIndicator.class})
+@ConditionalOnBean(AerospikeAsyncIndexCreator.class)
+@ConditionalOnEnabledHealthIndicator("aerospikeIndexes")
+public class AerospikeIndexesHealthAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(name = "aerospikeIndexesHealthIndicator")
+    public AerospikeIndexesHealthIndicator aerospikeIndexesHealthIndicator(
+            AerospikeAsyncIndexCreator aerospikeAsyncIndexCreator) {
+        return new AerospikeIndexesHealthIndicator(aerospikeAsyncIndexCreator);
+    }
+}
@@ -18,11 +18,18 @@ package org.springframework.boot.autoconfigure.aerospike;
 
 import com.aerospike.client.async.EventPolicy;
 import com.aerospike.client.policy.AuthMode;
+import com.aerospike.client.policy.Replica;
 import lombok.Data;
 import org.springframework.boot.autoconfigure.util.EventLoopsFactory;
+import org.springframework.boot.autoconfigure.util.RackIdResolver;
+import org.springframework.boot.autoconfigure.util.TlsPolicyFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_CONNECTION;
 
@@ -97,6 +104,17 @@ public class AerospikeProperties {
      */
     private Integer connPoolsPerNode;
 
+    /**
+     * Minimum number of asynchronous connections allowed per server node.
+     */
+    private Integer asyncMinConnsPerNode;
+
+    /**
+     * Maximum number of asynchronous connections allowed per server node.
+     * Async and reactive commands are limited by this value instead of {@link #maxConnsPerNode}.
+     */
+    private Integer asyncMaxConnsPerNode;
+
     /**
      * Maximum socket idle.
      */
@@ -112,6 +130,30 @@ public class AerospikeProperties {
      */
     private Boolean failIfNotConnected = true;
 
+    /**
+     * Track server rack data to prefer reading from nodes on the same rack as this client.
+     * When enabled, reads default to {@link Replica#PREFER_RACK} unless a replica is configured explicitly.
+     */
+    private Boolean rackAware;
+
+    /**
+     * Rack where this client instance resides. If not set, it is resolved via {@link #rackDetection}.
+     */
+    private Integer rackId;
+
+    /**
+     * List of acceptable racks in order of preference. Takes precedence over {@link #rackId}.
+     */
+    private List<Integer> rackIds;
+
+    private RackDetectionProperties rackDetection = new RackDetectionProperties();
+
+    /**
+     * Estimated payload size of write and batch commands above which compression is turned on for the command.
+     * Applies to data starters only, compression stays off for smaller payloads unless set on the policy.
+     */
+    private DataSize compressionThreshold;
+
     private InfoPolicyDefault info = new InfoPolicyDefault();
 
     private ReadPolicyDefault read = new ReadPolicyDefault();
@@ -130,6 +172,14 @@ public class AerospikeProperties {
 
     private EventLoopsProperties eventLoops = new EventLoopsProperties();
 
+    private TlsProperties tls = new TlsProperties();
+
+    private CapacityProperties capacity = new CapacityProperties();
+
+    private CracProperties crac = new CracProperties();
+
+    private ShutdownProperties shutdown = new ShutdownProperties();
+
     /**
      * For more details on each option see corresponding field documentation in {@link com.aerospike.client.policy.Policy}.
      */
@@ -167,6 +217,11 @@ public class AerospikeProperties {
          * If the key is sent in a write operation, it will be stored with the record on the server.
          */
         public Boolean sendKey;
+
+        /**
+         * Replica algorithm used to determine the target node for a partition derived from a key.
+         */
+        public Replica replica;
     }
 
     /**
@@ -353,4 +408,187 @@ public class AerospikeProperties {
          */
         public String nioPoolName = "aerospike-nio-event-loop";
     }
+
+    /**
+     * Sources used to resolve the client rack id when rack awareness is enabled and no rack id is given.
+     * They are checked in order: system property, environment variable, topology labels file.
+     * <p>
+     * See {@link RackIdResolver} for details.
+     */
+    @Data
+    public static class RackDetectionProperties {
+
+        /**
+         * System property holding the rack id.
+         */
+        public String systemProperty = "aerospike.rack-id";
+
+        /**
+         * Environment variable holding the rack id.
+         */
+        public String environmentVariable = "AEROSPIKE_RACK_ID";
+
+        /**
+         * Labels file in {@code key="value"} format, e.g. exposed by the Kubernetes downward API.
+         */
+        public String labelsFile = "/etc/podinfo/labels";
+
+        /**
+         * Label in the labels file holding the zone of this instance.
+         */
+        public String zoneLabel = "topology.kubernetes.io/zone";
+
+        /**
+         * Rack ids by zone name. Numeric zone values are used as rack id when not mapped.
+         */
+        public Map<String, Integer> zoneRackIds = new LinkedHashMap<>();
+    }
+
+    /**
+     * TLS settings of client connections. For details see {@link com.aerospike.client.policy.TlsPolicy}
+     * and {@link TlsPolicyFactory}.
+     * <p>
+     * Hosts are expected in {@code hostname:tlsname:port} format when TLS is enabled.
+     */
+    @Data
+    public static class TlsProperties {
+
+        /**
+         * Whether to use TLS for client connections. Enabled implicitly when {@link #bundle} is set.
+         */
+        public Boolean enabled;
+
+        /**
+         * Name of the Spring Boot SSL bundle providing key and trust material.
+         * If not set, the JVM default trust store is used.
+         */
+        public String bundle;
+
+        /**
+         * JCA provider of the TLS engine: {@code jdk} (default) or {@code openssl}, which uses the
+         * BoringSSL based Conscrypt provider and requires {@code org.conscrypt:conscrypt-openjdk-uber}.
+         * Any other value is looked up as a registered security provider name.
+         * Applies to both {@code nio} and {@code netty} event loops.
+         */
+        public String provider = "jdk";
+
+        /**
+         * Allowable TLS protocols. If not set, the client default is used.
+         */
+        public String[] protocols;
+
+        /**
+         * Allowable TLS cipher suites. If not set, the provider default is used.
+         */
+        public String[] ciphers;
+
+        /**
+         * Use TLS connections only for login authentication, all other communication uses non-TLS connections.
+         */
+        public Boolean forLoginOnly;
+
+        /**
+         * Number of TLS sessions cached for resumption, so reconnects (for example after
+         * {@code maxSocketIdle}) skip the full handshake. {@code 0} means no limit.
+         */
+        public int sessionCacheSize = 1024;
+
+        /**
+         * How long cached TLS sessions can be resumed.
+         */
+        public Duration sessionTimeout = Duration.ofHours(1);
+
+        public boolean useTls() {
+            return Boolean.TRUE.equals(enabled) || (enabled == null && bundle != null);
+        }
+    }
+
+    /**
+     * Expected workload used to validate connection pool and event loop limits at startup.
+     * See {@link AerospikeCapacityPlanner} for the applied rules.
+     * <p>
+     * Validation is enabled when {@link #expectedConcurrency} or both {@link #expectedThroughput}
+     * and {@link #expectedLatency} are set.
+     */
+    @Data
+    public static class CapacityProperties {
+
+        /**
+         * Expected number of commands in flight at peak.
+         */
+        public Integer expectedConcurrency;
+
+        /**
+         * Expected peak throughput in commands per second, used with {@link #expectedLatency}
+         * to derive the number of commands in flight (Little's law).
+         */
+        public Integer expectedThroughput;
+
+        /**
+         * Expected command latency.
+         */
+        public Duration expectedLatency;
+
+        /**
+         * Number of cluster nodes. Defaults to 1, which assumes all commands can hit the same node.
+         */
+        public int nodes = 1;
+
+        /**
+         * Factor applied on top of the expected number of commands in flight to absorb bursts and skew.
+         */
+        public double headroom = 1.5;
+
+        /**
+         * Share of commands in flight that are batch commands, between 0 and 1.
+         */
+        public double batchShare = 0;
+
+        /**
+         * Share of commands in flight that are async or reactive commands, between 0 and 1.
+         */
+        public double asyncShare = 0;
+
+        /**
+         * Whether to fail startup when configured limits are too low, otherwise a warning is logged.
+         */
+        public boolean failOnViolation = false;
+    }
+
+    /**
+     * Checkpoint/restore (CRaC) support, active when {@code org.crac:crac} is on the classpath.
+     * See {@link org.springframework.boot.autoconfigure.util.AerospikeCracResource}.
+     */
+    @Data
+    public static class CracProperties {
+
+        /**
+         * Whether to close clients and event loops before a checkpoint and reconnect them after restore.
+         */
+        public boolean enabled = true;
+
+        /**
+         * Whether to send an info command to every node after restore, so that the first requests
+         * do not pay for opening connections.
+         */
+        public boolean warmUp = true;
+    }
+
+    /**
+     * Draining of in-flight commands when the application context is closed.
+     * See {@link org.springframework.boot.autoconfigure.util.AerospikeGracefulShutdown}.
+     */
+    @Data
+    public static class ShutdownProperties {
+
+        /**
+         * Whether to reject new commands and wait for in-flight ones before clients and event loops are closed.
+         */
+        public boolean enabled = false;
+
+        /**
+         * Maximum time to wait for in-flight commands to complete.
+         */
+        public Duration timeout = Duration.ofSeconds(10);
+    }
 }
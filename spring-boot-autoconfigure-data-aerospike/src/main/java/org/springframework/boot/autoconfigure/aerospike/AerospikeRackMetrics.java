@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.Replica;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.util.AerospikeCommandLayout;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Exposes the number of single record reads routed to nodes on the client's racks ({@code locality=local})
+ * and to nodes on other racks ({@code locality=remote}), so that the effect of rack-aware reads can be observed.
+ * <p>
+ * Reads are classified when they are issued, by resolving the node of the first attempt from the partition map
+ * and checking its rack for the namespace of the key. Only reads with a replica policy that always picks the same
+ * node ({@code SEQUENCE}, {@code MASTER} and {@code PREFER_RACK}) are counted: {@code MASTER_PROLES} and
+ * {@code RANDOM} choose the node per command, so resolving it again would neither match the node used nor leave
+ * the shared round-robin counter alone. Client metrics are not enabled, so a metrics listener configured by the
+ * application is left alone.
+ */
+public class AerospikeRackMetrics implements MethodInterceptor, MeterBinder {
+
+    private final Supplier<List<Integer>> rackIds;
+    private final LongAdder localReads = new LongAdder();
+    private final LongAdder remoteReads = new LongAdder();
+
+    public AerospikeRackMetrics(ObjectProvider<ClientPolicy> clientPolicy) {
+        this.rackIds = SingletonSupplier.of(() -> rackIds(clientPolicy.getIfAvailable()));
+    }
+
+    AerospikeRackMetrics(List<Integer> rackIds) {
+        this.rackIds = () -> rackIds;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        AerospikeCommandLayout layout = AerospikeCommandLayout.forMethod(invocation.getMethod());
+        if (layout.getPolicyType() == AerospikeCommandLayout.PolicyType.READ
+                && invocation.getArguments()[layout.getTargetIndex()] instanceof Key key) {
+            IAerospikeClient client = (IAerospikeClient) invocation.getThis();
+            Policy policy = (Policy) invocation.getArguments()[layout.getPolicyIndex()];
+            record(client, policy != null ? policy : client.getReadPolicyDefault(), key);
+        }
+        return invocation.proceed();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("aerospike.client.reads", localReads, LongAdder::sum)
+                .description("Reads routed to nodes on the client racks")
+                .tag("locality", "local")
+                .register(registry);
+        FunctionCounter.builder("aerospike.client.reads", remoteReads, LongAdder::sum)
+                .description("Reads routed to nodes on other racks")
+                .tag("locality", "remote")
+                .register(registry);
+        Gauge.builder("aerospike.client.reads.local.ratio", this, AerospikeRackMetrics::localRatio)
+                .description("Share of reads routed to nodes on the client racks")
+                .register(registry);
+    }
+
+    void record(IAerospikeClient client, Policy policy, Key key) {
+        if (!isSameNodePerKey(policy.replica)) {
+            return;
+        }
+        Node node;
+        try {
+            Cluster cluster = client.getCluster();
+            node = Partition.read(cluster, policy, key).getNodeRead(cluster);
+        } catch (AerospikeException e) {
+            // the command itself reports unavailable partitions
+            return;
+        }
+        record(node, key.namespace);
+    }
+
+    void record(Node node, String namespace) {
+        if (isLocal(node, namespace)) {
+            localReads.increment();
+        } else {
+            remoteReads.increment();
+        }
+    }
+
+    long reads(boolean local) {
+        return local ? localReads.sum() : remoteReads.sum();
+    }
+
+    double localRatio() {
+        double local = reads(true);
+        double total = local + reads(false);
+        return total == 0 ? Double.NaN : local / total;
+    }
+
+    private boolean isLocal(Node node, String namespace) {
+        for (int rackId : rackIds.get()) {
+            if (node.hasRack(namespace, rackId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSameNodePerKey(Replica replica) {
+        return replica == Replica.SEQUENCE || replica == Replica.MASTER || replica == Replica.PREFER_RACK;
+    }
+
+    private static List<Integer> rackIds(ClientPolicy clientPolicy) {
+        if (clientPolicy == null) {
+            return List.of();
+        }
+        return clientPolicy.rackIds != null && !clientPolicy.rackIds.isEmpty()
+                ? List.copyOf(clientPolicy.rackIds) : List.of(clientPolicy.rackId);
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Info;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContextEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Creates secondary indexes of {@code @Indexed} entity properties without blocking startup.
+ * <p>
+ * Create commands of all indexes are sent in parallel once the context has started, for the entities in the
+ * mapping context at that time and for entities added later. The server then builds the indexes in the
+ * background, their progress is polled with {@code sindex-stat} info commands until every node has indexed
+ * all records. An index that already exists is polled like a new one, an index that is not built within
+ * {@code build-timeout} is marked as failed.
+ * <p>
+ * Spring Data's indexes cache is refreshed once an index is created and again once it is built, so that
+ * repository queries filter on it: while it is being built through {@link AerospikePendingIndexInterceptor},
+ * afterwards directly. The cache is refreshed before the state of the index changes.
+ * <p>
+ * Indexes with a {@code ctx} are skipped, those need {@code spring.data.aerospike.index-creation.async=false}.
+ */
+@Slf4j
+public class AerospikeAsyncIndexCreator implements SmartLifecycle, ApplicationListener<MappingContextEvent<?, ?>> {
+
+    private static final String INDEXED = "org.springframework.data.aerospike.annotation.Indexed";
+
+    private final IAerospikeClient client;
+    private final AerospikeMappingContext mappingContext;
+    private final String namespace;
+    private final boolean createIndexes;
+    private final AerospikeDataProperties.IndexCreationProperties properties;
+    @Nullable
+    private final Runnable indexesRefresh;
+    private final Map<String, AerospikeIndexProgress> indexes = new ConcurrentHashMap<>();
+    private final List<Consumer<AerospikeIndexProgress>> listeners = new CopyOnWriteArrayList<>();
+    private volatile ExecutorService creation;
+    private volatile ScheduledExecutorService polling;
+    private volatile boolean running;
+
+    /**
+     * @param indexesRefresh refreshes Spring Data's indexes cache, {@code null} if there is none
+     */
+    public AerospikeAsyncIndexCreator(IAerospikeClient client, AerospikeMappingContext mappingContext,
+                                      AerospikeDataProperties dataProperties, @Nullable Runnable indexesRefresh) {
+        this.client = client;
+        this.mappingContext = mappingContext;
+        this.namespace = dataProperties.getNamespace();
+        this.createIndexes = dataProperties.isCreateIndexesOnStartup();
+        this.properties = dataProperties.getIndexCreation();
+        this.indexesRefresh = indexesRefresh;
+    }
+
+    @Override
+    public void start() {
+        if (!createIndexes) {
+            return;
+        }
+        creation = Executors.newFixedThreadPool(properties.getParallelism(), daemon("aerospike-index-creation-"));
+        polling = Executors.newSingleThreadScheduledExecutor(daemon("aerospike-index-progress-"));
+        running = true;
+        mappingContext.getPersistentEntities().forEach(this::submit);
+        long interval = properties.getPollInterval().toMillis();
+        polling.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (creation != null) {
+            creation.shutdownNow();
+            polling.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void onApplicationEvent(MappingContextEvent<?, ?> event) {
+        if (running && event.wasEmittedBy(mappingContext)) {
+            submit(event.getPersistentEntity());
+        }
+    }
+
+    /**
+     * Returns the indexes being created or built, and the ones already built or failed.
+     */
+    public List<AerospikeIndexProgress> getIndexes() {
+        return new ArrayList<>(indexes.values());
+    }
+
+    /**
+     * Whether no index is waiting to be created or being built.
+     */
+    public boolean isComplete() {
+        return indexes.values().stream().allMatch(index ->
+                index.getState() == AerospikeIndexProgress.State.READY
+                        || index.getState() == AerospikeIndexProgress.State.FAILED);
+    }
+
+    /**
+     * Finds the index serving queries with a filter on the bin of the given namespace and set.
+     */
+    @Nullable
+    public AerospikeIndexProgress find(String namespace, @Nullable String setName, String binName,
+                                       IndexCollectionType collectionType) {
+        for (AerospikeIndexProgress index : indexes.values()) {
+            if (index.covers(namespace, setName, binName, collectionType)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    public AerospikeDataProperties.IndexCreationProperties getProperties() {
+        return properties;
+    }
+
+    /**
+     * Registers a callback for every index, including the ones already known.
+     */
+    public void addListener(Consumer<AerospikeIndexProgress> listener) {
+        listeners.add(listener);
+        indexes.values().forEach(listener);
+    }
+
+    private void submit(Object entity) {
+        if (!(entity instanceof AerospikePersistentEntity<?> aerospikeEntity)) {
+            return;
+        }
+        aerospikeEntity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+            Field field = property.getField();
+            MergedAnnotation<Annotation> indexed = field != null
+                    ? MergedAnnotations.from(field).get(INDEXED) : MergedAnnotation.missing();
+            if (indexed.isPresent()) {
+                submit(aerospikeEntity.getSetName(), property.getFieldName(), indexed);
+            }
+        });
+    }
+
+    private void submit(String setName, String binName, MergedAnnotation<Annotation> indexed) {
+        IndexType type = indexed.getEnum("type", IndexType.class);
+        IndexCollectionType collectionType = indexed.getEnum("collectionType", IndexCollectionType.class);
+        String name = indexed.getString("name");
+        if (!StringUtils.hasText(name)) {
+            name = String.join("_", setName, binName, type.name().toLowerCase(Locale.ROOT),
+                    collectionType.name().toLowerCase(Locale.ROOT));
+        }
+        if (StringUtils.hasText(indexed.getValue("ctx", String.class).orElse(null))) {
+            log.warn("Index {} has a ctx, it is not created in the background", name);
+            return;
+        }
+        AerospikeIndexProgress progress = new AerospikeIndexProgress(namespace, setName, name, binName, type,
+                collectionType);
+        if (indexes.putIfAbsent(name, progress) == null) {
+            listeners.forEach(listener -> listener.accept(progress));
+            creation.execute(() -> create(progress));
+        }
+    }
+
+    private void create(AerospikeIndexProgress progress) {
+        try {
+            client.createIndex(null, progress.getNamespace(), progress.getSetName(), progress.getName(),
+                    progress.getBinName(), progress.getType(), progress.getCollectionType());
+            refreshIndexes();
+            progress.building(0);
+            log.info("Building Aerospike index {}", progress.getName());
+        } catch (AerospikeException e) {
+            if (e.getResultCode() == ResultCode.INDEX_ALREADY_EXISTS) {
+                refreshIndexes();
+                progress.building(0);
+            } else {
+                progress.failed(e.getMessage());
+                log.warn("Failed to create Aerospike index {}", progress.getName(), e);
+            }
+        }
+    }
+
+    private void poll() {
+        for (AerospikeIndexProgress progress : indexes.values()) {
+            if (progress.getState() != AerospikeIndexProgress.State.BUILDING) {
+                continue;
+            }
+            try {
+                int percent = loadPercent(progress);
+                if (percent >= 100) {
+                    refreshIndexes();
+                    progress.ready();
+                    log.info("Aerospike index {} is ready", progress.getName());
+                } else if (progress.isBuildingLongerThan(properties.getBuildTimeout())) {
+                    progress.failed("Not built on every node within " + properties.getBuildTimeout()
+                            + ", " + percent + "% indexed");
+                    log.warn("Aerospike index {} was not built within {}", progress.getName(),
+                            properties.getBuildTimeout());
+                } else {
+                    progress.building(percent);
+                }
+            } catch (AerospikeException e) {
+                log.debug("Failed to poll build progress of Aerospike index {}", progress.getName(), e);
+            }
+        }
+    }
+
+    private void refreshIndexes() {
+        if (indexesRefresh == null) {
+            return;
+        }
+        try {
+            indexesRefresh.run();
+        } catch (RuntimeException e) {
+            // the scheduled refresh picks the index up later
+            log.warn("Failed to refresh the Aerospike indexes cache", e);
+        }
+    }
+
+    /**
+     * Returns the load percentage of the index on the node that is furthest behind.
+     */
+    private int loadPercent(AerospikeIndexProgress progress) {
+        int percent = 100;
+        for (Node node : client.getNodes()) {
+            String stat = Info.request(client.getInfoPolicyDefault(), node, "sindex-stat:namespace="
+                    + progress.getNamespace() + ";indexname=" + progress.getName());
+            Integer loaded = loadPercent(stat);
+            if (loaded == null) {
+                // servers before 6.0 only answer the legacy command
+                loaded = loadPercent(Info.request(client.getInfoPolicyDefault(), node,
+                        "sindex/" + progress.getNamespace() + "/" + progress.getName()));
+            }
+            percent = Math.min(percent, loaded != null ? loaded : 0);
+        }
+        return percent;
+    }
+
+    @Nullable
+    static Integer loadPercent(@Nullable String stat) {
+        if (stat == null) {
+            return null;
+        }
+        for (String entry : stat.split(";")) {
+            if (entry.startsWith("load_pct=")) {
+                return Integer.parseInt(entry.substring("load_pct=".length()).trim());
+            }
+        }
+        return null;
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.SpringProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Index of Aerospike entities and repositories written at build time by
+ * {@code spring-boot-aerospike-index-processor} to {@value #INDEX_LOCATION}.
+ * <p>
+ * Scanning through a {@link #entities(ResourceLoader) entities} or {@link #repositories(ResourceLoader) repositories}
+ * resource loader reads only the indexed classes of a package instead of every class file below it.
+ * Packages without indexed classes of the scanned kind, for example packages of a jar built without the processor,
+ * are scanned. Without an index on the classpath, or with {@value #IGNORE_INDEX} set in the environment
+ * (or as a system property), all packages are scanned.
+ */
+@Slf4j
+public final class AerospikeComponentsIndex {
+
+    public static final String INDEX_LOCATION = "META-INF/aerospike.components";
+    public static final String IGNORE_INDEX = "spring.data.aerospike.index.ignore";
+    public static final String ENTITY = "entity";
+    public static final String REPOSITORY = "repository";
+
+    private static final String CLASS_PATTERN_SUFFIX = "/**/*.class";
+
+    private static final Map<ClassLoader, Optional<AerospikeComponentsIndex>> cache =
+            new ConcurrentReferenceHashMap<>();
+
+    private final MultiValueMap<String, String> components;
+
+    private AerospikeComponentsIndex(MultiValueMap<String, String> components) {
+        this.components = components;
+    }
+
+    /**
+     * Loads the index of all {@value #INDEX_LOCATION} files visible to the class loader.
+     *
+     * @return the index, or {@code null} if there is none or it is ignored
+     */
+    @Nullable
+    public static AerospikeComponentsIndex load(@Nullable ClassLoader classLoader, @Nullable Environment environment) {
+        if (isIgnored(environment)) {
+            return null;
+        }
+        ClassLoader loader = classLoader != null ? classLoader : AerospikeComponentsIndex.class.getClassLoader();
+        return cache.computeIfAbsent(loader, AerospikeComponentsIndex::doLoad).orElse(null);
+    }
+
+    private static boolean isIgnored(@Nullable Environment environment) {
+        if (environment != null && environment.getProperty(IGNORE_INDEX, Boolean.class, false)) {
+            return true;
+        }
+        return SpringProperties.getFlag(IGNORE_INDEX);
+    }
+
+    private static Optional<AerospikeComponentsIndex> doLoad(ClassLoader classLoader) {
+        MultiValueMap<String, String> components = new LinkedMultiValueMap<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            if (!urls.hasMoreElements()) {
+                return Optional.empty();
+            }
+            while (urls.hasMoreElements()) {
+                Properties properties = PropertiesLoaderUtils.loadProperties(new UrlResource(urls.nextElement()));
+                properties.forEach((className, kind) -> components.add((String) kind, (String) className));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load {}, falling back to classpath scanning", INDEX_LOCATION, e);
+            return Optional.empty();
+        }
+        return Optional.of(new AerospikeComponentsIndex(components));
+    }
+
+    /**
+     * Returns the indexed classes of the given kind in the package or its sub-packages,
+     * empty if the index has none and the package has to be scanned.
+     */
+    public List<String> getCandidates(String kind, String basePackage) {
+        String prefix = basePackage + ".";
+        List<String> candidates = new ArrayList<>();
+        for (String className : components.getOrDefault(kind, List.of())) {
+            if (className.startsWith(prefix)) {
+                candidates.add(className);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns a resource loader to scan for entities with, the given one if there is no index.
+     */
+    public static ResourceLoader entities(ResourceLoader resourceLoader, @Nullable Environment environment) {
+        return indexed(resourceLoader, environment, ENTITY);
+    }
+
+    /**
+     * Returns a resource loader to scan for repositories with, the given one if there is no index.
+     */
+    public static ResourceLoader repositories(ResourceLoader resourceLoader, @Nullable Environment environment) {
+        return indexed(resourceLoader, environment, REPOSITORY);
+    }
+
+    private static ResourceLoader indexed(ResourceLoader resourceLoader, @Nullable Environment environment,
+                                          String kind) {
+        AerospikeComponentsIndex index = load(resourceLoader.getClassLoader(), environment);
+        return index != null
+                ? new IndexedResourcePatternResolver(ResourcePatternUtils.getResourcePatternResolver(resourceLoader),
+                index, kind)
+                : resourceLoader;
+    }
+
+    /**
+     * Resolves {@code classpath*:<package>/**}{@code /*.class} patterns, as used by classpath scanning,
+     * to the indexed classes of the package. Other patterns, and packages without indexed classes,
+     * are resolved by the delegate.
+     */
+    private record IndexedResourcePatternResolver(ResourcePatternResolver delegate, AerospikeComponentsIndex index,
+                                                  String kind) implements ResourcePatternResolver {
+
+        @Override
+        public Resource[] getResources(String locationPattern) throws IOException {
+            if (!locationPattern.startsWith(CLASSPATH_ALL_URL_PREFIX)
+                    || !locationPattern.endsWith(CLASS_PATTERN_SUFFIX)) {
+                return delegate.getResources(locationPattern);
+            }
+            String packagePath = locationPattern.substring(CLASSPATH_ALL_URL_PREFIX.length(),
+                    locationPattern.length() - CLASS_PATTERN_SUFFIX.length());
+            if (packagePath.isEmpty() || packagePath.contains("*") || packagePath.contains("?")
+                    || packagePath.contains("{")) {
+                return delegate.getResources(locationPattern);
+            }
+            List<String> candidates = index.getCandidates(kind, packagePath.replace('/', '.'));
+            if (candidates.isEmpty()) {
+                return delegate.getResources(locationPattern);
+            }
+            List<Resource> resources = new ArrayList<>();
+            for (String className : candidates) {
+                Resource resource = delegate.getResource(
+                        CLASSPATH_URL_PREFIX + className.replace('.', '/') + ".class");
+                if (resource.exists()) {
+                    resources.add(resource);
+                }
+            }
+            return resources.toArray(new Resource[0]);
+        }
+
+        @Override
+        public Resource getResource(String location) {
+            return delegate.getResource(location);
+        }
+
+        @Override
+        @Nullable
+        public ClassLoader getClassLoader() {
+            return delegate.getClassLoader();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Bin;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.util.AerospikeCommandLayout;
+import org.springframework.boot.autoconfigure.util.AerospikePolicyVariants;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.zip.Deflater;
+
+/**
+ * Turns on compression for write and batch commands whose estimated payload exceeds a threshold,
+ * so that large records save bandwidth while small ones do not pay for compression.
+ * <p>
+ * Policies are never modified in place: a compressed copy of the given (or default) policy is passed instead.
+ * Copies of shared policies (client defaults, per-entity policies and their variants) are built once and reused
+ * from {@link AerospikePolicyVariants}, so only policies created for a single call are copied per call.
+ * Savings and compression time are estimated by compressing the payload of a sample of commands.
+ */
+public class AerospikeCompressionInterceptor implements MethodInterceptor {
+
+    private static final int SAMPLE_INTERVAL = 64;
+
+    private final long thresholdBytes;
+    private final Supplier<AerospikePolicyVariants> policyVariants;
+    private final LongAdder compressedCommands = new LongAdder();
+    private final LongAdder uncompressedCommands = new LongAdder();
+    private final LongAdder compressedPayloadBytes = new LongAdder();
+    private final LongAdder sampledBytes = new LongAdder();
+    private final LongAdder sampledCompressedBytes = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
+
+    public AerospikeCompressionInterceptor(long thresholdBytes,
+                                           ObjectProvider<AerospikePolicyVariants> policyVariants) {
+        this.thresholdBytes = thresholdBytes;
+        this.policyVariants = SingletonSupplier.of(policyVariants::getIfAvailable);
+    }
+
+    AerospikeCompressionInterceptor(long thresholdBytes, AerospikePolicyVariants policyVariants) {
+        this.thresholdBytes = thresholdBytes;
+        this.policyVariants = () -> policyVariants;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        AerospikeCommandLayout layout = AerospikeCommandLayout.forMethod(invocation.getMethod());
+        AerospikeCommandLayout.PolicyType policyType = layout.getPolicyType();
+        if (policyType == AerospikeCommandLayout.PolicyType.WRITE
+                || policyType == AerospikeCommandLayout.PolicyType.BATCH) {
+            Object[] args = invocation.getArguments();
+            List<Value> values = payload(layout, args);
+            if (values != null) {
+                compressIfLarge(layout, args, values, (IAerospikeClient) invocation.getThis());
+            }
+        }
+        return invocation.proceed();
+    }
+
+    private void compressIfLarge(AerospikeCommandLayout layout, Object[] args, List<Value> values,
+                                 IAerospikeClient client) {
+        int index = layout.getPolicyIndex();
+        Policy policy = (Policy) args[index];
+        if (policy != null && policy.compress) {
+            return;
+        }
+        long size = 0;
+        for (Value value : values) {
+            size += value.estimateSize();
+        }
+        if (size < thresholdBytes) {
+            uncompressedCommands.increment();
+            return;
+        }
+        if (layout.getPolicyType() == AerospikeCommandLayout.PolicyType.WRITE) {
+            args[index] = compressed(policy != null ? (WritePolicy) policy : client.getWritePolicyDefault(),
+                    WritePolicy::new);
+        } else {
+            args[index] = compressed(policy != null ? (BatchPolicy) policy : client.getBatchPolicyDefault(),
+                    BatchPolicy::new);
+        }
+        compressedCommands.increment();
+        compressedPayloadBytes.add(size);
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0) {
+            sample(values, (int) size);
+        }
+    }
+
+    private <T extends Policy> T compressed(T policy, UnaryOperator<T> copy) {
+        AerospikePolicyVariants variants = policyVariants.get();
+        T shared = variants != null ? variants.compressed(policy, copy) : null;
+        if (shared != null) {
+            return shared;
+        }
+        T result = copy.apply(policy);
+        result.compress = true;
+        return result;
+    }
+
+    /**
+     * Returns the values sent by the command, or {@code null} if the command carries no payload.
+     */
+    private static List<Value> payload(AerospikeCommandLayout layout, Object[] args) {
+        if (layout.getPolicyType() == AerospikeCommandLayout.PolicyType.WRITE && layout.getPayloadIndex() >= 0) {
+            List<Value> values = new ArrayList<>();
+            Object payload = args[layout.getPayloadIndex()];
+            if (payload instanceof Bin[] bins) {
+                for (Bin bin : bins) {
+                    values.add(bin.value);
+                }
+            } else if (payload instanceof Operation[] operations) {
+                addOperationValues(operations, values);
+            }
+            return values;
+        }
+        if (args[layout.getTargetIndex()] instanceof List<?> records) {
+            List<Value> values = new ArrayList<>();
+            for (Object record : records) {
+                if (record instanceof BatchWrite batchWrite) {
+                    addOperationValues(batchWrite.ops, values);
+                } else if (!(record instanceof BatchRecord)) {
+                    return null;
+                }
+            }
+            // batch reads carry no payload
+            return values.isEmpty() ? null : values;
+        }
+        return null;
+    }
+
+    private static void addOperationValues(Operation[] operations, List<Value> values) {
+        if (operations == null) {
+            return;
+        }
+        for (Operation operation : operations) {
+            if (operation != null && operation.value != null) {
+                values.add(operation.value);
+            }
+        }
+    }
+
+    private void sample(List<Value> values, int size) {
+        byte[] buffer = new byte[size];
+        int offset = 0;
+        for (Value value : values) {
+            offset += value.write(buffer, offset);
+        }
+        long start = System.nanoTime();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(buffer, 0, offset);
+            deflater.finish();
+            byte[] output = new byte[offset + 64];
+            int compressed = 0;
+            while (!deflater.finished()) {
+                compressed += deflater.deflate(output);
+            }
+            sampledNanos.add(System.nanoTime() - start);
+            sampledBytes.add(offset);
+            sampledCompressedBytes.add(compressed);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public long getCompressedCommands() {
+        return compressedCommands.sum();
+    }
+
+    public long getUncompressedCommands() {
+        return uncompressedCommands.sum();
+    }
+
+    public long getCompressedPayloadBytes() {
+        return compressedPayloadBytes.sum();
+    }
+
+    /**
+     * Returns the estimated number of bytes saved by compression, extrapolated from sampled commands.
+     */
+    public double getEstimatedBytesSaved() {
+        long sampled = sampledBytes.sum();
+        if (sampled == 0) {
+            return 0;
+        }
+        double ratio = (double) sampledCompressedBytes.sum() / sampled;
+        return getCompressedPayloadBytes() * (1 - ratio);
+    }
+
+    /**
+     * Returns the estimated time in nanoseconds spent compressing payloads, extrapolated from sampled commands.
+     */
+    public double getEstimatedCompressionNanos() {
+        long sampled = sampledBytes.sum();
+        if (sampled == 0) {
+            return 0;
+        }
+        return (double) sampledNanos.sum() / sampled * getCompressedPayloadBytes();
+    }
+}
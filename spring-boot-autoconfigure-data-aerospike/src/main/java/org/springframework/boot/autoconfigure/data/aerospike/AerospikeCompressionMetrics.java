@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the counters of {@link AerospikeCompressionInterceptor}.
+ */
+public class AerospikeCompressionMetrics implements MeterBinder {
+
+    private final AerospikeCompressionInterceptor interceptor;
+
+    public AerospikeCompressionMetrics(AerospikeCompressionInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("aerospike.client.compression.commands", interceptor,
+                        AerospikeCompressionInterceptor::getCompressedCommands)
+                .description("Write and batch commands sent with compression")
+                .tag("compressed", "true")
+                .register(registry);
+        FunctionCounter.builder("aerospike.client.compression.commands", interceptor,
+                        AerospikeCompressionInterceptor::getUncompressedCommands)
+                .description("Write and batch commands sent without compression")
+                .tag("compressed", "false")
+                .register(registry);
+        FunctionCounter.builder("aerospike.client.compression.payload", interceptor,
+                        AerospikeCompressionInterceptor::getCompressedPayloadBytes)
+                .description("Estimated payload of compressed commands before compression")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        FunctionCounter.builder("aerospike.client.compression.saved", interceptor,
+                        AerospikeCompressionInterceptor::getEstimatedBytesSaved)
+                .description("Estimated bytes saved by compression")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        FunctionCounter.builder("aerospike.client.compression.time", interceptor,
+                        i -> i.getEstimatedCompressionNanos() / 1_000_000_000d)
+                .description("Estimated CPU time spent compressing payloads")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.util.AerospikeClientAdvisingPostProcessor;
+import org.springframework.boot.autoconfigure.util.AerospikePolicyVariants;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeTemplate;
+import org.springframework.data.aerospike.core.ReactiveAerospikeTemplate;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.query.cache.IndexRefresher;
+import org.springframework.data.aerospike.query.cache.ReactorIndexRefresher;
+import org.springframework.data.aerospike.server.version.ServerVersionSupport;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_CONNECTION;
+import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_DATA;
+
+/**
+ * Beans shared by the synchronous and the reactive data configurations: per-entity policies, compression,
+ * background index creation, metadata refresh and warm-up.
+ * <p>
+ * Imported by both data configurations, so the shared beans are declared once.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class AerospikeDataCommonConfiguration {
+
+    private final AerospikeDataProperties dataProperties;
+
+    public AerospikeDataCommonConfiguration(AerospikeDataProperties dataProperties) {
+        this.dataProperties = dataProperties;
+    }
+
+    /**
+     * Binds {@code spring.data.aerospike.*} for static beans, which are created before configuration
+     * properties beans can be injected.
+     */
+    public static AerospikeDataProperties bindDataProperties(Environment environment) {
+        return Binder.get(environment)
+                .bind(CONFIG_PREFIX_DATA, AerospikeDataProperties.class)
+                .orElseGet(AerospikeDataProperties::new);
+    }
+
+    @Bean
+    public AerospikePolicyVariants aerospikePolicyVariants() {
+        return new AerospikePolicyVariants(dataProperties.getPolicyVariantsCacheSize());
+    }
+
+    @Bean
+    public AerospikeEntityPolicies aerospikeEntityPolicies(AerospikeMappingContext aerospikeMappingContext,
+                                                           ListableBeanFactory beanFactory,
+                                                           AerospikePolicyVariants aerospikePolicyVariants) {
+        return new AerospikeEntityPolicies(dataProperties, aerospikeMappingContext, beanFactory,
+                aerospikePolicyVariants);
+    }
+
+    /**
+     * Proxies the client only when an entity has policy overrides, see {@link HasEntityPolicyOverrides}.
+     */
+    @Bean
+    @Conditional(HasEntityPolicyOverrides.class)
+    public static AerospikeClientAdvisingPostProcessor aerospikeEntityPolicyPostProcessor(
+            ObjectProvider<AerospikeEntityPolicies> aerospikeEntityPolicies) {
+        return new AerospikeClientAdvisingPostProcessor(new AerospikeEntityPolicyInterceptor(aerospikeEntityPolicies),
+                AerospikeClientAdvisingPostProcessor.ENTITY_POLICY_ORDER);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_CONNECTION, name = "compression-threshold")
+    public static AerospikeCompressionInterceptor aerospikeCompressionInterceptor(
+            Environment environment, ObjectProvider<AerospikePolicyVariants> aerospikePolicyVariants) {
+        DataSize threshold = Binder.get(environment)
+                .bind(CONFIG_PREFIX_CONNECTION + ".compression-threshold", DataSize.class)
+                .get();
+        return new AerospikeCompressionInterceptor(threshold.toBytes(), aerospikePolicyVariants);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_CONNECTION, name = "compression-threshold")
+    public static AerospikeClientAdvisingPostProcessor aerospikeCompressionPostProcessor(
+            AerospikeCompressionInterceptor aerospikeCompressionInterceptor) {
+        return new AerospikeClientAdvisingPostProcessor(aerospikeCompressionInterceptor,
+                AerospikeClientAdvisingPostProcessor.COMPRESSION_ORDER);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_DATA, name = "index-creation.async", havingValue = "true")
+    public AerospikeAsyncIndexCreator aerospikeAsyncIndexCreator(IAerospikeClient aerospikeClient,
+            AerospikeMappingContext aerospikeMappingContext, ObjectProvider<IndexRefresher> indexRefresher,
+            ObjectProvider<ReactorIndexRefresher> reactorIndexRefresher) {
+        return new AerospikeAsyncIndexCreator(aerospikeClient, aerospikeMappingContext, dataProperties,
+                indexesRefresh(indexRefresher, reactorIndexRefresher));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_DATA, name = "index-creation.async", havingValue = "true")
+    public static AerospikeClientAdvisingPostProcessor aerospikePendingIndexPostProcessor(
+            ObjectProvider<AerospikeAsyncIndexCreator> aerospikeAsyncIndexCreator) {
+        return new AerospikeClientAdvisingPostProcessor(
+                new AerospikePendingIndexInterceptor(aerospikeAsyncIndexCreator),
+                AerospikeClientAdvisingPostProcessor.PENDING_INDEX_ORDER);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_DATA, name = "metadata-refresh.shared", havingValue = "true")
+    public AerospikeMetadataRefreshScheduler aerospikeMetadataRefreshScheduler(
+            ObjectProvider<IndexRefresher> indexRefresher, ObjectProvider<ReactorIndexRefresher> reactorIndexRefresher,
+            ServerVersionSupport serverVersionSupport) {
+        AerospikeMetadataRefreshScheduler scheduler =
+                new AerospikeMetadataRefreshScheduler(dataProperties.getMetadataRefresh());
+        Duration indexesInterval = Duration.ofSeconds(Math.max(dataProperties.getIndexCacheRefreshSeconds(), 0));
+        Runnable indexesRefresh = indexesRefresh(indexRefresher, reactorIndexRefresher);
+        if (indexesRefresh != null) {
+            scheduler.register(AerospikeMetadataRefreshScheduler.INDEXES, indexesInterval, indexesRefresh);
+        }
+        Runnable serverVersionRefresh =
+                AerospikeMetadataRefreshScheduler.serverVersionRefresh(serverVersionSupport);
+        if (serverVersionRefresh != null) {
+            scheduler.register(AerospikeMetadataRefreshScheduler.SERVER_VERSION,
+                    Duration.ofSeconds(Math.max(dataProperties.getServerVersionRefreshSeconds(), 0)),
+                    serverVersionRefresh);
+        } else if (dataProperties.getServerVersionRefreshSeconds() > 0) {
+            // Spring Data's own schedule is disabled, the server version would never be refreshed
+            throw new IllegalStateException("The server version cached by " + serverVersionSupport.getClass()
+                    .getName() + " cannot be refreshed by the shared scheduler, set "
+                    + "spring.data.aerospike.metadata-refresh.shared=false or "
+                    + "spring.data.aerospike.server-version-refresh-seconds=0");
+        }
+        return scheduler;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_DATA, name = "metadata-refresh.shared", havingValue = "true")
+    public static AerospikeClientAdvisingPostProcessor aerospikeIndexChangePostProcessor(
+            ObjectProvider<AerospikeMetadataRefreshScheduler> aerospikeMetadataRefreshScheduler) {
+        return new AerospikeClientAdvisingPostProcessor(
+                new AerospikeIndexChangeInterceptor(aerospikeMetadataRefreshScheduler),
+                AerospikeClientAdvisingPostProcessor.INDEX_CHANGE_ORDER);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_DATA, name = "warm-up.enabled", havingValue = "true")
+    public AerospikeWarmUp aerospikeWarmUp(AerospikeMappingContext aerospikeMappingContext,
+                                           MappingAerospikeConverter mappingAerospikeConverter,
+                                           ListableBeanFactory beanFactory,
+                                           ObjectProvider<AerospikeTemplate> aerospikeTemplate,
+                                           ObjectProvider<ReactiveAerospikeTemplate> reactiveAerospikeTemplate) {
+        AerospikeTemplate template = aerospikeTemplate.getIfAvailable();
+        BiConsumer<Object, Class<?>> reader = template != null
+                ? template::findById
+                : (id, type) -> reactiveAerospikeTemplate.getObject().findById(id, type).block();
+        return new AerospikeWarmUp(aerospikeMappingContext, mappingAerospikeConverter, beanFactory, dataProperties,
+                reader);
+    }
+
+    /**
+     * Refresh of Spring Data's indexes cache through the blocking or the reactive index refresher,
+     * {@code null} if there is neither.
+     */
+    private static Runnable indexesRefresh(ObjectProvider<IndexRefresher> indexRefresher,
+                                           ObjectProvider<ReactorIndexRefresher> reactorIndexRefresher) {
+        IndexRefresher blockingRefresher = indexRefresher.getIfAvailable();
+        if (blockingRefresher != null) {
+            return blockingRefresher::refreshIndexes;
+        }
+        ReactorIndexRefresher reactiveRefresher = reactorIndexRefresher.getIfAvailable();
+        return reactiveRefresher != null ? () -> reactiveRefresher.refreshIndexes().block() : null;
+    }
+}
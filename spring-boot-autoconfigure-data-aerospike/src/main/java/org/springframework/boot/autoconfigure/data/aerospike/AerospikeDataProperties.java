@@ -19,8 +19,13 @@ package org.springframework.boot.autoconfigure.data.aerospike;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_DATA;
 
 /**
@@ -76,6 +81,11 @@ public class AerospikeDataProperties {
      */
     private boolean createIndexesOnStartup = true;
 
+    /**
+     * How secondary indexes are created on startup.
+     */
+    private IndexCreationProperties indexCreation = new IndexCreationProperties();
+
     /**
      * Send user defined key in addition to hash digest on both reads and writes
      */
@@ -114,6 +124,34 @@ public class AerospikeDataProperties {
      */
     private boolean writeSortedMaps = true;
 
+    /**
+     * Policy overrides and write-behind settings for particular entities, keyed by entity class simple name
+     * or by set name. Policy overrides take precedence over {@link AerospikeEntityPolicy} annotations
+     * and the global policy defaults.
+     */
+    private Map<String, EntityProperties> entities = new LinkedHashMap<>();
+
+    /**
+     * Maximum number of cached policy variants (policies differing only in per-command values like expiration,
+     * generation or filter expression). Once reached, further variants are copied per command.
+     */
+    private int policyVariantsCacheSize = 1024;
+
+    /**
+     * How the indexes cache and the cached server version are refreshed.
+     */
+    private MetadataRefreshProperties metadataRefresh = new MetadataRefreshProperties();
+
+    /**
+     * Warm-up of conversion and query derivation of entities and repositories before the application is ready.
+     */
+    private WarmUpProperties warmUp = new WarmUpProperties();
+
+    /**
+     * Coalescing of concurrent reactive single-key reads into batch reads.
+     */
+    private ReadCoalescingProperties readCoalescing = new ReadCoalescingProperties();
+
     /**
      * Returns the effective class key to use for storing entity type information.
      * <p>
@@ -132,4 +170,192 @@ public class AerospikeDataProperties {
         }
         return classKey;
     }
+
+    /**
+     * Policy overrides applied to commands issued against a single entity's set.
+     * Only the values that are set replace the corresponding global defaults.
+     */
+    @Getter
+    @Setter
+    public static class EntityProperties {
+
+        private AerospikeProperties.ReadPolicyDefault read = new AerospikeProperties.ReadPolicyDefault();
+
+        private AerospikeProperties.WritePolicyDefault write = new AerospikeProperties.WritePolicyDefault();
+
+        private AerospikeProperties.QueryPolicyDefault query = new AerospikeProperties.QueryPolicyDefault();
+
+        private AerospikeProperties.BatchPolicyDefault batch = new AerospikeProperties.BatchPolicyDefault();
+
+        /**
+         * Limit amount of query results returned by server for this entity, replacing {@code query-max-records}.
+         * Non-positive value means no limit.
+         */
+        private Long queryMaxRecords;
+
+        /**
+         * Buffering of repository writes of this entity, see {@link AerospikeWriteBehind}.
+         */
+        private WriteBehindProperties writeBehind = new WriteBehindProperties();
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehindProperties {
+
+        /**
+         * Whether repository {@code save} calls are buffered and written in batches instead of one by one.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of distinct keys waiting to be written.
+         */
+        private int capacity = 10_000;
+
+        /**
+         * Number of buffered keys that triggers a flush. Non-positive value means {@code batch-write-size}.
+         */
+        private int flushSize = 0;
+
+        /**
+         * Maximum time a write stays buffered.
+         */
+        private Duration flushInterval = Duration.ofMillis(100);
+
+        /**
+         * How long {@code save} waits for room in a full buffer before writing the record synchronously.
+         */
+        private Duration offerTimeout = Duration.ofSeconds(1);
+
+        /**
+         * How many later flushes retry the write of a record whose batch failed, before the record is dropped.
+         */
+        private int maxRetries = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class IndexCreationProperties {
+
+        /**
+         * Whether to create indexes in parallel in the background instead of blocking startup until they are built.
+         */
+        private boolean async = false;
+
+        /**
+         * Maximum number of index create commands sent concurrently.
+         */
+        private int parallelism = 4;
+
+        /**
+         * Interval of polling the build progress of indexes.
+         */
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        /**
+         * What queries filtered on an index that is still being built do.
+         */
+        private PendingIndexQueries pendingQueries = PendingIndexQueries.FALLBACK;
+
+        /**
+         * Maximum time a query waits for an index to be built, before falling back.
+         */
+        private Duration waitTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Maximum time an index may take to be built on every node after its create command was sent,
+         * before it is marked as failed.
+         */
+        private Duration buildTimeout = Duration.ofMinutes(30);
+    }
+
+    public enum PendingIndexQueries {
+
+        /**
+         * Wait for the index to be built, then fall back.
+         */
+        WAIT,
+
+        /**
+         * Run the query as a scan with a filter expression.
+         */
+        FALLBACK
+    }
+
+    @Getter
+    @Setter
+    public static class MetadataRefreshProperties {
+
+        /**
+         * Whether to run index cache and server version refreshes on one shared, low priority thread with jitter
+         * and backoff, instead of on the fixed-rate schedules of Spring Data. The server version is refreshed
+         * through internals of Spring Data's {@code ServerVersionSupport}, startup fails if they are not found.
+         */
+        private boolean shared = false;
+
+        /**
+         * Maximum deviation of a refresh from its interval, as a fraction of the interval.
+         * The first refresh happens at a random time within the interval.
+         */
+        private double jitter = 0.2;
+
+        /**
+         * Delay of the first retry of a failed refresh, doubled for every further failure up to the interval.
+         */
+        private Duration retryDelay = Duration.ofSeconds(5);
+
+        /**
+         * Delay of the index cache refresh after the application created or dropped an index.
+         */
+        private Duration invalidationDelay = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class WarmUpProperties {
+
+        /**
+         * Whether to convert synthetic instances of every entity and derive the queries of every repository
+         * before the application reports readiness.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum time spent warming up.
+         */
+        private Duration timeout = Duration.ofSeconds(10);
+
+        /**
+         * Number of round trips of every entity and query method.
+         */
+        private int iterations = 2_000;
+
+        /**
+         * Whether to also read a non-existing record of every entity, warming up the client and the cluster
+         * connections. Reads have no side effects.
+         */
+        private boolean reads = false;
+    }
+
+    @Getter
+    @Setter
+    public static class ReadCoalescingProperties {
+
+        /**
+         * Whether to collect reactive {@code findById} and {@code existsById} reads issued within
+         * {@link #window} into batch reads.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long the first read of a batch waits for other reads to join it.
+         */
+        private Duration window = Duration.ofMillis(2);
+
+        /**
+         * Maximum number of distinct keys in a batch, a full batch is sent without waiting for the window to end.
+         */
+        private int maxBatchSize = 100;
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the Spring Data Aerospike starters running as a GraalVM native image.
+ * <p>
+ * Registers the mapping and policy annotations whose attributes are read at runtime. Mapped entities are
+ * covered by {@link AerospikeEntitiesAotProcessor}, repositories by Spring Data's own AOT processing.
+ */
+public class AerospikeDataRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<String> MAPPING_ANNOTATIONS = List.of(
+            "org.springframework.data.aerospike.mapping.Document",
+            "org.springframework.data.aerospike.mapping.Field",
+            "org.springframework.data.aerospike.annotation.Indexed",
+            "org.springframework.data.aerospike.annotation.Expiration");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(AerospikeEntityPolicy.class, MemberCategory.INVOKE_DECLARED_METHODS);
+        MAPPING_ANNOTATIONS.forEach(name -> hints.reflection().registerTypeIfPresent(classLoader, name,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+        // refreshed by AerospikeMetadataRefreshScheduler
+        hints.reflection().registerTypeIfPresent(classLoader,
+                "org.springframework.data.aerospike.server.version.ServerVersionSupport",
+                MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.annotation.Persistent;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Registers reflection hints for mapped entities of applications with an {@link AerospikeMappingContext},
+ * so that the converter can instantiate and populate them in a GraalVM native image.
+ * <p>
+ * Entities are found by {@link AerospikeEntityScanner}, {@link Document @Document} and
+ * {@link Persistent @Persistent} classes in the entity scan or auto-configuration packages. The types of their
+ * properties, including nested entities and collection elements, are registered as well.
+ */
+public class AerospikeEntitiesAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final String MAPPING_CONTEXT_CLASS =
+            "org.springframework.data.aerospike.mapping.AerospikeMappingContext";
+
+    private static final MemberCategory[] ENTITY_MEMBERS = {MemberCategory.DECLARED_FIELDS,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS};
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        ClassLoader classLoader = beanFactory.getBeanClassLoader();
+        if (!ClassUtils.isPresent(MAPPING_CONTEXT_CLASS, classLoader)
+                || beanFactory.getBeanNamesForType(AerospikeMappingContext.class, true, false).length == 0) {
+            return null;
+        }
+        Set<Class<?>> entities = AerospikeEntityScanner.scan(beanFactory, classLoader,
+                beanFactory.getBeanProvider(Environment.class).getIfAvailable());
+        if (entities.isEmpty()) {
+            return null;
+        }
+        return (generationContext, beanFactoryInitializationCode) -> {
+            ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+            Set<Class<?>> registered = new LinkedHashSet<>();
+            entities.forEach(entity -> register(reflection, ResolvableType.forClass(entity), registered));
+        };
+    }
+
+    private static void register(ReflectionHints reflection, ResolvableType type, Set<Class<?>> registered) {
+        if (type.isArray()) {
+            register(reflection, type.getComponentType(), registered);
+            return;
+        }
+        Class<?> rawClass = type.resolve();
+        if (rawClass != null && !rawClass.isPrimitive() && !rawClass.getName().startsWith("java.")
+                && registered.add(rawClass)) {
+            reflection.registerType(rawClass, ENTITY_MEMBERS);
+            ReflectionUtils.doWithFields(rawClass,
+                    field -> register(reflection, ResolvableType.forField(field, type), registered),
+                    field -> !field.isSynthetic() && !Modifier.isStatic(field.getModifiers()));
+        }
+        for (ResolvableType generic : type.getGenerics()) {
+            register(reflection, generic, registered);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.boot.autoconfigure.util.AerospikePolicyVariants;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.springframework.boot.autoconfigure.util.AerospikeConfigurationUtils.*;
+
+/**
+ * Per-entity policies resolved from {@link AerospikeEntityPolicy} annotations
+ * and {@code spring.data.aerospike.entities.*} properties.
+ * <p>
+ * Policies are resolved once all singletons are instantiated, so the command path only looks them up by set name.
+ */
+@Slf4j
+public class AerospikeEntityPolicies implements SmartInitializingSingleton {
+
+    private final AerospikeDataProperties dataProperties;
+    private final AerospikeMappingContext mappingContext;
+    private final ListableBeanFactory beanFactory;
+    private final AerospikePolicyVariants policyVariants;
+    private volatile Map<String, EntityPolicies> policiesBySet = Map.of();
+
+    public AerospikeEntityPolicies(AerospikeDataProperties dataProperties, AerospikeMappingContext mappingContext,
+                                   ListableBeanFactory beanFactory, AerospikePolicyVariants policyVariants) {
+        this.dataProperties = dataProperties;
+        this.mappingContext = mappingContext;
+        this.beanFactory = beanFactory;
+        this.policyVariants = policyVariants;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        IAerospikeClient client = beanFactory.getBean(IAerospikeClient.class);
+        policyVariants.share(client.getWritePolicyDefault());
+        policyVariants.share(client.getBatchPolicyDefault());
+        policiesBySet = resolve(client, new Repositories(beanFactory));
+        if (!policiesBySet.isEmpty()) {
+            log.info("Resolved policy overrides for sets {}", policiesBySet.keySet());
+        }
+    }
+
+    /**
+     * Returns policies for the given set, or {@code null} if the set has no overrides.
+     */
+    public EntityPolicies forSet(String setName) {
+        return setName == null ? null : policiesBySet.get(setName);
+    }
+
+    /**
+     * Returns the global {@code query-max-records}, which per-entity values replace.
+     */
+    public long getQueryMaxRecords() {
+        return dataProperties.getQueryMaxRecords();
+    }
+
+    Map<String, EntityPolicies> resolve(IAerospikeClient client, Repositories repositories) {
+        Map<String, List<AerospikeDataProperties.EntityProperties>> overridesBySet = new LinkedHashMap<>();
+        Map<String, String> setNamesByEntityName = new HashMap<>();
+
+        for (AerospikePersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            setNamesByEntityName.put(entity.getType().getSimpleName().toLowerCase(Locale.ROOT), entity.getSetName());
+            addAnnotated(overridesBySet, entity.getSetName(), entity.getType());
+        }
+        if (repositories != null) {
+            // Repository annotations are added after entity annotations, so they take precedence
+            for (Class<?> domainType : repositories) {
+                if (mappingContext.hasPersistentEntityFor(domainType)) {
+                    String setName = mappingContext.getRequiredPersistentEntity(domainType).getSetName();
+                    repositories.getRepositoryInformationFor(domainType).ifPresent(information ->
+                            addAnnotated(overridesBySet, setName, information.getRepositoryInterface()));
+                }
+            }
+        }
+        dataProperties.getEntities().forEach((name, properties) -> {
+            String setName = setNamesByEntityName.getOrDefault(name.toLowerCase(Locale.ROOT), name);
+            overridesBySet.computeIfAbsent(setName, key -> new ArrayList<>()).add(properties);
+        });
+
+        Map<String, EntityPolicies> result = new HashMap<>();
+        overridesBySet.forEach((setName, overrides) -> result.put(setName,
+                new EntityPolicies(client, overrides, policyVariants)));
+        return Map.copyOf(result);
+    }
+
+    private static void addAnnotated(Map<String, List<AerospikeDataProperties.EntityProperties>> overridesBySet,
+                                     String setName, Class<?> type) {
+        AerospikeEntityPolicy annotation = AnnotatedElementUtils.findMergedAnnotation(type, AerospikeEntityPolicy.class);
+        if (annotation != null && setName != null) {
+            overridesBySet.computeIfAbsent(setName, key -> new ArrayList<>()).add(fromAnnotation(annotation));
+        }
+    }
+
+    static AerospikeDataProperties.EntityProperties fromAnnotation(AerospikeEntityPolicy annotation) {
+        AerospikeDataProperties.EntityProperties properties = new AerospikeDataProperties.EntityProperties();
+        Stream.<AerospikeProperties.PolicyDefault>of(properties.getRead(), properties.getWrite(),
+                properties.getQuery(), properties.getBatch()).forEach(policyDefault -> {
+            if (StringUtils.hasText(annotation.socketTimeout())) {
+                policyDefault.socketTimeout = DurationStyle.detectAndParse(annotation.socketTimeout());
+            }
+            if (StringUtils.hasText(annotation.totalTimeout())) {
+                policyDefault.totalTimeout = DurationStyle.detectAndParse(annotation.totalTimeout());
+            }
+            if (annotation.maxRetries() >= 0) {
+                policyDefault.maxRetries = annotation.maxRetries();
+            }
+        });
+        if (annotation.queryMaxRecords() >= 0) {
+            properties.setQueryMaxRecords(annotation.queryMaxRecords());
+        }
+        return properties;
+    }
+
+    /**
+     * Policies of a single set. Overrides are applied in order, so later ones win.
+     */
+    public static final class EntityPolicies {
+
+        private final List<AerospikeDataProperties.EntityProperties> overrides;
+        private final AerospikePolicyVariants policyVariants;
+        private final Policy defaultReadPolicy;
+        private final WritePolicy defaultWritePolicy;
+        private final QueryPolicy defaultQueryPolicy;
+        private final BatchPolicy defaultBatchPolicy;
+        private final Policy readPolicy;
+        private final WritePolicy writePolicy;
+        private final QueryPolicy queryPolicy;
+        private final BatchPolicy batchPolicy;
+        private final Long queryMaxRecords;
+
+        EntityPolicies(IAerospikeClient client, List<AerospikeDataProperties.EntityProperties> overrides,
+                       AerospikePolicyVariants policyVariants) {
+            this.overrides = List.copyOf(overrides);
+            this.policyVariants = policyVariants;
+            this.defaultReadPolicy = client.getReadPolicyDefault();
+            this.defaultWritePolicy = client.getWritePolicyDefault();
+            this.defaultQueryPolicy = client.getQueryPolicyDefault();
+            this.defaultBatchPolicy = client.getBatchPolicyDefault();
+            this.readPolicy = overrideReadPolicy(defaultReadPolicy);
+            this.writePolicy = overrideWritePolicy(defaultWritePolicy);
+            this.queryPolicy = overrideQueryPolicy(defaultQueryPolicy);
+            this.batchPolicy = overrideBatchPolicy(defaultBatchPolicy);
+            policyVariants.share(writePolicy);
+            policyVariants.share(batchPolicy);
+            this.queryMaxRecords = this.overrides.stream()
+                    .map(AerospikeDataProperties.EntityProperties::getQueryMaxRecords)
+                    .filter(Objects::nonNull)
+                    .reduce((first, second) -> second)
+                    .orElse(null);
+        }
+
+        /**
+         * Returns the policy to use instead of the requested one.
+         * Client defaults (or {@code null}) are replaced by the precomputed policy.
+         * Read and write policies customized for a single call are served from the shared policy variants,
+         * other customized policies are copied and overridden.
+         */
+        public Policy readPolicy(Policy requested) {
+            if (requested == null || requested == defaultReadPolicy) {
+                return readPolicy;
+            }
+            Policy variant = policyVariants.read(readPolicy, defaultReadPolicy, requested);
+            return variant != null ? variant : overrideReadPolicy(requested);
+        }
+
+        public WritePolicy writePolicy(WritePolicy requested) {
+            if (requested == null || requested == defaultWritePolicy) {
+                return writePolicy;
+            }
+            WritePolicy variant = policyVariants.write(writePolicy, defaultWritePolicy, requested);
+            return variant != null ? variant : overrideWritePolicy(requested);
+        }
+
+        public QueryPolicy queryPolicy(QueryPolicy requested) {
+            return requested == null || requested == defaultQueryPolicy ? queryPolicy : overrideQueryPolicy(requested);
+        }
+
+        public BatchPolicy batchPolicy(BatchPolicy requested) {
+            return requested == null || requested == defaultBatchPolicy ? batchPolicy : overrideBatchPolicy(requested);
+        }
+
+        public Long getQueryMaxRecords() {
+            return queryMaxRecords;
+        }
+
+        private Policy overrideReadPolicy(Policy base) {
+            Policy policy = new Policy(base);
+            overrides.forEach(override -> applyReadPolicyProperties(policy, override.getRead()));
+            return policy;
+        }
+
+        private WritePolicy overrideWritePolicy(WritePolicy base) {
+            WritePolicy policy = new WritePolicy(base);
+            overrides.forEach(override -> applyWritePolicyProperties(policy, override.getWrite()));
+            return policy;
+        }
+
+        private QueryPolicy overrideQueryPolicy(QueryPolicy base) {
+            QueryPolicy policy = new QueryPolicy(base);
+            overrides.forEach(override -> applyQueryPolicyProperties(policy, override.getQuery()));
+            return policy;
+        }
+
+        private BatchPolicy overrideBatchPolicy(BatchPolicy base) {
+            BatchPolicy policy = new BatchPolicy(base);
+            overrides.forEach(override -> applyBatchPolicyProperties(policy, override.getBatch()));
+            return policy;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides read, write, query and batch policies for commands issued against the set of an entity.
+ * Can be placed on an entity class or on a repository interface, the latter wins if both are present.
+ * <p>
+ * Properties under {@code spring.data.aerospike.entities.<entity-or-set>} take precedence over this annotation.
+ *
+ * @see AerospikeDataProperties#getEntities()
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AerospikeEntityPolicy {
+
+    /**
+     * Socket idle timeout, e.g. {@code 20ms}. Empty value keeps the global default.
+     */
+    String socketTimeout() default "";
+
+    /**
+     * Total transaction timeout, e.g. {@code 20ms}. Empty value keeps the global default.
+     */
+    String totalTimeout() default "";
+
+    /**
+     * Maximum number of retries. Negative value keeps the global default.
+     */
+    int maxRetries() default -1;
+
+    /**
+     * Limit amount of query results returned by server, replacing the global default. Zero means no limit,
+     * negative value keeps the global default.
+     */
+    long queryMaxRecords() default -1;
+}
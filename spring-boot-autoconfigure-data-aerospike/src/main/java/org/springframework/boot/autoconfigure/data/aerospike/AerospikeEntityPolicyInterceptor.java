@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Statement;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.util.AerospikeCommandLayout;
+import org.springframework.boot.autoconfigure.util.AerospikeStatements;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Replaces policies of {@link com.aerospike.client.IAerospikeClient} commands with the ones
+ * resolved for the command's set by {@link AerospikeEntityPolicies}.
+ * <p>
+ * A configured {@code queryMaxRecords} replaces the global {@code query-max-records} of a query statement,
+ * it may be higher or lower, and is applied to a copy of the statement. Limits of the query itself are kept.
+ */
+public class AerospikeEntityPolicyInterceptor implements MethodInterceptor {
+
+    private final Supplier<AerospikeEntityPolicies> entityPolicies;
+
+    public AerospikeEntityPolicyInterceptor(ObjectProvider<AerospikeEntityPolicies> entityPolicies) {
+        this.entityPolicies = SingletonSupplier.of(entityPolicies::getIfAvailable);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        AerospikeCommandLayout layout = AerospikeCommandLayout.forMethod(invocation.getMethod());
+        if (layout != AerospikeCommandLayout.NONE) {
+            AerospikeEntityPolicies policies = entityPolicies.get();
+            Object[] args = invocation.getArguments();
+            AerospikeEntityPolicies.EntityPolicies entity = policies != null
+                    ? policies.forSet(layout.getSetName(args)) : null;
+            if (entity != null) {
+                override(layout, args, policies, entity);
+            }
+        }
+        return invocation.proceed();
+    }
+
+    private static void override(AerospikeCommandLayout layout, Object[] args, AerospikeEntityPolicies policies,
+                                 AerospikeEntityPolicies.EntityPolicies entity) {
+        int index = layout.getPolicyIndex();
+        switch (layout.getPolicyType()) {
+            case READ -> args[index] = entity.readPolicy((Policy) args[index]);
+            case WRITE -> args[index] = entity.writePolicy((WritePolicy) args[index]);
+            case BATCH -> args[index] = entity.batchPolicy((BatchPolicy) args[index]);
+            case QUERY -> {
+                args[index] = entity.queryPolicy((QueryPolicy) args[index]);
+                if (entity.getQueryMaxRecords() != null
+                        && args[layout.getTargetIndex()] instanceof Statement statement) {
+                    args[layout.getTargetIndex()] = AerospikeStatements.replaceLimit(statement,
+                            policies.getQueryMaxRecords(), entity.getQueryMaxRecords());
+                }
+            }
+        }
+    }
+}
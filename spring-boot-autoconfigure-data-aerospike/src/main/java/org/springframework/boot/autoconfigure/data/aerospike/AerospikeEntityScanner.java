@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.domain.EntityScanPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.annotation.Persistent;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds {@link Document @Document} and {@link Persistent @Persistent} classes in the {@code @EntityScan}
+ * packages or, without {@code @EntityScan}, in the auto-configuration packages. Uses the
+ * {@link AerospikeComponentsIndex} when there is one.
+ */
+public final class AerospikeEntityScanner {
+
+    private AerospikeEntityScanner() {
+    }
+
+    public static Set<Class<?>> scan(BeanFactory beanFactory, ClassLoader classLoader,
+                                     @Nullable Environment environment) {
+        List<String> packages = EntityScanPackages.get(beanFactory).getPackageNames();
+        if (packages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+            packages = AutoConfigurationPackages.get(beanFactory);
+        }
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(AerospikeComponentsIndex.entities(new DefaultResourceLoader(classLoader),
+                environment));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Document.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Persistent.class));
+        Set<Class<?>> entities = new LinkedHashSet<>();
+        for (String basePackage : packages) {
+            scanner.findCandidateComponents(basePackage).forEach(candidate ->
+                    entities.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader)));
+        }
+        return entities;
+    }
+}
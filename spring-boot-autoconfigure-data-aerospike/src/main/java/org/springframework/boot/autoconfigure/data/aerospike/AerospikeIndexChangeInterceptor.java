@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Refreshes the indexes cache through {@link AerospikeMetadataRefreshScheduler} after the application created or
+ * dropped a secondary index, instead of waiting for the next periodic refresh.
+ */
+public class AerospikeIndexChangeInterceptor implements MethodInterceptor {
+
+    private final Supplier<AerospikeMetadataRefreshScheduler> scheduler;
+
+    public AerospikeIndexChangeInterceptor(ObjectProvider<AerospikeMetadataRefreshScheduler> scheduler) {
+        this.scheduler = SingletonSupplier.of(scheduler::getIfAvailable);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        String method = invocation.getMethod().getName();
+        if (method.equals("createIndex") || method.equals("dropIndex")) {
+            AerospikeMetadataRefreshScheduler refreshScheduler = scheduler.get();
+            if (refreshScheduler != null) {
+                refreshScheduler.invalidate(AerospikeMetadataRefreshScheduler.INDEXES);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Exposes the build progress of every index of {@link AerospikeAsyncIndexCreator} and the number of indexes
+ * per state.
+ */
+public class AerospikeIndexMetrics implements MeterBinder {
+
+    private final AerospikeAsyncIndexCreator indexCreator;
+
+    public AerospikeIndexMetrics(AerospikeAsyncIndexCreator indexCreator) {
+        this.indexCreator = indexCreator;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AerospikeIndexProgress.State state : AerospikeIndexProgress.State.values()) {
+            Gauge.builder("aerospike.index.creation.indexes", indexCreator, creator -> creator.getIndexes().stream()
+                            .filter(index -> index.getState() == state)
+                            .count())
+                    .description("Indexes created in the background by state")
+                    .tag("state", state.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        indexCreator.addListener(index -> Gauge.builder("aerospike.index.creation.progress", index,
+                        AerospikeIndexProgress::getPercent)
+                .description("Percentage of records indexed on the slowest node")
+                .baseUnit("percent")
+                .tag("namespace", index.getNamespace())
+                .tag("set", Objects.requireNonNullElse(index.getSetName(), ""))
+                .tag("index", index.getName())
+                .register(registry));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Build progress of a secondary index created by {@link AerospikeAsyncIndexCreator}.
+ */
+public final class AerospikeIndexProgress {
+
+    public enum State {
+        /**
+         * Waiting for the create command to be sent.
+         */
+        PENDING,
+        /**
+         * Created, the server is populating it.
+         */
+        BUILDING,
+        /**
+         * Built on every node, queries can use it.
+         */
+        READY,
+        /**
+         * The create command failed, or the index was not built within {@code build-timeout}.
+         */
+        FAILED
+    }
+
+    private final String namespace;
+    @Nullable
+    private final String setName;
+    private final String name;
+    private final String binName;
+    private final IndexType type;
+    private final IndexCollectionType collectionType;
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private volatile State state = State.PENDING;
+    private volatile int percent;
+    private volatile long buildingSince;
+    @Nullable
+    private volatile String failure;
+
+    AerospikeIndexProgress(String namespace, @Nullable String setName, String name, String binName,
+                           IndexType type, IndexCollectionType collectionType) {
+        this.namespace = namespace;
+        this.setName = setName;
+        this.name = name;
+        this.binName = binName;
+        this.type = type;
+        this.collectionType = collectionType;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Nullable
+    public String getSetName() {
+        return setName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getBinName() {
+        return binName;
+    }
+
+    public IndexType getType() {
+        return type;
+    }
+
+    public IndexCollectionType getCollectionType() {
+        return collectionType;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Percentage of records indexed on the slowest node.
+     */
+    public int getPercent() {
+        return percent;
+    }
+
+    @Nullable
+    public String getFailure() {
+        return failure;
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    /**
+     * Whether queries with a filter on the bin of the given namespace and set are served by this index.
+     */
+    public boolean covers(String namespace, @Nullable String setName, String binName,
+                          IndexCollectionType collectionType) {
+        return this.namespace.equals(namespace) && this.binName.equals(binName)
+                && this.collectionType == collectionType
+                && (this.setName == null || this.setName.equals(setName));
+    }
+
+    /**
+     * Waits for the index to be built.
+     *
+     * @return whether the index is ready
+     */
+    public boolean await(Duration timeout) throws InterruptedException {
+        try {
+            ready.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether the index has been building for longer than the given timeout.
+     */
+    boolean isBuildingLongerThan(Duration timeout) {
+        return state == State.BUILDING && System.nanoTime() - buildingSince > timeout.toNanos();
+    }
+
+    void building(int percent) {
+        if (state != State.BUILDING) {
+            this.buildingSince = System.nanoTime();
+        }
+        this.percent = percent;
+        this.state = State.BUILDING;
+    }
+
+    void ready() {
+        this.percent = 100;
+        this.state = State.READY;
+        ready.complete(null);
+    }
+
+    void failed(String failure) {
+        this.failure = failure;
+        this.state = State.FAILED;
+        ready.completeExceptionally(new IllegalStateException(failure));
+    }
+
+    @Override
+    public String toString() {
+        return namespace + "." + Objects.requireNonNullElse(setName, "") + "." + binName + " (" + name + "): "
+                + state + (state == State.BUILDING ? " " + percent + "%" : "");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} while indexes of {@link AerospikeAsyncIndexCreator} are being created or built
+ * and {@code DOWN} if creating one failed. Add it to the readiness group to keep traffic away until then.
+ */
+public class AerospikeIndexesHealthIndicator extends AbstractHealthIndicator {
+
+    private final AerospikeAsyncIndexCreator indexCreator;
+
+    public AerospikeIndexesHealthIndicator(AerospikeAsyncIndexCreator indexCreator) {
+        super("Aerospike indexes health check failed");
+        this.indexCreator = indexCreator;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        List<AerospikeIndexProgress> indexes = indexCreator.getIndexes();
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean failed = false;
+        boolean building = false;
+        for (AerospikeIndexProgress index : indexes) {
+            switch (index.getState()) {
+                case READY -> details.put(index.getName(), index.getState());
+                case FAILED -> {
+                    failed = true;
+                    details.put(index.getName(), index.getState() + ": " + index.getFailure());
+                }
+                default -> {
+                    building = true;
+                    details.put(index.getName(), index.getState() + " " + index.getPercent() + "%");
+                }
+            }
+        }
+        if (failed) {
+            builder.down();
+        } else if (building) {
+            builder.outOfService();
+        } else {
+            builder.up();
+        }
+        builder.withDetails(details);
+    }
+}
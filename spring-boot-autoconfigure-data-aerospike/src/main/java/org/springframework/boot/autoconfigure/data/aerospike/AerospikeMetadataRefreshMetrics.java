@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes duration, staleness and failures of the refreshes run by {@link AerospikeMetadataRefreshScheduler}.
+ */
+public class AerospikeMetadataRefreshMetrics implements MeterBinder {
+
+    private final AerospikeMetadataRefreshScheduler scheduler;
+
+    public AerospikeMetadataRefreshMetrics(AerospikeMetadataRefreshScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AerospikeMetadataRefreshScheduler.Refresh refresh : scheduler.getRefreshes()) {
+            TimeGauge.builder("aerospike.metadata.refresh.duration", refresh, TimeUnit.NANOSECONDS,
+                            r -> r.getLastDuration().toNanos())
+                    .description("Duration of the last refresh")
+                    .tag("metadata", refresh.getName())
+                    .register(registry);
+            TimeGauge.builder("aerospike.metadata.refresh.staleness", refresh, TimeUnit.MILLISECONDS,
+                            r -> r.getStaleness().toMillis())
+                    .description("Time since the last successful refresh")
+                    .tag("metadata", refresh.getName())
+                    .register(registry);
+            FunctionCounter.builder("aerospike.metadata.refresh.failures", refresh,
+                            AerospikeMetadataRefreshScheduler.Refresh::getFailures)
+                    .description("Failed refreshes")
+                    .tag("metadata", refresh.getName())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the periodic refreshes of cluster metadata, the indexes cache and the server version, on one shared low
+ * priority thread.
+ * <p>
+ * Refreshes of many instances started at the same time are spread over their interval: the first refresh runs at a
+ * random time within the interval and every further one deviates from it by up to {@code jitter}. A failed refresh
+ * is retried after {@code retry-delay}, doubled for every further failure up to the interval. A refresh can also be
+ * requested with {@link #invalidate(String)}, repeated requests within {@code invalidation-delay} run it once.
+ */
+@Slf4j
+public class AerospikeMetadataRefreshScheduler implements SmartLifecycle {
+
+    public static final String INDEXES = "indexes";
+    public static final String SERVER_VERSION = "server-version";
+
+    private final AerospikeDataProperties.MetadataRefreshProperties properties;
+    private final Map<String, Refresh> refreshes = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService scheduler;
+
+    public AerospikeMetadataRefreshScheduler(AerospikeDataProperties.MetadataRefreshProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Registers a refresh. One with a zero interval only runs when {@link #invalidate(String) invalidated}.
+     */
+    public void register(String name, Duration interval, Runnable task) {
+        refreshes.put(name, new Refresh(name, interval, task));
+    }
+
+    /**
+     * Requests the refresh with the given name to run after {@code invalidation-delay}.
+     */
+    public void invalidate(String name) {
+        Refresh refresh = refreshes.get(name);
+        if (refresh != null && scheduler != null) {
+            refresh.scheduleWithin(properties.getInvalidationDelay());
+        }
+    }
+
+    public List<Refresh> getRefreshes() {
+        return new ArrayList<>(refreshes.values());
+    }
+
+    @Override
+    public void start() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "aerospike-metadata-refresh");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        scheduler = executor;
+        for (Refresh refresh : refreshes.values()) {
+            if (!refresh.interval.isZero()) {
+                refresh.schedule(Duration.ofMillis(
+                        (long) (refresh.interval.toMillis() * ThreadLocalRandom.current().nextDouble())));
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Returns a refresh of the server version cached by Spring Data's {@code ServerVersionSupport}, which only
+     * offers a fixed-rate schedule, or {@code null} when it keeps the version differently.
+     */
+    @Nullable
+    public static Runnable serverVersionRefresh(Object serverVersionSupport) {
+        Method find = ReflectionUtils.findMethod(serverVersionSupport.getClass(), "findServerVersion");
+        Field version = ReflectionUtils.findField(serverVersionSupport.getClass(), "serverVersion", String.class);
+        if (find == null || version == null) {
+            return null;
+        }
+        ReflectionUtils.makeAccessible(find);
+        ReflectionUtils.makeAccessible(version);
+        return () -> ReflectionUtils.setField(version, serverVersionSupport,
+                ReflectionUtils.invokeMethod(find, serverVersionSupport));
+    }
+
+    /**
+     * Returns the delay until the next run of a refresh, {@code null} when it only runs on invalidation.
+     *
+     * @param random uniformly distributed in {@code [0, 1)}
+     */
+    @Nullable
+    static Duration nextDelay(Duration interval, int failures,
+                              AerospikeDataProperties.MetadataRefreshProperties properties, double random) {
+        if (failures > 0) {
+            long retry = properties.getRetryDelay().toMillis() << Math.min(failures - 1, 20);
+            if (!interval.isZero()) {
+                retry = Math.min(retry, interval.toMillis());
+            }
+            return Duration.ofMillis((long) (retry * (1 + properties.getJitter() * random)));
+        }
+        if (interval.isZero()) {
+            return null;
+        }
+        return Duration.ofMillis((long) (interval.toMillis() * (1 + properties.getJitter() * (2 * random - 1))));
+    }
+
+    /**
+     * A registered refresh and the outcome of its last runs.
+     */
+    public final class Refresh {
+
+        private final String name;
+        private final Duration interval;
+        private final Runnable task;
+        private final AtomicLong failures = new AtomicLong();
+        private volatile long lastSuccess = System.currentTimeMillis();
+        private volatile long lastDurationNanos;
+        private int consecutiveFailures;
+        private long generation;
+        @Nullable
+        private ScheduledFuture<?> next;
+
+        private Refresh(String name, Duration interval, Runnable task) {
+            this.name = name;
+            this.interval = interval;
+            this.task = task;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Time since the last successful refresh, or since registration before the first one.
+         */
+        public Duration getStaleness() {
+            return Duration.ofMillis(System.currentTimeMillis() - lastSuccess);
+        }
+
+        public Duration getLastDuration() {
+            return Duration.ofNanos(lastDurationNanos);
+        }
+
+        public long getFailures() {
+            return failures.get();
+        }
+
+        private synchronized void schedule(Duration delay) {
+            ScheduledExecutorService executor = scheduler;
+            if (executor == null) {
+                return;
+            }
+            if (next != null) {
+                next.cancel(false);
+            }
+            long scheduled = ++generation;
+            next = executor.schedule(() -> run(scheduled), delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void scheduleWithin(Duration delay) {
+            if (next == null || next.getDelay(TimeUnit.MILLISECONDS) > delay.toMillis()) {
+                schedule(delay);
+            }
+        }
+
+        private void run(long scheduled) {
+            synchronized (this) {
+                // a later schedule replaced this run
+                if (scheduled != generation) {
+                    return;
+                }
+                next = null;
+            }
+            long start = System.nanoTime();
+            int failed;
+            try {
+                task.run();
+                lastSuccess = System.currentTimeMillis();
+                failed = 0;
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                failed = consecutiveFailures + 1;
+                log.debug("Failed to refresh Aerospike {}", name, e);
+            }
+            lastDurationNanos = System.nanoTime() - start;
+            synchronized (this) {
+                consecutiveFailures = failed;
+                // unless invalidated while running
+                if (next == null) {
+                    Duration delay = nextDelay(interval, failed, properties, ThreadLocalRandom.current().nextDouble());
+                    if (delay != null) {
+                        schedule(delay);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Value;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.util.AerospikeStatements;
+import org.springframework.lang.Nullable;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Handles queries filtered on a secondary index that {@link AerospikeAsyncIndexCreator} is still building.
+ * <p>
+ * With {@link AerospikeDataProperties.PendingIndexQueries#WAIT} a blocking query waits for the index up to
+ * {@code wait-timeout}. Queries that are not served by the index by then, and with
+ * {@link AerospikeDataProperties.PendingIndexQueries#FALLBACK} all of them, run as a scan with the index filter
+ * turned into a filter expression, on a copy of the statement. That is possible for equality and range filters on integer, string and blob
+ * bins of a query without a filter expression of its own, other queries are sent unchanged.
+ * Async commands never wait, so that event loops are not blocked.
+ */
+@Slf4j
+public class AerospikePendingIndexInterceptor implements MethodInterceptor {
+
+    private final Supplier<AerospikeAsyncIndexCreator> indexCreator;
+
+    public AerospikePendingIndexInterceptor(ObjectProvider<AerospikeAsyncIndexCreator> indexCreator) {
+        this.indexCreator = SingletonSupplier.of(indexCreator::getIfAvailable);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        AerospikeAsyncIndexCreator creator = indexCreator.get();
+        if (creator == null || creator.isComplete()) {
+            return invocation.proceed();
+        }
+        Object[] args = invocation.getArguments();
+        Class<?>[] parameterTypes = invocation.getMethod().getParameterTypes();
+        Statement statement = null;
+        int statementIndex = -1;
+        int policyIndex = -1;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Statement candidate) {
+                statement = candidate;
+                statementIndex = i;
+            } else if (parameterTypes[i] == QueryPolicy.class) {
+                policyIndex = i;
+            }
+        }
+        Filter filter = statement != null ? statement.getFilter() : null;
+        if (filter == null || policyIndex < 0) {
+            return invocation.proceed();
+        }
+        AerospikeIndexProgress index = creator.find(statement.getNamespace(), statement.getSetName(),
+                filter.getName(), filter.getColType());
+        if (index == null || index.isReady()) {
+            return invocation.proceed();
+        }
+        boolean async = args.length > 0 && args[0] instanceof EventLoop;
+        AerospikeDataProperties.IndexCreationProperties properties = creator.getProperties();
+        if (!async && properties.getPendingQueries() == AerospikeDataProperties.PendingIndexQueries.WAIT
+                && index.await(properties.getWaitTimeout())) {
+            return invocation.proceed();
+        }
+        Exp expression = toExpression(filter);
+        QueryPolicy policy = args[policyIndex] != null
+                ? (QueryPolicy) args[policyIndex]
+                : ((IAerospikeClient) invocation.getThis()).getQueryPolicyDefault();
+        if (expression != null && policy.filterExp == null) {
+            QueryPolicy fallback = new QueryPolicy(policy);
+            fallback.filterExp = Exp.build(expression);
+            args[policyIndex] = fallback;
+            // the caller may reuse its statement once the index is built
+            Statement scan = AerospikeStatements.copy(statement);
+            scan.setFilter(null);
+            args[statementIndex] = scan;
+            log.debug("Index {} is not ready, querying {}.{} with a filter expression", index.getName(),
+                    statement.getNamespace(), statement.getSetName());
+        }
+        return invocation.proceed();
+    }
+
+    /**
+     * Turns an equality or range filter on a bin value into the equivalent filter expression.
+     */
+    @Nullable
+    static Exp toExpression(Filter filter) {
+        if (filter.getColType() != IndexCollectionType.DEFAULT || filter.getPackedCtx() != null) {
+            return null;
+        }
+        Value begin = filter.getBegin();
+        Value end = filter.getEnd();
+        Exp bin;
+        Exp from;
+        Exp to;
+        switch (begin.getType()) {
+            case ParticleType.INTEGER -> {
+                bin = Exp.intBin(filter.getName());
+                from = Exp.val(begin.toLong());
+                to = Exp.val(end.toLong());
+            }
+            case ParticleType.STRING -> {
+                bin = Exp.stringBin(filter.getName());
+                from = Exp.val(begin.toString());
+                to = Exp.val(end.toString());
+            }
+            case ParticleType.BLOB -> {
+                bin = Exp.blobBin(filter.getName());
+                from = Exp.val((byte[]) begin.getObject());
+                to = Exp.val((byte[]) end.getObject());
+            }
+            default -> {
+                return null;
+            }
+        }
+        return begin.equals(end) ? Exp.eq(bin, from) : Exp.and(Exp.ge(bin, from), Exp.le(bin, to));
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.ReadModeAP;
+import com.aerospike.client.policy.ReadModeSC;
+import com.aerospike.client.policy.Replica;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.reactor.IAerospikeReactorClient;
+import com.aerospike.client.reactor.dto.KeysExists;
+import com.aerospike.client.reactor.dto.KeysRecords;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces single-key reads of an {@link IAerospikeReactorClient} into batch reads, the way reactive repositories
+ * issue them for {@code findById} and {@code existsById}. {@code get(Policy, Key)} and {@code exists(Policy, Key)}
+ * calls made within a window, or until a batch holds the maximum number of distinct keys, are sent as one
+ * {@code get(BatchPolicy, Key[])} or {@code exists(BatchPolicy, Key[])} command. Only reads with equivalent
+ * policies share a batch, which is sent with a batch policy built from them, or with the client's default batch
+ * policy for reads without a policy. Identical keys are read once and the result is handed to every caller.
+ * <p>
+ * Reads with a filter expression or within a transaction are passed through, as are reads of selected bins
+ * and all other commands.
+ */
+public class AerospikeReadCoalescer implements MethodInterceptor {
+
+    private static final Method GET = method("get");
+    private static final Method EXISTS = method("exists");
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Scheduler scheduler;
+    private final Map<Object, Map<BatchKey, Batch>> batches = new IdentityHashMap<>();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder keyCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public AerospikeReadCoalescer(AerospikeDataProperties.ReadCoalescingProperties properties) {
+        this(properties.getWindow(), properties.getMaxBatchSize(), Schedulers.parallel());
+    }
+
+    AerospikeReadCoalescer(Duration window, int maxBatchSize, Scheduler scheduler) {
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (!method.equals(GET) && !method.equals(EXISTS)) {
+            return invocation.proceed();
+        }
+        Object[] arguments = invocation.getArguments();
+        Policy policy = (Policy) arguments[0];
+        if (policy != null && (policy.filterExp != null || policy.txn != null)) {
+            return invocation.proceed();
+        }
+        Key key = (Key) arguments[1];
+        // batch commands go through the proxy, so that other interceptors of the client still apply
+        IAerospikeReactorClient client = (IAerospikeReactorClient) (invocation instanceof ProxyMethodInvocation proxy
+                ? proxy.getProxy() : invocation.getThis());
+        return Mono.<Object>create(sink -> enqueue(client, method, policy,
+                new Request(key, sink, System.nanoTime())));
+    }
+
+    private void enqueue(IAerospikeReactorClient client, Method method, Policy policy, Request request) {
+        BatchKey batchKey = new BatchKey(method, PolicyKey.of(policy));
+        Batch full = null;
+        synchronized (batches) {
+            Map<BatchKey, Batch> clientBatches = batches.computeIfAbsent(client, c -> new HashMap<>());
+            Batch batch = clientBatches.get(batchKey);
+            if (batch == null) {
+                batch = new Batch(client, batchKey, policy);
+                clientBatches.put(batchKey, batch);
+                Batch scheduled = batch;
+                scheduler.schedule(() -> flush(scheduled), windowNanos, TimeUnit.NANOSECONDS);
+            }
+            batch.requests.computeIfAbsent(request.key(), k -> new ArrayList<>(1)).add(request);
+            if (batch.requests.size() >= maxBatchSize) {
+                clientBatches.remove(batchKey);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            full.send();
+        }
+    }
+
+    private void flush(Batch batch) {
+        synchronized (batches) {
+            Map<BatchKey, Batch> clientBatches = batches.get(batch.client);
+            if (clientBatches == null || !clientBatches.remove(batch.key, batch)) {
+                // already sent as a full batch
+                return;
+            }
+        }
+        batch.send();
+    }
+
+    public long getBatches() {
+        return batchCount.sum();
+    }
+
+    /**
+     * Returns the number of single-key reads sent as part of a batch.
+     */
+    public long getRequests() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Returns the number of distinct keys sent in batches, lower than {@link #getRequests()} when identical keys
+     * were read concurrently.
+     */
+    public long getKeys() {
+        return keyCount.sum();
+    }
+
+    /**
+     * Returns the total time reads waited for their batch to be sent.
+     */
+    public Duration getWait() {
+        return Duration.ofNanos(waitNanos.sum());
+    }
+
+    /**
+     * Returns the average share of {@code max-batch-size} that batches were filled with, between 0 and 1.
+     */
+    public double getFillRatio() {
+        long count = getBatches();
+        return count > 0 ? (double) getKeys() / (count * maxBatchSize) : 0;
+    }
+
+    private static Method method(String name) {
+        try {
+            return IAerospikeReactorClient.class.getMethod(name, Policy.class, Key.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("IAerospikeReactorClient." + name + "(Policy, Key) not found", e);
+        }
+    }
+
+    private record Request(Key key, MonoSink<Object> sink, long enqueuedNanos) {
+    }
+
+    private record BatchKey(Method method, PolicyKey policy) {
+    }
+
+    /**
+     * Values of a read policy that a batch command applies to all of its keys, {@code null} for reads without
+     * a policy. Reads with a filter expression or a transaction are never coalesced.
+     */
+    private record PolicyKey(int connectTimeout, int socketTimeout, int totalTimeout, int timeoutDelay,
+                             int maxRetries, int sleepBetweenRetries, ReadModeAP readModeAP, ReadModeSC readModeSC,
+                             Replica replica, int readTouchTtlPercent, boolean sendKey, boolean compress,
+                             boolean failOnFilteredOut) {
+
+        static PolicyKey of(Policy policy) {
+            return policy == null ? null : new PolicyKey(policy.connectTimeout, policy.socketTimeout,
+                    policy.totalTimeout, policy.timeoutDelay, policy.maxRetries, policy.sleepBetweenRetries,
+                    policy.readModeAP, policy.readModeSC, policy.replica, policy.readTouchTtlPercent, policy.sendKey,
+                    policy.compress, policy.failOnFilteredOut);
+        }
+    }
+
+    private final class Batch {
+
+        private final IAerospikeReactorClient client;
+        private final BatchKey key;
+        private final BatchPolicy policy;
+        private final Map<Key, List<Request>> requests = new LinkedHashMap<>();
+
+        private Batch(IAerospikeReactorClient client, BatchKey key, Policy policy) {
+            this.client = client;
+            this.key = key;
+            // null selects the default batch policy of the client
+            this.policy = policy == null ? null : new BatchPolicy(policy);
+        }
+
+        private void send() {
+            Key[] batchKeys = requests.keySet().toArray(new Key[0]);
+            long now = System.nanoTime();
+            requests.values().forEach(waiting -> waiting.forEach(request -> {
+                waitNanos.add(now - request.enqueuedNanos());
+                requestCount.increment();
+            }));
+            batchCount.increment();
+            keyCount.add(batchKeys.length);
+            Mono<?> result = key.method().equals(GET)
+                    ? client.get(policy, batchKeys) : client.exists(policy, batchKeys);
+            result.subscribe(value -> complete(batchKeys, value), this::fail, this::completeEmpty);
+        }
+
+        private void complete(Key[] batchKeys, Object value) {
+            for (int i = 0; i < batchKeys.length; i++) {
+                for (Request request : requests.get(batchKeys[i])) {
+                    if (value instanceof KeysRecords records) {
+                        request.sink().success(new KeyRecord(request.key(), records.records[i]));
+                    } else if (((KeysExists) value).exists[i]) {
+                        request.sink().success(request.key());
+                    } else {
+                        request.sink().success();
+                    }
+                }
+            }
+        }
+
+        private void fail(Throwable error) {
+            requests.values().forEach(waiting -> waiting.forEach(request -> request.sink().error(error)));
+        }
+
+        private void completeEmpty() {
+            // no-op for sinks that already received a value
+            requests.values().forEach(waiting -> waiting.forEach(request -> request.sink().success()));
+        }
+    }
+}
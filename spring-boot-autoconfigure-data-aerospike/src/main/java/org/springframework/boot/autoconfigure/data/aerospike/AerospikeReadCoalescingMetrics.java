@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes the counters of {@link AerospikeReadCoalescer}.
+ */
+public class AerospikeReadCoalescingMetrics implements MeterBinder {
+
+    private final AerospikeReadCoalescer coalescer;
+
+    public AerospikeReadCoalescingMetrics(AerospikeReadCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("aerospike.client.coalescing.batches", coalescer, AerospikeReadCoalescer::getBatches)
+                .description("Batch reads sent for coalesced single-key reads")
+                .register(registry);
+        FunctionCounter.builder("aerospike.client.coalescing.keys", coalescer, AerospikeReadCoalescer::getKeys)
+                .description("Distinct keys sent in coalesced batch reads")
+                .register(registry);
+        FunctionTimer.builder("aerospike.client.coalescing.wait", coalescer, AerospikeReadCoalescer::getRequests,
+                        c -> c.getWait().toNanos(), TimeUnit.NANOSECONDS)
+                .description("Time single-key reads waited for their batch to be sent")
+                .register(registry);
+        Gauge.builder("aerospike.client.coalescing.fill", coalescer, AerospikeReadCoalescer::getFillRatio)
+                .description("Average share of max-batch-size that coalesced batch reads were filled with")
+                .register(registry);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.config.BootstrapMode;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Support for {@code spring.data.aerospike.repositories.bootstrap-mode} in the repository registrars.
+ * <p>
+ * {@link BootstrapMode#LAZY lazy} repositories are created on first use. {@link BootstrapMode#DEFERRED Deferred}
+ * repositories are initialized on the {@code bootstrapExecutor}, or the {@code applicationTaskExecutor} if there is
+ * no bootstrap executor, while the rest of the context starts and completed before the context is refreshed,
+ * so before the application is ready. Without either executor they are initialized by Spring Data at the end
+ * of the refresh.
+ */
+@Slf4j
+public final class AerospikeRepositoriesBootstrap {
+
+    public static final String BOOTSTRAP_MODE_PROPERTY = "spring.data.aerospike.repositories.bootstrap-mode";
+
+    private AerospikeRepositoriesBootstrap() {
+    }
+
+    public static BootstrapMode getBootstrapMode(Environment environment) {
+        return Binder.get(environment).bind(BOOTSTRAP_MODE_PROPERTY, BootstrapMode.class)
+                .orElse(BootstrapMode.DEFAULT);
+    }
+
+    /**
+     * Runs the repository registration and, in {@link BootstrapMode#DEFERRED deferred} mode, registers a
+     * {@link BeanFactoryPostProcessor} that switches the registered repositories to background initialization.
+     */
+    public static void register(BeanDefinitionRegistry registry, BootstrapMode bootstrapMode,
+                                String repositoryFactoryBeanClassName, Runnable registration) {
+        Set<String> existing = Set.of(registry.getBeanDefinitionNames());
+        registration.run();
+        if (bootstrapMode != BootstrapMode.DEFERRED) {
+            return;
+        }
+        Set<String> repositories = new LinkedHashSet<>();
+        for (String name : registry.getBeanDefinitionNames()) {
+            if (!existing.contains(name)
+                    && repositoryFactoryBeanClassName.equals(registry.getBeanDefinition(name).getBeanClassName())) {
+                repositories.add(name);
+            }
+        }
+        if (!repositories.isEmpty()) {
+            RootBeanDefinition definition = new RootBeanDefinition(BackgroundInitialization.class);
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(0, List.copyOf(repositories));
+            definition.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+            String name = BackgroundInitialization.class.getName() + "#" + repositoryFactoryBeanClassName;
+            registry.registerBeanDefinition(name, definition);
+        }
+    }
+
+    static class BackgroundInitialization implements BeanFactoryPostProcessor {
+
+        private final List<String> repositories;
+
+        BackgroundInitialization(List<String> repositories) {
+            this.repositories = repositories;
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            if (!beanFactory.containsBean(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)) {
+                if (!isExecutor(beanFactory, TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)) {
+                    log.debug("No bootstrap executor, {} deferred repositories are initialized after refresh",
+                            repositories.size());
+                    return;
+                }
+                // same fallback as the JPA auto-configuration, the context picks the executor up by this name
+                beanFactory.registerAlias(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                        ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME);
+            }
+            for (String name : repositories) {
+                if (beanFactory.getBeanDefinition(name) instanceof AbstractBeanDefinition definition) {
+                    definition.setLazyInit(false);
+                    definition.setBackgroundInit(true);
+                }
+            }
+        }
+
+        private static boolean isExecutor(ConfigurableListableBeanFactory beanFactory, String name) {
+            return beanFactory.containsBean(name) && beanFactory.isTypeMatch(name, Executor.class);
+        }
+    }
+}
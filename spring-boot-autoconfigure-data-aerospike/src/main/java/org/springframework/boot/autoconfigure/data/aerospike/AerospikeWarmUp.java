@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.util.AerospikeStartupStepsPostProcessor;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.data.aerospike.convert.AerospikeReadData;
+import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Exercises the conversion and query derivation code paths of every entity and repository before the application
+ * reports readiness, so that the first requests after a deployment do not run them interpreted.
+ * <p>
+ * Every entity is read from and written to a synthetic record built from sample values of its properties,
+ * and the query methods of every repository are parsed, for {@code iterations} round trips or until
+ * {@code timeout}. Nothing is sent to the cluster, unless {@code reads} is enabled: then a record with a synthetic
+ * id is read for every entity, which does not exist and has no side effects.
+ * <p>
+ * Runs as an {@link ApplicationRunner}, readiness changes to accepting traffic once all runners completed.
+ */
+@Slf4j
+public class AerospikeWarmUp implements ApplicationRunner, ApplicationStartupAware, Ordered {
+
+    static final String SYNTHETIC_ID = "aerospike-warm-up";
+
+    private static final int MAX_DEPTH = 3;
+
+    private final AerospikeMappingContext mappingContext;
+    private final MappingAerospikeConverter converter;
+    private final ListableBeanFactory beanFactory;
+    private final String namespace;
+    private final AerospikeDataProperties.WarmUpProperties properties;
+    private final BiConsumer<Object, Class<?>> reader;
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+    private volatile Duration duration = Duration.ZERO;
+
+    /**
+     * @param reader reads the record with the given id of the given entity type
+     */
+    public AerospikeWarmUp(AerospikeMappingContext mappingContext, MappingAerospikeConverter converter,
+                           ListableBeanFactory beanFactory, AerospikeDataProperties dataProperties,
+                           BiConsumer<Object, Class<?>> reader) {
+        this.mappingContext = mappingContext;
+        this.converter = converter;
+        this.beanFactory = beanFactory;
+        this.namespace = dataProperties.getNamespace();
+        this.properties = dataProperties.getWarmUp();
+        this.reader = reader;
+    }
+
+    @Override
+    public void setApplicationStartup(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public int getOrder() {
+        // after the application's own runners, right before readiness
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Time spent in the last warm-up.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        StartupStep step = applicationStartup.start(AerospikeStartupStepsPostProcessor.WARM_UP);
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeout().toNanos();
+        List<Runnable> tasks = new ArrayList<>();
+        for (AerospikePersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (entity.getIdProperty() != null && !entity.getType().isInterface()) {
+                tasks.add(conversion(entity));
+                if (properties.isReads()) {
+                    Object id = syntheticId(entity.getIdProperty().getType());
+                    tasks.add(() -> reader.accept(id, entity.getType()));
+                }
+            }
+        }
+        tasks.addAll(queryDerivation());
+        int iterations = 0;
+        while (iterations < properties.getIterations() && !tasks.isEmpty() && System.nanoTime() < deadline) {
+            run(tasks);
+            iterations++;
+        }
+        duration = Duration.ofNanos(System.nanoTime() - start);
+        step.tag("iterations", String.valueOf(iterations)).end();
+        log.info("Warmed up Aerospike data access in {} ms ({} iterations)", duration.toMillis(), iterations);
+    }
+
+    private static void run(List<Runnable> tasks) {
+        for (Iterator<Runnable> iterator = tasks.iterator(); iterator.hasNext(); ) {
+            Runnable task = iterator.next();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // a task that fails once fails every time, it is not warmed up
+                iterator.remove();
+                log.debug("Skipping warm-up task that failed", e);
+            }
+        }
+    }
+
+    private Runnable conversion(AerospikePersistentEntity<?> entity) {
+        Map<String, Object> bins = sampleBins(entity, 0);
+        Key key = new Key(namespace, entity.getSetName(), Value.get(syntheticId(entity.getIdProperty().getType())));
+        AerospikeReadData readData = AerospikeReadData.forRead(key, new Record(bins, 1, 0));
+        return () -> {
+            Object instance = converter.read(entity.getType(), readData);
+            AerospikeWriteData writeData = AerospikeWriteData.forWrite(namespace);
+            converter.write(instance, writeData);
+        };
+    }
+
+    private List<Runnable> queryDerivation() {
+        List<Runnable> tasks = new ArrayList<>();
+        Repositories repositories = new Repositories(beanFactory);
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            for (Method method : information.getQueryMethods()) {
+                tasks.add(() -> new PartTree(method.getName(), domainType));
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the bins of a record of the entity, with a sample value for every property of a simple type
+     * and nested entities up to a few levels deep.
+     */
+    Map<String, Object> sampleBins(AerospikePersistentEntity<?> entity, int depth) {
+        Map<String, Object> bins = new HashMap<>();
+        entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+            if (property.isIdProperty()) {
+                return;
+            }
+            Object value = sampleValue(property.getType());
+            if (value == null && property.isEntity() && depth < MAX_DEPTH) {
+                AerospikePersistentEntity<?> nested = mappingContext.getPersistentEntity(property.getActualType());
+                value = nested != null ? sampleBins(nested, depth + 1) : null;
+            } else if (value == null && property.isCollectionLike()) {
+                value = List.of();
+            } else if (value == null && property.isMap()) {
+                value = Map.of();
+            }
+            if (value != null) {
+                bins.put(property.getFieldName(), value);
+            }
+        });
+        return bins;
+    }
+
+    /**
+     * Returns a value of the given type as the client reads it from a bin, {@code null} for other than simple types.
+     */
+    @Nullable
+    static Object sampleValue(Class<?> type) {
+        Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+        if (boxed == String.class) {
+            return "warm-up";
+        }
+        if (boxed == Boolean.class) {
+            return true;
+        }
+        if (boxed == Double.class || boxed == Float.class) {
+            return 1.0d;
+        }
+        if (Number.class.isAssignableFrom(boxed)) {
+            return 1L;
+        }
+        if (boxed.isEnum() && boxed.getEnumConstants().length > 0) {
+            return ((Enum<?>) boxed.getEnumConstants()[0]).name();
+        }
+        if (boxed == byte[].class) {
+            return new byte[]{1};
+        }
+        return null;
+    }
+
+    static Object syntheticId(Class<?> idType) {
+        Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(idType);
+        return Number.class.isAssignableFrom(boxed) ? (Object) (long) Integer.MIN_VALUE : SYNTHETIC_ID;
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.util.AerospikeGracefulShutdown;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind for repositories of entities with {@code spring.data.aerospike.entities.<name>.write-behind.enabled}:
+ * {@code save} and {@code saveAll} put entities into an {@link AerospikeWriteBehindBuffer} and return immediately.
+ * A single thread flushes a buffer once it holds {@code flush-size} keys, every {@code flush-interval} and,
+ * after web servers have stopped, on shutdown.
+ * <p>
+ * {@code findById} and {@code existsById} see buffered entities and deletes drop them. Both wait for a flush that
+ * is writing the same key, so a delete is never overtaken by an earlier write. Other repository and template
+ * methods only see buffered writes once they are flushed. Entities with a version property are not buffered,
+ * as optimistic locking needs every write to reach the cluster. Writes made within a transaction, or while
+ * the application is not running, such as data initialization on startup, are not buffered either. Like writes
+ * that find the buffer full, they drop a buffered entity of the same key and wait for a flush writing it before
+ * they reach the cluster, so an older value is never written after a newer one.
+ */
+@Slf4j
+public class AerospikeWriteBehind implements BeanPostProcessor, SmartLifecycle {
+
+    /**
+     * Flushes before {@link AerospikeGracefulShutdown} drains in-flight commands, if it is enabled.
+     */
+    public static final int PHASE = AerospikeGracefulShutdown.PHASE + 1;
+
+    private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+    private final AerospikeDataProperties dataProperties;
+    private final ObjectProvider<AerospikeMappingContext> mappingContext;
+    private final Consumer<List<Object>> writer;
+    private final Map<Class<?>, AerospikeWriteBehindBuffer> buffers = new ConcurrentHashMap<>();
+    private final List<Consumer<AerospikeWriteBehindBuffer>> listeners = new CopyOnWriteArrayList<>();
+    private final Set<AerospikeWriteBehindBuffer> scheduled = new HashSet<>();
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    /**
+     * @param writer saves a batch of entities of the same type, usually {@code AerospikeTemplate#saveAll}
+     */
+    public AerospikeWriteBehind(AerospikeDataProperties dataProperties,
+                                ObjectProvider<AerospikeMappingContext> mappingContext,
+                                Consumer<List<Object>> writer) {
+        this.dataProperties = dataProperties;
+        this.mappingContext = mappingContext;
+        this.writer = writer;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> {
+                        MethodInterceptor interceptor = information.isReactiveRepository()
+                                ? null : repositoryInterceptor(information.getDomainType());
+                        if (interceptor != null) {
+                            proxyFactory.addAdvice(interceptor);
+                        }
+                    }));
+        }
+        return bean;
+    }
+
+    /**
+     * Creates the flush thread and schedules the periodic flush of every buffer, again after a restart.
+     */
+    @Override
+    public void start() {
+        synchronized (this) {
+            if (executor == null) {
+                CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("aerospike-write-behind-");
+                threadFactory.setDaemon(true);
+                executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            }
+            buffers.values().forEach(this::schedule);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledExecutorService flushExecutor;
+        synchronized (this) {
+            flushExecutor = executor;
+            executor = null;
+            scheduled.clear();
+        }
+        if (flushExecutor == null) {
+            return;
+        }
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Write-behind flush did not complete within {}s", TERMINATION_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        buffers.values().forEach(buffer -> {
+            int size = buffer.getSize();
+            if (size > 0) {
+                log.info("Flushing {} buffered {} record(s) on shutdown", size, buffer.getType().getSimpleName());
+                buffer.flush();
+                if (buffer.getSize() > 0) {
+                    log.error("{} buffered {} record(s) could not be written on shutdown", buffer.getSize(),
+                            buffer.getType().getSimpleName());
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public List<AerospikeWriteBehindBuffer> getBuffers() {
+        return List.copyOf(buffers.values());
+    }
+
+    /**
+     * Registers a callback for every buffer, including the ones already created.
+     */
+    public void addListener(Consumer<AerospikeWriteBehindBuffer> listener) {
+        listeners.add(listener);
+        buffers.values().forEach(listener);
+    }
+
+    /**
+     * Returns the interceptor applied to repositories of the given type, or {@code null} if their writes
+     * are not buffered.
+     */
+    MethodInterceptor repositoryInterceptor(Class<?> domainType) {
+        AerospikeWriteBehindBuffer buffer = bufferFor(domainType);
+        return buffer != null ? new RepositoryInterceptor(buffer) : null;
+    }
+
+    AerospikeWriteBehindBuffer bufferFor(Class<?> domainType) {
+        AerospikeMappingContext context = mappingContext.getIfAvailable();
+        if (context == null) {
+            return null;
+        }
+        AerospikePersistentEntity<?> entity = context.getRequiredPersistentEntity(domainType);
+        AerospikeDataProperties.WriteBehindProperties properties = properties(entity);
+        if (properties == null || !properties.isEnabled()) {
+            return null;
+        }
+        if (entity.hasVersionProperty()) {
+            log.warn("Write-behind is not applied to {}, versioned entities need every write to reach the cluster",
+                    domainType.getSimpleName());
+            return null;
+        }
+        AerospikeWriteBehindBuffer result = buffers.computeIfAbsent(domainType, type -> {
+            AerospikeWriteBehindBuffer buffer = new AerospikeWriteBehindBuffer(entity, properties, dataProperties,
+                    writer, this::execute);
+            log.info("Buffering repository writes of {} (capacity {}, flush interval {})", type.getSimpleName(),
+                    properties.getCapacity(), properties.getFlushInterval());
+            listeners.forEach(listener -> listener.accept(buffer));
+            return buffer;
+        });
+        // buffers of repositories created after start are scheduled here, the others by start
+        schedule(result);
+        return result;
+    }
+
+    private AerospikeDataProperties.WriteBehindProperties properties(AerospikePersistentEntity<?> entity) {
+        AerospikeDataProperties.WriteBehindProperties properties = null;
+        for (Map.Entry<String, AerospikeDataProperties.EntityProperties> entry :
+                dataProperties.getEntities().entrySet()) {
+            String name = entry.getKey();
+            if (name.equalsIgnoreCase(entity.getType().getSimpleName()) || name.equals(entity.getSetName())) {
+                properties = entry.getValue().getWriteBehind();
+            }
+        }
+        return properties;
+    }
+
+    private synchronized void schedule(AerospikeWriteBehindBuffer buffer) {
+        if (executor != null && scheduled.add(buffer)) {
+            long interval = buffer.getFlushInterval().toNanos();
+            executor.scheduleWithFixedDelay(() -> flushQuietly(buffer), interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized void execute(Runnable task) {
+        if (executor == null) {
+            throw new RejectedExecutionException("Write-behind is stopped");
+        }
+        executor.execute(task);
+    }
+
+    private static void flushQuietly(AerospikeWriteBehindBuffer buffer) {
+        try {
+            buffer.flush();
+        } catch (RuntimeException e) {
+            // keep the periodic flush scheduled
+            log.error("Write-behind flush of {} failed", buffer.getType().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Serves repository calls of a single entity type from its buffer.
+     */
+    private final class RepositoryInterceptor implements MethodInterceptor {
+
+        private final AerospikeWriteBehindBuffer buffer;
+
+        private RepositoryInterceptor(AerospikeWriteBehindBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object[] arguments = invocation.getArguments();
+            String name = invocation.getMethod().getName();
+            if (arguments.length > 1 || (arguments.length == 1 && arguments[0] == null)
+                    || (arguments.length == 0 && !name.equals("deleteAll"))) {
+                return invocation.proceed();
+            }
+            boolean buffering = running && !TransactionSynchronizationManager.isActualTransactionActive();
+            Object argument = arguments.length == 1 ? arguments[0] : null;
+            switch (name) {
+                case "save" -> {
+                    if (buffering && buffer.offer(argument)) {
+                        return argument;
+                    }
+                    buffer.supersede(argument);
+                }
+                case "saveAll" -> {
+                    return saveAll(invocation, (Iterable<?>) argument, buffering);
+                }
+                case "findById" -> {
+                    Object pending = buffer.get(argument);
+                    if (pending != null) {
+                        return Optional.of(pending);
+                    }
+                    buffer.awaitWritten(argument);
+                }
+                case "existsById" -> {
+                    if (buffer.get(argument) != null) {
+                        return true;
+                    }
+                    buffer.awaitWritten(argument);
+                }
+                case "deleteById" -> buffer.remove(argument);
+                case "delete" -> buffer.remove(buffer.idOf(argument));
+                case "deleteAllById" -> ((Iterable<?>) argument).forEach(buffer::remove);
+                case "deleteAll" -> {
+                    if (argument == null) {
+                        buffer.clear();
+                    } else {
+                        ((Iterable<?>) argument).forEach(value -> buffer.remove(buffer.idOf(value)));
+                    }
+                }
+                default -> {
+                }
+            }
+            return invocation.proceed();
+        }
+
+        private Object saveAll(MethodInvocation invocation, Iterable<?> entities, boolean buffering)
+                throws Throwable {
+            if (!(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+                entities.forEach(buffer::supersede);
+                return invocation.proceed();
+            }
+            List<Object> all = new ArrayList<>();
+            List<Object> notBuffered = new ArrayList<>();
+            for (Object value : entities) {
+                all.add(value);
+                if (!buffering || !buffer.offer(value)) {
+                    buffer.supersede(value);
+                    notBuffered.add(value);
+                }
+            }
+            if (notBuffered.isEmpty()) {
+                return all;
+            }
+            proxyInvocation.setArguments(notBuffered);
+            Object saved = invocation.proceed();
+            return notBuffered.size() == all.size() ? saved : all;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Value;
+import com.aerospike.client.cluster.Partition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Buffered writes of a single entity, see {@link AerospikeWriteBehind}.
+ * <p>
+ * Pending entities are kept by id, so a write of a key that is already buffered replaces the pending entity
+ * instead of taking another slot. Slots are reserved with a compare-and-set on the buffer size, which never
+ * exceeds the configured capacity. Flushes run one at a time, so writes of the same key reach the cluster in order,
+ * and keys being written by a flush stay visible to {@link #remove(Object)} and {@link #awaitWritten(Object)}
+ * until their write has completed. Records of a failed batch are retried by the next flushes, up to
+ * {@code max-retries} times, and then dropped.
+ */
+@Slf4j
+public class AerospikeWriteBehindBuffer {
+
+    private static final long PARK_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final AerospikePersistentEntity<?> entity;
+    private final AerospikeDataProperties.WriteBehindProperties properties;
+    private final int batchWriteSize;
+    private final int flushSize;
+    private final boolean keepOriginalKeyTypes;
+    private final Consumer<List<Object>> writer;
+    private final Executor flushExecutor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Map<Object, Object> pending = new ConcurrentHashMap<>();
+    private final Set<Object> writing = ConcurrentHashMap.newKeySet();
+    private final Map<Object, Integer> failures = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder writesThrough = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final LongAdder flushedRecords = new LongAdder();
+    private final LongAdder failedRecords = new LongAdder();
+    private final LongAdder droppedRecords = new LongAdder();
+
+    AerospikeWriteBehindBuffer(AerospikePersistentEntity<?> entity,
+                               AerospikeDataProperties.WriteBehindProperties properties,
+                               AerospikeDataProperties dataProperties, Consumer<List<Object>> writer,
+                               Executor flushExecutor) {
+        this.entity = entity;
+        this.properties = properties;
+        this.batchWriteSize = Math.max(dataProperties.getBatchWriteSize(), 1);
+        this.flushSize = properties.getFlushSize() > 0 ? properties.getFlushSize() : batchWriteSize;
+        this.keepOriginalKeyTypes = dataProperties.isKeepOriginalKeyTypes();
+        this.writer = writer;
+        this.flushExecutor = flushExecutor;
+    }
+
+    /**
+     * Buffers the entity, waiting up to {@code offer-timeout} for room when the buffer is full.
+     *
+     * @return {@code false} if the entity was not buffered and has to be written by the caller
+     */
+    public boolean offer(Object value) {
+        Object id = idOf(value);
+        writes.increment();
+        long deadline = 0;
+        while (true) {
+            if (pending.replace(id, value) != null) {
+                coalesced.increment();
+                return true;
+            }
+            int current = size.get();
+            if (current < properties.getCapacity()) {
+                if (!size.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                if (pending.putIfAbsent(id, value) != null) {
+                    // buffered concurrently, coalesce with it on the next attempt
+                    size.decrementAndGet();
+                    continue;
+                }
+                if (current + 1 >= flushSize) {
+                    requestFlush();
+                }
+                return true;
+            }
+            requestFlush();
+            long now = System.nanoTime();
+            if (deadline == 0) {
+                deadline = now + properties.getOfferTimeout().toNanos();
+            } else if (now - deadline >= 0) {
+                writesThrough.increment();
+                return false;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    public Object idOf(Object value) {
+        return entity.getIdentifierAccessor(value).getRequiredIdentifier();
+    }
+
+    /**
+     * Returns the buffered entity with the given id, or {@code null}.
+     */
+    public Object get(Object id) {
+        return pending.get(id);
+    }
+
+    /**
+     * Drops the buffered entity with the given id, for example because the record is being deleted.
+     * Waits for a flush that is writing the key, so that the write cannot land after the delete.
+     */
+    public void remove(Object id) {
+        drop(id);
+        if (writing.contains(id)) {
+            awaitWritten(id);
+            // a failed write was requeued by the flush
+            drop(id);
+        }
+    }
+
+    /**
+     * Drops the buffered entity with the id of the given one and waits for a flush that is writing it, before
+     * the caller writes the entity to the cluster itself, so that an older buffered value cannot overwrite it.
+     */
+    public void supersede(Object value) {
+        Object id = entity.getIdentifierAccessor(value).getIdentifier();
+        if (id != null) {
+            remove(id);
+        }
+    }
+
+    /**
+     * Waits for a flush that is writing the entity with the given id, so that a read of the record sees it.
+     */
+    public void awaitWritten(Object id) {
+        if (writing.contains(id)) {
+            flushLock.lock();
+            flushLock.unlock();
+        }
+    }
+
+    private void drop(Object id) {
+        if (pending.remove(id) != null) {
+            size.decrementAndGet();
+        }
+        failures.remove(id);
+    }
+
+    public void clear() {
+        pending.keySet().forEach(this::remove);
+    }
+
+    /**
+     * Writes the buffered entities in batches of {@code batch-write-size}, ordered by partition so that
+     * every batch touches as few partitions, and thereby nodes, as possible.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Pending> drained = new ArrayList<>();
+            pending.forEach((id, value) -> {
+                // marked before leaving the buffer, so that a delete of the key always finds it in one of both
+                writing.add(id);
+                // fails if the entity was replaced meanwhile, the newer one is written by the next flush
+                if (pending.remove(id, value)) {
+                    size.decrementAndGet();
+                    drained.add(new Pending(id, value, partitionId(id)));
+                } else {
+                    writing.remove(id);
+                }
+            });
+            if (drained.isEmpty()) {
+                return;
+            }
+            drained.sort(Comparator.comparingInt(Pending::partitionId));
+            long start = System.nanoTime();
+            for (int from = 0; from < drained.size(); from += batchWriteSize) {
+                List<Pending> batch = drained.subList(from, Math.min(from + batchWriteSize, drained.size()));
+                try {
+                    writer.accept(batch.stream().map(Pending::value).toList());
+                    flushedRecords.add(batch.size());
+                    if (!failures.isEmpty()) {
+                        batch.forEach(written -> failures.remove(written.id()));
+                    }
+                } catch (RuntimeException e) {
+                    failedRecords.add(batch.size());
+                    long dropped = batch.stream().filter(failed -> !requeue(failed)).count();
+                    if (dropped == 0) {
+                        log.error("Failed to write {} buffered {} record(s), keeping them for the next flush",
+                                batch.size(), entity.getType().getSimpleName(), e);
+                    } else {
+                        log.error("Failed to write {} buffered {} record(s), dropped {} of them after {} retries",
+                                batch.size(), entity.getType().getSimpleName(), dropped,
+                                properties.getMaxRetries(), e);
+                    }
+                }
+            }
+            flushes.increment();
+            flushNanos.add(System.nanoTime() - start);
+        } finally {
+            writing.clear();
+            flushLock.unlock();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                // shutting down, the final flush writes the buffer
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * Puts the record of a failed batch back for the next flush.
+     *
+     * @return {@code false} if the record was dropped, as its write failed {@code max-retries} times already
+     */
+    private boolean requeue(Pending failed) {
+        if (failures.merge(failed.id(), 1, Integer::sum) > properties.getMaxRetries()) {
+            failures.remove(failed.id());
+            droppedRecords.increment();
+            return false;
+        }
+        // a newer write of the same key wins over the failed one
+        if (pending.putIfAbsent(failed.id(), failed.value()) == null) {
+            size.incrementAndGet();
+        }
+        return true;
+    }
+
+    private int partitionId(Object id) {
+        try {
+            Value value = keepOriginalKeyTypes ? Value.get(id) : Value.get(String.valueOf(id));
+            return Partition.getPartitionId(Key.computeDigest(entity.getSetName(), value));
+        } catch (RuntimeException e) {
+            // only affects how records are grouped into batches
+            return 0;
+        }
+    }
+
+    public Class<?> getType() {
+        return entity.getType();
+    }
+
+    public Duration getFlushInterval() {
+        return properties.getFlushInterval();
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    /**
+     * Returns the number of writes, including the ones coalesced or written through.
+     */
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    /**
+     * Returns the number of writes that replaced a buffered entity of the same key.
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of writes that found the buffer full and were written by the caller.
+     */
+    public long getWritesThrough() {
+        return writesThrough.sum();
+    }
+
+    /**
+     * Returns the share of writes that were coalesced, between 0 and 1.
+     */
+    public double getCoalescingRatio() {
+        long count = getWrites();
+        return count > 0 ? (double) getCoalesced() / count : 0;
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    public Duration getFlushTime() {
+        return Duration.ofNanos(flushNanos.sum());
+    }
+
+    public long getFlushedRecords() {
+        return flushedRecords.sum();
+    }
+
+    public long getFailedRecords() {
+        return failedRecords.sum();
+    }
+
+    /**
+     * Returns the number of records that were dropped because their write failed {@code max-retries} times.
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    private record Pending(Object id, Object value, int partitionId) {
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes the counters of every {@link AerospikeWriteBehindBuffer}, tagged with the entity type.
+ */
+public class AerospikeWriteBehindMetrics implements MeterBinder {
+
+    private final AerospikeWriteBehind writeBehind;
+
+    public AerospikeWriteBehindMetrics(AerospikeWriteBehind writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        writeBehind.addListener(buffer -> {
+            String entity = buffer.getType().getSimpleName();
+            Gauge.builder("aerospike.write.behind.size", buffer, AerospikeWriteBehindBuffer::getSize)
+                    .description("Distinct keys waiting to be written")
+                    .tag("entity", entity)
+                    .register(registry);
+            FunctionCounter.builder("aerospike.write.behind.writes", buffer, AerospikeWriteBehindBuffer::getWrites)
+                    .description("Repository writes, including coalesced ones")
+                    .tag("entity", entity)
+                    .register(registry);
+            FunctionCounter.builder("aerospike.write.behind.coalesced", buffer,
+                            AerospikeWriteBehindBuffer::getCoalesced)
+                    .description("Writes that replaced a buffered write of the same key")
+                    .tag("entity", entity)
+                    .register(registry);
+            Gauge.builder("aerospike.write.behind.coalescing.ratio", buffer,
+                            AerospikeWriteBehindBuffer::getCoalescingRatio)
+                    .description("Share of writes that replaced a buffered write of the same key")
+                    .tag("entity", entity)
+                    .register(registry);
+            FunctionCounter.builder("aerospike.write.behind.writes.through", buffer,
+                            AerospikeWriteBehindBuffer::getWritesThrough)
+                    .description("Writes that found the buffer full and were written synchronously")
+                    .tag("entity", entity)
+                    .register(registry);
+            FunctionCounter.builder("aerospike.write.behind.records", buffer,
+                            AerospikeWriteBehindBuffer::getFlushedRecords)
+                    .description("Records written by flushes")
+                    .tag("entity", entity)
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder("aerospike.write.behind.records", buffer,
+                            AerospikeWriteBehindBuffer::getFailedRecords)
+                    .description("Records written by flushes")
+                    .tag("entity", entity)
+                    .tag("result", "failure")
+                    .register(registry);
+            FunctionCounter.builder("aerospike.write.behind.records", buffer,
+                            AerospikeWriteBehindBuffer::getDroppedRecords)
+                    .description("Records written by flushes")
+                    .tag("entity", entity)
+                    .tag("result", "dropped")
+                    .register(registry);
+            FunctionTimer.builder("aerospike.write.behind.flush", buffer, AerospikeWriteBehindBuffer::getFlushes,
+                            b -> b.getFlushTime().toNanos(), TimeUnit.NANOSECONDS)
+                    .description("Flushes of buffered writes")
+                    .tag("entity", entity)
+                    .register(registry);
+        });
+    }
+}
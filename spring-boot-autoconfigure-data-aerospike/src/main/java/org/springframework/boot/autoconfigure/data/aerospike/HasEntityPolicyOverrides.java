@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.boot.autoconfigure.domain.EntityScanPackages;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_DATA;
+
+/**
+ * Matches when policies are overridden for an entity, either with {@code spring.data.aerospike.entities.*}
+ * properties or with {@link AerospikeEntityPolicy} on a class or interface in the entity scan or
+ * auto-configuration packages. Uses the {@link AerospikeComponentsIndex} when there is one.
+ */
+class HasEntityPolicyOverrides implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return hasConfiguredOverrides(context.getEnvironment())
+                || hasAnnotatedTypes(context.getBeanFactory(), context.getResourceLoader(), context.getEnvironment());
+    }
+
+    static boolean hasConfiguredOverrides(Environment environment) {
+        Map<String, AerospikeDataProperties.EntityProperties> entities = Binder.get(environment)
+                .bind(CONFIG_PREFIX_DATA + ".entities",
+                        Bindable.mapOf(String.class, AerospikeDataProperties.EntityProperties.class))
+                .orElseGet(Map::of);
+        return entities.values().stream().anyMatch(properties -> properties.getQueryMaxRecords() != null
+                || Stream.of(properties.getRead(), properties.getWrite(), properties.getQuery(), properties.getBatch())
+                .anyMatch(HasEntityPolicyOverrides::isSet));
+    }
+
+    static boolean hasAnnotatedTypes(@Nullable ConfigurableListableBeanFactory beanFactory,
+                                     ResourceLoader resourceLoader, Environment environment) {
+        if (beanFactory == null) {
+            return false;
+        }
+        Set<String> packages = new LinkedHashSet<>(EntityScanPackages.get(beanFactory).getPackageNames());
+        if (AutoConfigurationPackages.has(beanFactory)) {
+            packages.addAll(AutoConfigurationPackages.get(beanFactory));
+        }
+        ResourceLoader entities = AerospikeComponentsIndex.entities(resourceLoader, environment);
+        ResourceLoader repositories = AerospikeComponentsIndex.repositories(resourceLoader, environment);
+        // without an index both are the given loader, which finds entities and repositories in one scan
+        return hasAnnotatedTypes(entities, packages)
+                || (repositories != entities && hasAnnotatedTypes(repositories, packages));
+    }
+
+    private static boolean hasAnnotatedTypes(ResourceLoader resourceLoader, Set<String> packages) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                // repository interfaces are candidates too
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.setResourceLoader(resourceLoader);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(AerospikeEntityPolicy.class, true, true));
+        return packages.stream().anyMatch(basePackage -> !scanner.findCandidateComponents(basePackage).isEmpty());
+    }
+
+    private static boolean isSet(AerospikeProperties.PolicyDefault policy) {
+        for (Field field : policy.getClass().getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && ReflectionUtils.getField(field, policy) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
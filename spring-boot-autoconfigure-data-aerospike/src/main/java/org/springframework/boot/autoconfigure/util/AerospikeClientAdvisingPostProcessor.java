@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.IAerospikeClient;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.core.Ordered;
+
+/**
+ * Applies a {@link MethodInterceptor} to every {@link IAerospikeClient} bean.
+ * <p>
+ * Several post processors share one interface-based proxy per client bean,
+ * so each additional interceptor only adds a link to the existing chain.
+ * Post processors run, and so add their interceptors, in the order given to them: interceptors with a lower
+ * order see a command first. The constants below define the chain of the interceptors of the starters.
+ */
+public class AerospikeClientAdvisingPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    /**
+     * Rejects commands once shutdown has started, before anything else is done for them.
+     */
+    public static final int COMMAND_GATE_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    /**
+     * Measures commands including the time spent in all further interceptors.
+     */
+    public static final int COMMAND_STATS_ORDER = COMMAND_GATE_ORDER + 100;
+
+    /**
+     * Reacts to index creation and removal.
+     */
+    public static final int INDEX_CHANGE_ORDER = COMMAND_STATS_ORDER + 100;
+
+    /**
+     * Replaces policies with the ones configured for the entity.
+     */
+    public static final int ENTITY_POLICY_ORDER = INDEX_CHANGE_ORDER + 100;
+
+    /**
+     * Turns queries on pending indexes into scans, starting from the entity query policy.
+     */
+    public static final int PENDING_INDEX_ORDER = ENTITY_POLICY_ORDER + 100;
+
+    /**
+     * Turns on compression for the entity policy, so that shared compressed copies can be reused.
+     */
+    public static final int COMPRESSION_ORDER = PENDING_INDEX_ORDER + 100;
+
+    /**
+     * Observes the replica of the final read policy.
+     */
+    public static final int RACK_METRICS_ORDER = COMPRESSION_ORDER + 100;
+
+    /**
+     * Coalesces reads of the {@link com.aerospike.client.reactor.IAerospikeReactorClient}, which has its own proxy.
+     */
+    public static final int READ_COALESCING_ORDER = RACK_METRICS_ORDER + 100;
+
+    public AerospikeClientAdvisingPostProcessor(MethodInterceptor interceptor, int order) {
+        this(IAerospikeClient.class, interceptor, order);
+    }
+
+    /**
+     * Applies the interceptor to beans of another client type, such as
+     * {@link com.aerospike.client.reactor.IAerospikeReactorClient}.
+     */
+    public AerospikeClientAdvisingPostProcessor(Class<?> clientType, MethodInterceptor interceptor, int order) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(new RootClassFilter(clientType)), interceptor);
+        advisor.setOrder(order);
+        this.advisor = advisor;
+        setOrder(order);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts {@link com.aerospike.client.IAerospikeClient} commands that are being executed and rejects new ones
+ * once {@link #close() closed}. Async commands are counted only while they are submitted to an event loop,
+ * see {@link AerospikeGracefulShutdown} for how they are drained.
+ */
+public class AerospikeCommandGate implements MethodInterceptor {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean closed;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (AerospikeCommandLayout.forMethod(invocation.getMethod()) == AerospikeCommandLayout.NONE) {
+            return invocation.proceed();
+        }
+        // count before checking, so that a command is either rejected or seen by a concurrent drain
+        inFlight.incrementAndGet();
+        try {
+            if (closed) {
+                throw new AerospikeException(ResultCode.SERVER_NOT_AVAILABLE, "Aerospike client is shutting down");
+            }
+            return invocation.proceed();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Rejects new commands with {@link ResultCode#SERVER_NOT_AVAILABLE}.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Statement;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Describes where the policy, the target (key, keys, batch records or statement) and the payload
+ * (bins or operations) are located in the arguments of an {@link com.aerospike.client.IAerospikeClient} method.
+ * <p>
+ * Layouts are computed once per method and cached, so interceptors can inspect commands without
+ * scanning parameter types on every call.
+ */
+public final class AerospikeCommandLayout {
+
+    public static final AerospikeCommandLayout NONE = new AerospikeCommandLayout(null, -1, -1, -1);
+
+    private static final Map<Method, AerospikeCommandLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private final PolicyType policyType;
+    private final int policyIndex;
+    private final int targetIndex;
+    private final int payloadIndex;
+
+    private AerospikeCommandLayout(PolicyType policyType, int policyIndex, int targetIndex, int payloadIndex) {
+        this.policyType = policyType;
+        this.policyIndex = policyIndex;
+        this.targetIndex = targetIndex;
+        this.payloadIndex = payloadIndex;
+    }
+
+    public static AerospikeCommandLayout forMethod(Method method) {
+        AerospikeCommandLayout layout = LAYOUTS.get(method);
+        if (layout == null) {
+            layout = LAYOUTS.computeIfAbsent(method, AerospikeCommandLayout::resolve);
+        }
+        return layout;
+    }
+
+    private static AerospikeCommandLayout resolve(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        PolicyType policyType = null;
+        int policyIndex = -1;
+        int targetIndex = -1;
+        int payloadIndex = -1;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> type = parameterTypes[i];
+            if (policyIndex < 0 && PolicyType.of(type) != null) {
+                policyType = PolicyType.of(type);
+                policyIndex = i;
+            } else if (targetIndex < 0 && (type == Key.class || type == Key[].class
+                    || type == List.class || type == Statement.class)) {
+                targetIndex = i;
+            } else if (payloadIndex < 0 && (type == Bin[].class || type == Operation[].class)) {
+                payloadIndex = i;
+            }
+        }
+        if (policyIndex < 0 || targetIndex < 0) {
+            return NONE;
+        }
+        return new AerospikeCommandLayout(policyType, policyIndex, targetIndex, payloadIndex);
+    }
+
+    public PolicyType getPolicyType() {
+        return policyType;
+    }
+
+    public int getPolicyIndex() {
+        return policyIndex;
+    }
+
+    public int getTargetIndex() {
+        return targetIndex;
+    }
+
+    /**
+     * Returns the index of the bins or operations argument, or {@code -1} if the command has none.
+     * Batch records carry their payload in the target argument.
+     */
+    public int getPayloadIndex() {
+        return payloadIndex;
+    }
+
+    /**
+     * Returns the set name the command is issued against, or {@code null} if it cannot be determined.
+     * A batch command has one policy for all of its keys, so its set is only determined when all keys
+     * belong to the same set.
+     */
+    public String getSetName(Object[] args) {
+        Object target = args[targetIndex];
+        if (target instanceof Key key) {
+            return key.setName;
+        }
+        if (target instanceof Key[] keys) {
+            String setName = null;
+            for (Key key : keys) {
+                if (key == null || key.setName == null || (setName != null && !setName.equals(key.setName))) {
+                    return null;
+                }
+                setName = key.setName;
+            }
+            return setName;
+        }
+        if (target instanceof List<?> records) {
+            String setName = null;
+            for (Object value : records) {
+                if (!(value instanceof BatchRecord record) || record.key.setName == null
+                        || (setName != null && !setName.equals(record.key.setName))) {
+                    return null;
+                }
+                setName = record.key.setName;
+            }
+            return setName;
+        }
+        if (target instanceof Statement statement) {
+            return statement.getSetName();
+        }
+        return null;
+    }
+
+    /**
+     * Kinds of policies that have a client-wide default in {@link com.aerospike.client.policy.ClientPolicy}.
+     */
+    public enum PolicyType {
+        READ, WRITE, QUERY, BATCH;
+
+        static PolicyType of(Class<?> parameterType) {
+            if (parameterType == Policy.class) {
+                return READ;
+            }
+            if (parameterType == WritePolicy.class) {
+                return WRITE;
+            }
+            if (parameterType == QueryPolicy.class) {
+                return QUERY;
+            }
+            if (parameterType == BatchPolicy.class) {
+                return BATCH;
+            }
+            return null;
+        }
+    }
+}
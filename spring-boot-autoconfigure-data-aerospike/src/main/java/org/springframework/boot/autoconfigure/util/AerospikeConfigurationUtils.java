@@ -21,6 +21,7 @@ import com.aerospike.client.policy.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
 import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataProperties;
+import org.springframework.boot.ssl.SslBundles;
 import org.springframework.data.aerospike.config.AerospikeDataSettings;
 
 import java.util.Arrays;
@@ -39,6 +40,11 @@ public class AerospikeConfigurationUtils {
     }
 
     public static ClientPolicy getClientPolicyConfig(ClientPolicy clientPolicy, AerospikeProperties properties) {
+        return getClientPolicyConfig(clientPolicy, properties, null);
+    }
+
+    public static ClientPolicy getClientPolicyConfig(ClientPolicy clientPolicy, AerospikeProperties properties,
+                                                     SslBundles sslBundles) {
         whenPresent(properties.getUser(), p -> clientPolicy.user = p);
         whenPresent(properties.getPassword(), p -> clientPolicy.password = p);
         whenPresent(properties.getClusterName(), p -> clientPolicy.clusterName = p);
@@ -48,9 +54,20 @@ public class AerospikeConfigurationUtils {
         whenPresent(properties.getMinConnsPerNode(), p -> clientPolicy.minConnsPerNode = p);
         whenPresent(properties.getMaxConnsPerNode(), p -> clientPolicy.maxConnsPerNode = p);
         whenPresent(properties.getConnPoolsPerNode(), p -> clientPolicy.connPoolsPerNode = p);
+        whenPresent(properties.getAsyncMinConnsPerNode(), p -> clientPolicy.asyncMinConnsPerNode = p);
+        whenPresent(properties.getAsyncMaxConnsPerNode(), p -> clientPolicy.asyncMaxConnsPerNode = p);
         whenPresent(properties.getMaxSocketIdle(), p -> clientPolicy.maxSocketIdle = (int) p.getSeconds());
         whenPresent(properties.getTendInterval(), p -> clientPolicy.tendInterval = (int) p.toMillis());
         whenPresent(properties.getFailIfNotConnected(), p -> clientPolicy.failIfNotConnected = p);
+        whenPresent(properties.getRackAware(), p -> clientPolicy.rackAware = p);
+        if (Boolean.TRUE.equals(properties.getRackAware())) {
+            whenPresent(properties.getRackIds(), p -> clientPolicy.rackIds = p);
+            whenPresent(RackIdResolver.resolveRackId(properties), p -> clientPolicy.rackId = p);
+        }
+
+        if (properties.getTls().useTls()) {
+            clientPolicy.tlsPolicy = TlsPolicyFactory.createTlsPolicy(properties.getTls(), sslBundles);
+        }
 
         // Only set infoPolicyDefault if at least one property is configured
         InfoPolicy infoPolicy = setupInfoPolicy(properties);
@@ -65,6 +82,16 @@ public class AerospikeConfigurationUtils {
         clientPolicy.batchWritePolicyDefault = setupBatchWritePolicy(properties);
         clientPolicy.batchDeletePolicyDefault = setupBatchDeletePolicy(properties);
         clientPolicy.batchUDFPolicyDefault = setupBatchUDFPolicy(properties);
+
+        if (clientPolicy.rackAware) {
+            // Prefer the local rack for reads unless a replica algorithm is configured explicitly
+            if (properties.getRead().replica == null) {
+                clientPolicy.readPolicyDefault.replica = Replica.PREFER_RACK;
+            }
+            if (properties.getBatch().replica == null) {
+                clientPolicy.batchPolicyDefault.replica = Replica.PREFER_RACK;
+            }
+        }
         return clientPolicy;
     }
 
@@ -84,27 +111,20 @@ public class AerospikeConfigurationUtils {
     }
 
     private static WritePolicy setupWritePolicy(AerospikeProperties properties) {
-        AerospikeProperties.WritePolicyDefault writePolicyDefault = properties.getWrite();
         WritePolicy policy = new WritePolicy();
-        setGeneralPolicyProperties(policy, writePolicyDefault);
-        whenPresent(writePolicyDefault.durableDelete, p -> policy.durableDelete = p);
+        applyWritePolicyProperties(policy, properties.getWrite());
         return policy;
     }
 
     private static Policy setupReadPolicy(AerospikeProperties properties) {
-        AerospikeProperties.ReadPolicyDefault readPolicyDefault = properties.getRead();
         Policy policy = new Policy();
-        setGeneralPolicyProperties(policy, readPolicyDefault);
+        setGeneralPolicyProperties(policy, properties.getRead());
         return policy;
     }
 
     private static BatchPolicy setupBatchPolicy(AerospikeProperties properties) {
-        AerospikeProperties.BatchPolicyDefault batchPolicyDefault = properties.getBatch();
         BatchPolicy policy = new BatchPolicy();
-        setGeneralPolicyProperties(policy, batchPolicyDefault);
-        whenPresent(batchPolicyDefault.maxConcurrentThreads, p -> policy.maxConcurrentThreads = p);
-        whenPresent(batchPolicyDefault.allowInline, p -> policy.allowInline = p);
-        whenPresent(batchPolicyDefault.sendSetName, p -> policy.sendSetName = p);
+        applyBatchPolicyProperties(policy, properties.getBatch());
         return policy;
     }
 
@@ -130,15 +150,53 @@ public class AerospikeConfigurationUtils {
     }
 
     private static QueryPolicy setupQueryPolicy(AerospikeProperties properties) {
-        AerospikeProperties.QueryPolicyDefault queryPolicyDefault = properties.getQuery();
         QueryPolicy policy = new QueryPolicy();
+        applyQueryPolicyProperties(policy, properties.getQuery());
+        return policy;
+    }
+
+    /**
+     * Applies the configured read policy values on top of the given policy.
+     * Only values that are present in {@code readPolicyDefault} are changed.
+     */
+    public static void applyReadPolicyProperties(Policy policy, AerospikeProperties.ReadPolicyDefault readPolicyDefault) {
+        setGeneralPolicyProperties(policy, readPolicyDefault);
+    }
+
+    /**
+     * Applies the configured write policy values on top of the given policy.
+     * Only values that are present in {@code writePolicyDefault} are changed.
+     */
+    public static void applyWritePolicyProperties(WritePolicy policy,
+                                                  AerospikeProperties.WritePolicyDefault writePolicyDefault) {
+        setGeneralPolicyProperties(policy, writePolicyDefault);
+        whenPresent(writePolicyDefault.durableDelete, p -> policy.durableDelete = p);
+    }
+
+    /**
+     * Applies the configured batch policy values on top of the given policy.
+     * Only values that are present in {@code batchPolicyDefault} are changed.
+     */
+    public static void applyBatchPolicyProperties(BatchPolicy policy,
+                                                  AerospikeProperties.BatchPolicyDefault batchPolicyDefault) {
+        setGeneralPolicyProperties(policy, batchPolicyDefault);
+        whenPresent(batchPolicyDefault.maxConcurrentThreads, p -> policy.maxConcurrentThreads = p);
+        whenPresent(batchPolicyDefault.allowInline, p -> policy.allowInline = p);
+        whenPresent(batchPolicyDefault.sendSetName, p -> policy.sendSetName = p);
+    }
+
+    /**
+     * Applies the configured query policy values on top of the given policy.
+     * Only values that are present in {@code queryPolicyDefault} are changed.
+     */
+    public static void applyQueryPolicyProperties(QueryPolicy policy,
+                                                  AerospikeProperties.QueryPolicyDefault queryPolicyDefault) {
         setGeneralPolicyProperties(policy, queryPolicyDefault);
         whenPresent(queryPolicyDefault.maxRecords, p -> policy.maxRecords = p);
         whenPresent(queryPolicyDefault.failOnClusterChange, p -> policy.failOnClusterChange = p);
         whenPresent(queryPolicyDefault.includeBinData, p -> policy.includeBinData = p);
         whenPresent(queryPolicyDefault.maxConcurrentNodes, p -> policy.maxConcurrentNodes = p);
         whenPresent(queryPolicyDefault.recordQueueSize, p -> policy.recordQueueSize = p);
-        return policy;
     }
 
     private static void setGeneralPolicyProperties(Policy policy, AerospikeProperties.PolicyDefault policyDefault) {
@@ -148,6 +206,7 @@ public class AerospikeConfigurationUtils {
         whenPresent(policyDefault.maxRetries, p -> policy.maxRetries = p);
         whenPresent(policyDefault.sleepBetweenRetries, p -> policy.sleepBetweenRetries = (int) p.toMillis());
         whenPresent(policyDefault.sendKey, p -> policy.sendKey = p);
+        whenPresent(policyDefault.replica, p -> policy.replica = p);
     }
 
     private static <T> void whenPresent(T param, Consumer<T> consumer) {
@@ -165,9 +224,19 @@ public class AerospikeConfigurationUtils {
     public static void getDataSettings(AerospikeDataProperties dataProperties,
                                        AerospikeDataSettings aerospikeDataSettings) {
         whenPresent(dataProperties.isScansEnabled(), aerospikeDataSettings::setScansEnabled);
-        whenPresent(dataProperties.isCreateIndexesOnStartup(), aerospikeDataSettings::setCreateIndexesOnStartup);
-        whenPresent(dataProperties.getIndexCacheRefreshSeconds(), aerospikeDataSettings::setIndexCacheRefreshSeconds);
-        whenPresent(dataProperties.getServerVersionRefreshSeconds(), aerospikeDataSettings::setServerVersionRefreshSeconds);
+        // indexes of async index creation are created by AerospikeAsyncIndexCreator
+        whenPresent(dataProperties.isCreateIndexesOnStartup() && !dataProperties.getIndexCreation().isAsync(),
+                aerospikeDataSettings::setCreateIndexesOnStartup);
+        if (dataProperties.getMetadataRefresh().isShared()) {
+            // refreshed by AerospikeMetadataRefreshScheduler
+            aerospikeDataSettings.setIndexCacheRefreshSeconds(0);
+            aerospikeDataSettings.setServerVersionRefreshSeconds(0);
+        } else {
+            whenPresent(dataProperties.getIndexCacheRefreshSeconds(),
+                    aerospikeDataSettings::setIndexCacheRefreshSeconds);
+            whenPresent(dataProperties.getServerVersionRefreshSeconds(),
+                    aerospikeDataSettings::setServerVersionRefreshSeconds);
+        }
         whenPresent(dataProperties.getQueryMaxRecords(), aerospikeDataSettings::setQueryMaxRecords);
         whenPresent(dataProperties.getBatchWriteSize(), aerospikeDataSettings::setBatchWriteSize);
         whenPresent(dataProperties.isKeepOriginalKeyTypes(), aerospikeDataSettings::setKeepOriginalKeyTypes);
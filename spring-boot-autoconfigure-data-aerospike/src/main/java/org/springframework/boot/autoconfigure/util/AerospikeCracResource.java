@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Host;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Info;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.ClientPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.HotSwappableTargetSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+
+/**
+ * CRaC {@link Resource} that allows a checkpoint of an application using Aerospike clients: before a checkpoint
+ * clients are closed together with their connection pools and tend threads and event loops are shut down,
+ * after restore event loops are rebuilt with {@link EventLoopsFactory} and clients reconnect.
+ * <p>
+ * {@link IAerospikeClient} and {@link EventLoops} beans, as well as the event loops of the {@link ClientPolicy} bean,
+ * are proxied with a {@link HotSwappableTargetSource}, so references held by Reactor clients, templates and
+ * repositories stay valid across a restore. Connection settings of a reconnected client come from the
+ * {@link ClientPolicy} bean, command policy defaults from the client it replaces.
+ */
+@Slf4j
+public class AerospikeCracResource implements BeanPostProcessor, Resource {
+
+    private final ObjectProvider<AerospikeProperties> properties;
+    private final BiFunction<ClientPolicy, Host[], IAerospikeClient> clientFactory;
+    private final List<HotSwappableTargetSource> clients = new CopyOnWriteArrayList<>();
+    private final List<HotSwappableTargetSource> eventLoops = new CopyOnWriteArrayList<>();
+    private final List<EventLoops> eventLoopsBeans = new CopyOnWriteArrayList<>();
+    private volatile ClientPolicy clientPolicy;
+
+    public AerospikeCracResource(ObjectProvider<AerospikeProperties> properties) {
+        this(properties, AerospikeClient::new);
+    }
+
+    AerospikeCracResource(ObjectProvider<AerospikeProperties> properties,
+                          BiFunction<ClientPolicy, Host[], IAerospikeClient> clientFactory) {
+        this.properties = properties;
+        this.clientFactory = clientFactory;
+        // the global context keeps resources weakly reachable, this bean holds the strong reference
+        Core.getGlobalContext().register(this);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ClientPolicy policy && policy.eventLoops != null) {
+            policy.eventLoops = swappable(policy.eventLoops, EventLoops.class, eventLoops);
+            clientPolicy = policy;
+        } else if (bean instanceof EventLoops loops) {
+            EventLoops proxy = swappable(loops, EventLoops.class, eventLoops);
+            eventLoopsBeans.add(proxy);
+            return proxy;
+        } else if (bean instanceof IAerospikeClient client) {
+            return swappable(client, IAerospikeClient.class, clients);
+        }
+        return bean;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        for (HotSwappableTargetSource client : clients) {
+            ((IAerospikeClient) client.getTarget()).close();
+        }
+        for (HotSwappableTargetSource loops : eventLoops) {
+            ((EventLoops) loops.getTarget()).close();
+        }
+        log.info("Closed {} Aerospike client(s) and {} event loop group(s) for checkpoint",
+                clients.size(), eventLoops.size());
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        AerospikeProperties aerospikeProperties = properties.getObject();
+        for (HotSwappableTargetSource loops : eventLoops) {
+            loops.swap(EventLoopsFactory.createEventLoops(aerospikeProperties.getEventLoops()));
+        }
+        Host[] hosts = AerospikeConfigurationUtils.getClientHosts(aerospikeProperties).toArray(new Host[0]);
+        for (HotSwappableTargetSource client : clients) {
+            IAerospikeClient restored = clientFactory.apply(restoredPolicy((IAerospikeClient) client.getTarget()),
+                    hosts);
+            client.swap(restored);
+            if (aerospikeProperties.getCrac().warmUp) {
+                warmUp(restored);
+            }
+        }
+        log.info("Reconnected {} Aerospike client(s) after restore", clients.size());
+    }
+
+    private ClientPolicy restoredPolicy(IAerospikeClient previous) {
+        ClientPolicy policy = clientPolicy != null ? new ClientPolicy(clientPolicy) : new ClientPolicy();
+        if (!eventLoopsBeans.isEmpty()) {
+            // an event loops bean is the one Reactor clients hand out event loops from
+            policy.eventLoops = eventLoopsBeans.get(0);
+        }
+        policy.readPolicyDefault = previous.getReadPolicyDefault();
+        policy.writePolicyDefault = previous.getWritePolicyDefault();
+        policy.scanPolicyDefault = previous.getScanPolicyDefault();
+        policy.queryPolicyDefault = previous.getQueryPolicyDefault();
+        policy.batchPolicyDefault = previous.getBatchPolicyDefault();
+        policy.batchParentPolicyWriteDefault = previous.getBatchParentPolicyWriteDefault();
+        policy.batchWritePolicyDefault = previous.getBatchWritePolicyDefault();
+        policy.batchDeletePolicyDefault = previous.getBatchDeletePolicyDefault();
+        policy.batchUDFPolicyDefault = previous.getBatchUDFPolicyDefault();
+        policy.infoPolicyDefault = previous.getInfoPolicyDefault();
+        return policy;
+    }
+
+    private static void warmUp(IAerospikeClient client) {
+        for (Node node : client.getNodes()) {
+            Info.request(client.getInfoPolicyDefault(), node, "build");
+        }
+    }
+
+    private static <T> T swappable(T bean, Class<T> type, List<HotSwappableTargetSource> targets) {
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            if (advised.getTargetSource() instanceof HotSwappableTargetSource) {
+                return bean;
+            }
+            try {
+                HotSwappableTargetSource targetSource = new HotSwappableTargetSource(
+                        advised.getTargetSource().getTarget());
+                advised.setTargetSource(targetSource);
+                targets.add(targetSource);
+                return bean;
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to obtain target of " + type.getSimpleName() + " proxy", e);
+            }
+        }
+        HotSwappableTargetSource targetSource = new HotSwappableTargetSource(bean);
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTargetSource(targetSource);
+        proxyFactory.addInterface(type);
+        targets.add(targetSource);
+        return type.cast(proxyFactory.getProxy(type.getClassLoader()));
+    }
+}
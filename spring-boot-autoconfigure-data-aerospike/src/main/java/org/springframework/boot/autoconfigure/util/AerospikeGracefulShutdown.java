@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.policy.ClientPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.ContextClosedEvent;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Drains in-flight Aerospike commands when the application context is closed, before clients and event loops
+ * are torn down: new commands are rejected by the {@link AerospikeCommandGate}, then this lifecycle waits up to
+ * {@link AerospikeProperties.ShutdownProperties#timeout} for synchronous commands to return and for the
+ * event loops to run out of in-process and queued async commands. Clients and event loops are then closed by
+ * their beans' destroy methods, clients first since they depend on the event loops.
+ * <p>
+ * Stops after web servers have completed their graceful shutdown and stopped, so that requests still being
+ * served can complete their commands. Lifecycle stops that do not close the context, such as a checkpoint,
+ * leave clients open.
+ */
+@Slf4j
+public class AerospikeGracefulShutdown implements SmartLifecycle, ApplicationContextAware,
+        ApplicationListener<ContextClosedEvent> {
+
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long POLL_MILLIS = 20;
+
+    private final AerospikeProperties.ShutdownProperties properties;
+    private final AerospikeCommandGate gate;
+    private final ListableBeanFactory beanFactory;
+    private ApplicationContext applicationContext;
+    private volatile boolean running;
+    private volatile boolean closing;
+
+    public AerospikeGracefulShutdown(AerospikeProperties.ShutdownProperties properties, AerospikeCommandGate gate,
+                                     ListableBeanFactory beanFactory) {
+        this.properties = properties;
+        this.gate = gate;
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextClosedEvent event) {
+        // events of child contexts are propagated to this one as well
+        if (event.getApplicationContext() == applicationContext) {
+            closing = true;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!closing) {
+            return;
+        }
+        gate.close();
+        Set<EventLoops> eventLoops = eventLoops();
+        int inFlight = drain(eventLoops, properties.getTimeout());
+        if (inFlight > 0) {
+            log.warn("Closing Aerospike clients with {} command(s) still in flight after {}", inFlight,
+                    properties.getTimeout());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private int drain(Set<EventLoops> eventLoops, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int inFlight = inFlight(eventLoops);
+        while (inFlight > 0 && System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            inFlight = inFlight(eventLoops);
+        }
+        return inFlight;
+    }
+
+    private int inFlight(Set<EventLoops> eventLoops) {
+        int inFlight = gate.getInFlight();
+        for (EventLoops loops : eventLoops) {
+            for (EventLoop loop : loops.getArray()) {
+                inFlight += loop.getProcessSize() + loop.getQueueSize();
+            }
+        }
+        return inFlight;
+    }
+
+    private Set<EventLoops> eventLoops() {
+        Set<EventLoops> eventLoops = beans(EventLoops.class);
+        for (ClientPolicy policy : beans(ClientPolicy.class)) {
+            if (policy.eventLoops != null) {
+                eventLoops.add(policy.eventLoops);
+            }
+        }
+        return eventLoops;
+    }
+
+    private <T> Set<T> beans(Class<T> type) {
+        Set<T> beans = Collections.newSetFromMap(new IdentityHashMap<>());
+        beans.addAll(beanFactory.getBeansOfType(type, false, false).values());
+        return beans;
+    }
+}
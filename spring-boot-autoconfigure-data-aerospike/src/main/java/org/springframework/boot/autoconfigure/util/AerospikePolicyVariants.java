@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.exp.Expression;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache of policy variants: copies of a base policy that differ only in the values commonly tweaked per command
+ * (expiration, generation, record exists action, send key and filter expression).
+ * <p>
+ * Used where the starter would copy a policy a second time: per-entity policies and compression are applied
+ * to the policy the template already built for the command. The copy made by the template itself is not avoided,
+ * a lookup replaces only the second one and allocates nothing but its key.
+ * <p>
+ * Each distinct combination is built once and then shared, so returned policies must not be modified.
+ * The number of cached variants is bounded, once the limit is reached lookups return {@code null}
+ * and callers fall back to copying the policy. Policies of commands in a transaction are always copied.
+ * <p>
+ * Compressed copies are cached the same way for shared policies: variants, and policies registered with
+ * {@link #share(Policy)} such as client defaults and precomputed entity policies.
+ */
+public class AerospikePolicyVariants {
+
+    private final int maxVariants;
+    private final ConcurrentMap<VariantKey, Policy> variants = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SharedKey, Policy> compressed = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AerospikePolicyVariants(int maxVariants) {
+        this.maxVariants = maxVariants;
+    }
+
+    /**
+     * Returns the shared copy of {@code base} with the given send key flag and filter expression.
+     */
+    public Policy read(Policy base, boolean sendKey, Expression filterExp) {
+        return variant(new VariantKey(base, 0, 0, null, null, sendKey, bytes(filterExp)), () -> {
+            Policy policy = new Policy(base);
+            policy.sendKey = sendKey;
+            policy.filterExp = filterExp;
+            return policy;
+        });
+    }
+
+    /**
+     * Returns the shared copy of {@code base} with the given per-command write values.
+     */
+    public WritePolicy write(WritePolicy base, int expiration, int generation, GenerationPolicy generationPolicy,
+                             RecordExistsAction recordExistsAction, boolean sendKey, Expression filterExp) {
+        VariantKey key = new VariantKey(base, expiration, generation, generationPolicy, recordExistsAction, sendKey,
+                bytes(filterExp));
+        return variant(key, () -> {
+            WritePolicy policy = new WritePolicy(base);
+            policy.expiration = expiration;
+            policy.generation = generation;
+            policy.generationPolicy = generationPolicy;
+            policy.recordExistsAction = recordExistsAction;
+            policy.sendKey = sendKey;
+            policy.filterExp = filterExp;
+            return policy;
+        });
+    }
+
+    /**
+     * Returns the shared copy of {@code base} carrying the per-command values of {@code requested},
+     * provided {@code requested} was derived from {@code origin} by changing only those values.
+     * Returns {@code null} otherwise, or if the cache is full.
+     */
+    public Policy read(Policy base, Policy origin, Policy requested) {
+        if (!sameCommonValues(origin, requested)) {
+            return null;
+        }
+        return read(base, requested.sendKey, requested.filterExp);
+    }
+
+    /**
+     * Returns the shared copy of {@code base} carrying the per-command values of {@code requested},
+     * provided {@code requested} was derived from {@code origin} by changing only those values.
+     * Returns {@code null} otherwise, or if the cache is full.
+     */
+    public WritePolicy write(WritePolicy base, WritePolicy origin, WritePolicy requested) {
+        if (!sameCommonValues(origin, requested)
+                || origin.commitLevel != requested.commitLevel
+                || origin.durableDelete != requested.durableDelete
+                || origin.respondAllOps != requested.respondAllOps
+                || origin.onLockingOnly != requested.onLockingOnly
+                || origin.xdr != requested.xdr) {
+            return null;
+        }
+        return write(base, requested.expiration, requested.generation, requested.generationPolicy,
+                requested.recordExistsAction, requested.sendKey, requested.filterExp);
+    }
+
+    /**
+     * Marks a policy as shared for the lifetime of the application, so that its compressed copy is cached.
+     * The policy must not be modified afterwards.
+     */
+    public void share(Policy policy) {
+        if (policy != null && !policy.compress) {
+            compressed.putIfAbsent(new SharedKey(policy), policy);
+        }
+    }
+
+    /**
+     * Returns the shared copy of a {@link #share(Policy) shared} policy or variant with compression turned on,
+     * built with {@code copy} on first use. Returns {@code null} for other policies, which callers copy.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Policy> T compressed(T policy, UnaryOperator<T> copy) {
+        if (policy.compress) {
+            return policy;
+        }
+        SharedKey key = new SharedKey(policy);
+        // a shared policy maps to itself until its compressed copy is built
+        Policy existing = compressed.get(key);
+        if (existing == null) {
+            return null;
+        }
+        if (existing != policy) {
+            return (T) existing;
+        }
+        T result = copy.apply(policy);
+        result.compress = true;
+        compressed.replace(key, policy, result);
+        return (T) compressed.get(key);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return variants.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Policy> T variant(VariantKey key, Supplier<T> factory) {
+        Policy policy = variants.get(key);
+        if (policy != null) {
+            hits.increment();
+            return (T) policy;
+        }
+        misses.increment();
+        if (variants.size() >= maxVariants) {
+            return null;
+        }
+        return (T) variants.computeIfAbsent(key, k -> {
+            T policy = factory.get();
+            share(policy);
+            return policy;
+        });
+    }
+
+    /**
+     * Compares every field that is not a per-command value. Commands in a transaction are never answered
+     * with a variant, since variants are shared and must not carry a transaction.
+     */
+    private static boolean sameCommonValues(Policy origin, Policy requested) {
+        return requested.txn == null
+                && origin.txn == null
+                && origin.connectTimeout == requested.connectTimeout
+                && origin.socketTimeout == requested.socketTimeout
+                && origin.totalTimeout == requested.totalTimeout
+                && origin.timeoutDelay == requested.timeoutDelay
+                && origin.maxRetries == requested.maxRetries
+                && origin.sleepBetweenRetries == requested.sleepBetweenRetries
+                && origin.readModeAP == requested.readModeAP
+                && origin.readModeSC == requested.readModeSC
+                && origin.replica == requested.replica
+                && origin.readTouchTtlPercent == requested.readTouchTtlPercent
+                && origin.compress == requested.compress
+                && origin.failOnFilteredOut == requested.failOnFilteredOut;
+    }
+
+    private static byte[] bytes(Expression filterExp) {
+        return filterExp == null ? null : filterExp.getBytes();
+    }
+
+    /**
+     * Filter expressions are compared by their serialized form, since equal expressions are usually rebuilt per call.
+     */
+    private record VariantKey(Policy base, int expiration, int generation, GenerationPolicy generationPolicy,
+                              RecordExistsAction recordExistsAction, boolean sendKey, byte[] filterExp) {
+
+        @Override
+        public boolean equals(Object o) {
+            // base policies are compared by identity
+            return o instanceof VariantKey other
+                    && base == other.base
+                    && expiration == other.expiration
+                    && generation == other.generation
+                    && generationPolicy == other.generationPolicy
+                    && recordExistsAction == other.recordExistsAction
+                    && sendKey == other.sendKey
+                    && Arrays.equals(filterExp, other.filterExp);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(base);
+            result = 31 * result + expiration;
+            result = 31 * result + generation;
+            result = 31 * result + Objects.hashCode(generationPolicy);
+            result = 31 * result + Objects.hashCode(recordExistsAction);
+            result = 31 * result + Boolean.hashCode(sendKey);
+            result = 31 * result + Arrays.hashCode(filterExp);
+            return result;
+        }
+    }
+
+    /**
+     * Compares shared policies by identity.
+     */
+    private record SharedKey(Policy policy) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SharedKey other && policy == other.policy;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(policy);
+        }
+    }
+}
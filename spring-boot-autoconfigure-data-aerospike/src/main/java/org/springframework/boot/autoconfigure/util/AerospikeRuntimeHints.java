@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.async.EventPolicy;
+import com.aerospike.client.policy.BatchDeletePolicy;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.BatchReadPolicy;
+import com.aerospike.client.policy.BatchUDFPolicy;
+import com.aerospike.client.policy.BatchWritePolicy;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.policy.TlsPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the Aerospike client starters running as a GraalVM native image.
+ * <p>
+ * Covers the client policies, the interface-based proxies created by {@link AerospikeClientAdvisingPostProcessor}
+ * and {@link AerospikeCracResource}, the Netty socket channels that event loops create reflectively and
+ * the optional classes that are looked up by name.
+ */
+public class AerospikeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> POLICY_TYPES = List.of(ClientPolicy.class, Policy.class, WritePolicy.class,
+            QueryPolicy.class, ScanPolicy.class, BatchPolicy.class, BatchReadPolicy.class, BatchWritePolicy.class,
+            BatchDeletePolicy.class, BatchUDFPolicy.class, InfoPolicy.class, TlsPolicy.class, EventPolicy.class);
+
+    private static final List<String> NETTY_CHANNEL_TYPES = List.of(
+            "io.netty.channel.socket.nio.NioSocketChannel",
+            "io.netty.channel.epoll.EpollSocketChannel",
+            "io.netty.channel.kqueue.KQueueSocketChannel",
+            "io.netty.incubator.channel.uring.IOUringSocketChannel");
+
+    private static final String REACTOR_CLIENT_TYPE = "com.aerospike.client.reactor.IAerospikeReactorClient";
+
+    private static final List<String> OPTIONAL_TYPES = List.of(
+            "org.conscrypt.Conscrypt",
+            REACTOR_CLIENT_TYPE,
+            "org.springframework.data.aerospike.mapping.AerospikeMappingContext",
+            "org.springframework.data.aerospike.server.version.ServerVersionSupport",
+            "org.springframework.data.aerospike.index.AerospikePersistenceEntityIndexCreator",
+            "org.springframework.data.aerospike.index.ReactiveAerospikePersistenceEntityIndexCreator");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        POLICY_TYPES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.PUBLIC_FIELDS, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+        hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(IAerospikeClient.class));
+        hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(EventLoops.class));
+        if (ClassUtils.isPresent(REACTOR_CLIENT_TYPE, classLoader)) {
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(
+                    ClassUtils.resolveClassName(REACTOR_CLIENT_TYPE, classLoader)));
+        }
+        NETTY_CHANNEL_TYPES.forEach(name -> hints.reflection().registerTypeIfPresent(classLoader, name,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+        OPTIONAL_TYPES.forEach(name -> hints.reflection().registerType(TypeReference.of(name)));
+    }
+}
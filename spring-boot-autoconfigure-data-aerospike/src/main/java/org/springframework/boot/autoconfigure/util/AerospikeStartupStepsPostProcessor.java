@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.policy.ClientPolicy;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Records {@link ApplicationStartup} steps around the creation of the beans that make up Aerospike startup time:
+ * client policy, event loops, cluster connect, Reactor client, mapping context, server version and index creation.
+ * Indexes of entities known when the mapping context initializes are created while it publishes its events,
+ * so their time is also part of the mapping context step.
+ * <p>
+ * A step starts before the bean is instantiated and ends after it is initialized, so it nests inside the
+ * {@code spring.beans.instantiate} step of the same bean and shows up in {@code /actuator/startup}
+ * with a {@code spring.aerospike.} name.
+ */
+public class AerospikeStartupStepsPostProcessor
+        implements InstantiationAwareBeanPostProcessor, ApplicationStartupAware {
+
+    public static final String CLIENT_POLICY = "spring.aerospike.client-policy";
+    public static final String EVENT_LOOPS = "spring.aerospike.event-loops";
+    public static final String CLUSTER_CONNECT = "spring.aerospike.cluster.connect";
+    public static final String REACTOR_CLIENT = "spring.aerospike.reactor-client";
+    public static final String MAPPING_CONTEXT = "spring.aerospike.data.mapping-context";
+    public static final String SERVER_VERSION = "spring.aerospike.data.server-version";
+    public static final String INDEX_CREATION = "spring.aerospike.data.index-creation";
+    public static final String WARM_UP = "spring.aerospike.data.warm-up";
+
+    private final Map<Class<?>, Step> steps = new LinkedHashMap<>();
+    private final ConcurrentMap<String, StartedStep> started = new ConcurrentHashMap<>();
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    public AerospikeStartupStepsPostProcessor() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        register(ClientPolicy.class, CLIENT_POLICY, (policy, step) -> step.tag("eventLoops",
+                policy.eventLoops == null ? "none" : policy.eventLoops.getClass().getSimpleName()));
+        register(EventLoops.class, EVENT_LOOPS, (eventLoops, step) -> step
+                .tag("type", eventLoops.getClass().getSimpleName())
+                .tag("size", String.valueOf(eventLoops.getSize())));
+        register(IAerospikeClient.class, CLUSTER_CONNECT, (client, step) -> step
+                .tag("nodes", String.valueOf(client.getNodes().length)));
+        register(classLoader, "com.aerospike.client.reactor.IAerospikeReactorClient", REACTOR_CLIENT);
+        register(classLoader, "org.springframework.data.aerospike.mapping.AerospikeMappingContext", MAPPING_CONTEXT);
+        register(classLoader, "org.springframework.data.aerospike.server.version.ServerVersionSupport",
+                SERVER_VERSION);
+        register(classLoader, "org.springframework.data.aerospike.index.AerospikePersistenceEntityIndexCreator",
+                INDEX_CREATION);
+        register(classLoader,
+                "org.springframework.data.aerospike.index.ReactiveAerospikePersistenceEntityIndexCreator",
+                INDEX_CREATION);
+    }
+
+    @Override
+    public void setApplicationStartup(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+        for (Map.Entry<Class<?>, Step> entry : steps.entrySet()) {
+            if (entry.getKey().isAssignableFrom(beanClass)) {
+                StartupStep step = applicationStartup.start(entry.getValue().name()).tag("beanName", beanName);
+                started.put(beanName, new StartedStep(step, entry.getValue()));
+                break;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        StartedStep startedStep = started.remove(beanName);
+        if (startedStep != null) {
+            startedStep.end(bean);
+        }
+        return bean;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void register(Class<T> type, String name, BiConsumer<T, StartupStep> tags) {
+        steps.put(type, new Step(name, (BiConsumer<Object, StartupStep>) tags));
+    }
+
+    private void register(ClassLoader classLoader, String className, String name) {
+        if (ClassUtils.isPresent(className, classLoader)) {
+            steps.put(ClassUtils.resolveClassName(className, classLoader), new Step(name, (bean, step) -> {
+            }));
+        }
+    }
+
+    private record Step(String name, BiConsumer<Object, StartupStep> tags) {
+    }
+
+    private record StartedStep(StartupStep step, Step definition) {
+
+        void end(Object bean) {
+            try {
+                definition.tags().accept(bean, step);
+            } catch (RuntimeException e) {
+                // tags are informational, a bean that cannot provide them still ends its step
+            }
+            step.end();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.query.Statement;
+
+/**
+ * Helpers for {@link Statement}s passed to intercepted client commands.
+ * <p>
+ * Statements belong to the caller and may be reused or retried, so interceptors change a copy instead.
+ */
+public final class AerospikeStatements {
+
+    private AerospikeStatements() {
+    }
+
+    /**
+     * Returns a shallow copy of the given statement. Bin names, filter, function arguments and operations
+     * are shared, they are replaced rather than modified by interceptors.
+     */
+    public static Statement copy(Statement statement) {
+        Statement copy = new Statement();
+        copy.setNamespace(statement.getNamespace());
+        copy.setSetName(statement.getSetName());
+        copy.setIndexName(statement.getIndexName());
+        if (statement.getBinNames() != null) {
+            copy.setBinNames(statement.getBinNames());
+        }
+        copy.setFilter(statement.getFilter());
+        if (statement.getFunctionName() != null) {
+            copy.setAggregateFunction(statement.getResourceLoader(), statement.getResourcePath(),
+                    statement.getPackageName(), statement.getFunctionName(), statement.getFunctionArgs());
+        }
+        copy.setOperations(statement.getOperations());
+        copy.setTaskId(statement.getTaskId());
+        copy.setMaxRecords(statement.getMaxRecords());
+        copy.setRecordsPerSecond(statement.getRecordsPerSecond());
+        return copy;
+    }
+
+    /**
+     * Returns the statement with the default limit replaced by {@code maxRecords}, which may be higher or lower.
+     * Statements with a limit of their own, such as {@code findFirst10} or a page size, are returned unchanged.
+     * A statement whose own limit equals the default cannot be told apart from the default and is replaced too.
+     * Non-positive values mean no limit.
+     */
+    public static Statement replaceLimit(Statement statement, long defaultMaxRecords, long maxRecords) {
+        long current = statement.getMaxRecords();
+        long target = Math.max(maxRecords, 0);
+        if (current != Math.max(defaultMaxRecords, 0) || current == target) {
+            return statement;
+        }
+        Statement limited = copy(statement);
+        limited.setMaxRecords(target);
+        return limited;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Resolves the rack id of the client instance.
+ * <p>
+ * An explicitly configured {@code rackIds} or {@code rackId} wins. Otherwise the rack id is detected from,
+ * in order: a system property, an environment variable and a topology labels file (for example the
+ * Kubernetes downward API {@code labels} file). A zone read from the labels file is mapped to a rack id
+ * via {@code zoneRackIds}, numeric zones are used as is.
+ */
+@Slf4j
+public class RackIdResolver {
+
+    /**
+     * Returns the preferred rack id, or {@code null} if it cannot be resolved.
+     */
+    public static Integer resolveRackId(AerospikeProperties properties) {
+        return resolveRackId(properties, System::getProperty, System::getenv);
+    }
+
+    static Integer resolveRackId(AerospikeProperties properties, UnaryOperator<String> systemProperties,
+                                 UnaryOperator<String> environment) {
+        List<Integer> rackIds = properties.getRackIds();
+        if (rackIds != null && !rackIds.isEmpty()) {
+            return rackIds.get(0);
+        }
+        if (properties.getRackId() != null) {
+            return properties.getRackId();
+        }
+        AerospikeProperties.RackDetectionProperties detection = properties.getRackDetection();
+        Integer rackId = parse(lookup(systemProperties, detection.systemProperty), "system property");
+        if (rackId == null) {
+            rackId = parse(lookup(environment, detection.environmentVariable), "environment variable");
+        }
+        if (rackId == null) {
+            rackId = fromLabelsFile(detection);
+        }
+        if (rackId != null) {
+            log.info("Using Aerospike rack id {}", rackId);
+        } else {
+            log.warn("Rack awareness is enabled, but rack id could not be resolved");
+        }
+        return rackId;
+    }
+
+    private static String lookup(UnaryOperator<String> source, String name) {
+        return StringUtils.hasText(name) ? source.apply(name) : null;
+    }
+
+    private static Integer fromLabelsFile(AerospikeProperties.RackDetectionProperties detection) {
+        if (!StringUtils.hasText(detection.labelsFile) || !StringUtils.hasText(detection.zoneLabel)) {
+            return null;
+        }
+        Path labelsFile = Path.of(detection.labelsFile);
+        if (!Files.isReadable(labelsFile)) {
+            return null;
+        }
+        try {
+            for (String line : Files.readAllLines(labelsFile, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf('=');
+                if (separator > 0 && line.substring(0, separator).trim().equals(detection.zoneLabel)) {
+                    String zone = StringUtils.trimTrailingCharacter(
+                            StringUtils.trimLeadingCharacter(line.substring(separator + 1).trim(), '"'), '"');
+                    Integer mapped = detection.zoneRackIds.get(zone);
+                    return mapped != null ? mapped : parse(zone, "zone label");
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read labels file '{}'", labelsFile, e);
+        }
+        return null;
+    }
+
+    private static Integer parse(String value, String source) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring non-numeric rack id '{}' from {}", value, source);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.policy.TlsPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.boot.ssl.SslOptions;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import java.security.GeneralSecurityException;
+import java.security.Provider;
+import java.security.Security;
+
+/**
+ * Creates {@link TlsPolicy} from {@link AerospikeProperties.TlsProperties}, taking key and trust material
+ * from a Spring Boot SSL bundle.
+ * <p>
+ * The client session cache of the created {@link SSLContext} is sized for resumption, so connections re-opened
+ * after {@code maxSocketIdle} or node restarts reuse the negotiated session instead of a full handshake.
+ */
+@Slf4j
+public class TlsPolicyFactory {
+
+    private static final String OPENSSL_PROVIDER = "openssl";
+    private static final String JDK_PROVIDER = "jdk";
+
+    public static TlsPolicy createTlsPolicy(AerospikeProperties.TlsProperties tls, SslBundles sslBundles) {
+        SslBundle bundle = null;
+        if (StringUtils.hasText(tls.bundle)) {
+            if (sslBundles == null) {
+                throw new IllegalStateException(
+                        "SSL bundle '%s' is configured for Aerospike, but no SSL bundles are available"
+                                .formatted(tls.bundle));
+            }
+            bundle = sslBundles.getBundle(tls.bundle);
+        }
+        TlsPolicy tlsPolicy = new TlsPolicy();
+        tlsPolicy.context = createSslContext(tls, bundle);
+        SslOptions options = bundle != null ? bundle.getOptions() : SslOptions.NONE;
+        if (tls.protocols != null) {
+            tlsPolicy.protocols = tls.protocols;
+        } else if (options.getEnabledProtocols() != null) {
+            tlsPolicy.protocols = options.getEnabledProtocols();
+        }
+        if (tls.ciphers != null) {
+            tlsPolicy.ciphers = tls.ciphers;
+        } else if (options.getCiphers() != null) {
+            tlsPolicy.ciphers = options.getCiphers();
+        }
+        if (tls.forLoginOnly != null) {
+            tlsPolicy.forLoginOnly = tls.forLoginOnly;
+        }
+        return tlsPolicy;
+    }
+
+    /**
+     * Creates an {@link SSLContext} of the configured provider with a sized client session cache.
+     *
+     * @param tls    TLS properties
+     * @param bundle SSL bundle with key and trust material, {@code null} to use the JVM defaults
+     */
+    public static SSLContext createSslContext(AerospikeProperties.TlsProperties tls, SslBundle bundle) {
+        String protocol = bundle != null ? bundle.getProtocol() : SslBundle.DEFAULT_PROTOCOL;
+        try {
+            Provider provider = getProvider(tls.provider, TlsPolicyFactory.class.getClassLoader());
+            SSLContext sslContext = provider != null
+                    ? SSLContext.getInstance(protocol, provider)
+                    : SSLContext.getInstance(protocol);
+            sslContext.init(bundle != null ? bundle.getManagers().getKeyManagers() : null,
+                    bundle != null ? bundle.getManagers().getTrustManagers() : null, null);
+            SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+            sessionContext.setSessionCacheSize(tls.sessionCacheSize);
+            sessionContext.setSessionTimeout((int) tls.sessionTimeout.toSeconds());
+            log.info("Using {} TLS provider for Aerospike client", sslContext.getProvider().getName());
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to create SSL context for Aerospike client", e);
+        }
+    }
+
+    static Provider getProvider(String name, ClassLoader classLoader) {
+        if (!StringUtils.hasText(name) || JDK_PROVIDER.equalsIgnoreCase(name)) {
+            return null;
+        }
+        if (OPENSSL_PROVIDER.equalsIgnoreCase(name)) {
+            if (!ClassUtils.isPresent("org.conscrypt.Conscrypt", classLoader)) {
+                throw new IllegalStateException(
+                        "TLS provider 'openssl' requires org.conscrypt:conscrypt-openjdk-uber on the classpath");
+            }
+            return ConscryptHolder.newProvider();
+        }
+        Provider provider = Security.getProvider(name);
+        if (provider == null) {
+            throw new IllegalStateException("TLS provider '%s' is not registered".formatted(name));
+        }
+        return provider;
+    }
+
+    /**
+     * Nested static class to isolate Conscrypt dependencies.
+     */
+    private static class ConscryptHolder {
+
+        static Provider newProvider() {
+            if (!org.conscrypt.Conscrypt.isAvailable()) {
+                throw new IllegalStateException("TLS provider 'openssl' is not available on this platform");
+            }
+            return org.conscrypt.Conscrypt.newProvider();
+        }
+    }
+}
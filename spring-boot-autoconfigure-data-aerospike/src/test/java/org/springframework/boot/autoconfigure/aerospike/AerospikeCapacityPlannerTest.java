@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link AerospikeCapacityPlanner} and {@link AerospikeCapacityValidator}.
+ */
+public class AerospikeCapacityPlannerTest {
+
+    private final AerospikeProperties properties = new AerospikeProperties();
+
+    @Test
+    public void declared_appliesLittlesLaw() {
+        properties.getCapacity().setExpectedThroughput(20_000);
+        properties.getCapacity().setExpectedLatency(Duration.ofMillis(5));
+
+        AerospikeCapacityPlanner.Workload workload =
+                AerospikeCapacityPlanner.Workload.declared(properties.getCapacity());
+
+        assertThat(workload.inFlight()).isEqualTo(100);
+    }
+
+    @Test
+    public void declared_returnsNull_whenNothingDeclared() {
+        assertThat(AerospikeCapacityPlanner.Workload.declared(properties.getCapacity())).isNull();
+    }
+
+    @Test
+    public void plan_isValid_whenDefaultsCoverWorkload() {
+        properties.getCapacity().setExpectedConcurrency(40);
+
+        AerospikeCapacityPlanner.Report report = plan();
+
+        assertThat(report.isValid()).isTrue();
+        assertThat(report.requiredConnsPerNode()).isEqualTo(60);
+    }
+
+    @Test
+    public void plan_recommendsMaxConnsPerNode_roundedToPools() {
+        properties.setMaxConnsPerNode(50);
+        properties.setConnPoolsPerNode(4);
+        properties.getCapacity().setExpectedConcurrency(100);
+        properties.getCapacity().setNodes(2);
+
+        AerospikeCapacityPlanner.Report report = plan();
+
+        assertThat(report.findings()).singleElement().satisfies(finding -> {
+            assertThat(finding.property()).isEqualTo("max-conns-per-node");
+            assertThat(finding.recommended()).isEqualTo(76);
+        });
+    }
+
+    @Test
+    public void plan_countsParallelBatchesOnEveryNode() {
+        properties.setMaxConnsPerNode(100);
+        properties.getBatch().setMaxConcurrentThreads(0);
+        properties.getCapacity().setExpectedConcurrency(200);
+        properties.getCapacity().setNodes(4);
+        properties.getCapacity().setHeadroom(1);
+        properties.getCapacity().setBatchShare(0.5);
+
+        AerospikeCapacityPlanner.Report report = plan();
+
+        assertThat(report.requiredConnsPerNode()).isEqualTo(125);
+        assertThat(report.findings()).extracting(AerospikeCapacityPlanner.Finding::property)
+                .containsExactly("max-conns-per-node", "batch.max-concurrent-threads");
+    }
+
+    @Test
+    public void plan_checksEventLoopLimits() {
+        properties.getEventLoops().setThreads(4);
+        properties.getEventLoops().setMaxCommandsInProcess(10);
+        properties.getCapacity().setExpectedConcurrency(100);
+        properties.getCapacity().setHeadroom(1);
+        properties.getCapacity().setAsyncShare(1);
+
+        AerospikeCapacityPlanner.Report report = plan();
+
+        assertThat(report.findings()).singleElement().satisfies(finding -> {
+            assertThat(finding.property()).isEqualTo("event-loops.max-commands-in-process");
+            assertThat(finding.recommended()).isEqualTo(25);
+        });
+    }
+
+    @Test
+    public void plan_checksAsyncCommandsAgainstAsyncMaxConnsPerNode() {
+        properties.setMaxConnsPerNode(10);
+        properties.setAsyncMaxConnsPerNode(50);
+        properties.getCapacity().setExpectedConcurrency(80);
+        properties.getCapacity().setHeadroom(1);
+        properties.getCapacity().setAsyncShare(1);
+
+        AerospikeCapacityPlanner.Report report = plan();
+
+        assertThat(report.requiredConnsPerNode()).isZero();
+        assertThat(report.requiredAsyncConnsPerNode()).isEqualTo(80);
+        assertThat(report.findings()).singleElement().satisfies(finding -> {
+            assertThat(finding.property()).isEqualTo("async-max-conns-per-node");
+            assertThat(finding.recommended()).isEqualTo(80);
+        });
+    }
+
+    @Test
+    public void plan_checksEventLoopCapacityAgainstAsyncMaxConnsPerNode() {
+        properties.setMaxConnsPerNode(10);
+        properties.setAsyncMaxConnsPerNode(100);
+        properties.getEventLoops().setThreads(8);
+        properties.getEventLoops().setMaxCommandsInProcess(20);
+        properties.getCapacity().setExpectedConcurrency(5);
+
+        AerospikeCapacityPlanner.Report report = plan();
+
+        assertThat(report.findings()).singleElement().satisfies(finding -> {
+            assertThat(finding.property()).isEqualTo("async-max-conns-per-node");
+            assertThat(finding.recommended()).isEqualTo(160);
+        });
+    }
+
+    @Test
+    public void eventLoopThreads_matchesEventLoopDefaults() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        AerospikeProperties.EventLoopsProperties eventLoops = properties.getEventLoops();
+
+        assertThat(AerospikeCapacityPlanner.eventLoopThreads(eventLoops)).isEqualTo(processors);
+        eventLoops.setEventLoopsType("netty");
+        assertThat(AerospikeCapacityPlanner.eventLoopThreads(eventLoops)).isEqualTo(processors * 2);
+        eventLoops.setThreads(3);
+        assertThat(AerospikeCapacityPlanner.eventLoopThreads(eventLoops)).isEqualTo(3);
+    }
+
+    @Test
+    public void validator_fails_whenConfigured() {
+        properties.setMaxConnsPerNode(10);
+        properties.getCapacity().setExpectedConcurrency(100);
+        properties.getCapacity().setFailOnViolation(true);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new AerospikeCapacityValidator(properties).afterPropertiesSet())
+                .withMessageContaining("spring.aerospike.max-conns-per-node=10 (recommended 150)");
+    }
+
+    private AerospikeCapacityPlanner.Report plan() {
+        return AerospikeCapacityPlanner.plan(properties,
+                AerospikeCapacityPlanner.Workload.declared(properties.getCapacity()));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.listener.RecordListener;
+import com.aerospike.client.policy.Policy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AerospikeCommandStats}.
+ */
+public class AerospikeCommandStatsTest {
+
+    private static final Key KEY = new Key("test", "documents", 1);
+
+    private final IAerospikeClient target = mock(IAerospikeClient.class);
+    private final EventLoop eventLoop = mock(EventLoop.class);
+    private final AerospikeCommandStats stats = new AerospikeCommandStats();
+    private IAerospikeClient client;
+
+    @BeforeEach
+    public void setUp() {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(IAerospikeClient.class);
+        proxyFactory.addAdvice(stats);
+        client = (IAerospikeClient) proxyFactory.getProxy();
+    }
+
+    @Test
+    public void get_countsSyncCommand() {
+        client.get(new Policy(), KEY);
+
+        assertThat(stats.getCommands()).isEqualTo(1);
+        assertThat(stats.getAsyncCommands()).isZero();
+        assertThat(stats.getInFlight()).isZero();
+    }
+
+    @Test
+    public void get_countsAsyncCommand_whenListenerCompletes() {
+        RecordListener listener = mock(RecordListener.class);
+
+        client.get(eventLoop, listener, new Policy(), KEY);
+
+        assertThat(stats.getInFlight()).isEqualTo(1);
+        assertThat(stats.getCommands()).isZero();
+
+        RecordListener sent = captureListener();
+        Record record = new Record(null, 0, 0);
+        sent.onSuccess(KEY, record);
+        sent.onFailure(new AerospikeException("late callback"));
+
+        verify(listener).onSuccess(KEY, record);
+        assertThat(stats.getInFlight()).isZero();
+        assertThat(stats.getCommands()).isEqualTo(1);
+        assertThat(stats.getAsyncCommands()).isEqualTo(1);
+        assertThat(stats.getAsyncShare()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_completesAsyncCommand_whenRejected() {
+        doThrow(new AerospikeException.AsyncQueueFull())
+                .when(target).get(eq(eventLoop), any(RecordListener.class), any(Policy.class), eq(KEY));
+
+        assertThatExceptionOfType(AerospikeException.AsyncQueueFull.class)
+                .isThrownBy(() -> client.get(eventLoop, mock(RecordListener.class), new Policy(), KEY));
+
+        assertThat(stats.getInFlight()).isZero();
+        assertThat(stats.getAsyncCommands()).isEqualTo(1);
+    }
+
+    private RecordListener captureListener() {
+        ArgumentCaptor<RecordListener> captor = ArgumentCaptor.forClass(RecordListener.class);
+        verify(target).get(eq(eventLoop), captor.capture(), any(Policy.class), eq(KEY));
+        return captor.getValue();
+    }
+}
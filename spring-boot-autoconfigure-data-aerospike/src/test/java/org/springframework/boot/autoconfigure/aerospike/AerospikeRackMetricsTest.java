@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.Replica;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AerospikeRackMetrics}.
+ */
+public class AerospikeRackMetricsTest {
+
+    private final AerospikeRackMetrics metrics = new AerospikeRackMetrics(List.of(2, 1));
+
+    @Test
+    public void record_countsRackOfKeyNamespace() {
+        Node node = mock(Node.class);
+        when(node.hasRack("test", 1)).thenReturn(true);
+
+        metrics.record(node, "test");
+        metrics.record(node, "other");
+
+        assertThat(metrics.reads(true)).isEqualTo(1);
+        assertThat(metrics.reads(false)).isEqualTo(1);
+        assertThat(metrics.localRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void record_skipsReplicaPoliciesChoosingNodePerCommand() {
+        IAerospikeClient client = mock(IAerospikeClient.class);
+        Key key = new Key("test", "set", "id");
+
+        for (Replica replica : List.of(Replica.MASTER_PROLES, Replica.RANDOM)) {
+            Policy policy = new Policy();
+            policy.replica = replica;
+            metrics.record(client, policy, key);
+        }
+
+        verify(client, never()).getCluster();
+        assertThat(metrics.reads(true) + metrics.reads(false)).isZero();
+    }
+
+    @Test
+    public void localRatio_isNaN_withoutReads() {
+        assertThat(metrics.localRatio()).isNaN();
+    }
+}
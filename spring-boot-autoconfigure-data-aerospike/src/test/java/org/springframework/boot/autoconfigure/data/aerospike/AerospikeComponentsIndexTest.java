@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AerospikeComponentsIndex}.
+ */
+public class AerospikeComponentsIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    public void load_returnsNull_withoutIndex() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+            ResourceLoader resourceLoader = new DefaultResourceLoader(classLoader);
+
+            assertThat(AerospikeComponentsIndex.load(classLoader, environment)).isNull();
+            assertThat(AerospikeComponentsIndex.entities(resourceLoader, environment)).isSameAs(resourceLoader);
+        }
+    }
+
+    @Test
+    public void getCandidates_filtersByKindAndPackage() throws IOException {
+        try (URLClassLoader classLoader = classLoaderWithIndex("""
+                com.example.Customer=entity
+                com.example.orders.Order=entity
+                com.example.CustomerRepository=repository
+                com.examples.Other=entity
+                """)) {
+            AerospikeComponentsIndex index = AerospikeComponentsIndex.load(classLoader, environment);
+
+            assertThat(index).isNotNull();
+            assertThat(index.getCandidates(AerospikeComponentsIndex.ENTITY, "com.example"))
+                    .containsExactlyInAnyOrder("com.example.Customer", "com.example.orders.Order");
+            assertThat(index.getCandidates(AerospikeComponentsIndex.REPOSITORY, "com.example"))
+                    .containsExactly("com.example.CustomerRepository");
+        }
+    }
+
+    @Test
+    public void entities_scansIndexedClassesOnly() throws IOException {
+        try (URLClassLoader classLoader = classLoaderWithIndex(Indexed.class.getName() + "=entity\n"
+                + getClass().getPackageName() + ".Removed=entity\n")) {
+            ClassPathScanningCandidateComponentProvider scanner = entityScanner(classLoader);
+
+            assertThat(scanner.findCandidateComponents(getClass().getPackageName()))
+                    .extracting(BeanDefinition::getBeanClassName)
+                    .containsExactly(Indexed.class.getName());
+        }
+    }
+
+    @Test
+    public void entities_scansPackage_withoutIndexedClasses() throws IOException {
+        try (URLClassLoader classLoader = classLoaderWithIndex("com.example.Customer=entity\n")) {
+            ClassPathScanningCandidateComponentProvider scanner = entityScanner(classLoader);
+
+            assertThat(scanner.findCandidateComponents(getClass().getPackageName()))
+                    .extracting(BeanDefinition::getBeanClassName)
+                    .contains(Indexed.class.getName(), NotIndexed.class.getName());
+        }
+    }
+
+    @Test
+    public void load_returnsNull_whenIgnoredInEnvironment() throws IOException {
+        environment.setProperty(AerospikeComponentsIndex.IGNORE_INDEX, "true");
+        try (URLClassLoader classLoader = classLoaderWithIndex("com.example.Customer=entity\n")) {
+            ResourceLoader resourceLoader = new DefaultResourceLoader(classLoader);
+
+            assertThat(AerospikeComponentsIndex.load(classLoader, environment)).isNull();
+            assertThat(AerospikeComponentsIndex.entities(resourceLoader, environment)).isSameAs(resourceLoader);
+        }
+    }
+
+    private ClassPathScanningCandidateComponentProvider entityScanner(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(AerospikeComponentsIndex.entities(new DefaultResourceLoader(classLoader),
+                environment));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Document.class));
+        return scanner;
+    }
+
+    private URLClassLoader classLoaderWithIndex(String index) throws IOException {
+        Path file = directory.resolve(AerospikeComponentsIndex.INDEX_LOCATION);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, index);
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @Document
+    static class Indexed {
+    }
+
+    @Document
+    static class NotIndexed {
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Bin;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.boot.autoconfigure.util.AerospikePolicyVariants;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AerospikeCompressionInterceptor}.
+ */
+public class AerospikeCompressionInterceptorTest {
+
+    private static final Key KEY = new Key("test", "documents", 1);
+
+    private final IAerospikeClient target = mock(IAerospikeClient.class);
+    private final AerospikePolicyVariants policyVariants = new AerospikePolicyVariants(16);
+    private final AerospikeCompressionInterceptor interceptor =
+            new AerospikeCompressionInterceptor(1024, policyVariants);
+    private IAerospikeClient client;
+
+    @BeforeEach
+    public void setUp() {
+        when(target.getWritePolicyDefault()).thenReturn(new WritePolicy());
+        when(target.getBatchPolicyDefault()).thenReturn(new BatchPolicy());
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(IAerospikeClient.class);
+        proxyFactory.addAdvice(interceptor);
+        client = (IAerospikeClient) proxyFactory.getProxy();
+    }
+
+    @Test
+    public void put_keepsPolicy_whenPayloadIsSmall() {
+        WritePolicy policy = new WritePolicy();
+
+        client.put(policy, KEY, new Bin("counter", 1));
+
+        verify(target).put(eq(policy), eq(KEY), any(Bin[].class));
+        assertThat(interceptor.getUncompressedCommands()).isEqualTo(1);
+        assertThat(interceptor.getCompressedCommands()).isZero();
+    }
+
+    @Test
+    public void put_compressesCopyOfPolicy_whenPayloadIsLarge() {
+        WritePolicy policy = new WritePolicy();
+
+        client.put(policy, KEY, new Bin("document", "x".repeat(4096)));
+
+        WritePolicy sent = captureWritePolicy();
+        assertThat(sent).isNotSameAs(policy);
+        assertThat(sent.compress).isTrue();
+        assertThat(policy.compress).isFalse();
+        assertThat(interceptor.getCompressedPayloadBytes()).isEqualTo(4096);
+    }
+
+    @Test
+    public void operate_compressesDefaultPolicy_whenPolicyIsNull() {
+        client.operate(null, KEY, Operation.put(new Bin("document", "x".repeat(4096))));
+
+        ArgumentCaptor<WritePolicy> captor = ArgumentCaptor.forClass(WritePolicy.class);
+        verify(target).operate(captor.capture(), eq(KEY), any(Operation[].class));
+        assertThat(captor.getValue().compress).isTrue();
+        assertThat(target.getWritePolicyDefault().compress).isFalse();
+    }
+
+    @Test
+    public void put_reusesCompressedCopy_ofSharedPolicy() {
+        policyVariants.share(target.getWritePolicyDefault());
+
+        client.put(null, KEY, new Bin("document", "x".repeat(4096)));
+        client.put(null, KEY, new Bin("document", "y".repeat(4096)));
+
+        ArgumentCaptor<WritePolicy> captor = ArgumentCaptor.forClass(WritePolicy.class);
+        verify(target, times(2)).put(captor.capture(), eq(KEY), any(Bin[].class));
+        assertThat(captor.getAllValues().get(0)).isSameAs(captor.getAllValues().get(1));
+        assertThat(captor.getValue().compress).isTrue();
+        assertThat(target.getWritePolicyDefault().compress).isFalse();
+    }
+
+    @Test
+    public void put_reusesCompressedCopy_ofVariant() {
+        WritePolicy base = new WritePolicy();
+        WritePolicy variant = policyVariants.write(base, 100, 0, base.generationPolicy, base.recordExistsAction,
+                false, null);
+
+        client.put(variant, KEY, new Bin("document", "x".repeat(4096)));
+        client.put(variant, KEY, new Bin("document", "y".repeat(4096)));
+
+        ArgumentCaptor<WritePolicy> captor = ArgumentCaptor.forClass(WritePolicy.class);
+        verify(target, times(2)).put(captor.capture(), eq(KEY), any(Bin[].class));
+        assertThat(captor.getAllValues().get(0)).isSameAs(captor.getAllValues().get(1));
+        assertThat(captor.getValue().expiration).isEqualTo(100);
+        assertThat(captor.getValue().compress).isTrue();
+    }
+
+    @Test
+    public void batchOperate_compresses_whenCombinedPayloadIsLarge() {
+        List<BatchRecord> records = List.of(
+                new BatchWrite(KEY, new Operation[]{Operation.put(new Bin("document", "x".repeat(600)))}),
+                new BatchWrite(new Key("test", "documents", 2),
+                        new Operation[]{Operation.put(new Bin("document", "y".repeat(600)))}));
+
+        client.operate(null, records);
+
+        ArgumentCaptor<BatchPolicy> captor = ArgumentCaptor.forClass(BatchPolicy.class);
+        verify(target).operate(captor.capture(), eq(records));
+        assertThat(captor.getValue().compress).isTrue();
+    }
+
+    @Test
+    public void estimates_areReported_forSampledCommands() {
+        for (int i = 0; i < 1000; i++) {
+            client.put(null, KEY, new Bin("document", "x".repeat(4096)));
+        }
+
+        assertThat(interceptor.getEstimatedBytesSaved()).isPositive();
+        assertThat(interceptor.getEstimatedCompressionNanos()).isPositive();
+    }
+
+    private WritePolicy captureWritePolicy() {
+        ArgumentCaptor<WritePolicy> captor = ArgumentCaptor.forClass(WritePolicy.class);
+        verify(target).put(captor.capture(), eq(KEY), any(Bin[].class));
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.Document;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link AerospikeEntitiesAotProcessor} and {@link AerospikeDataRuntimeHints}.
+ */
+public class AerospikeEntitiesAotProcessorTest {
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    public void registersEntitiesAndPropertyTypes() {
+        beanFactory.registerBeanDefinition("aerospikeMappingContext",
+                new RootBeanDefinition(AerospikeMappingContext.class));
+        AutoConfigurationPackages.register(beanFactory, getClass().getPackageName());
+
+        apply(new AerospikeEntitiesAotProcessor().processAheadOfTime(beanFactory));
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(Order.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Line.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(String.class)).rejects(hints);
+    }
+
+    @Test
+    public void doesNothing_withoutMappingContext() {
+        AutoConfigurationPackages.register(beanFactory, getClass().getPackageName());
+
+        assertThat(new AerospikeEntitiesAotProcessor().processAheadOfTime(beanFactory)).isNull();
+    }
+
+    @Test
+    public void registersPolicyAnnotation() {
+        new AerospikeDataRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(AerospikeEntityPolicy.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Document.class)).accepts(hints);
+    }
+
+    private void apply(BeanFactoryInitializationAotContribution contribution) {
+        GenerationContext generationContext = mock(GenerationContext.class);
+        given(generationContext.getRuntimeHints()).willReturn(hints);
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+    }
+
+    @Document
+    static class Order {
+
+        private String id;
+        private List<Line> lines;
+    }
+
+    static class Line {
+
+        private String sku;
+        private int quantity;
+    }
+}
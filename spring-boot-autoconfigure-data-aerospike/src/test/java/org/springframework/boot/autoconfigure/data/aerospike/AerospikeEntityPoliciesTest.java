@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Txn;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.util.AerospikePolicyVariants;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.annotation.Id;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AerospikeEntityPolicies}.
+ */
+public class AerospikeEntityPoliciesTest {
+
+    private final IAerospikeClient client = mock(IAerospikeClient.class);
+    private final AerospikeMappingContext mappingContext = new AerospikeMappingContext();
+    private final AerospikeDataProperties dataProperties = new AerospikeDataProperties();
+
+    @BeforeEach
+    public void setUp() {
+        when(client.getReadPolicyDefault()).thenReturn(new Policy());
+        when(client.getWritePolicyDefault()).thenReturn(new WritePolicy());
+        when(client.getQueryPolicyDefault()).thenReturn(new QueryPolicy());
+        when(client.getBatchPolicyDefault()).thenReturn(new BatchPolicy());
+        mappingContext.getPersistentEntity(Customer.class);
+        mappingContext.getPersistentEntity(Report.class);
+    }
+
+    @Test
+    public void resolve_returnsEmpty_whenNothingConfigured() {
+        mappingContext.getPersistentEntity(Plain.class);
+
+        assertThat(resolve()).isEmpty();
+    }
+
+    @Test
+    public void resolve_appliesPropertiesByEntityName() {
+        AerospikeDataProperties.EntityProperties customer = new AerospikeDataProperties.EntityProperties();
+        customer.getRead().setTotalTimeout(Duration.ofMillis(20));
+        customer.getRead().setMaxRetries(0);
+        dataProperties.getEntities().put("customer", customer);
+
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Customer.class));
+
+        assertThat(policies.readPolicy(null).totalTimeout).isEqualTo(20);
+        assertThat(policies.readPolicy(null).maxRetries).isZero();
+        assertThat(policies.writePolicy(null).totalTimeout).isEqualTo(new WritePolicy().totalTimeout);
+    }
+
+    @Test
+    public void resolve_appliesAnnotation() {
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Report.class));
+
+        assertThat(policies.queryPolicy(null).totalTimeout).isEqualTo(60_000);
+        assertThat(policies.batchPolicy(null).totalTimeout).isEqualTo(60_000);
+        assertThat(policies.getQueryMaxRecords()).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    public void resolve_propertiesTakePrecedenceOverAnnotation() {
+        AerospikeDataProperties.EntityProperties report = new AerospikeDataProperties.EntityProperties();
+        report.getQuery().setTotalTimeout(Duration.ofSeconds(5));
+        report.setQueryMaxRecords(500L);
+        dataProperties.getEntities().put(setName(Report.class), report);
+
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Report.class));
+
+        assertThat(policies.queryPolicy(null).totalTimeout).isEqualTo(5_000);
+        assertThat(policies.batchPolicy(null).totalTimeout).isEqualTo(60_000);
+        assertThat(policies.getQueryMaxRecords()).isEqualTo(500L);
+    }
+
+    @Test
+    public void readPolicy_reusesPrecomputedPolicy_forClientDefault() {
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Report.class));
+
+        assertThat(policies.readPolicy(client.getReadPolicyDefault())).isSameAs(policies.readPolicy(null));
+    }
+
+    @Test
+    public void writePolicy_overridesCopy_forCustomizedPolicy() {
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Report.class));
+        WritePolicy requested = new WritePolicy();
+        requested.expiration = 100;
+
+        WritePolicy result = policies.writePolicy(requested);
+
+        assertThat(result).isNotSameAs(requested);
+        assertThat(result.expiration).isEqualTo(100);
+        assertThat(result.totalTimeout).isEqualTo(60_000);
+        assertThat(requested.totalTimeout).isEqualTo(new WritePolicy().totalTimeout);
+    }
+
+    @Test
+    public void writePolicy_reusesVariant_forEqualCustomizations() {
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Report.class));
+        WritePolicy first = new WritePolicy(client.getWritePolicyDefault());
+        first.expiration = 100;
+        WritePolicy second = new WritePolicy(client.getWritePolicyDefault());
+        second.expiration = 100;
+
+        assertThat(policies.writePolicy(first)).isSameAs(policies.writePolicy(second));
+    }
+
+    @Test
+    public void writePolicy_copiesPolicy_forCommandInTransaction() {
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Report.class));
+        WritePolicy plain = new WritePolicy(client.getWritePolicyDefault());
+        plain.expiration = 100;
+        WritePolicy transactional = new WritePolicy(client.getWritePolicyDefault());
+        transactional.expiration = 100;
+        transactional.txn = new Txn();
+
+        WritePolicy result = policies.writePolicy(transactional);
+
+        assertThat(result).isNotSameAs(policies.writePolicy(plain));
+        assertThat(result.txn).isSameAs(transactional.txn);
+        assertThat(result.totalTimeout).isEqualTo(60_000);
+    }
+
+    @Test
+    public void readPolicy_copiesPolicy_forCommandInTransaction() {
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Report.class));
+        Policy requested = new Policy(client.getReadPolicyDefault());
+        requested.txn = new Txn();
+
+        Policy result = policies.readPolicy(requested);
+
+        assertThat(result.txn).isSameAs(requested.txn);
+        assertThat(policies.readPolicy(requested)).isNotSameAs(result);
+    }
+
+    @Test
+    public void writePolicy_copiesPolicy_whenOtherValuesDiffer() {
+        AerospikeEntityPolicies.EntityPolicies policies = resolve().get(setName(Report.class));
+        WritePolicy requested = new WritePolicy(client.getWritePolicyDefault());
+        requested.readTouchTtlPercent = 50;
+        requested.failOnFilteredOut = true;
+
+        WritePolicy result = policies.writePolicy(requested);
+
+        assertThat(result.readTouchTtlPercent).isEqualTo(50);
+        assertThat(result.failOnFilteredOut).isTrue();
+    }
+
+    private Map<String, AerospikeEntityPolicies.EntityPolicies> resolve() {
+        return new AerospikeEntityPolicies(dataProperties, mappingContext, null, new AerospikePolicyVariants(16))
+                .resolve(client, null);
+    }
+
+    private String setName(Class<?> type) {
+        return mappingContext.getRequiredPersistentEntity(type).getSetName();
+    }
+
+    @Document
+    static class Customer {
+
+        @Id
+        private String id;
+    }
+
+    @Document
+    @AerospikeEntityPolicy(totalTimeout = "60s", queryMaxRecords = 1_000_000)
+    static class Report {
+
+        @Id
+        private String id;
+    }
+
+    @Document
+    static class Plain {
+
+        @Id
+        private String id;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.CTX;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AerospikeAsyncIndexCreator}, {@link AerospikePendingIndexInterceptor} and
+ * {@link AerospikeIndexesHealthIndicator}.
+ */
+public class AerospikeIndexCreationTest {
+
+    @Test
+    public void loadPercent_readsSindexStat() {
+        assertThat(AerospikeAsyncIndexCreator.loadPercent("keys=10;entries_per_bval=1;load_pct=42;load_time=3"))
+                .isEqualTo(42);
+        assertThat(AerospikeAsyncIndexCreator.loadPercent("ERROR:201:no index")).isNull();
+        assertThat(AerospikeAsyncIndexCreator.loadPercent(null)).isNull();
+    }
+
+    @Test
+    public void toExpression_convertsEqualityAndRangeFilters() {
+        assertThat(Exp.build(AerospikePendingIndexInterceptor.toExpression(Filter.equal("age", 30))))
+                .isEqualTo(Exp.build(Exp.eq(Exp.intBin("age"), Exp.val(30))));
+        assertThat(Exp.build(AerospikePendingIndexInterceptor.toExpression(Filter.range("age", 18, 65))))
+                .isEqualTo(Exp.build(Exp.and(
+                        Exp.ge(Exp.intBin("age"), Exp.val(18)),
+                        Exp.le(Exp.intBin("age"), Exp.val(65)))));
+        assertThat(Exp.build(AerospikePendingIndexInterceptor.toExpression(Filter.equal("name", "Ann"))))
+                .isEqualTo(Exp.build(Exp.eq(Exp.stringBin("name"), Exp.val("Ann"))));
+    }
+
+    @Test
+    public void toExpression_skipsCollectionAndContextFilters() {
+        assertThat(AerospikePendingIndexInterceptor.toExpression(
+                Filter.contains("tags", IndexCollectionType.LIST, "a"))).isNull();
+        assertThat(AerospikePendingIndexInterceptor.toExpression(
+                Filter.equal("address", "Paris", CTX.mapKey(Value.get("city"))))).isNull();
+    }
+
+    @Test
+    public void progress_coversFiltersOnItsBin() throws InterruptedException {
+        AerospikeIndexProgress progress = index("age_idx");
+
+        assertThat(progress.covers("test", "Customer", "age", IndexCollectionType.DEFAULT)).isTrue();
+        assertThat(progress.covers("test", "Order", "age", IndexCollectionType.DEFAULT)).isFalse();
+        assertThat(progress.covers("test", "Customer", "age", IndexCollectionType.LIST)).isFalse();
+        assertThat(progress.await(Duration.ofMillis(1))).isFalse();
+
+        progress.ready();
+
+        assertThat(progress.await(Duration.ofMillis(1))).isTrue();
+    }
+
+    @Test
+    public void progress_isBuildingLongerThanTimeout_onceBuildStarted() throws InterruptedException {
+        AerospikeIndexProgress progress = index("age_idx");
+
+        assertThat(progress.isBuildingLongerThan(Duration.ZERO)).isFalse();
+
+        progress.building(0);
+        Thread.sleep(5);
+        progress.building(40);
+
+        assertThat(progress.isBuildingLongerThan(Duration.ofMillis(1))).isTrue();
+        assertThat(progress.isBuildingLongerThan(Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void pendingIndexInterceptor_scansCopyOfStatement() {
+        AerospikeIndexProgress progress = index("age_idx");
+        progress.building(10);
+        AerospikeAsyncIndexCreator creator = mock(AerospikeAsyncIndexCreator.class);
+        given(creator.find("test", "Customer", "age", IndexCollectionType.DEFAULT)).willReturn(progress);
+        given(creator.getProperties()).willReturn(new AerospikeDataProperties.IndexCreationProperties());
+        ObjectProvider<AerospikeAsyncIndexCreator> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(creator);
+        IAerospikeClient target = mock(IAerospikeClient.class);
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(IAerospikeClient.class);
+        proxyFactory.addAdvice(new AerospikePendingIndexInterceptor(provider));
+        IAerospikeClient client = (IAerospikeClient) proxyFactory.getProxy();
+        Statement statement = new Statement();
+        statement.setNamespace("test");
+        statement.setSetName("Customer");
+        statement.setFilter(Filter.equal("age", 30));
+
+        client.query(new QueryPolicy(), statement);
+
+        ArgumentCaptor<QueryPolicy> policy = ArgumentCaptor.forClass(QueryPolicy.class);
+        ArgumentCaptor<Statement> sent = ArgumentCaptor.forClass(Statement.class);
+        verify(target).query(policy.capture(), sent.capture());
+        assertThat(sent.getValue()).isNotSameAs(statement);
+        assertThat(sent.getValue().getFilter()).isNull();
+        assertThat(sent.getValue().getSetName()).isEqualTo("Customer");
+        assertThat(policy.getValue().filterExp).isNotNull();
+        assertThat(statement.getFilter()).isNotNull();
+    }
+
+    @Test
+    public void health_isOutOfService_whileIndexesAreBuilding() {
+        AerospikeIndexProgress ready = index("ready_idx");
+        ready.ready();
+        AerospikeIndexProgress building = index("building_idx");
+        building.building(60);
+
+        Health health = health(ready, building);
+
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails())
+                .containsEntry("ready_idx", AerospikeIndexProgress.State.READY)
+                .containsEntry("building_idx", "BUILDING 60%");
+    }
+
+    @Test
+    public void health_isDown_whenAnIndexFailed() {
+        AerospikeIndexProgress failed = index("failed_idx");
+        failed.failed("Index quota exceeded");
+
+        assertThat(health(failed, index("pending_idx")).getStatus()).isEqualTo(Status.DOWN);
+    }
+
+    @Test
+    public void health_isUp_whenAllIndexesAreReady() {
+        AerospikeIndexProgress ready = index("ready_idx");
+        ready.ready();
+
+        assertThat(health(ready).getStatus()).isEqualTo(Status.UP);
+    }
+
+    private static AerospikeIndexProgress index(String name) {
+        return new AerospikeIndexProgress("test", "Customer", name, "age", IndexType.NUMERIC,
+                IndexCollectionType.DEFAULT);
+    }
+
+    private static Health health(AerospikeIndexProgress... indexes) {
+        AerospikeAsyncIndexCreator indexCreator = mock(AerospikeAsyncIndexCreator.class);
+        given(indexCreator.getIndexes()).willReturn(List.of(indexes));
+        return new AerospikeIndexesHealthIndicator(indexCreator).health();
+    }
+}
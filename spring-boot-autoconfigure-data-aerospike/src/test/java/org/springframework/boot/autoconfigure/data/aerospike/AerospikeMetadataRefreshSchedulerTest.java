@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for {@link AerospikeMetadataRefreshScheduler}.
+ */
+public class AerospikeMetadataRefreshSchedulerTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private final AerospikeDataProperties.MetadataRefreshProperties properties =
+            new AerospikeDataProperties.MetadataRefreshProperties();
+    private final AerospikeMetadataRefreshScheduler scheduler = new AerospikeMetadataRefreshScheduler(properties);
+
+    @AfterEach
+    public void stop() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void nextDelay_deviatesByJitter() {
+        assertThat(AerospikeMetadataRefreshScheduler.nextDelay(HOUR, 0, properties, 0))
+                .isEqualTo(Duration.ofMinutes(48));
+        assertThat(AerospikeMetadataRefreshScheduler.nextDelay(HOUR, 0, properties, 0.5)).isEqualTo(HOUR);
+        assertThat(AerospikeMetadataRefreshScheduler.nextDelay(HOUR, 0, properties, 0.999))
+                .isLessThan(Duration.ofMinutes(72));
+    }
+
+    @Test
+    public void nextDelay_backsOffUpToInterval() {
+        properties.setJitter(0);
+
+        assertThat(AerospikeMetadataRefreshScheduler.nextDelay(HOUR, 1, properties, 0))
+                .isEqualTo(Duration.ofSeconds(5));
+        assertThat(AerospikeMetadataRefreshScheduler.nextDelay(HOUR, 4, properties, 0))
+                .isEqualTo(Duration.ofSeconds(40));
+        assertThat(AerospikeMetadataRefreshScheduler.nextDelay(HOUR, 30, properties, 0)).isEqualTo(HOUR);
+    }
+
+    @Test
+    public void nextDelay_isNull_forInvalidationOnlyRefresh() {
+        assertThat(AerospikeMetadataRefreshScheduler.nextDelay(Duration.ZERO, 0, properties, 0.5)).isNull();
+    }
+
+    @Test
+    public void invalidate_coalescesRequests() throws InterruptedException {
+        properties.setInvalidationDelay(Duration.ofMillis(50));
+        AtomicInteger refreshes = new AtomicInteger();
+        scheduler.register(AerospikeMetadataRefreshScheduler.INDEXES, HOUR, refreshes::incrementAndGet);
+        scheduler.start();
+
+        scheduler.invalidate(AerospikeMetadataRefreshScheduler.INDEXES);
+        scheduler.invalidate(AerospikeMetadataRefreshScheduler.INDEXES);
+        scheduler.invalidate(AerospikeMetadataRefreshScheduler.INDEXES);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> refreshes.get() == 1);
+        Thread.sleep(200);
+        assertThat(refreshes).hasValue(1);
+    }
+
+    @Test
+    public void refresh_countsFailures() {
+        properties.setInvalidationDelay(Duration.ZERO);
+        properties.setRetryDelay(Duration.ofHours(1));
+        scheduler.register(AerospikeMetadataRefreshScheduler.INDEXES, HOUR, () -> {
+            throw new IllegalStateException("Cluster is unreachable");
+        });
+        scheduler.start();
+
+        scheduler.invalidate(AerospikeMetadataRefreshScheduler.INDEXES);
+
+        AerospikeMetadataRefreshScheduler.Refresh refresh = scheduler.getRefreshes().get(0);
+        await().atMost(Duration.ofSeconds(5)).until(() -> refresh.getFailures() == 1);
+    }
+
+    @Test
+    public void serverVersionRefresh_updatesCachedVersion() {
+        ServerVersionSupport serverVersionSupport = new ServerVersionSupport();
+
+        Runnable refresh = AerospikeMetadataRefreshScheduler.serverVersionRefresh(serverVersionSupport);
+        refresh.run();
+
+        assertThat(serverVersionSupport.getServerVersion()).isEqualTo("7.2.0.1");
+        assertThat(AerospikeMetadataRefreshScheduler.serverVersionRefresh(new Object())).isNull();
+    }
+
+    static class ServerVersionSupport {
+
+        private volatile String serverVersion = "7.1.0.0";
+
+        String getServerVersion() {
+            return serverVersion;
+        }
+
+        private String findServerVersion() {
+            return "7.2.0.1";
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.reactor.IAerospikeReactorClient;
+import com.aerospike.client.reactor.dto.KeysExists;
+import com.aerospike.client.reactor.dto.KeysRecords;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AerospikeReadCoalescer}.
+ */
+public class AerospikeReadCoalescerTest {
+
+    private final IAerospikeReactorClient client = mock(IAerospikeReactorClient.class);
+
+    @Test
+    public void reads_areSentAsOneBatch_withIdenticalKeysReadOnce() {
+        AerospikeReadCoalescer coalescer = new AerospikeReadCoalescer(Duration.ofMinutes(1), 2, Schedulers.parallel());
+        IAerospikeReactorClient proxy = proxy(coalescer);
+        givenRecords();
+
+        List<KeyRecord> results = Flux.merge(proxy.get(null, key("a")), proxy.get(null, key("a")),
+                        proxy.get(null, key("b")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).extracting(keyRecord -> keyRecord.record.getString("id"))
+                .containsExactlyInAnyOrder("a", "a", "b");
+        verify(client, times(1)).get(nullable(BatchPolicy.class), any(Key[].class));
+        assertThat(coalescer.getBatches()).isEqualTo(1);
+        assertThat(coalescer.getRequests()).isEqualTo(3);
+        assertThat(coalescer.getKeys()).isEqualTo(2);
+        assertThat(coalescer.getFillRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void exists_isSentAfterWindow() {
+        AerospikeReadCoalescer coalescer = new AerospikeReadCoalescer(Duration.ofMillis(20), 100,
+                Schedulers.parallel());
+        IAerospikeReactorClient proxy = proxy(coalescer);
+        given(client.exists(nullable(BatchPolicy.class), any(Key[].class))).willAnswer(invocation -> {
+            Key[] keys = invocation.getArgument(1);
+            boolean[] exists = new boolean[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                exists[i] = keys[i].equals(key("a"));
+            }
+            return Mono.just(new KeysExists(keys, exists));
+        });
+
+        List<Key> existing = Flux.merge(proxy.exists(null, key("a")), proxy.exists(null, key("b")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(existing).containsExactly(key("a"));
+        assertThat(coalescer.getBatches()).isEqualTo(1);
+        assertThat(coalescer.getWait()).isPositive();
+        assertThat(coalescer.getFillRatio()).isEqualTo(0.02);
+    }
+
+    @Test
+    public void readsWithFilterExpression_arePassedThrough() {
+        AerospikeReadCoalescer coalescer = new AerospikeReadCoalescer(Duration.ofMinutes(1), 100,
+                Schedulers.parallel());
+        IAerospikeReactorClient proxy = proxy(coalescer);
+        Policy policy = new Policy();
+        policy.filterExp = Exp.build(Exp.eq(Exp.intBin("age"), Exp.val(1)));
+        Key key = key("a");
+        given(client.get(policy, key)).willReturn(Mono.empty());
+
+        assertThat(proxy.get(policy, key).block(Duration.ofSeconds(5))).isNull();
+
+        verify(client).get(policy, key);
+        verify(client, never()).get(nullable(BatchPolicy.class), any(Key[].class));
+        assertThat(coalescer.getBatches()).isZero();
+    }
+
+    @Test
+    public void readsWithEquivalentPolicies_shareBatch_withPolicyOfCaller() {
+        AerospikeReadCoalescer coalescer = new AerospikeReadCoalescer(Duration.ofMinutes(1), 2, Schedulers.parallel());
+        IAerospikeReactorClient proxy = proxy(coalescer);
+        givenRecords();
+
+        Flux.merge(proxy.get(policy(100), key("a")), proxy.get(policy(100), key("b")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        ArgumentCaptor<BatchPolicy> captor = ArgumentCaptor.forClass(BatchPolicy.class);
+        verify(client, times(1)).get(captor.capture(), any(Key[].class));
+        assertThat(captor.getValue().totalTimeout).isEqualTo(100);
+        assertThat(captor.getValue().socketTimeout).isEqualTo(50);
+        assertThat(coalescer.getBatches()).isEqualTo(1);
+    }
+
+    @Test
+    public void readsWithDifferentPolicies_areSentInSeparateBatches() {
+        AerospikeReadCoalescer coalescer = new AerospikeReadCoalescer(Duration.ofMillis(20), 100,
+                Schedulers.parallel());
+        IAerospikeReactorClient proxy = proxy(coalescer);
+        givenRecords();
+
+        List<KeyRecord> results = Flux.merge(proxy.get(policy(100), key("a")), proxy.get(policy(200), key("a")),
+                        proxy.get(null, key("a")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(3);
+        ArgumentCaptor<BatchPolicy> captor = ArgumentCaptor.forClass(BatchPolicy.class);
+        verify(client, times(3)).get(captor.capture(), any(Key[].class));
+        assertThat(captor.getAllValues()).extracting(policy -> policy == null ? null : policy.totalTimeout)
+                .containsExactlyInAnyOrder(100, 200, null);
+        assertThat(coalescer.getBatches()).isEqualTo(3);
+    }
+
+    private void givenRecords() {
+        given(client.get(nullable(BatchPolicy.class), any(Key[].class))).willAnswer(invocation -> {
+            Key[] keys = invocation.getArgument(1);
+            Record[] records = Arrays.stream(keys)
+                    .map(key -> new Record(Map.of("id", key.userKey.getObject()), 1, 0))
+                    .toArray(Record[]::new);
+            return Mono.just(new KeysRecords(keys, records));
+        });
+    }
+
+    private static Policy policy(int totalTimeout) {
+        Policy policy = new Policy();
+        policy.totalTimeout = totalTimeout;
+        policy.socketTimeout = 50;
+        return policy;
+    }
+
+    private IAerospikeReactorClient proxy(AerospikeReadCoalescer coalescer) {
+        ProxyFactory proxyFactory = new ProxyFactory(client);
+        proxyFactory.addInterface(IAerospikeReactorClient.class);
+        proxyFactory.addAdvice(coalescer);
+        return (IAerospikeReactorClient) proxyFactory.getProxy();
+    }
+
+    private static Key key(String id) {
+        return new Key("test", "set", id);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.aerospike.convert.AerospikeReadData;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.annotation.Id;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AerospikeWarmUp}.
+ */
+public class AerospikeWarmUpTest {
+
+    private final AerospikeMappingContext mappingContext = new AerospikeMappingContext();
+    private final MappingAerospikeConverter converter = mock(MappingAerospikeConverter.class);
+    private final AerospikeDataProperties dataProperties = new AerospikeDataProperties();
+    private final List<Object> reads = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        dataProperties.setNamespace("test");
+        mappingContext.getPersistentEntity(Customer.class);
+    }
+
+    @Test
+    public void sampleBins_coverSimpleAndNestedProperties() {
+        Map<String, Object> bins = warmUp().sampleBins(mappingContext.getRequiredPersistentEntity(Customer.class), 0);
+
+        assertThat(bins).containsEntry("name", "warm-up")
+                .containsEntry("age", 1L)
+                .containsEntry("score", 1.0d)
+                .containsEntry("active", true)
+                .containsEntry("tier", "GOLD")
+                .containsEntry("tags", List.of())
+                .containsEntry("address", Map.of("city", "warm-up"))
+                .doesNotContainKey("id");
+    }
+
+    @Test
+    public void run_convertsEveryEntity_withoutReadsByDefault() {
+        dataProperties.getWarmUp().setIterations(5);
+        AerospikeWarmUp warmUp = warmUp();
+
+        warmUp.run(new DefaultApplicationArguments());
+
+        verify(converter, times(5)).read(eq(Customer.class), any(AerospikeReadData.class));
+        assertThat(reads).isEmpty();
+        assertThat(warmUp.getDuration()).isPositive();
+    }
+
+    @Test
+    public void run_readsSyntheticIds_whenEnabled() {
+        dataProperties.getWarmUp().setIterations(2);
+        dataProperties.getWarmUp().setReads(true);
+
+        warmUp().run(new DefaultApplicationArguments());
+
+        assertThat(reads).containsExactly(AerospikeWarmUp.SYNTHETIC_ID, AerospikeWarmUp.SYNTHETIC_ID);
+    }
+
+    @Test
+    public void run_stopsAtTimeout() {
+        dataProperties.getWarmUp().setIterations(Integer.MAX_VALUE);
+        dataProperties.getWarmUp().setTimeout(Duration.ZERO);
+
+        warmUp().run(new DefaultApplicationArguments());
+
+        verify(converter, atMost(1)).read(eq(Customer.class), any(AerospikeReadData.class));
+    }
+
+    @Test
+    public void syntheticId_matchesIdType() {
+        assertThat(AerospikeWarmUp.syntheticId(long.class)).isEqualTo((long) Integer.MIN_VALUE);
+        assertThat(AerospikeWarmUp.syntheticId(String.class)).isEqualTo(AerospikeWarmUp.SYNTHETIC_ID);
+    }
+
+    private AerospikeWarmUp warmUp() {
+        return new AerospikeWarmUp(mappingContext, converter, new DefaultListableBeanFactory(), dataProperties,
+                (id, type) -> reads.add(id));
+    }
+
+    enum Tier {
+        GOLD, SILVER
+    }
+
+    @Document
+    static class Customer {
+
+        @Id
+        String id;
+        String name;
+        int age;
+        double score;
+        boolean active;
+        Tier tier;
+        List<String> tags;
+        Address address;
+    }
+
+    static class Address {
+
+        String city;
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Value;
+import com.aerospike.client.cluster.Partition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AerospikeWriteBehind} and {@link AerospikeWriteBehindBuffer}.
+ */
+public class AerospikeWriteBehindTest {
+
+    private final AerospikeMappingContext mappingContext = new AerospikeMappingContext();
+    private final AerospikeDataProperties dataProperties = new AerospikeDataProperties();
+    private final AerospikeDataProperties.WriteBehindProperties properties =
+            new AerospikeDataProperties.WriteBehindProperties();
+    private final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        properties.setEnabled(true);
+        properties.setFlushSize(1_000);
+        properties.setFlushInterval(Duration.ofHours(1));
+        dataProperties.setBatchWriteSize(2);
+        AerospikeDataProperties.EntityProperties entityProperties = new AerospikeDataProperties.EntityProperties();
+        entityProperties.setWriteBehind(properties);
+        dataProperties.getEntities().put("reading", entityProperties);
+        dataProperties.getEntities().put("VersionedReading", entityProperties);
+    }
+
+    @Test
+    public void flush_writesLatestValueOfEveryKey_inPartitionOrderedBatches() {
+        AerospikeWriteBehindBuffer buffer = buffer(batches::add);
+
+        assertThat(buffer.offer(new Reading("a", 1))).isTrue();
+        assertThat(buffer.offer(new Reading("a", 2))).isTrue();
+        assertThat(buffer.offer(new Reading("b", 1))).isTrue();
+        assertThat(buffer.offer(new Reading("c", 1))).isTrue();
+        assertThat(buffer.getSize()).isEqualTo(3);
+        assertThat(((Reading) buffer.get("a")).value).isEqualTo(2);
+
+        buffer.flush();
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        List<Reading> written = batches.stream().flatMap(List::stream).map(Reading.class::cast).toList();
+        assertThat(written).extracting(reading -> reading.id).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(written).filteredOn(reading -> reading.id.equals("a"))
+                .singleElement().satisfies(reading -> assertThat(reading.value).isEqualTo(2));
+        assertThat(written).extracting(reading -> partitionId(reading.id)).isSorted();
+        assertThat(buffer.getSize()).isZero();
+        assertThat(buffer.getCoalescingRatio()).isEqualTo(0.25);
+        assertThat(buffer.getFlushes()).isEqualTo(1);
+    }
+
+    @Test
+    public void offer_returnsFalse_whenBufferStaysFull() {
+        properties.setCapacity(1);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        AerospikeWriteBehindBuffer buffer = buffer(batches::add);
+
+        assertThat(buffer.offer(new Reading("a", 1))).isTrue();
+        assertThat(buffer.offer(new Reading("b", 1))).isFalse();
+        assertThat(buffer.offer(new Reading("a", 2))).isTrue();
+
+        assertThat(buffer.getWritesThrough()).isEqualTo(1);
+        assertThat(buffer.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void failedFlush_keepsRecordsForNextFlush() {
+        AerospikeWriteBehindBuffer buffer = buffer(new Consumer<>() {
+
+            private boolean failed;
+
+            @Override
+            public void accept(List<Object> batch) {
+                if (!failed) {
+                    failed = true;
+                    throw new IllegalStateException("cluster unavailable");
+                }
+                batches.add(batch);
+            }
+        });
+        buffer.offer(new Reading("a", 1));
+
+        buffer.flush();
+        assertThat(buffer.getFailedRecords()).isEqualTo(1);
+        assertThat(buffer.getSize()).isEqualTo(1);
+
+        buffer.flush();
+        assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).hasSize(1));
+        assertThat(buffer.getSize()).isZero();
+    }
+
+    @Test
+    public void failedFlush_dropsRecordsAfterMaxRetries() {
+        properties.setMaxRetries(1);
+        AerospikeWriteBehindBuffer buffer = buffer(batch -> {
+            throw new IllegalStateException("cluster unavailable");
+        });
+        buffer.offer(new Reading("a", 1));
+
+        buffer.flush();
+        assertThat(buffer.getSize()).isEqualTo(1);
+        assertThat(buffer.getDroppedRecords()).isZero();
+
+        buffer.flush();
+        assertThat(buffer.getSize()).isZero();
+        assertThat(buffer.getFailedRecords()).isEqualTo(2);
+        assertThat(buffer.getDroppedRecords()).isEqualTo(1);
+    }
+
+    @Test
+    public void remove_dropsBufferedWrite() {
+        AerospikeWriteBehindBuffer buffer = buffer(batches::add);
+        buffer.offer(new Reading("a", 1));
+
+        buffer.remove("a");
+        buffer.flush();
+
+        assertThat(buffer.get("a")).isNull();
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    public void writeBehind_buffersEnabledUnversionedEntities_andFlushesOnStop() {
+        AerospikeWriteBehind writeBehind = writeBehind();
+
+        assertThat(writeBehind.bufferFor(Plain.class)).isNull();
+        assertThat(writeBehind.bufferFor(VersionedReading.class)).isNull();
+        AerospikeWriteBehindBuffer buffer = writeBehind.bufferFor(Reading.class);
+        assertThat(buffer).isNotNull();
+        assertThat(writeBehind.getBuffers()).containsExactly(buffer);
+
+        writeBehind.start();
+        buffer.offer(new Reading("a", 1));
+        writeBehind.stop();
+
+        assertThat(writeBehind.isRunning()).isFalse();
+        assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).hasSize(1));
+    }
+
+    @Test
+    public void writeBehind_flushesOnNewThread_afterRestart() throws InterruptedException {
+        properties.setFlushSize(1);
+        CountDownLatch written = new CountDownLatch(1);
+        AerospikeWriteBehind writeBehind = writeBehind(batch -> {
+            batches.add(batch);
+            written.countDown();
+        });
+        AerospikeWriteBehindBuffer buffer = writeBehind.bufferFor(Reading.class);
+        writeBehind.start();
+        writeBehind.stop();
+
+        writeBehind.start();
+        buffer.offer(new Reading("a", 1));
+
+        assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        writeBehind.stop();
+    }
+
+    @Test
+    public void repository_buffersSave_andServesFindById() {
+        ReadingRepository target = mock(ReadingRepository.class);
+        AerospikeWriteBehind writeBehind = writeBehind();
+        ReadingRepository repository = repository(writeBehind, target);
+        writeBehind.start();
+        Reading reading = new Reading("a", 1);
+
+        assertThat(repository.save(reading)).isSameAs(reading);
+        assertThat(repository.findById("a")).containsSame(reading);
+        assertThat(repository.existsById("a")).isTrue();
+
+        verify(target, never()).save(any());
+        verify(target, never()).findById(any());
+        writeBehind.stop();
+        assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).containsExactly(reading));
+    }
+
+    @Test
+    public void repository_deleteDropsBufferedSave() {
+        ReadingRepository target = mock(ReadingRepository.class);
+        AerospikeWriteBehind writeBehind = writeBehind();
+        ReadingRepository repository = repository(writeBehind, target);
+        writeBehind.start();
+
+        repository.save(new Reading("a", 1));
+        repository.deleteById("a");
+
+        verify(target).deleteById("a");
+        given(target.findById("a")).willReturn(Optional.empty());
+        assertThat(repository.findById("a")).isEmpty();
+        writeBehind.stop();
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    public void repository_deleteWaitsForFlushWritingTheKey() throws Exception {
+        List<String> commands = new CopyOnWriteArrayList<>();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AerospikeWriteBehind writeBehind = writeBehind(batch -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            commands.add("write");
+        });
+        ReadingRepository target = mock(ReadingRepository.class);
+        willAnswer(invocation -> commands.add("delete")).given(target).deleteById("a");
+        ReadingRepository repository = repository(writeBehind, target);
+        writeBehind.start();
+        repository.save(new Reading("a", 1));
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(writeBehind.bufferFor(Reading.class)::flush);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> delete = CompletableFuture.runAsync(() -> repository.deleteById("a"));
+
+        verify(target, after(100).never()).deleteById("a");
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        delete.get(5, TimeUnit.SECONDS);
+        assertThat(commands).containsExactly("write", "delete");
+        writeBehind.stop();
+    }
+
+    @Test
+    public void repository_writesThrough_withinTransaction() {
+        ReadingRepository target = mock(ReadingRepository.class);
+        AerospikeWriteBehind writeBehind = writeBehind();
+        ReadingRepository repository = repository(writeBehind, target);
+        writeBehind.start();
+        Reading reading = new Reading("a", 1);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            repository.save(reading);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(target).save(reading);
+        assertThat(writeBehind.bufferFor(Reading.class).getSize()).isZero();
+        writeBehind.stop();
+    }
+
+    @Test
+    public void repository_directWrite_dropsOlderBufferedWriteOfTheKey() {
+        ReadingRepository target = mock(ReadingRepository.class);
+        AerospikeWriteBehind writeBehind = writeBehind();
+        ReadingRepository repository = repository(writeBehind, target);
+        writeBehind.start();
+        Reading newer = new Reading("a", 2);
+
+        repository.save(new Reading("a", 1));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            repository.save(newer);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(target).save(newer);
+        writeBehind.stop();
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    public void repository_writeThrough_waitsForFlushWritingTheKey() throws Exception {
+        properties.setCapacity(1);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        List<String> commands = new CopyOnWriteArrayList<>();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AerospikeWriteBehind writeBehind = writeBehind(batch -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batch.forEach(value -> commands.add("write " + ((Reading) value).id));
+        });
+        ReadingRepository target = mock(ReadingRepository.class);
+        willAnswer(invocation -> commands.add("save " + invocation.<Reading>getArgument(0).id))
+                .given(target).save(any());
+        ReadingRepository repository = repository(writeBehind, target);
+        writeBehind.start();
+        repository.save(new Reading("a", 1));
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(writeBehind.bufferFor(Reading.class)::flush);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        repository.save(new Reading("b", 1));
+        CompletableFuture<Void> save = CompletableFuture.runAsync(() -> repository.save(new Reading("a", 2)));
+
+        verify(target, after(100).never()).save(any());
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        save.get(5, TimeUnit.SECONDS);
+        // the flush requested by the full buffer may write b in between
+        assertThat(commands).containsSubsequence("write a", "save a").containsOnlyOnce("write a");
+        writeBehind.stop();
+    }
+
+    private static ReadingRepository repository(AerospikeWriteBehind writeBehind, ReadingRepository target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(ReadingRepository.class);
+        proxyFactory.addAdvice(writeBehind.repositoryInterceptor(Reading.class));
+        return (ReadingRepository) proxyFactory.getProxy();
+    }
+
+    private AerospikeWriteBehindBuffer buffer(Consumer<List<Object>> writer) {
+        // flushes requested by the buffer are not executed, tests flush explicitly
+        return new AerospikeWriteBehindBuffer(mappingContext.getRequiredPersistentEntity(Reading.class), properties,
+                dataProperties, writer, task -> {
+        });
+    }
+
+    private AerospikeWriteBehind writeBehind() {
+        return writeBehind(batches::add);
+    }
+
+    @SuppressWarnings("unchecked")
+    private AerospikeWriteBehind writeBehind(Consumer<List<Object>> writer) {
+        ObjectProvider<AerospikeMappingContext> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(mappingContext);
+        return new AerospikeWriteBehind(dataProperties, provider, writer);
+    }
+
+    private static int partitionId(String id) {
+        return Partition.getPartitionId(Key.computeDigest("Reading", Value.get(id)));
+    }
+
+    @Document
+    static class Reading {
+
+        @Id
+        String id;
+        int value;
+
+        Reading(String id, int value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    interface ReadingRepository extends CrudRepository<Reading, String> {
+    }
+
+    @Document
+    static class VersionedReading {
+
+        @Id
+        String id;
+        @Version
+        Long version;
+    }
+
+    @Document
+    static class Plain {
+
+        @Id
+        String id;
+    }
+}
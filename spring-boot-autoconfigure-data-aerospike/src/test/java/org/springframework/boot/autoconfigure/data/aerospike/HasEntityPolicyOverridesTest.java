@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.data.aerospike;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HasEntityPolicyOverrides}.
+ */
+public class HasEntityPolicyOverridesTest {
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    public void configuredOverrides_areFound_forPolicyValues() {
+        environment.setProperty("spring.data.aerospike.entities.customer.read.total-timeout", "20ms");
+
+        assertThat(HasEntityPolicyOverrides.hasConfiguredOverrides(environment)).isTrue();
+    }
+
+    @Test
+    public void configuredOverrides_areFound_forQueryMaxRecords() {
+        environment.setProperty("spring.data.aerospike.entities.report.query-max-records", "1000000");
+
+        assertThat(HasEntityPolicyOverrides.hasConfiguredOverrides(environment)).isTrue();
+    }
+
+    @Test
+    public void configuredOverrides_areNotFound_forWriteBehindOnly() {
+        environment.setProperty("spring.data.aerospike.entities.reading.write-behind.enabled", "true");
+
+        assertThat(HasEntityPolicyOverrides.hasConfiguredOverrides(environment)).isFalse();
+    }
+
+    @Test
+    public void annotatedTypes_areFound_inAutoConfigurationPackages() {
+        assertThat(hasAnnotatedTypes(AerospikeEntityPoliciesTest.class.getPackageName())).isTrue();
+    }
+
+    @Test
+    public void annotatedTypes_areNotFound_inPackagesWithoutAnnotation() {
+        assertThat(hasAnnotatedTypes("org.springframework.boot.autoconfigure.util")).isFalse();
+    }
+
+    private boolean hasAnnotatedTypes(String packageName) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutoConfigurationPackages.register(beanFactory, packageName);
+        return HasEntityPolicyOverrides.hasAnnotatedTypes(beanFactory, new DefaultResourceLoader(), environment);
+    }
+}
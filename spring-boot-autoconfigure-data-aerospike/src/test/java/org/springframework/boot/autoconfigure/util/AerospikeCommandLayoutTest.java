@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.policy.BatchPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AerospikeCommandLayout}.
+ */
+public class AerospikeCommandLayoutTest {
+
+    private final AerospikeCommandLayout keys = layout("get", BatchPolicy.class, Key[].class);
+    private final AerospikeCommandLayout records = layout("get", BatchPolicy.class, List.class);
+
+    @Test
+    public void setName_isSharedSetOfBatchKeys() {
+        Key[] batch = {new Key("test", "person", 1), new Key("test", "person", 2)};
+
+        assertThat(keys.getSetName(new Object[]{null, batch})).isEqualTo("person");
+    }
+
+    @Test
+    public void setName_isUnknown_forBatchKeysOfSeveralSets() {
+        Key[] batch = {new Key("test", "person", 1), new Key("test", "report", 2)};
+
+        assertThat(keys.getSetName(new Object[]{null, batch})).isNull();
+    }
+
+    @Test
+    public void setName_isUnknown_forBatchRecordsOfSeveralSets() {
+        List<BatchRecord> batch = List.of(new BatchRead(new Key("test", "person", 1), true),
+                new BatchRead(new Key("test", "report", 2), true));
+
+        assertThat(records.getSetName(new Object[]{null, batch})).isNull();
+    }
+
+    private static AerospikeCommandLayout layout(String name, Class<?>... parameterTypes) {
+        try {
+            return AerospikeCommandLayout.forMethod(IAerospikeClient.class.getMethod(name, parameterTypes));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AerospikeCracResource}.
+ */
+public class AerospikeCracResourceTest {
+
+    private final AerospikeProperties properties = new AerospikeProperties();
+    private final IAerospikeClient restoredClient = mock(IAerospikeClient.class);
+    private final AtomicReference<ClientPolicy> restoredPolicy = new AtomicReference<>();
+    private AerospikeCracResource resource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        properties.setHosts("localhost:3000");
+        properties.getCrac().setWarmUp(false);
+        properties.getEventLoops().setThreads(1);
+        ObjectProvider<AerospikeProperties> provider = mock(ObjectProvider.class);
+        given(provider.getObject()).willReturn(properties);
+        resource = new AerospikeCracResource(provider, (policy, hosts) -> {
+            restoredPolicy.set(policy);
+            return restoredClient;
+        });
+    }
+
+    @Test
+    public void clientReference_survivesCheckpointAndRestore() {
+        IAerospikeClient client = mock(IAerospikeClient.class);
+        WritePolicy writePolicy = new WritePolicy();
+        given(client.getWritePolicyDefault()).willReturn(writePolicy);
+        IAerospikeClient proxy = (IAerospikeClient) resource.postProcessAfterInitialization(client, "aerospikeClient");
+
+        resource.beforeCheckpoint(null);
+        verify(client).close();
+
+        resource.afterRestore(null);
+        proxy.isConnected();
+        verify(restoredClient).isConnected();
+        verify(client, never()).isConnected();
+        assertThat(restoredPolicy.get().writePolicyDefault).isSameAs(writePolicy);
+    }
+
+    @Test
+    public void eventLoopsOfClientPolicy_areRebuilt() {
+        EventLoops eventLoops = mock(EventLoops.class);
+        ClientPolicy clientPolicy = new ClientPolicy();
+        clientPolicy.eventLoops = eventLoops;
+        resource.postProcessAfterInitialization(clientPolicy, "aerospikeClientPolicy");
+        EventLoops proxy = clientPolicy.eventLoops;
+
+        resource.beforeCheckpoint(null);
+        verify(eventLoops).close();
+
+        resource.afterRestore(null);
+        try {
+            assertThat(clientPolicy.eventLoops).isSameAs(proxy);
+            assertThat(proxy.getSize()).isEqualTo(1);
+        } finally {
+            proxy.close();
+        }
+    }
+
+    @Test
+    public void otherBeans_areNotProxied() {
+        Object bean = new Object();
+
+        assertThat(resource.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.async.EventLoops;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AerospikeGracefulShutdown} and {@link AerospikeCommandGate}.
+ */
+public class AerospikeGracefulShutdownTest {
+
+    private final AerospikeProperties.ShutdownProperties properties = new AerospikeProperties.ShutdownProperties();
+    private final AerospikeCommandGate gate = new AerospikeCommandGate();
+    private final IAerospikeClient client = mock(IAerospikeClient.class);
+    private final EventLoop eventLoop = mock(EventLoop.class);
+    private final EventLoops eventLoops = mock(EventLoops.class);
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    private AerospikeGracefulShutdown shutdown;
+
+    @BeforeEach
+    public void setUp() {
+        given(eventLoops.getArray()).willReturn(new EventLoop[]{eventLoop});
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("aerospikeClient", client);
+        beanFactory.addBean("aerospikeEventLoops", eventLoops);
+        shutdown = new AerospikeGracefulShutdown(properties, gate, beanFactory);
+        shutdown.setApplicationContext(applicationContext);
+        shutdown.start();
+    }
+
+    @Test
+    public void stop_waitsForAsyncCommands_andLeavesClosingToDestroyMethods() {
+        given(eventLoop.getProcessSize()).willReturn(2, 1, 0);
+
+        shutdown.onApplicationEvent(new ContextClosedEvent(applicationContext));
+        shutdown.stop();
+
+        verify(eventLoop, times(3)).getProcessSize();
+        verify(client, never()).close();
+        verify(eventLoops, never()).close();
+        assertThat(shutdown.isRunning()).isFalse();
+    }
+
+    @Test
+    public void stop_returns_afterTimeout() {
+        properties.setTimeout(Duration.ofMillis(50));
+        given(eventLoop.getQueueSize()).willReturn(1);
+        long start = System.nanoTime();
+
+        shutdown.onApplicationEvent(new ContextClosedEvent(applicationContext));
+        shutdown.stop();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(gate.isClosed()).isTrue();
+    }
+
+    @Test
+    public void stop_rejectsNewCommands() {
+        ProxyFactory proxyFactory = new ProxyFactory(client);
+        proxyFactory.addInterface(IAerospikeClient.class);
+        proxyFactory.addAdvice(gate);
+        IAerospikeClient proxy = (IAerospikeClient) proxyFactory.getProxy();
+        Key key = new Key("test", "set", "key");
+        proxy.get(null, key);
+
+        shutdown.onApplicationEvent(new ContextClosedEvent(applicationContext));
+        shutdown.stop();
+
+        assertThatExceptionOfType(AerospikeException.class)
+                .isThrownBy(() -> proxy.get(null, key))
+                .satisfies(e -> assertThat(e.getResultCode()).isEqualTo(ResultCode.SERVER_NOT_AVAILABLE));
+        verify(client).get(null, key);
+        proxy.isConnected();
+        verify(client).isConnected();
+    }
+
+    @Test
+    public void stop_leavesClientsOpen_whenContextIsNotClosed() {
+        shutdown.onApplicationEvent(new ContextClosedEvent(mock(ApplicationContext.class)));
+        shutdown.stop();
+
+        assertThat(gate.isClosed()).isFalse();
+        verify(client, never()).close();
+        verify(eventLoops, never()).close();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AerospikeRuntimeHints}.
+ */
+public class AerospikeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    public void registersPolicyFields() {
+        new AerospikeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(ClientPolicy.class)
+                .withMemberCategories(MemberCategory.PUBLIC_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(WritePolicy.class)
+                .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    public void registersClientProxy() {
+        new AerospikeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.proxies()
+                .forInterfaces(AopProxyUtils.completeJdkProxyInterfaces(IAerospikeClient.class))).accepts(hints);
+    }
+
+    @Test
+    public void registersTypesLookedUpByName() {
+        new AerospikeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("org.springframework.data.aerospike.mapping.AerospikeMappingContext")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("org.conscrypt.Conscrypt")))
+                .accepts(hints);
+    }
+}
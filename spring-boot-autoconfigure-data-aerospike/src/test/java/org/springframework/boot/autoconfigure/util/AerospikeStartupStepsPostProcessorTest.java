@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.policy.ClientPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AerospikeStartupStepsPostProcessor}.
+ */
+public class AerospikeStartupStepsPostProcessorTest {
+
+    private final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+    private final AerospikeStartupStepsPostProcessor postProcessor = new AerospikeStartupStepsPostProcessor();
+
+    @BeforeEach
+    public void setUp() {
+        postProcessor.setApplicationStartup(applicationStartup);
+    }
+
+    @Test
+    public void recordsStep_fromInstantiationToInitialization() {
+        postProcessor.postProcessBeforeInstantiation(ClientPolicy.class, "aerospikeClientPolicy");
+        postProcessor.postProcessAfterInitialization(new ClientPolicy(), "aerospikeClientPolicy");
+
+        assertThat(applicationStartup.getBufferedTimeline().getEvents()).singleElement().satisfies(event -> {
+            assertThat(event.getStartupStep().getName())
+                    .isEqualTo(AerospikeStartupStepsPostProcessor.CLIENT_POLICY);
+            assertThat(tags(event)).containsEntry("beanName", "aerospikeClientPolicy")
+                    .containsEntry("eventLoops", "none");
+        });
+    }
+
+    @Test
+    public void ignoresOtherBeans() {
+        postProcessor.postProcessBeforeInstantiation(String.class, "name");
+        postProcessor.postProcessAfterInitialization("value", "name");
+
+        assertThat(applicationStartup.getBufferedTimeline().getEvents()).isEmpty();
+    }
+
+    private static Map<String, String> tags(StartupTimeline.TimelineEvent event) {
+        Map<String, String> tags = new HashMap<>();
+        for (StartupStep.Tag tag : event.getStartupStep().getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        return tags;
+    }
+}
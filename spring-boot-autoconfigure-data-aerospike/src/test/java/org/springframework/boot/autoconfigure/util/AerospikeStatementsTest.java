@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AerospikeStatements}.
+ */
+public class AerospikeStatementsTest {
+
+    @Test
+    public void copy_keepsQueryDefinition() {
+        Statement statement = statement(0);
+        statement.setBinNames("name", "age");
+        statement.setRecordsPerSecond(100);
+
+        Statement copy = AerospikeStatements.copy(statement);
+
+        assertThat(copy).isNotSameAs(statement);
+        assertThat(copy.getNamespace()).isEqualTo("test");
+        assertThat(copy.getSetName()).isEqualTo("person");
+        assertThat(copy.getBinNames()).containsExactly("name", "age");
+        assertThat(copy.getFilter()).isSameAs(statement.getFilter());
+        assertThat(copy.getRecordsPerSecond()).isEqualTo(100);
+    }
+
+    @Test
+    public void replaceLimit_raisesDefaultLimitOnCopy() {
+        Statement statement = statement(10_000);
+
+        Statement limited = AerospikeStatements.replaceLimit(statement, 10_000, 1_000_000);
+
+        assertThat(limited.getMaxRecords()).isEqualTo(1_000_000);
+        assertThat(statement.getMaxRecords()).isEqualTo(10_000);
+    }
+
+    @Test
+    public void replaceLimit_lowersDefaultLimit() {
+        Statement statement = statement(10_000);
+
+        assertThat(AerospikeStatements.replaceLimit(statement, 10_000, 500).getMaxRecords()).isEqualTo(500);
+    }
+
+    @Test
+    public void replaceLimit_removesDefaultLimit_forNonPositiveValue() {
+        Statement statement = statement(10_000);
+
+        assertThat(AerospikeStatements.replaceLimit(statement, 10_000, 0).getMaxRecords()).isZero();
+    }
+
+    @Test
+    public void replaceLimit_setsLimit_whenThereIsNoDefault() {
+        Statement statement = statement(0);
+
+        assertThat(AerospikeStatements.replaceLimit(statement, 0, 500).getMaxRecords()).isEqualTo(500);
+    }
+
+    @Test
+    public void replaceLimit_keepsLimitOfQuery() {
+        Statement statement = statement(10);
+
+        assertThat(AerospikeStatements.replaceLimit(statement, 10_000, 1_000_000)).isSameAs(statement);
+        assertThat(statement.getMaxRecords()).isEqualTo(10);
+    }
+
+    private static Statement statement(long maxRecords) {
+        Statement statement = new Statement();
+        statement.setNamespace("test");
+        statement.setSetName("person");
+        statement.setFilter(Filter.equal("age", 30));
+        statement.setMaxRecords(maxRecords);
+        return statement;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RackIdResolver}.
+ */
+public class RackIdResolverTest {
+
+    private static final UnaryOperator<String> NONE = name -> null;
+
+    @TempDir
+    private Path tempDir;
+
+    private AerospikeProperties properties;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new AerospikeProperties();
+        properties.getRackDetection().setLabelsFile(tempDir.resolve("labels").toString());
+    }
+
+    @Test
+    public void resolveRackId_returnsFirstRackId_whenRackIdsSet() {
+        properties.setRackIds(List.of(3, 1));
+        properties.setRackId(2);
+
+        assertThat(RackIdResolver.resolveRackId(properties, NONE, NONE)).isEqualTo(3);
+    }
+
+    @Test
+    public void resolveRackId_prefersSystemPropertyOverEnvironment() {
+        UnaryOperator<String> systemProperties = Map.of("aerospike.rack-id", "4")::get;
+        UnaryOperator<String> environment = Map.of("AEROSPIKE_RACK_ID", "5")::get;
+
+        assertThat(RackIdResolver.resolveRackId(properties, systemProperties, environment)).isEqualTo(4);
+        assertThat(RackIdResolver.resolveRackId(properties, NONE, environment)).isEqualTo(5);
+    }
+
+    @Test
+    public void resolveRackId_mapsZoneFromLabelsFile() throws IOException {
+        Files.writeString(tempDir.resolve("labels"), """
+                app="orders"
+                topology.kubernetes.io/zone="us-east-1b"
+                """);
+        properties.getRackDetection().setZoneRackIds(Map.of("us-east-1a", 1, "us-east-1b", 2));
+
+        assertThat(RackIdResolver.resolveRackId(properties, NONE, NONE)).isEqualTo(2);
+    }
+
+    @Test
+    public void resolveRackId_returnsNull_whenZoneIsNotMapped() throws IOException {
+        Files.writeString(tempDir.resolve("labels"), "topology.kubernetes.io/zone=\"us-east-1c\"\n");
+
+        assertThat(RackIdResolver.resolveRackId(properties, NONE, NONE)).isNull();
+    }
+
+    @Test
+    public void resolveRackId_returnsNull_whenNothingAvailable() {
+        assertThat(RackIdResolver.resolveRackId(properties, NONE, NONE)).isNull();
+    }
+}
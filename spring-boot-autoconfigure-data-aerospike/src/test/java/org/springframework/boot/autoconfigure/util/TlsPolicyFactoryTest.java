@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.autoconfigure.util;
+
+import com.aerospike.client.policy.TlsPolicy;
+import org.conscrypt.Conscrypt;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.boot.ssl.NoSuchSslBundleException;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.boot.ssl.SslOptions;
+import org.springframework.boot.ssl.SslStoreBundle;
+import org.springframework.boot.test.context.FilteredClassLoader;
+
+import javax.net.ssl.SSLContext;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link TlsPolicyFactory}.
+ */
+public class TlsPolicyFactoryTest {
+
+    private final AerospikeProperties.TlsProperties tls = new AerospikeProperties.TlsProperties();
+
+    @Test
+    public void createTlsPolicy_usesJvmDefaults_withoutBundle() {
+        TlsPolicy policy = TlsPolicyFactory.createTlsPolicy(tls, null);
+
+        assertThat(policy.context).isNotNull();
+        assertThat(policy.context.getProtocol()).isEqualTo(SslBundle.DEFAULT_PROTOCOL);
+        assertThat(policy.protocols).isEqualTo(new TlsPolicy().protocols);
+        assertThat(policy.ciphers).isNull();
+    }
+
+    @Test
+    public void createTlsPolicy_takesProtocolsAndCiphersFromBundle() {
+        tls.setBundle("aerospike");
+        SslBundles bundles = bundles(SslOptions.of(new String[]{"TLS_AES_128_GCM_SHA256"}, new String[]{"TLSv1.3"}));
+
+        TlsPolicy policy = TlsPolicyFactory.createTlsPolicy(tls, bundles);
+
+        assertThat(policy.protocols).containsExactly("TLSv1.3");
+        assertThat(policy.ciphers).containsExactly("TLS_AES_128_GCM_SHA256");
+    }
+
+    @Test
+    public void createTlsPolicy_propertiesTakePrecedenceOverBundle() {
+        tls.setBundle("aerospike");
+        tls.setProtocols(new String[]{"TLSv1.2"});
+        tls.setCiphers(new String[]{"TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256"});
+        tls.setForLoginOnly(true);
+        SslBundles bundles = bundles(SslOptions.of(new String[]{"TLS_AES_128_GCM_SHA256"}, new String[]{"TLSv1.3"}));
+
+        TlsPolicy policy = TlsPolicyFactory.createTlsPolicy(tls, bundles);
+
+        assertThat(policy.protocols).containsExactly("TLSv1.2");
+        assertThat(policy.ciphers).containsExactly("TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256");
+        assertThat(policy.forLoginOnly).isTrue();
+    }
+
+    @Test
+    public void createTlsPolicy_fails_whenBundleConfiguredWithoutSslBundles() {
+        tls.setBundle("aerospike");
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> TlsPolicyFactory.createTlsPolicy(tls, null))
+                .withMessageContaining("SSL bundle 'aerospike'");
+    }
+
+    @Test
+    public void createTlsPolicy_fails_whenBundleIsMissing() {
+        tls.setBundle("missing");
+        SslBundles bundles = mock(SslBundles.class);
+        when(bundles.getBundle("missing")).thenThrow(new NoSuchSslBundleException("missing", "not found"));
+
+        assertThatThrownBy(() -> TlsPolicyFactory.createTlsPolicy(tls, bundles))
+                .isInstanceOf(NoSuchSslBundleException.class);
+    }
+
+    @Test
+    public void createSslContext_sizesSessionCache() {
+        tls.setSessionCacheSize(16);
+        tls.setSessionTimeout(Duration.ofMinutes(5));
+
+        SSLContext context = TlsPolicyFactory.createSslContext(tls, null);
+
+        assertThat(context.getClientSessionContext().getSessionCacheSize()).isEqualTo(16);
+        assertThat(context.getClientSessionContext().getSessionTimeout()).isEqualTo(300);
+    }
+
+    @Test
+    public void getProvider_returnsNull_forJdk() {
+        assertThat(TlsPolicyFactory.getProvider("jdk", getClass().getClassLoader())).isNull();
+        assertThat(TlsPolicyFactory.getProvider(null, getClass().getClassLoader())).isNull();
+    }
+
+    @Test
+    public void getProvider_looksUpRegisteredProvider() {
+        assertThat(TlsPolicyFactory.getProvider("SunJSSE", getClass().getClassLoader()).getName())
+                .isEqualTo("SunJSSE");
+    }
+
+    @Test
+    public void getProvider_fails_forUnknownProvider() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> TlsPolicyFactory.getProvider("unknown", getClass().getClassLoader()))
+                .withMessageContaining("'unknown' is not registered");
+    }
+
+    @Test
+    public void getProvider_usesConscrypt_forOpenssl() {
+        assumeTrue(Conscrypt.isAvailable(), "Conscrypt is not available on this platform");
+
+        assertThat(TlsPolicyFactory.getProvider("openssl", getClass().getClassLoader()).getName())
+                .isEqualTo("Conscrypt");
+    }
+
+    @Test
+    public void getProvider_fails_forOpensslWithoutConscrypt() {
+        FilteredClassLoader classLoader = new FilteredClassLoader("org.conscrypt");
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> TlsPolicyFactory.getProvider("openssl", classLoader))
+                .withMessageContaining("conscrypt-openjdk-uber");
+    }
+
+    private static SslBundles bundles(SslOptions options) {
+        SslBundles bundles = mock(SslBundles.class);
+        when(bundles.getBundle("aerospike")).thenReturn(SslBundle.of(SslStoreBundle.NONE, null, options));
+        return bundles;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.aerospike.benchmarks.conversion.EntityShape;
+import org.springframework.boot.aerospike.benchmarks.crud.CrudFixture;
+import org.springframework.boot.aerospike.benchmarks.crud.sync.SyncCrudApplication;
+import org.springframework.data.aerospike.convert.AerospikeReadData;
+import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.mapping.model.SnakeCaseFieldNamingStrategy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read and write conversion cost of {@link MappingAerospikeConverter} per entity shape and per
+ * {@code spring.data.aerospike.*} conversion setting.
+ * <p>
+ * The converter is taken from an application context, so it is configured exactly as the starter configures it.
+ * Records to read are written to and read back from an {@code AerospikeStandInServer}, so bin values have
+ * the types the client returns. Run with {@code java -jar target/benchmarks.jar ConverterBenchmark -prof gc},
+ * narrow down with e.g. {@code -p shape=NESTED -p classKey=@_class}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @Param
+    public EntityShape shape;
+
+    @Param({"false", "true"})
+    public boolean keepOriginalKeyTypes;
+
+    @Param({"true", "false"})
+    public boolean writeSortedMaps;
+
+    /**
+     * {@code none} stores no type information.
+     */
+    @Param({"@_class", "none"})
+    public String classKey;
+
+    @Param({"default", "snake_case"})
+    public String fieldNaming;
+
+    private CrudFixture fixture;
+    private MappingAerospikeConverter converter;
+    private Object entity;
+    private AerospikeReadData readData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> properties = new ArrayList<>();
+        properties.add("spring.data.aerospike.keep-original-key-types=" + keepOriginalKeyTypes);
+        properties.add("spring.data.aerospike.write-sorted-maps=" + writeSortedMaps);
+        properties.add("spring.data.aerospike.class-key=" + (classKey.equals("none") ? "" : classKey));
+        if (fieldNaming.equals("snake_case")) {
+            properties.add("spring.data.aerospike.field-naming-strategy="
+                    + SnakeCaseFieldNamingStrategy.class.getName());
+        }
+        fixture = CrudFixture.start(SyncCrudApplication.class, Duration.ZERO, properties.toArray(String[]::new));
+        converter = fixture.getBean(MappingAerospikeConverter.class);
+        entity = shape.sample();
+
+        AerospikeWriteData written = write();
+        IAerospikeClient client = fixture.getBean(IAerospikeClient.class);
+        client.put(null, written.getKey(), written.getBinsAsArray());
+        Record record = client.get(null, written.getKey());
+        readData = AerospikeReadData.forRead(written.getKey(), record);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public AerospikeWriteData write() {
+        AerospikeWriteData data = AerospikeWriteData.forWrite(CrudFixture.NAMESPACE);
+        converter.write(entity, data);
+        return data;
+    }
+
+    @Benchmark
+    public Object read() {
+        return converter.read(entity.getClass(), readData);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.aerospike.benchmarks.crud.CrudFixture;
+import org.springframework.boot.aerospike.benchmarks.crud.Person;
+import org.springframework.boot.aerospike.benchmarks.crud.sync.PersonRepository;
+import org.springframework.boot.aerospike.benchmarks.crud.sync.SyncCrudApplication;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository commands of an entity with per-entity policies, with the policy variants cache turned off
+ * ({@code policyVariantsCacheSize=0}, every policy built by the template is copied again to apply the entity
+ * policies) and on (the copy is replaced by a cached variant). The copy made by the template is part of both runs.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar PolicyVariantsBenchmark -prof gc}
+ * and compare {@code gc.alloc.rate.norm} (bytes allocated per operation) of both cache sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PolicyVariantsBenchmark {
+
+    @Param({"0", "1024"})
+    public int policyVariantsCacheSize;
+
+    private CrudFixture fixture;
+    private PersonRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = CrudFixture.start(SyncCrudApplication.class, Duration.ZERO,
+                "spring.data.aerospike.policy-variants-cache-size=" + policyVariantsCacheSize,
+                "spring.data.aerospike.entities.Person.read.total-timeout=2s",
+                "spring.data.aerospike.entities.Person.write.total-timeout=2s",
+                "spring.data.aerospike.entities.Person.write.send-key=true");
+        repository = fixture.getBean(PersonRepository.class);
+        repository.saveAll(CrudFixture.people());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Person save() {
+        return repository.save(CrudFixture.randomPerson());
+    }
+
+    @Benchmark
+    public Optional<Person> findById() {
+        return repository.findById(CrudFixture.randomId());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.aerospike.benchmarks.crud.CrudFixture;
+import org.springframework.boot.aerospike.benchmarks.crud.CrudProfile;
+import org.springframework.boot.aerospike.benchmarks.crud.Person;
+import org.springframework.boot.aerospike.benchmarks.crud.reactive.ReactiveCrudApplication;
+import org.springframework.boot.aerospike.benchmarks.crud.reactive.ReactivePersonRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository CRUD throughput through {@code AerospikeReactiveRepositoriesAutoConfiguration}, the reactive
+ * counterpart of {@link RepositoryCrudBenchmark} with the same operations, profiles and options.
+ * <p>
+ * Each operation blocks on its result, so the score includes the hand-off between the event loop and the
+ * calling thread, as in a blocking caller of a reactive repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReactiveRepositoryCrudBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Param
+    public CrudProfile profile;
+
+    @Param("0")
+    public int latencyMicros;
+
+    private CrudFixture fixture;
+    private ReactivePersonRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = CrudFixture.start(ReactiveCrudApplication.class, profile, Duration.ofNanos(latencyMicros * 1000L));
+        repository = fixture.getBean(ReactivePersonRepository.class);
+        repository.saveAll(CrudFixture.people()).blockLast();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Person save() {
+        return repository.save(CrudFixture.randomPerson()).block();
+    }
+
+    @Benchmark
+    public Person findById() {
+        return repository.findById(CrudFixture.randomId()).block();
+    }
+
+    @Benchmark
+    public List<Person> findAllById() {
+        return repository.findAllById(CrudFixture.randomIds(BATCH_SIZE)).collectList().block();
+    }
+
+    @Benchmark
+    public List<Person> saveAll() {
+        return repository.saveAll(CrudFixture.randomPeople(BATCH_SIZE)).collectList().block();
+    }
+
+    @Benchmark
+    public void deleteById(Deletable deletable) {
+        repository.deleteById(deletable.id).block();
+    }
+
+    /**
+     * Record written before each {@code deleteById} invocation, so every delete removes an existing record.
+     */
+    @State(Scope.Thread)
+    public static class Deletable {
+
+        String id;
+
+        @Setup(Level.Invocation)
+        public void insert(ReactiveRepositoryCrudBenchmark benchmark) {
+            id = CrudFixture.deletableId();
+            benchmark.repository.save(CrudFixture.person(id)).block();
+        }
+    }
+}
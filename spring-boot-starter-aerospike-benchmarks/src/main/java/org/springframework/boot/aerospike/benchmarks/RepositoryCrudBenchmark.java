@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.aerospike.benchmarks.crud.CrudFixture;
+import org.springframework.boot.aerospike.benchmarks.crud.CrudProfile;
+import org.springframework.boot.aerospike.benchmarks.crud.Person;
+import org.springframework.boot.aerospike.benchmarks.crud.sync.PersonRepository;
+import org.springframework.boot.aerospike.benchmarks.crud.sync.SyncCrudApplication;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository CRUD throughput through {@code AerospikeRepositoriesAutoConfiguration}, against an
+ * {@code AerospikeStandInServer} on a loopback port. Compare with {@link ReactiveRepositoryCrudBenchmark}.
+ * <p>
+ * Run with {@code java -jar target/benchmarks.jar RepositoryCrudBenchmark -prof gc} for ops/s and allocation rate,
+ * add {@code -bm sample -tu us} for latency percentiles and {@code -t 8} for concurrent callers.
+ * {@code -p latencyMicros=500} adds a fixed server latency, closer to a remote cluster.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RepositoryCrudBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Param
+    public CrudProfile profile;
+
+    @Param("0")
+    public int latencyMicros;
+
+    private CrudFixture fixture;
+    private PersonRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = CrudFixture.start(SyncCrudApplication.class, profile, Duration.ofNanos(latencyMicros * 1000L));
+        repository = fixture.getBean(PersonRepository.class);
+        repository.saveAll(CrudFixture.people());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Person save() {
+        return repository.save(CrudFixture.randomPerson());
+    }
+
+    @Benchmark
+    public Optional<Person> findById() {
+        return repository.findById(CrudFixture.randomId());
+    }
+
+    @Benchmark
+    public Iterable<Person> findAllById() {
+        return repository.findAllById(CrudFixture.randomIds(BATCH_SIZE));
+    }
+
+    @Benchmark
+    public Iterable<Person> saveAll() {
+        return repository.saveAll(CrudFixture.randomPeople(BATCH_SIZE));
+    }
+
+    @Benchmark
+    public void deleteById(Deletable deletable) {
+        repository.deleteById(deletable.id);
+    }
+
+    /**
+     * Record written before each {@code deleteById} invocation, so every delete removes an existing record.
+     */
+    @State(Scope.Thread)
+    public static class Deletable {
+
+        String id;
+
+        @Setup(Level.Invocation)
+        public void insert(RepositoryCrudBenchmark benchmark) {
+            id = CrudFixture.deletableId();
+            benchmark.repository.save(CrudFixture.person(id));
+        }
+    }
+}
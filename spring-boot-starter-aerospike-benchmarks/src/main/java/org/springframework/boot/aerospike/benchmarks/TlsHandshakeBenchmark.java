@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.boot.autoconfigure.util.TlsPolicyFactory;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.jks.JksSslStoreBundle;
+import org.springframework.boot.ssl.jks.JksSslStoreDetails;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a client TLS handshake per provider, with and without session resumption.
+ * <p>
+ * Client and server engines talk through in-memory buffers, so only handshake CPU cost is measured.
+ * A self-signed key pair is generated with {@code keytool} at setup. Run with
+ * {@code java -jar target/benchmarks.jar TlsHandshakeBenchmark}; the {@code openssl} provider
+ * requires a platform supported by Conscrypt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TlsHandshakeBenchmark {
+
+    private static final String PASSWORD = "benchmark";
+    private static final String PEER_HOST = "aerospike-benchmark";
+    private static final int PEER_PORT = 4333;
+
+    @Param({"jdk", "openssl"})
+    public String provider;
+
+    private Path keyStoreDir;
+    private SSLContext serverContext;
+    private SSLContext resumingClientContext;
+    private SSLContext fullClientContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        keyStoreDir = Files.createTempDirectory("tls-benchmark");
+        Path keyStore = generateKeyStore(keyStoreDir);
+        SslBundle bundle = SslBundle.of(new JksSslStoreBundle(
+                new JksSslStoreDetails("PKCS12", null, keyStore.toString(), PASSWORD),
+                new JksSslStoreDetails("PKCS12", null, keyStore.toString(), PASSWORD)));
+
+        AerospikeProperties.TlsProperties serverTls = new AerospikeProperties.TlsProperties();
+        serverTls.provider = provider;
+        serverContext = TlsPolicyFactory.createSslContext(serverTls, bundle);
+        serverContext.getServerSessionContext().setSessionCacheSize(1024);
+
+        AerospikeProperties.TlsProperties resumingTls = new AerospikeProperties.TlsProperties();
+        resumingTls.provider = provider;
+        resumingClientContext = TlsPolicyFactory.createSslContext(resumingTls, bundle);
+
+        AerospikeProperties.TlsProperties fullTls = new AerospikeProperties.TlsProperties();
+        fullTls.provider = provider;
+        fullClientContext = TlsPolicyFactory.createSslContext(fullTls, bundle);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.list(keyStoreDir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(keyStoreDir);
+    }
+
+    @Benchmark
+    public boolean fullHandshake() throws SSLException {
+        SSLEngine client = clientEngine(fullClientContext);
+        handshake(client, serverEngine());
+        // prevent resumption on the next handshake
+        client.getSession().invalidate();
+        return client.getSession().isValid();
+    }
+
+    @Benchmark
+    public boolean resumedHandshake() throws SSLException {
+        SSLEngine client = clientEngine(resumingClientContext);
+        handshake(client, serverEngine());
+        return client.getSession().isValid();
+    }
+
+    private SSLEngine clientEngine(SSLContext context) {
+        // peer host and port identify the cached session, as for client connections to a node
+        SSLEngine engine = context.createSSLEngine(PEER_HOST, PEER_PORT);
+        engine.setUseClientMode(true);
+        engine.setEnabledProtocols(new String[]{"TLSv1.2"});
+        return engine;
+    }
+
+    private SSLEngine serverEngine() {
+        SSLEngine engine = serverContext.createSSLEngine();
+        engine.setUseClientMode(false);
+        engine.setEnabledProtocols(new String[]{"TLSv1.2"});
+        return engine;
+    }
+
+    private static void handshake(SSLEngine client, SSLEngine server) throws SSLException {
+        int packetSize = Math.max(client.getSession().getPacketBufferSize(),
+                server.getSession().getPacketBufferSize());
+        int applicationSize = Math.max(client.getSession().getApplicationBufferSize(),
+                server.getSession().getApplicationBufferSize());
+        ByteBuffer clientToServer = ByteBuffer.allocate(packetSize * 4);
+        ByteBuffer serverToClient = ByteBuffer.allocate(packetSize * 4);
+        ByteBuffer application = ByteBuffer.allocate(applicationSize);
+        ByteBuffer empty = ByteBuffer.allocate(0);
+
+        client.beginHandshake();
+        server.beginHandshake();
+        for (int step = 0; !finished(client) || !finished(server); step++) {
+            if (step > 1000) {
+                throw new SSLException("Handshake did not complete");
+            }
+            step(client, empty, clientToServer, serverToClient, application);
+            step(server, empty, serverToClient, clientToServer, application);
+        }
+    }
+
+    private static void step(SSLEngine engine, ByteBuffer empty, ByteBuffer out, ByteBuffer in,
+                             ByteBuffer application) throws SSLException {
+        HandshakeStatus status = engine.getHandshakeStatus();
+        switch (status) {
+            case NEED_WRAP -> engine.wrap(empty, out);
+            case NEED_UNWRAP, NEED_UNWRAP_AGAIN -> {
+                in.flip();
+                engine.unwrap(in, application);
+                in.compact();
+                application.clear();
+            }
+            case NEED_TASK -> {
+                Runnable task;
+                while ((task = engine.getDelegatedTask()) != null) {
+                    task.run();
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static boolean finished(SSLEngine engine) {
+        HandshakeStatus status = engine.getHandshakeStatus();
+        return status == HandshakeStatus.FINISHED || status == HandshakeStatus.NOT_HANDSHAKING;
+    }
+
+    private static Path generateKeyStore(Path dir) throws IOException, InterruptedException {
+        Path keyStore = dir.resolve("benchmark.p12");
+        Path keytool = Path.of(System.getProperty("java.home"), "bin", "keytool");
+        Process process = new ProcessBuilder(keytool.toString(), "-genkeypair",
+                "-alias", "benchmark", "-keyalg", "EC", "-groupname", "secp256r1",
+                "-dname", "CN=" + PEER_HOST, "-validity", "1",
+                "-storetype", "PKCS12", "-keystore", keyStore.toString(),
+                "-storepass", PASSWORD, "-keypass", PASSWORD)
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("keytool failed with exit code " + process.exitValue());
+        }
+        return keyStore;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.conversion;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Representative entities converted by {@code ConverterBenchmark}.
+ */
+public enum EntityShape {
+
+    FLAT {
+        @Override
+        public Object sample() {
+            return new FlatCustomer("customer-1", "Dave", "Matthews", 42);
+        }
+    },
+
+    NESTED {
+        @Override
+        public Object sample() {
+            NestedOrder.Address home = new NestedOrder.Address("1 Main St", "Springfield", "12345");
+            NestedOrder.Address work = new NestedOrder.Address("2 Market St", "Shelbyville", "54321");
+            List<NestedOrder.OrderLine> lines = IntStream.range(0, 5)
+                    .mapToObj(i -> new NestedOrder.OrderLine("sku-" + i, i + 1, 9.99 * (i + 1)))
+                    .toList();
+            Map<Integer, String> notes = new HashMap<>();
+            for (int i = 0; i < lines.size(); i++) {
+                notes.put(i, "note " + i);
+            }
+            return new NestedOrder(1L, "customer-1", Instant.parse("2026-01-01T00:00:00Z"), home, lines, notes,
+                    Map.of("home", home, "work", work));
+        }
+    },
+
+    LARGE_COLLECTIONS {
+        @Override
+        public Object sample() {
+            Map<String, Double> prices = new HashMap<>();
+            for (int i = 0; i < 500; i++) {
+                prices.put("product-" + i, i * 1.5);
+            }
+            List<NestedOrder.OrderLine> featured = IntStream.range(0, 200)
+                    .mapToObj(i -> new NestedOrder.OrderLine("sku-" + i, i, i * 0.5))
+                    .toList();
+            return new LargeCatalog("catalog-1", LongStream.range(0, 1000).boxed().toList(), prices, featured);
+        }
+    };
+
+    public abstract Object sample();
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.conversion;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity with a nested object, a list of nested objects and maps with non-string keys.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NestedOrder {
+
+    @Id
+    private long id;
+    private String customerId;
+    private Instant createdAt;
+    private Address shippingAddress;
+    private List<OrderLine> lines;
+    private Map<Integer, String> notesByLine;
+    private Map<String, Address> addresses;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Address {
+
+        private String street;
+        private String city;
+        private String zipCode;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderLine {
+
+        private String sku;
+        private int quantity;
+        private double price;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.crud;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.aerospike.test.AerospikeStandInServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Stand-in server and application context shared by the repository benchmarks, plus the data they work on:
+ * {@value #RECORDS} people loaded up front, random ids among them and fresh ids for records to delete.
+ */
+public final class CrudFixture implements Closeable {
+
+    public static final String NAMESPACE = "test";
+    public static final int RECORDS = 10_000;
+
+    private static final AtomicLong DELETABLE_IDS = new AtomicLong();
+
+    private final AerospikeStandInServer server;
+    private final ConfigurableApplicationContext context;
+
+    private CrudFixture(AerospikeStandInServer server, ConfigurableApplicationContext context) {
+        this.server = server;
+        this.context = context;
+    }
+
+    /**
+     * Starts a stand-in server with the given latency per command and an application connected to it.
+     */
+    public static CrudFixture start(Class<?> application, CrudProfile profile, Duration latency) {
+        return start(application, latency, profile.getProperties());
+    }
+
+    /**
+     * Starts a stand-in server and an application connected to it, with additional properties.
+     */
+    public static CrudFixture start(Class<?> application, Duration latency, String... properties) {
+        AerospikeStandInServer server = AerospikeStandInServer.start(1, NAMESPACE);
+        server.setLatency(latency);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties("spring.aerospike.hosts=" + server.getHosts(),
+                        "spring.data.aerospike.namespace=" + NAMESPACE)
+                .properties(properties)
+                .run();
+        return new CrudFixture(server, context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public static List<Person> people() {
+        return IntStream.range(0, RECORDS).mapToObj(i -> person(id(i))).toList();
+    }
+
+    public static Person person(String id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new Person(id, "First" + random.nextInt(1000), "Last" + random.nextInt(1000), random.nextInt(18, 90),
+                List.of("benchmark", "tag" + random.nextInt(10)), Map.of("city", "City" + random.nextInt(100)));
+    }
+
+    public static Person randomPerson() {
+        return person(randomId());
+    }
+
+    public static List<Person> randomPeople(int count) {
+        List<Person> people = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            people.add(randomPerson());
+        }
+        return people;
+    }
+
+    public static String randomId() {
+        return id(ThreadLocalRandom.current().nextInt(RECORDS));
+    }
+
+    public static List<String> randomIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(randomId());
+        }
+        return ids;
+    }
+
+    /**
+     * Id outside of the loaded data set, never returned twice.
+     */
+    public static String deletableId() {
+        return "deletable-" + DELETABLE_IDS.incrementAndGet();
+    }
+
+    private static String id(int index) {
+        return "person-" + index;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        server.close();
+    }
+}
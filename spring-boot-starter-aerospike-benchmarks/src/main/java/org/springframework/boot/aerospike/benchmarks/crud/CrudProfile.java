@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.crud;
+
+/**
+ * Client policy settings the repository benchmarks run with, as {@code spring.aerospike.*} properties.
+ */
+public enum CrudProfile {
+
+    DEFAULT,
+
+    SEND_KEY("spring.aerospike.read.send-key=true",
+            "spring.aerospike.write.send-key=true",
+            "spring.aerospike.batch.send-key=true",
+            "spring.aerospike.batch-write.send-key=true"),
+
+    DURABLE_DELETE("spring.aerospike.write.durable-delete=true",
+            "spring.aerospike.batch-delete.durable-delete=true"),
+
+    NO_RETRIES("spring.aerospike.read.max-retries=0",
+            "spring.aerospike.write.max-retries=0",
+            "spring.aerospike.batch.max-retries=0",
+            "spring.aerospike.read.total-timeout=100ms",
+            "spring.aerospike.write.total-timeout=100ms");
+
+    private final String[] properties;
+
+    CrudProfile(String... properties) {
+        this.properties = properties;
+    }
+
+    public String[] getProperties() {
+        return properties.clone();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.crud;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.annotation.Id;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity used by the repository benchmarks, a few scalar fields and small collections.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "benchmark-person")
+public class Person {
+
+    @Id
+    private String id;
+    private String firstName;
+    private String lastName;
+    private long age;
+    private List<String> tags;
+    private Map<String, String> attributes;
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.crud.sync;
+
+import org.springframework.boot.aerospike.data.AerospikeDataAutoConfiguration;
+import org.springframework.boot.aerospike.data.AerospikeRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application with the blocking data and repositories auto-configurations only, the reactive ones are on the
+ * benchmark classpath as well.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigurationPackage
+@ImportAutoConfiguration({AerospikeAutoConfiguration.class, AerospikeDataAutoConfiguration.class,
+        AerospikeRepositoriesAutoConfiguration.class})
+public class SyncCrudApplication {
+}
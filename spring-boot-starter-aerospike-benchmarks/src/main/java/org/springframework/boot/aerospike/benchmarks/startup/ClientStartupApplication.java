@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.startup;
+
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeAutoConfiguration;
+import org.springframework.boot.client.autoconfigure.AerospikeClientConfiguration;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application with the auto-configurations of {@code spring-boot-starter-aerospike}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportAutoConfiguration({AerospikeAutoConfiguration.class, AerospikeClientConfiguration.class})
+public class ClientStartupApplication {
+}
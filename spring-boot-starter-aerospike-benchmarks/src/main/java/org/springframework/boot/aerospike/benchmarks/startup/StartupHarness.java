@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.startup;
+
+import org.springframework.boot.aerospike.benchmarks.crud.CrudFixture;
+import org.springframework.boot.aerospike.test.AerospikeStandInServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures cold startup of each starter: every run is a fresh JVM executing {@link StartupProbe} against a shared
+ * {@link AerospikeStandInServer}, so class loading and JIT warm-up are part of the result.
+ * <p>
+ * Prints median, 90th percentile and maximum of time to ready, JVM uptime, memory after startup and each
+ * {@code spring.aerospike.*} startup step. Run with
+ * {@code java -cp target/benchmarks.jar org.springframework.boot.aerospike.benchmarks.startup.StartupHarness
+ * [runs] [starter...]}, JVM options for the probes are taken from the {@code startup.jvmArgs} system property.
+ */
+public final class StartupHarness {
+
+    private static final int DEFAULT_RUNS = 10;
+
+    private StartupHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        List<StartupStarter> starters = args.length > 1
+                ? Arrays.stream(args, 1, args.length).map(StartupStarter::valueOf).toList()
+                : List.of(StartupStarter.values());
+        try (AerospikeStandInServer server = AerospikeStandInServer.start(1, CrudFixture.NAMESPACE)) {
+            for (StartupStarter starter : starters) {
+                Map<String, List<Double>> results = new LinkedHashMap<>();
+                for (int run = 0; run < runs; run++) {
+                    probe(starter, server.getHosts()).forEach((name, value) ->
+                            results.computeIfAbsent(name, key -> new ArrayList<>()).add(value));
+                }
+                report(starter, runs, results);
+            }
+        }
+    }
+
+    private static Map<String, Double> probe(StartupStarter starter, String hosts)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        String jvmArgs = System.getProperty("startup.jvmArgs", "");
+        if (!jvmArgs.isBlank()) {
+            command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+        }
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), StartupProbe.class.getName(),
+                starter.name(), hosts));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Map<String, Double> result = new LinkedHashMap<>();
+        StringBuilder log = new StringBuilder();
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                log.append(line).append(System.lineSeparator());
+                if (line.startsWith(StartupProbe.RESULT_PREFIX)) {
+                    for (String pair : line.substring(StartupProbe.RESULT_PREFIX.length()).split(" ")) {
+                        int equals = pair.indexOf('=');
+                        result.put(pair.substring(0, equals), Double.parseDouble(pair.substring(equals + 1)));
+                    }
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result.isEmpty()) {
+            throw new IllegalStateException("Startup probe for " + starter + " failed with exit code "
+                    + process.exitValue() + ":" + System.lineSeparator() + log);
+        }
+        return result;
+    }
+
+    private static void report(StartupStarter starter, int runs, Map<String, List<Double>> results) {
+        System.out.printf("%n%s (%d runs)%n", starter, runs);
+        System.out.printf("  %-45s %10s %10s %10s%n", "metric", "median", "p90", "max");
+        results.forEach((name, values) -> {
+            double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            System.out.printf("  %-45s %10.1f %10.1f %10.1f%n", name, percentile(sorted, 0.5),
+                    percentile(sorted, 0.9), sorted[sorted.length - 1]);
+        });
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.startup;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Starts one application in a fresh JVM and prints a single {@value #RESULT_PREFIX} line read by
+ * {@link StartupHarness}: time to ready, JVM uptime, heap and non-heap used after a full GC, and the total
+ * duration of each {@code spring.aerospike.*} startup step.
+ * <p>
+ * Arguments: starter name and {@code spring.aerospike.hosts} value.
+ */
+public final class StartupProbe {
+
+    static final String RESULT_PREFIX = "STARTUP-RESULT ";
+    static final String STEP_PREFIX = "spring.aerospike.";
+
+    private StartupProbe() {
+    }
+
+    public static void main(String[] args) {
+        StartupStarter starter = StartupStarter.valueOf(args[0]);
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10_000);
+        long begin = System.nanoTime();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(starter.getApplication())
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .applicationStartup(applicationStartup)
+                .properties("spring.aerospike.hosts=" + args[1])
+                .properties(starter.getProperties())
+                .run();
+        long readyNanos = System.nanoTime() - begin;
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        System.gc();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        StringBuilder result = new StringBuilder(RESULT_PREFIX)
+                .append("readyMs=").append(readyNanos / 1_000_000.0)
+                .append(" uptimeMs=").append(uptimeMillis)
+                .append(" heapMb=").append(memory.getHeapMemoryUsage().getUsed() / (1024.0 * 1024))
+                .append(" nonHeapMb=").append(memory.getNonHeapMemoryUsage().getUsed() / (1024.0 * 1024));
+        steps(applicationStartup).forEach((name, millis) -> result.append(' ').append(name).append('=').append(millis));
+        System.out.println(result);
+
+        context.close();
+        System.exit(0);
+    }
+
+    private static Map<String, Double> steps(BufferingApplicationStartup applicationStartup) {
+        Map<String, Double> steps = new TreeMap<>();
+        for (StartupTimeline.TimelineEvent event : applicationStartup.getBufferedTimeline().getEvents()) {
+            String name = event.getStartupStep().getName();
+            if (name.startsWith(STEP_PREFIX)) {
+                steps.merge(name, event.getDuration().toNanos() / 1_000_000.0, Double::sum);
+            }
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.benchmarks.startup;
+
+import org.springframework.boot.aerospike.benchmarks.crud.CrudFixture;
+import org.springframework.boot.aerospike.benchmarks.crud.reactive.ReactiveCrudApplication;
+import org.springframework.boot.aerospike.benchmarks.crud.sync.SyncCrudApplication;
+
+/**
+ * Starters compared by {@link StartupHarness}, each with an application importing only its auto-configurations.
+ */
+public enum StartupStarter {
+
+    CLIENT(ClientStartupApplication.class),
+
+    REACTIVE_CLIENT(ReactiveClientStartupApplication.class),
+
+    DATA(SyncCrudApplication.class, "spring.data.aerospike.namespace=" + CrudFixture.NAMESPACE),
+
+    REACTIVE_DATA(ReactiveCrudApplication.class, "spring.data.aerospike.namespace=" + CrudFixture.NAMESPACE);
+
+    private final Class<?> application;
+    private final String[] properties;
+
+    StartupStarter(Class<?> application, String... properties) {
+        this.application = application;
+        this.properties = properties;
+    }
+
+    public Class<?> getApplication() {
+        return application;
+    }
+
+    public String[] getProperties() {
+        return properties.clone();
+    }
+}
@@ -26,9 +26,11 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.IsClientOnly;
+import org.springframework.boot.autoconfigure.util.AerospikeRuntimeHints;
 import org.springframework.boot.client.autoconfigure.AerospikeClientConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import reactor.core.publisher.Flux;
 
 /**
@@ -41,6 +43,7 @@ import reactor.core.publisher.Flux;
 @Conditional(IsClientOnly.class)
 @ConditionalOnClass({IAerospikeClient.class, IAerospikeReactorClient.class, Flux.class})
 @AutoConfigureAfter({AerospikeClientConfiguration.class})
+@ImportRuntimeHints(AerospikeRuntimeHints.class)
 @Slf4j
 public class AerospikeReactorClientConfiguration {
 
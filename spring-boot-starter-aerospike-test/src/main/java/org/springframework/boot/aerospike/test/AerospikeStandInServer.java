@@ -0,0 +1,459 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * In-process stand-in for an Aerospike cluster that speaks the wire protocol on loopback ports, backed by the
+ * same store as {@link InMemoryAerospikeClient}. Meant for benchmarks and tests of the network path of the
+ * client: event loops, connection pools, timeouts and retries, without a real server.
+ * <p>
+ * Supports info commands used by cluster tending and index management, single-record commands, batches,
+ * secondary index queries and partition scans. Latency and jitter are added to data commands only, so cluster
+ * tending is not slowed down. {@link StandInNode#setLatency(Duration)} slows down a single node and
+ * {@link StandInNode#stop()} simulates its failure, partitions of stopped nodes move to the remaining ones.
+ * Security, TLS, CDT operations and UDFs are not supported.
+ */
+public final class AerospikeStandInServer implements Closeable {
+
+    private static final String BUILD = "7.1.0.0";
+    private static final String FEATURES = "batch-any;batch-index;blob-bits;cdt-list;cdt-map;cluster-stable;float;geo;"
+            + "peers;pipelining;pquery;pscans;query-show;replicas;sindex-exists;truncate-namespace";
+    private static final int PROTO_TYPE_COMPRESSED = 4;
+
+    private final InMemoryAerospikeStore store;
+    private final List<String> namespaces;
+    private final List<StandInNode> nodes = new ArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "aerospike-stand-in");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicLong indexQueries = new AtomicLong();
+    private volatile List<StandInNode> liveNodes = List.of();
+    private volatile long latencyNanos;
+    private volatile long jitterNanos;
+    private volatile int indexLoadPercent = 100;
+
+    private AerospikeStandInServer(int nodeCount, List<String> namespaces) {
+        this.store = new InMemoryAerospikeStore(Clock.systemUTC(), null);
+        this.namespaces = namespaces;
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new StandInNode(this, executor, i));
+        }
+    }
+
+    /**
+     * Starts a single node serving the {@code test} namespace.
+     */
+    public static AerospikeStandInServer start() {
+        return start(1, "test");
+    }
+
+    /**
+     * Starts {@code nodeCount} nodes on ephemeral loopback ports.
+     */
+    public static AerospikeStandInServer start(int nodeCount, String... namespaces) {
+        if (nodeCount < 1 || namespaces.length == 0) {
+            throw new IllegalArgumentException("At least one node and one namespace are required");
+        }
+        AerospikeStandInServer server = new AerospikeStandInServer(nodeCount, List.of(namespaces));
+        server.nodes.forEach(StandInNode::start);
+        return server;
+    }
+
+    /**
+     * Hosts of all nodes in {@code spring.aerospike.hosts} format.
+     */
+    public String getHosts() {
+        return nodes.stream().map(node -> "127.0.0.1:" + node.getPort()).collect(Collectors.joining(","));
+    }
+
+    public List<StandInNode> getNodes() {
+        return List.copyOf(nodes);
+    }
+
+    public StandInNode node(int index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * Latency added to every data command, on all nodes.
+     */
+    public void setLatency(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+
+    /**
+     * Upper bound of a uniformly distributed random delay added to every data command.
+     */
+    public void setJitter(Duration jitter) {
+        this.jitterNanos = jitter.toNanos();
+    }
+
+    /**
+     * Build progress reported for every secondary index, 100 by default. Below 100 indexes are listed as write-only
+     * and queries filtering on them fail with {@link ResultCode#INDEX_NOTREADABLE}, as on a server building them.
+     */
+    public void setIndexLoadPercent(int indexLoadPercent) {
+        this.indexLoadPercent = indexLoadPercent;
+    }
+
+    /**
+     * Number of queries that filtered on a secondary index.
+     */
+    public long getIndexQueryCount() {
+        return indexQueries.get();
+    }
+
+    @Override
+    public void close() {
+        nodes.forEach(StandInNode::stop);
+        executor.shutdownNow();
+    }
+
+    synchronized void membershipChanged() {
+        liveNodes = nodes.stream().filter(StandInNode::isRunning).toList();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Handles a single proto and returns the bytes to write back, possibly several protos for a query.
+     */
+    byte[] handle(StandInNode node, int type, byte[] body) {
+        return switch (type) {
+            case WireResponse.PROTO_TYPE_INFO ->
+                    WireResponse.proto(WireResponse.PROTO_TYPE_INFO, info(node, body));
+            case WireResponse.PROTO_TYPE_MESSAGE -> {
+                delay(node);
+                yield message(body);
+            }
+            case PROTO_TYPE_COMPRESSED -> {
+                byte[] proto = inflate(body);
+                yield handle(node, proto[1] & 0xFF, Arrays.copyOfRange(proto, 8, proto.length));
+            }
+            default -> throw new IllegalStateException("Unsupported proto type " + type);
+        };
+    }
+
+    private void delay(StandInNode node) {
+        long jitter = jitterNanos;
+        long delay = latencyNanos + node.latencyNanos()
+                + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter) : 0);
+        long deadline = System.nanoTime() + delay;
+        while (delay > 0) {
+            LockSupport.parkNanos(delay);
+            delay = deadline - System.nanoTime();
+        }
+    }
+
+    private byte[] message(byte[] body) {
+        WireMessage message = WireMessage.parse(body);
+        if (message.hasField(WireMessage.FIELD_BATCH_INDEX)
+                || message.hasField(WireMessage.FIELD_BATCH_INDEX_WITH_SET)) {
+            return batch(message);
+        }
+        if (message.hasField(WireMessage.FIELD_DIGEST)) {
+            WireResponse response = new WireResponse();
+            try {
+                Record record = execute(message, message.key());
+                response.record(record == null ? ResultCode.KEY_NOT_FOUND_ERROR : ResultCode.OK, record, 0);
+            } catch (AerospikeException e) {
+                response.record(e.getResultCode(), null, 0);
+            }
+            return response.toByteArray();
+        }
+        return query(message);
+    }
+
+    /**
+     * Executes a single-record command, {@code null} meaning the record was not found.
+     */
+    private Record execute(WireMessage message, Key key) {
+        if (!message.isWrite()) {
+            return store.operate(message.writePolicy(), key, message.readOperations());
+        }
+        if (message.isDelete()) {
+            return store.delete(message.writePolicy(), key) ? new Record(null, 0, 0) : null;
+        }
+        Record record = store.operate(message.writePolicy(), key, message.operations());
+        return record == null ? new Record(null, 0, 0) : record;
+    }
+
+    /**
+     * Batch index entries: index, digest, entry type and either a repeat of the previous entry or
+     * attributes, fields and operations of their own.
+     */
+    private byte[] batch(WireMessage message) {
+        byte[] field = message.hasField(WireMessage.FIELD_BATCH_INDEX)
+                ? message.field(WireMessage.FIELD_BATCH_INDEX)
+                : message.field(WireMessage.FIELD_BATCH_INDEX_WITH_SET);
+        ByteBuffer entries = ByteBuffer.wrap(field);
+        int count = entries.getInt();
+        entries.get();
+        WireResponse response = new WireResponse();
+        WireMessage previous = null;
+        for (int i = 0; i < count; i++) {
+            int index = entries.getInt();
+            byte[] digest = new byte[20];
+            entries.get(digest);
+            int type = entries.get() & 0xFF;
+            WireMessage entry;
+            if ((type & 1) != 0) {
+                entry = previous.repeat();
+            } else {
+                int info1 = entries.get() & 0xFF;
+                int info2 = 0;
+                int info3 = 0;
+                if ((type & 2) != 0) {
+                    info2 = entries.get() & 0xFF;
+                    info3 = entries.get() & 0xFF;
+                    if ((type & 0x10) != 0) {
+                        entries.get();
+                    }
+                }
+                int generation = (type & 4) != 0 ? entries.getShort() & 0xFFFF : 0;
+                int expiration = (type & 8) != 0 ? entries.getInt() : 0;
+                int fieldCount = entries.getShort() & 0xFFFF;
+                int operationCount = entries.getShort() & 0xFFFF;
+                entry = new WireMessage(info1, info2, info3, generation, expiration);
+                entries.position(entry.parseFieldsAndOperations(field, entries.position(), fieldCount,
+                        operationCount));
+                entry.setDefaultField(WireMessage.FIELD_FILTER_EXP, message.field(WireMessage.FIELD_FILTER_EXP));
+                previous = entry;
+            }
+            try {
+                Record record = execute(entry, entry.key(digest));
+                response.record(record == null ? ResultCode.KEY_NOT_FOUND_ERROR : ResultCode.OK, record, index);
+            } catch (AerospikeException e) {
+                response.record(e.getResultCode(), null, index);
+            }
+        }
+        return response.last(ResultCode.OK).toByteArray();
+    }
+
+    private byte[] query(WireMessage message) {
+        WireResponse response = new WireResponse();
+        try {
+            Filter filter = message.filter();
+            if (filter != null) {
+                if (indexLoadPercent < 100) {
+                    throw new AerospikeException(ResultCode.INDEX_NOTREADABLE);
+                }
+                indexQueries.incrementAndGet();
+            }
+            QueryPolicy policy = new QueryPolicy();
+            policy.filterExp = message.filterExpression();
+            List<KeyRecord> records = store.select(policy, message.string(WireMessage.FIELD_NAMESPACE),
+                    message.string(WireMessage.FIELD_SET), filter,
+                    message.string(WireMessage.FIELD_INDEX_NAME), message.partitions(), message.binNames(),
+                    message.includeBinData(), message.maxRecords());
+            records.forEach(record -> response.record(record.key, record.record));
+            return response.last(ResultCode.OK).toByteArray();
+        } catch (AerospikeException e) {
+            return new WireResponse().last(e.getResultCode()).toByteArray();
+        }
+    }
+
+    private byte[] info(StandInNode node, byte[] body) {
+        StringBuilder response = new StringBuilder();
+        for (String command : new String(body, StandardCharsets.UTF_8).split("\n")) {
+            if (!command.isEmpty()) {
+                response.append(command).append('\t').append(info(node, command)).append('\n');
+            }
+        }
+        return response.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    String info(StandInNode node, String command) {
+        int colon = command.indexOf(':');
+        String name = colon < 0 ? command : command.substring(0, colon);
+        Map<String, String> parameters = colon < 0 ? Map.of() : parameters(command.substring(colon + 1));
+        if (name.startsWith("sindex/")) {
+            return "load_pct=" + indexLoadPercent;
+        }
+        return switch (name) {
+            case "node" -> node.getName();
+            case "build" -> BUILD;
+            case "version" -> "Aerospike Community Edition build " + BUILD;
+            case "edition" -> "Aerospike Community Edition";
+            case "features" -> FEATURES;
+            case "cluster-name" -> "stand-in";
+            case "cluster-stable" -> Integer.toHexString(generation.get());
+            case "partition-generation", "peers-generation", "rebalance-generation" ->
+                    String.valueOf(generation.get());
+            case "peers-clear-std", "peers-clear-alt", "peers-tls-std", "peers-tls-alt" -> peers(node);
+            case "replicas", "replicas-all", "replicas-master" -> replicas(node, name.equals("replicas"));
+            case "racks" -> namespaces.stream()
+                    .map(namespace -> namespace + ":rack_0=" + liveNodes.stream().map(StandInNode::getName)
+                            .collect(Collectors.joining(",")))
+                    .collect(Collectors.joining(";"));
+            case "namespaces" -> String.join(";", namespaces);
+            case "service", "service-clear-std" -> "127.0.0.1:" + node.getPort();
+            case "sindex-list" -> indexes(parameters.get("ns"));
+            case "sindex-create" -> createIndex(parameters);
+            case "sindex-delete" -> {
+                store.dropIndex(namespace(parameters), parameters.get("indexname"));
+                yield "OK";
+            }
+            case "sindex-stat" -> "load_pct=" + indexLoadPercent;
+            case "truncate", "truncate-namespace" -> truncate(parameters);
+            default -> "";
+        };
+    }
+
+    /**
+     * Peers other than the given node: {@code generation,default port,[[name,tls name,[address:port]],...]}.
+     */
+    private String peers(StandInNode node) {
+        return generation.get() + ",3000,[" + liveNodes.stream()
+                .filter(peer -> peer != node)
+                .map(peer -> "[" + peer.getName() + ",,[127.0.0.1:" + peer.getPort() + "]]")
+                .collect(Collectors.joining(",")) + "]";
+    }
+
+    /**
+     * Partition map of a node, {@code namespace:[regime,]replica count,base64 bitmap} per namespace.
+     * Partitions are assigned round-robin to running nodes, there are no replicas.
+     * A node that is not running, or answers after all nodes stopped, owns no partitions.
+     */
+    private String replicas(StandInNode node, boolean withRegime) {
+        List<StandInNode> live = liveNodes;
+        byte[] bitmap = new byte[Digest.PARTITIONS / 8];
+        for (int partition = 0; partition < Digest.PARTITIONS && !live.isEmpty(); partition++) {
+            if (live.get(partition % live.size()) == node) {
+                bitmap[partition >> 3] |= (byte) (0x80 >> (partition & 7));
+            }
+        }
+        String partitions = Base64.getEncoder().encodeToString(bitmap);
+        return namespaces.stream()
+                .map(namespace -> namespace + ":" + (withRegime ? "0," : "") + "1," + partitions)
+                .collect(Collectors.joining(";"));
+    }
+
+    private String indexes(String namespace) {
+        return store.indexes().stream()
+                .filter(index -> namespace == null || namespace.equals(index.namespace()))
+                .map(index -> "ns=" + index.namespace() + ":indexname=" + index.name()
+                        + ":set=" + (index.setName() == null ? "NULL" : index.setName())
+                        + ":bin=" + index.binName()
+                        + ":type=" + index.indexType().name().toLowerCase(Locale.ROOT)
+                        + ":indextype=" + index.collectionType().name().toLowerCase(Locale.ROOT)
+                        + ":context=NULL:state=" + (indexLoadPercent < 100 ? "WO" : "RW"))
+                .collect(Collectors.joining(";"));
+    }
+
+    private String createIndex(Map<String, String> parameters) {
+        String binName = parameters.get("bin");
+        String type = parameters.get("type");
+        String indexData = parameters.get("indexdata");
+        if (indexData != null) {
+            binName = indexData.substring(0, indexData.indexOf(','));
+            type = indexData.substring(indexData.indexOf(',') + 1);
+        }
+        String collectionType = parameters.getOrDefault("indextype", "default");
+        try {
+            store.createIndex(namespace(parameters), parameters.get("set"), parameters.get("indexname"), binName,
+                    IndexType.valueOf(type.toUpperCase(Locale.ROOT)),
+                    IndexCollectionType.valueOf(collectionType.toUpperCase(Locale.ROOT)));
+            return "OK";
+        } catch (AerospikeException e) {
+            return "FAIL:" + e.getResultCode() + ":" + e.getBaseMessage();
+        } catch (RuntimeException e) {
+            return "FAIL:" + ResultCode.PARAMETER_ERROR + ":" + e.getMessage();
+        }
+    }
+
+    private String truncate(Map<String, String> parameters) {
+        Calendar before = null;
+        if (parameters.containsKey("lut")) {
+            before = Calendar.getInstance();
+            before.setTimeInMillis(Long.parseLong(parameters.get("lut")) / 1_000_000);
+        }
+        store.truncate(namespace(parameters), parameters.get("set"), before);
+        return "ok";
+    }
+
+    private static String namespace(Map<String, String> parameters) {
+        return parameters.getOrDefault("ns", parameters.get("namespace"));
+    }
+
+    private static Map<String, String> parameters(String arguments) {
+        Map<String, String> parameters = new HashMap<>();
+        for (String parameter : arguments.split(";")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0) {
+                parameters.put(parameter.substring(0, equals), parameter.substring(equals + 1));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Inflates a compressed proto: uncompressed size followed by the zlib stream of the original proto.
+     */
+    private static byte[] inflate(byte[] body) {
+        int size = (int) ByteBuffer.wrap(body).getLong();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(body, 8, body.length - 8);
+            byte[] proto = new byte[size];
+            int length = 0;
+            while (length < size && !inflater.finished()) {
+                length += inflater.inflate(proto, length, size - length);
+            }
+            return proto;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Invalid compressed proto", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
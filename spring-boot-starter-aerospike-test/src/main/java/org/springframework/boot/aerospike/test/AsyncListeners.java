@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchResults;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.listener.BatchListListener;
+import com.aerospike.client.listener.BatchOperateListListener;
+import com.aerospike.client.listener.BatchRecordArrayListener;
+import com.aerospike.client.listener.BatchRecordSequenceListener;
+import com.aerospike.client.listener.BatchSequenceListener;
+import com.aerospike.client.listener.DeleteListener;
+import com.aerospike.client.listener.ExistsArrayListener;
+import com.aerospike.client.listener.ExistsListener;
+import com.aerospike.client.listener.ExistsSequenceListener;
+import com.aerospike.client.listener.RecordArrayListener;
+import com.aerospike.client.listener.RecordListener;
+import com.aerospike.client.listener.RecordSequenceListener;
+import com.aerospike.client.listener.WriteListener;
+import com.aerospike.client.query.KeyRecord;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+/**
+ * Completes async listeners with the result of the matching synchronous command.
+ * Arguments are those of the synchronous command, i.e. without the event loop and the listener.
+ */
+final class AsyncListeners {
+
+    private static final List<Class<?>> LISTENER_TYPES = List.of(RecordListener.class, WriteListener.class,
+            DeleteListener.class, ExistsListener.class, RecordArrayListener.class, ExistsArrayListener.class,
+            RecordSequenceListener.class, ExistsSequenceListener.class, BatchListListener.class,
+            BatchSequenceListener.class, BatchOperateListListener.class, BatchRecordArrayListener.class,
+            BatchRecordSequenceListener.class);
+
+    private AsyncListeners() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static void complete(Object listener, Object[] args, Object result) {
+        if (listener instanceof RecordListener recordListener) {
+            recordListener.onSuccess((Key) args[1], (Record) result);
+        } else if (listener instanceof WriteListener writeListener) {
+            writeListener.onSuccess((Key) args[1]);
+        } else if (listener instanceof DeleteListener deleteListener) {
+            deleteListener.onSuccess((Key) args[1], (Boolean) result);
+        } else if (listener instanceof ExistsListener existsListener) {
+            existsListener.onSuccess((Key) args[1], (Boolean) result);
+        } else if (listener instanceof RecordArrayListener arrayListener) {
+            arrayListener.onSuccess((Key[]) args[1], (Record[]) result);
+        } else if (listener instanceof ExistsArrayListener arrayListener) {
+            arrayListener.onSuccess((Key[]) args[1], (boolean[]) result);
+        } else if (listener instanceof RecordSequenceListener sequenceListener) {
+            if (result instanceof Record[] records) {
+                Key[] keys = (Key[]) args[1];
+                for (int i = 0; i < keys.length; i++) {
+                    sequenceListener.onRecord(keys[i], records[i]);
+                }
+            } else {
+                for (KeyRecord keyRecord : (List<KeyRecord>) result) {
+                    sequenceListener.onRecord(keyRecord.key, keyRecord.record);
+                }
+            }
+            sequenceListener.onSuccess();
+        } else if (listener instanceof ExistsSequenceListener sequenceListener) {
+            Key[] keys = (Key[]) args[1];
+            boolean[] exists = (boolean[]) result;
+            for (int i = 0; i < keys.length; i++) {
+                sequenceListener.onExists(keys[i], exists[i]);
+            }
+            sequenceListener.onSuccess();
+        } else if (listener instanceof BatchListListener listListener) {
+            listListener.onSuccess((List<BatchRead>) args[1]);
+        } else if (listener instanceof BatchSequenceListener sequenceListener) {
+            ((List<BatchRead>) args[1]).forEach(sequenceListener::onRecord);
+            sequenceListener.onSuccess();
+        } else if (listener instanceof BatchOperateListListener listListener) {
+            listListener.onSuccess((List<BatchRecord>) args[1], (Boolean) result);
+        } else if (listener instanceof BatchRecordArrayListener arrayListener) {
+            BatchResults results = (BatchResults) result;
+            arrayListener.onSuccess(results.records, results.status);
+        } else if (listener instanceof BatchRecordSequenceListener sequenceListener) {
+            BatchRecord[] records = ((BatchResults) result).records;
+            for (int i = 0; i < records.length; i++) {
+                sequenceListener.onRecord(records[i], i);
+            }
+            sequenceListener.onSuccess();
+        } else {
+            throw new UnsupportedOperationException(
+                    listener.getClass().getName() + " is not supported by the in-memory Aerospike client");
+        }
+    }
+
+    /**
+     * Every listener declares {@code onFailure(AerospikeException)}, but not on a common interface.
+     */
+    static void fail(Object listener, AerospikeException exception) {
+        Class<?> listenerType = LISTENER_TYPES.stream()
+                .filter(type -> type.isInstance(listener))
+                .findFirst()
+                .orElseThrow(() -> exception);
+        try {
+            listenerType.getMethod("onFailure", AerospikeException.class).invoke(listener, exception);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot notify " + listener.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+/**
+ * Record digest held in primitives, so that map lookups neither hash nor compare arrays.
+ */
+record Digest(long high, long low, int tail) {
+
+    static final int PARTITIONS = 4096;
+
+    static Digest of(byte[] digest) {
+        return new Digest(longAt(digest, 0), longAt(digest, 8), (int) readInt(digest, 16));
+    }
+
+    /**
+     * Partition id of a digest, same as {@code com.aerospike.client.cluster.Partition#getPartitionId}.
+     */
+    static int partitionId(byte[] digest) {
+        return ((digest[0] & 0xFF) | ((digest[1] & 0xFF) << 8)) & (PARTITIONS - 1);
+    }
+
+    private static long longAt(byte[] bytes, int offset) {
+        return (readInt(bytes, offset) << 32) | readInt(bytes, offset + 4);
+    }
+
+    private static long readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFFL) << 24) | ((bytes[offset + 1] & 0xFFL) << 16)
+                | ((bytes[offset + 2] & 0xFFL) << 8) | (bytes[offset + 3] & 0xFFL);
+    }
+}
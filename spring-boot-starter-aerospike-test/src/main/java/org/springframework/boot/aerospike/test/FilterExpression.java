@@ -0,0 +1,361 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.exp.Expression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates packed filter {@link Expression expressions} against a {@link StoredRecord}.
+ * <p>
+ * Covers comparisons, regular expressions, boolean logic, arithmetic, conditionals, variables,
+ * bin and key access and record metadata. List and map reads ({@code ListExp}, {@code MapExp}) and
+ * other calls are rejected with {@link ResultCode#PARAMETER_ERROR}. As on the server, an expression
+ * reading a missing bin is unknown and does not match.
+ */
+final class FilterExpression {
+
+    private static final int EQ = 1;
+    private static final int NE = 2;
+    private static final int GT = 3;
+    private static final int GE = 4;
+    private static final int LT = 5;
+    private static final int LE = 6;
+    private static final int REGEX = 7;
+    private static final int AND = 16;
+    private static final int OR = 17;
+    private static final int NOT = 18;
+    private static final int EXCLUSIVE = 19;
+    private static final int ADD = 20;
+    private static final int SUB = 21;
+    private static final int MUL = 22;
+    private static final int DIV = 23;
+    private static final int POW = 24;
+    private static final int LOG = 25;
+    private static final int MOD = 26;
+    private static final int ABS = 27;
+    private static final int FLOOR = 28;
+    private static final int CEIL = 29;
+    private static final int TO_INT = 30;
+    private static final int TO_FLOAT = 31;
+    private static final int MIN = 50;
+    private static final int MAX = 51;
+    private static final int DIGEST_MODULO = 64;
+    private static final int DEVICE_SIZE = 65;
+    private static final int LAST_UPDATE = 66;
+    private static final int SINCE_UPDATE = 67;
+    private static final int VOID_TIME = 68;
+    private static final int TTL = 69;
+    private static final int SET_NAME = 70;
+    private static final int KEY_EXISTS = 71;
+    private static final int IS_TOMBSTONE = 72;
+    private static final int MEMORY_SIZE = 73;
+    private static final int RECORD_SIZE = 74;
+    private static final int KEY = 80;
+    private static final int BIN = 81;
+    private static final int BIN_TYPE = 82;
+    private static final int COND = 123;
+    private static final int VAR = 124;
+    private static final int LET = 125;
+    private static final int QUOTED = 126;
+
+    private static final int REGEX_ICASE = 2;
+    private static final int REGEX_NEWLINE = 8;
+
+    private static final Object UNKNOWN = new Object();
+
+    private final StoredRecord record;
+    private final long now;
+    private final Map<String, Object> variables = new HashMap<>();
+
+    private FilterExpression(StoredRecord record, long now) {
+        this.record = record;
+        this.now = now;
+    }
+
+    static boolean matches(Expression expression, StoredRecord record, long now) {
+        return matches(expression.getBytes(), record, now);
+    }
+
+    static boolean matches(byte[] packed, StoredRecord record, long now) {
+        Object expression = new MsgPackReader(packed, 0).read();
+        return Boolean.TRUE.equals(new FilterExpression(record, now).eval(expression));
+    }
+
+    private Object eval(Object node) {
+        if (node instanceof List<?> call) {
+            return call(call);
+        }
+        if (node instanceof byte[] raw) {
+            return isParticle(raw) ? MsgPackReader.particle(raw) : new String(raw, StandardCharsets.UTF_8);
+        }
+        if (node instanceof Map<?, ?>) {
+            return MsgPackReader.particles(node);
+        }
+        return node;
+    }
+
+    private Object call(List<?> args) {
+        int code = ((Long) args.get(0)).intValue();
+        return switch (code) {
+            case EQ -> compare(args, c -> c == 0);
+            case NE -> compare(args, c -> c != 0);
+            case GT -> compare(args, c -> c > 0);
+            case GE -> compare(args, c -> c >= 0);
+            case LT -> compare(args, c -> c < 0);
+            case LE -> compare(args, c -> c <= 0);
+            case REGEX -> regex(args);
+            case AND -> and(args);
+            case OR -> or(args);
+            case NOT -> not(eval(args.get(1)));
+            case EXCLUSIVE -> exclusive(args);
+            case ADD -> arithmetic(args, Long::sum, Double::sum);
+            case SUB -> arithmetic(args, (a, b) -> a - b, (a, b) -> a - b);
+            case MUL -> arithmetic(args, (a, b) -> a * b, (a, b) -> a * b);
+            case DIV -> arithmetic(args, (a, b) -> a / b, (a, b) -> a / b);
+            case MIN -> arithmetic(args, Math::min, Math::min);
+            case MAX -> arithmetic(args, Math::max, Math::max);
+            case POW -> doubles(eval(args.get(1)), eval(args.get(2)), Math::pow);
+            case LOG -> doubles(eval(args.get(1)), eval(args.get(2)), (a, b) -> Math.log(a) / Math.log(b));
+            case MOD -> longs(eval(args.get(1)), eval(args.get(2)), (a, b) -> a % b);
+            case ABS -> unary(eval(args.get(1)), Math::abs, Math::abs);
+            case FLOOR -> eval(args.get(1)) instanceof Double value ? Math.floor(value) : UNKNOWN;
+            case CEIL -> eval(args.get(1)) instanceof Double value ? Math.ceil(value) : UNKNOWN;
+            case TO_INT -> eval(args.get(1)) instanceof Double value ? (Object) (long) value.doubleValue() : UNKNOWN;
+            case TO_FLOAT -> eval(args.get(1)) instanceof Long value ? (Object) value.doubleValue() : UNKNOWN;
+            case DIGEST_MODULO -> Integer.toUnsignedLong(littleEndianInt(record.digest(), 8))
+                    % (Long) args.get(1);
+            case DEVICE_SIZE, MEMORY_SIZE, RECORD_SIZE -> record.size();
+            case LAST_UPDATE -> record.lastUpdate() * 1_000_000L;
+            case SINCE_UPDATE -> now - record.lastUpdate();
+            case VOID_TIME -> record.voidTime() == 0 ? -1L : record.voidTime() * 1_000_000L;
+            case TTL -> record.voidTime() == 0 ? -1L : Math.max(0, (record.voidTime() - now) / 1000);
+            case SET_NAME -> record.setName() == null ? "" : record.setName();
+            case KEY_EXISTS -> record.userKey() != null;
+            case IS_TOMBSTONE -> false;
+            case KEY -> record.userKey() == null
+                    ? UNKNOWN
+                    : InMemoryAerospikeStore.normalize(record.userKey().getObject());
+            case BIN -> bin(name(args.get(2)));
+            case BIN_TYPE -> (long) particleType(record.bins().get(name(args.get(1))));
+            case COND -> cond(args);
+            case VAR -> variables.getOrDefault(name(args.get(1)), UNKNOWN);
+            case LET -> let(args);
+            case QUOTED -> MsgPackReader.particles(args.get(1));
+            default -> throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                    "Expression operation " + code + " is not supported by the in-memory store");
+        };
+    }
+
+    private Object compare(List<?> args, IntPredicate predicate) {
+        Object left = eval(args.get(1));
+        Object right = eval(args.get(2));
+        if (left == UNKNOWN || right == UNKNOWN) {
+            return UNKNOWN;
+        }
+        Integer comparison = compare(left, right);
+        return comparison == null ? UNKNOWN : predicate.test(comparison);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Integer compare(Object left, Object right) {
+        if (left == null || right == null) {
+            return left == right ? 0 : null;
+        }
+        if (left instanceof byte[] l && right instanceof byte[] r) {
+            return Arrays.compareUnsigned(l, r);
+        }
+        if (left instanceof Comparable && left.getClass() == right.getClass()) {
+            return ((Comparable) left).compareTo(right);
+        }
+        if (left.getClass() == right.getClass() || left instanceof List && right instanceof List
+                || left instanceof Map && right instanceof Map) {
+            return Objects.equals(left, right) ? 0 : 1;
+        }
+        return null;
+    }
+
+    private Object regex(List<?> args) {
+        int flags = ((Long) args.get(1)).intValue();
+        Object value = eval(args.get(3));
+        if (!(value instanceof String string)) {
+            return UNKNOWN;
+        }
+        int patternFlags = ((flags & REGEX_ICASE) != 0 ? Pattern.CASE_INSENSITIVE : 0)
+                | ((flags & REGEX_NEWLINE) != 0 ? Pattern.MULTILINE : 0);
+        return Pattern.compile(name(args.get(2)), patternFlags).matcher(string).find();
+    }
+
+    private Object and(List<?> args) {
+        Object result = Boolean.TRUE;
+        for (int i = 1; i < args.size(); i++) {
+            Object value = eval(args.get(i));
+            if (Boolean.FALSE.equals(value)) {
+                return false;
+            }
+            if (value != Boolean.TRUE) {
+                result = UNKNOWN;
+            }
+        }
+        return result;
+    }
+
+    private Object or(List<?> args) {
+        Object result = Boolean.FALSE;
+        for (int i = 1; i < args.size(); i++) {
+            Object value = eval(args.get(i));
+            if (Boolean.TRUE.equals(value)) {
+                return true;
+            }
+            if (value != Boolean.FALSE) {
+                result = UNKNOWN;
+            }
+        }
+        return result;
+    }
+
+    private static Object not(Object value) {
+        return value instanceof Boolean b ? !b : UNKNOWN;
+    }
+
+    private Object exclusive(List<?> args) {
+        int matches = 0;
+        for (int i = 1; i < args.size(); i++) {
+            Object value = eval(args.get(i));
+            if (!(value instanceof Boolean)) {
+                return UNKNOWN;
+            }
+            if ((Boolean) value) {
+                matches++;
+            }
+        }
+        return matches == 1;
+    }
+
+    private Object arithmetic(List<?> args, LongBinaryOperator longs, DoubleOperator doubles) {
+        Object result = eval(args.get(1));
+        for (int i = 2; i < args.size() && result != UNKNOWN; i++) {
+            Object value = eval(args.get(i));
+            if (result instanceof Long l && value instanceof Long r) {
+                result = longs.applyAsLong(l, r);
+            } else if (result instanceof Double l && value instanceof Double r) {
+                result = doubles.apply(l, r);
+            } else {
+                result = UNKNOWN;
+            }
+        }
+        return result instanceof Long || result instanceof Double ? result : UNKNOWN;
+    }
+
+    private static Object doubles(Object left, Object right, DoubleOperator operator) {
+        return left instanceof Double l && right instanceof Double r ? operator.apply(l, r) : UNKNOWN;
+    }
+
+    private static Object longs(Object left, Object right, LongBinaryOperator operator) {
+        return left instanceof Long l && right instanceof Long r ? operator.applyAsLong(l, r) : UNKNOWN;
+    }
+
+    private static Object unary(Object value, LongUnaryOperator longs, DoubleUnaryOperator doubles) {
+        if (value instanceof Long l) {
+            return longs.applyAsLong(l);
+        }
+        return value instanceof Double d ? doubles.applyAsDouble(d) : UNKNOWN;
+    }
+
+    private Object bin(String name) {
+        Map<String, Object> bins = record.bins();
+        return bins.containsKey(name) ? bins.get(name) : UNKNOWN;
+    }
+
+    private Object cond(List<?> args) {
+        int last = args.size() - 1;
+        for (int i = 1; i < last; i += 2) {
+            if (Boolean.TRUE.equals(eval(args.get(i)))) {
+                return eval(args.get(i + 1));
+            }
+        }
+        return eval(args.get(last));
+    }
+
+    private Object let(List<?> args) {
+        int last = args.size() - 1;
+        for (int i = 1; i < last; i += 2) {
+            variables.put(name(args.get(i)), eval(args.get(i + 1)));
+        }
+        return eval(args.get(last));
+    }
+
+    static int particleType(Object value) {
+        if (value == null) {
+            return ParticleType.NULL;
+        }
+        if (value instanceof Long) {
+            return ParticleType.INTEGER;
+        }
+        if (value instanceof Double) {
+            return ParticleType.DOUBLE;
+        }
+        if (value instanceof String) {
+            return ParticleType.STRING;
+        }
+        if (value instanceof Boolean) {
+            return ParticleType.BOOL;
+        }
+        if (value instanceof Map) {
+            return ParticleType.MAP;
+        }
+        if (value instanceof List) {
+            return ParticleType.LIST;
+        }
+        return ParticleType.BLOB;
+    }
+
+    private static boolean isParticle(byte[] raw) {
+        return raw.length > 0
+                && (raw[0] == ParticleType.STRING || raw[0] == ParticleType.BLOB || raw[0] == ParticleType.GEOJSON);
+    }
+
+    private static String name(Object raw) {
+        Object value = raw instanceof byte[] bytes && isParticle(bytes) ? MsgPackReader.particle(bytes) : raw;
+        return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private static int littleEndianInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8
+                | (bytes[offset + 2] & 0xFF) << 16 | (bytes[offset + 3] & 0xFF) << 24;
+    }
+
+    @FunctionalInterface
+    private interface DoubleOperator {
+
+        double apply(double left, double right);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.reactor.IAerospikeReactorClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.IsClientOnly;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} replacing the Aerospike client and Reactor client
+ * with in-memory ones when {@code spring.aerospike.in-memory.enabled=true}.
+ * Loaded just for client-only modules or when no namespace property is given, same as the client configurations
+ * it replaces.
+ */
+@AutoConfiguration(after = AerospikeAutoConfiguration.class, beforeName = {
+        "org.springframework.boot.client.autoconfigure.AerospikeClientConfiguration",
+        "org.springframework.boot.client.reactive.autoconfigure.AerospikeReactorClientConfiguration"})
+@Conditional(IsClientOnly.class)
+@ConditionalOnClass(IAerospikeClient.class)
+@ConditionalOnProperty(prefix = InMemoryAerospikeProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(InMemoryAerospikeProperties.class)
+@Slf4j
+public class InMemoryAerospikeAutoConfiguration {
+
+    @Bean(name = "aerospikeClient", destroyMethod = "close")
+    @ConditionalOnMissingBean(IAerospikeClient.class)
+    public IAerospikeClient aerospikeClient(InMemoryAerospikeProperties properties,
+                                            ObjectProvider<ClientPolicy> aerospikeClientPolicy) {
+        log.info("Initializing in-memory Aerospike client");
+        return InMemoryAerospikeClient.create(aerospikeClientPolicy.getIfAvailable(ClientPolicy::new),
+                properties.getDefaultTtl());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({IAerospikeReactorClient.class, Flux.class})
+    static class InMemoryReactorClientConfiguration {
+
+        @Bean(name = "aerospikeReactorClient", destroyMethod = "")
+        @ConditionalOnMissingBean
+        public IAerospikeReactorClient aerospikeReactorClient(IAerospikeClient aerospikeClient) {
+            log.info("Initializing in-memory Aerospike Reactor client");
+            return InMemoryAerospikeReactorClient.create(aerospikeClient);
+        }
+    }
+}
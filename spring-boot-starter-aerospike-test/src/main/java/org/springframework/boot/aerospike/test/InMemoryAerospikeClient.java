@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.ClientPolicy;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * In-memory {@link IAerospikeClient} for tests and benchmarks that do not need a server.
+ * <p>
+ * Supports single-record commands (get, put, append, prepend, add, touch, delete, exists, operate with
+ * read, write, add, append, prepend, touch and delete operations), batch reads, writes and deletes,
+ * secondary index queries, scans and partition-filtered queries, truncate, filter expressions,
+ * record exists actions, generation checks and TTL. Async methods complete their listeners on the calling thread.
+ * Cluster and node level methods, UDFs and CDT operations are not supported.
+ * <p>
+ * Default policies are taken from the given {@link ClientPolicy}, hosts and connection settings are ignored.
+ */
+public final class InMemoryAerospikeClient {
+
+    private InMemoryAerospikeClient() {
+    }
+
+    public static IAerospikeClient create() {
+        return create(new ClientPolicy(), null);
+    }
+
+    /**
+     * @param policy     client policy supplying default command policies
+     * @param defaultTtl TTL of records written with {@code expiration = 0}, {@code null} for records that never expire
+     */
+    public static IAerospikeClient create(ClientPolicy policy, Duration defaultTtl) {
+        return create(policy, Clock.systemUTC(), defaultTtl);
+    }
+
+    static IAerospikeClient create(ClientPolicy policy, Clock clock, Duration defaultTtl) {
+        InMemoryAerospikeStore store = new InMemoryAerospikeStore(clock, defaultTtl);
+        return (IAerospikeClient) Proxy.newProxyInstance(IAerospikeClient.class.getClassLoader(),
+                new Class<?>[]{IAerospikeClient.class}, new InMemoryClientHandler(policy, store));
+    }
+
+    /**
+     * @return whether the client was created by this class
+     */
+    public static boolean isInMemory(IAerospikeClient client) {
+        return Proxy.isProxyClass(client.getClass())
+                && Proxy.getInvocationHandler(client) instanceof InMemoryClientHandler;
+    }
+}
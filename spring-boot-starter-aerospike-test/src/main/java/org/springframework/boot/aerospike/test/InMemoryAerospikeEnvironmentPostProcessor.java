@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Supplies a placeholder {@code spring.aerospike.hosts} for the in-memory client, which never connects,
+ * so that host validation of the Aerospike auto-configuration passes without a server address.
+ */
+public class InMemoryAerospikeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String HOSTS_PROPERTY = "spring.aerospike.hosts";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        boolean enabled = environment.getProperty(InMemoryAerospikeProperties.PREFIX + ".enabled",
+                Boolean.class, false);
+        if (enabled && !environment.containsProperty(HOSTS_PROPERTY)) {
+            environment.getPropertySources().addLast(
+                    new MapPropertySource("inMemoryAerospike", Map.of(HOSTS_PROPERTY, "in-memory:3000")));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory Aerospike client.
+ */
+@Data
+@ConfigurationProperties(prefix = InMemoryAerospikeProperties.PREFIX)
+public class InMemoryAerospikeProperties {
+
+    public static final String PREFIX = "spring.aerospike.in-memory";
+
+    /**
+     * Replace the Aerospike client (and Reactor client) with an in-memory one.
+     */
+    private boolean enabled;
+
+    /**
+     * TTL of records written with the namespace default expiration, records never expire if not set.
+     */
+    private Duration defaultTtl;
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.reactor.AerospikeReactorClient;
+import com.aerospike.client.reactor.IAerospikeReactorClient;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * {@link IAerospikeReactorClient} backed by an {@link InMemoryAerospikeClient}.
+ * <p>
+ * The Reactor client issues async commands on event loops, which the in-memory client completes
+ * on the calling thread, so a single inline event loop is enough.
+ */
+public final class InMemoryAerospikeReactorClient {
+
+    private InMemoryAerospikeReactorClient() {
+    }
+
+    public static IAerospikeReactorClient create(IAerospikeClient client) {
+        if (!InMemoryAerospikeClient.isInMemory(client)) {
+            throw new IllegalArgumentException("Expected an in-memory Aerospike client, got " + client);
+        }
+        return new AerospikeReactorClient(client, inlineEventLoops());
+    }
+
+    private static EventLoops inlineEventLoops() {
+        EventLoop eventLoop = (EventLoop) Proxy.newProxyInstance(EventLoop.class.getClassLoader(),
+                new Class<?>[]{EventLoop.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "execute" -> {
+                        ((Runnable) args[0]).run();
+                        yield null;
+                    }
+                    case "getIndex", "getProcessSize", "getQueueSize" -> 0;
+                    case "inEventLoop" -> true;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InlineEventLoop";
+                    default -> throw new UnsupportedOperationException(
+                            method + " is not supported by the in-memory event loop");
+                });
+        return (EventLoops) Proxy.newProxyInstance(EventLoops.class.getClassLoader(),
+                new Class<?>[]{EventLoops.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getArray" -> new EventLoop[]{eventLoop};
+                    case "getSize" -> 1;
+                    case "get", "next" -> eventLoop;
+                    case "close" -> null;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InlineEventLoops";
+                    default -> throw new UnsupportedOperationException(
+                            method + " is not supported by the in-memory event loops");
+                });
+    }
+}
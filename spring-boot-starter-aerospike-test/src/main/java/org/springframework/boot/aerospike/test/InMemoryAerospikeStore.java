@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent in-memory record store with Aerospike write semantics: record exists actions,
+ * generation checks, TTL (lazily expired on access), filter expressions, secondary index filters
+ * and partition-filtered scans.
+ * <p>
+ * Every single-record command is applied atomically with {@link ConcurrentMap#compute}, records are
+ * immutable {@link StoredRecord} instances keyed by a primitive {@link Digest}.
+ */
+final class InMemoryAerospikeStore {
+
+    private final ConcurrentMap<String, ConcurrentMap<Digest, StoredRecord>> namespaces = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SecondaryIndex> indexes = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final long defaultTtlMillis;
+
+    /**
+     * @param clock      clock used for TTL and last update time
+     * @param defaultTtl TTL applied for {@code expiration = 0}, {@code null} or zero for records that never expire
+     */
+    InMemoryAerospikeStore(Clock clock, Duration defaultTtl) {
+        this.clock = clock;
+        this.defaultTtlMillis = defaultTtl == null ? 0 : defaultTtl.toMillis();
+    }
+
+    Record get(Policy policy, Key key, String[] binNames, boolean headerOnly) {
+        long now = clock.millis();
+        StoredRecord record = live(key, now);
+        if (record == null || !passes(policy, record, now)) {
+            return null;
+        }
+        return record.toRecord(headerOnly ? null : select(record.bins(), binNames));
+    }
+
+    boolean exists(Policy policy, Key key) {
+        long now = clock.millis();
+        StoredRecord record = live(key, now);
+        return record != null && passes(policy, record, now);
+    }
+
+    /**
+     * Applies operations in order. Read-only commands on a missing or filtered out record return {@code null},
+     * commands that only write return a record without bins.
+     */
+    Record operate(WritePolicy policy, Key key, Operation... operations) {
+        boolean write = false;
+        for (Operation operation : operations) {
+            write |= isWrite(operation.type);
+        }
+        if (!write) {
+            return read(policy, key, operations);
+        }
+        Record[] result = new Record[1];
+        records(key.namespace).compute(Digest.of(key.digest),
+                (digest, existing) -> apply(policy, key, operations, existing, result));
+        return result[0];
+    }
+
+    boolean delete(WritePolicy policy, Key key) {
+        boolean[] existed = new boolean[1];
+        records(key.namespace).computeIfPresent(Digest.of(key.digest), (digest, existing) -> {
+            long now = clock.millis();
+            if (existing.isExpired(now)) {
+                return null;
+            }
+            if (!passes(policy, existing, now)) {
+                return existing;
+            }
+            checkGeneration(policy, existing);
+            existed[0] = true;
+            return null;
+        });
+        return existed[0];
+    }
+
+    /**
+     * Selects live records of a set ({@code null} for the whole namespace) in the given partitions,
+     * matching an optional secondary index filter and the policy filter expression.
+     */
+    List<KeyRecord> select(Policy policy, String namespace, String setName, Filter filter, String indexName,
+                           PartitionFilter partitionFilter, String[] binNames, boolean includeBinData,
+                           long maxRecords) {
+        int begin = partitionFilter == null ? 0 : partitionFilter.getBegin();
+        int end = partitionFilter == null ? Digest.PARTITIONS : begin + partitionFilter.getCount();
+        return select(policy, namespace, setName, filter, indexName, partitionId -> partitionId >= begin
+                && partitionId < end, binNames, includeBinData, maxRecords);
+    }
+
+    List<KeyRecord> select(Policy policy, String namespace, String setName, Filter filter, String indexName,
+                           IntPredicate partitions, String[] binNames, boolean includeBinData, long maxRecords) {
+        String set = setName == null || setName.isEmpty() ? null : setName;
+        Predicate<StoredRecord> indexed = filter == null ? record -> true : indexed(namespace, set, indexName, filter);
+        long now = clock.millis();
+        List<KeyRecord> selected = new ArrayList<>();
+        for (StoredRecord record : records(namespace).values()) {
+            if (maxRecords > 0 && selected.size() >= maxRecords) {
+                break;
+            }
+            if (record.isExpired(now) || set != null && !set.equals(record.setName())
+                    || !partitions.test(Digest.partitionId(record.digest())) || !indexed.test(record)
+                    || policy != null && policy.filterExp != null
+                    && !FilterExpression.matches(policy.filterExp, record, now)) {
+                continue;
+            }
+            Map<String, Object> bins = includeBinData ? select(record.bins(), binNames) : null;
+            selected.add(new KeyRecord(record.key(namespace), record.toRecord(bins)));
+        }
+        return selected;
+    }
+
+    void createIndex(String namespace, String setName, String indexName, String binName, IndexType indexType,
+                     IndexCollectionType collectionType) {
+        SecondaryIndex index = new SecondaryIndex(namespace, setName, indexName, binName, indexType,
+                collectionType == null ? IndexCollectionType.DEFAULT : collectionType);
+        if (indexes.putIfAbsent(namespace + '.' + indexName, index) != null) {
+            throw new AerospikeException(ResultCode.INDEX_ALREADY_EXISTS, "Index already exists: " + indexName);
+        }
+    }
+
+    void dropIndex(String namespace, String indexName) {
+        indexes.remove(namespace + '.' + indexName);
+    }
+
+    Collection<SecondaryIndex> indexes() {
+        return Collections.unmodifiableCollection(indexes.values());
+    }
+
+    /**
+     * Removes records of a set ({@code null} for the whole namespace) last updated before the given time,
+     * or all of them when no time is given.
+     */
+    void truncate(String namespace, String setName, Calendar beforeLastUpdate) {
+        long before = beforeLastUpdate == null ? Long.MAX_VALUE : beforeLastUpdate.getTimeInMillis();
+        records(namespace).values().removeIf(record -> (setName == null || setName.equals(record.setName()))
+                && record.lastUpdate() < before);
+    }
+
+    /**
+     * Converts a value to the type returned by the client for the same particle:
+     * integers to {@link Long}, floats to {@link Double}, nested lists and maps recursively.
+     */
+    static Object normalize(Object value) {
+        if (value instanceof Value wrapped) {
+            return normalize(wrapped.getObject());
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float f) {
+            return f.doubleValue();
+        }
+        if (value instanceof Character c) {
+            return c.toString();
+        }
+        if (value instanceof List<?> list) {
+            List<Object> normalized = new ArrayList<>(list.size());
+            list.forEach(item -> normalized.add(normalize(item)));
+            return normalized;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> normalized = map instanceof SortedMap ? new TreeMap<>() : new LinkedHashMap<>();
+            map.forEach((k, v) -> normalized.put(normalize(k), normalize(v)));
+            return normalized;
+        }
+        return value;
+    }
+
+    private StoredRecord apply(WritePolicy policy, Key key, Operation[] operations, StoredRecord existing,
+                               Record[] result) {
+        long now = clock.millis();
+        StoredRecord current = existing == null || existing.isExpired(now) ? null : existing;
+        if (current != null && !passes(policy, current, now)) {
+            return current;
+        }
+        checkExists(policy.recordExistsAction, current);
+        checkGeneration(policy, current);
+        boolean replace = policy.recordExistsAction == RecordExistsAction.REPLACE
+                || policy.recordExistsAction == RecordExistsAction.REPLACE_ONLY;
+        Map<String, Object> bins = current == null || replace
+                ? new LinkedHashMap<>()
+                : new LinkedHashMap<>(current.bins());
+        Map<String, Object> read = null;
+        for (Operation operation : operations) {
+            switch (operation.type) {
+                case WRITE -> write(bins, operation.binName, normalize(operation.value.getObject()));
+                case ADD -> bins.put(operation.binName, add(bins.get(operation.binName), operation));
+                case APPEND -> bins.put(operation.binName, concat(bins.get(operation.binName), operation, false));
+                case PREPEND -> bins.put(operation.binName, concat(bins.get(operation.binName), operation, true));
+                case DELETE -> bins.clear();
+                case TOUCH -> {
+                    if (current == null) {
+                        throw new AerospikeException(ResultCode.KEY_NOT_FOUND_ERROR);
+                    }
+                }
+                case READ, READ_HEADER -> read = read(bins, operation, read);
+                default -> throw unsupported(operation.type);
+            }
+        }
+        if (bins.isEmpty()) {
+            return null;
+        }
+        int generation = current == null ? 1 : current.generation() % 0xFFFF + 1;
+        Value userKey = policy.sendKey ? key.userKey : current != null ? current.userKey() : null;
+        StoredRecord updated = new StoredRecord(key.digest, key.setName, userKey, Collections.unmodifiableMap(bins),
+                generation, voidTime(policy, current, now), now);
+        result[0] = updated.toRecord(read);
+        return updated;
+    }
+
+    private Record read(Policy policy, Key key, Operation[] operations) {
+        long now = clock.millis();
+        StoredRecord record = live(key, now);
+        if (record == null || !passes(policy, record, now)) {
+            return null;
+        }
+        Map<String, Object> read = null;
+        for (Operation operation : operations) {
+            if (operation.type != Operation.Type.READ && operation.type != Operation.Type.READ_HEADER) {
+                throw unsupported(operation.type);
+            }
+            read = read(record.bins(), operation, read);
+        }
+        return record.toRecord(read != null && read.isEmpty() ? null : read);
+    }
+
+    private static Map<String, Object> read(Map<String, Object> bins, Operation operation, Map<String, Object> read) {
+        if (operation.type == Operation.Type.READ_HEADER) {
+            return read;
+        }
+        Map<String, Object> target = read == null ? new LinkedHashMap<>() : read;
+        if (operation.binName == null) {
+            target.putAll(bins);
+        } else if (bins.containsKey(operation.binName)) {
+            target.put(operation.binName, bins.get(operation.binName));
+        }
+        return target;
+    }
+
+    private static void write(Map<String, Object> bins, String binName, Object value) {
+        if (value == null) {
+            bins.remove(binName);
+        } else {
+            bins.put(binName, value);
+        }
+    }
+
+    private static Object add(Object current, Operation operation) {
+        Object delta = normalize(operation.value.getObject());
+        if (current == null) {
+            return delta;
+        }
+        if (current instanceof Long l && delta instanceof Long d) {
+            return l + d;
+        }
+        if (current instanceof Double l && delta instanceof Double d) {
+            return l + d;
+        }
+        throw new AerospikeException(ResultCode.BIN_TYPE_ERROR, "Cannot add to bin " + operation.binName);
+    }
+
+    private static Object concat(Object current, Operation operation, boolean prepend) {
+        Object value = normalize(operation.value.getObject());
+        if (current == null) {
+            return value;
+        }
+        if (current instanceof String c && value instanceof String v) {
+            return prepend ? v + c : c + v;
+        }
+        if (current instanceof byte[] c && value instanceof byte[] v) {
+            byte[] first = prepend ? v : c;
+            byte[] second = prepend ? c : v;
+            byte[] joined = new byte[first.length + second.length];
+            System.arraycopy(first, 0, joined, 0, first.length);
+            System.arraycopy(second, 0, joined, first.length, second.length);
+            return joined;
+        }
+        throw new AerospikeException(ResultCode.BIN_TYPE_ERROR, "Cannot append to bin " + operation.binName);
+    }
+
+    private long voidTime(WritePolicy policy, StoredRecord current, long now) {
+        return switch (policy.expiration) {
+            case -2 -> current != null ? current.voidTime() : defaultVoidTime(now);
+            case -1 -> 0;
+            case 0 -> defaultVoidTime(now);
+            default -> now + policy.expiration * 1000L;
+        };
+    }
+
+    private long defaultVoidTime(long now) {
+        return defaultTtlMillis == 0 ? 0 : now + defaultTtlMillis;
+    }
+
+    private Predicate<StoredRecord> indexed(String namespace, String setName, String indexName, Filter filter) {
+        SecondaryIndex index = indexes.values().stream()
+                .filter(candidate -> candidate.namespace().equals(namespace))
+                .filter(candidate -> indexName != null
+                        ? candidate.name().equals(indexName)
+                        : candidate.binName().equals(filter.getName())
+                        && candidate.collectionType() == filter.getColType()
+                        && (candidate.setName() == null || candidate.setName().equals(setName)))
+                .findFirst()
+                .orElseThrow(() -> new AerospikeException(ResultCode.INDEX_NOTFOUND,
+                        "Index not found for bin " + filter.getName()));
+        Object begin = normalize(filter.getBegin());
+        Object end = normalize(filter.getEnd());
+        return record -> values(record.bins().get(index.binName()), index.collectionType())
+                .anyMatch(value -> inRange(value, begin, end));
+    }
+
+    private static Stream<?> values(Object binValue, IndexCollectionType collectionType) {
+        if (binValue == null) {
+            return Stream.empty();
+        }
+        return switch (collectionType) {
+            case LIST -> binValue instanceof List<?> list ? list.stream() : Stream.empty();
+            case MAPKEYS -> binValue instanceof Map<?, ?> map ? map.keySet().stream() : Stream.empty();
+            case MAPVALUES -> binValue instanceof Map<?, ?> map ? map.values().stream() : Stream.empty();
+            default -> Stream.of(binValue);
+        };
+    }
+
+    private static boolean inRange(Object value, Object begin, Object end) {
+        Integer fromBegin = FilterExpression.compare(value, begin);
+        Integer toEnd = FilterExpression.compare(value, end);
+        return fromBegin != null && toEnd != null && fromBegin >= 0 && toEnd <= 0;
+    }
+
+    private StoredRecord live(Key key, long now) {
+        ConcurrentMap<Digest, StoredRecord> records = namespaces.get(key.namespace);
+        if (records == null) {
+            return null;
+        }
+        Digest digest = Digest.of(key.digest);
+        StoredRecord record = records.get(digest);
+        if (record != null && record.isExpired(now)) {
+            records.remove(digest, record);
+            return null;
+        }
+        return record;
+    }
+
+    private ConcurrentMap<Digest, StoredRecord> records(String namespace) {
+        return namespaces.computeIfAbsent(namespace, name -> new ConcurrentHashMap<>());
+    }
+
+    private static boolean passes(Policy policy, StoredRecord record, long now) {
+        if (policy == null || policy.filterExp == null || FilterExpression.matches(policy.filterExp, record, now)) {
+            return true;
+        }
+        if (policy.failOnFilteredOut) {
+            throw new AerospikeException(ResultCode.FILTERED_OUT);
+        }
+        return false;
+    }
+
+    private static void checkExists(RecordExistsAction action, StoredRecord current) {
+        switch (action) {
+            case UPDATE_ONLY, REPLACE_ONLY -> {
+                if (current == null) {
+                    throw new AerospikeException(ResultCode.KEY_NOT_FOUND_ERROR);
+                }
+            }
+            case CREATE_ONLY -> {
+                if (current != null) {
+                    throw new AerospikeException(ResultCode.KEY_EXISTS_ERROR);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static void checkGeneration(WritePolicy policy, StoredRecord current) {
+        int generation = current == null ? 0 : current.generation();
+        boolean failed = switch (policy.generationPolicy) {
+            case EXPECT_GEN_EQUAL -> policy.generation != generation;
+            case EXPECT_GEN_GT -> policy.generation <= generation;
+            default -> false;
+        };
+        if (failed) {
+            throw new AerospikeException(ResultCode.GENERATION_ERROR);
+        }
+    }
+
+    private static Map<String, Object> select(Map<String, Object> bins, String[] binNames) {
+        if (binNames == null || binNames.length == 0) {
+            return new LinkedHashMap<>(bins);
+        }
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (String binName : binNames) {
+            if (bins.containsKey(binName)) {
+                selected.put(binName, bins.get(binName));
+            }
+        }
+        return selected;
+    }
+
+    private static boolean isWrite(Operation.Type type) {
+        return switch (type) {
+            case WRITE, ADD, APPEND, PREPEND, TOUCH, DELETE -> true;
+            default -> false;
+        };
+    }
+
+    private static AerospikeException unsupported(Operation.Type type) {
+        return new AerospikeException(ResultCode.PARAMETER_ERROR,
+                "Operation " + type + " is not supported by the in-memory store");
+    }
+
+    /**
+     * Secondary index definition, used to validate and evaluate index filters.
+     */
+    record SecondaryIndex(String namespace, String setName, String name, String binName, IndexType indexType,
+                          IndexCollectionType collectionType) {
+    }
+}
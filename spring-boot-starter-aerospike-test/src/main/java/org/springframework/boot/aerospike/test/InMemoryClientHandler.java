@@ -0,0 +1,408 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchDelete;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchResults;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.ScanCallback;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.BatchDeletePolicy;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.BatchWritePolicy;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.QueryListener;
+import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.IndexTask;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Dispatches {@code IAerospikeClient} methods to an {@link InMemoryAerospikeStore} by name and argument types.
+ * <p>
+ * Async methods, recognized by a leading {@link EventLoop} parameter, run the matching synchronous command
+ * on the calling thread and complete the listener through {@link AsyncListeners}. Methods without an in-memory
+ * counterpart throw {@link UnsupportedOperationException}.
+ */
+final class InMemoryClientHandler implements InvocationHandler {
+
+    private final ClientPolicy clientPolicy;
+    private final InMemoryAerospikeStore store;
+    private volatile boolean closed;
+
+    InMemoryClientHandler(ClientPolicy clientPolicy, InMemoryAerospikeStore store) {
+        this.clientPolicy = clientPolicy;
+        this.store = store;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object[] arguments = args == null ? new Object[0] : args;
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == arguments[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "InMemoryAerospikeClient@" + Integer.toHexString(System.identityHashCode(proxy));
+            };
+        }
+        Class<?>[] types = method.getParameterTypes();
+        if (types.length >= 2 && types[0] == EventLoop.class) {
+            Object listener = arguments[1];
+            Object[] commandArgs = Arrays.copyOfRange(arguments, 2, arguments.length);
+            Class<?>[] commandTypes = Arrays.copyOfRange(types, 2, types.length);
+            Object result;
+            try {
+                result = execute(method, commandTypes, commandArgs, true);
+            } catch (AerospikeException e) {
+                AsyncListeners.fail(listener, e);
+                return null;
+            }
+            AsyncListeners.complete(listener, commandArgs, result);
+            return null;
+        }
+        return execute(method, types, arguments, false);
+    }
+
+    private Object execute(Method method, Class<?>[] types, Object[] args, boolean async) {
+        String name = method.getName();
+        if (name.endsWith("PolicyDefault")) {
+            return policyDefault(name);
+        }
+        return switch (name) {
+            case "put" -> write(args, Operation::put);
+            case "append" -> write(args, Operation::append);
+            case "prepend" -> write(args, Operation::prepend);
+            case "add" -> write(args, Operation::add);
+            case "touch" -> store.operate(writePolicy(args[0]), (Key) args[1], Operation.touch());
+            case "touched" -> touched(args);
+            case "delete" -> types[0] == BatchPolicy.class
+                    ? deleteBatch(batchPolicy(args[0]), (BatchDeletePolicy) args[1], (Key[]) args[2])
+                    : store.delete(writePolicy(args[0]), (Key) args[1]);
+            case "exists" -> types[1] == Key[].class
+                    ? existsBatch(batchPolicy(args[0]), (Key[]) args[1])
+                    : store.exists(readPolicy(args[0]), (Key) args[1]);
+            case "get" -> get(types, args, false);
+            case "getHeader" -> get(types, args, true);
+            case "operate" -> operate(types, args);
+            case "scanAll" -> scan(types, args, 1, null, async);
+            case "scanPartitions" -> scan(types, args, 2, (PartitionFilter) args[1], async);
+            case "query", "queryPartitions" -> query(types, args, async);
+            case "createIndex" -> createIndex(types, args);
+            case "dropIndex" -> {
+                store.dropIndex((String) args[1], (String) args[3]);
+                yield indexTask(args, false);
+            }
+            case "truncate" -> {
+                store.truncate((String) args[1], (String) args[2], (Calendar) args[3]);
+                yield null;
+            }
+            case "close" -> {
+                closed = true;
+                yield null;
+            }
+            case "isConnected" -> !closed;
+            case "getNodes" -> new Node[0];
+            case "getNodeNames" -> List.of();
+            case "getClientPolicy" -> clientPolicy;
+            case "enableMetrics", "disableMetrics" -> null;
+            default -> throw new UnsupportedOperationException(
+                    method + " is not supported by the in-memory Aerospike client");
+        };
+    }
+
+    /**
+     * {@code getXxxPolicyDefault} returns the {@link ClientPolicy} field {@code xxxPolicyDefault},
+     * {@code copyXxxPolicyDefault} a copy of it.
+     */
+    private Object policyDefault(String name) {
+        boolean copy = name.startsWith("copy");
+        String fieldName = Character.toLowerCase(name.charAt(copy ? 4 : 3)) + name.substring(copy ? 5 : 4);
+        try {
+            Field field = ClientPolicy.class.getField(fieldName);
+            Object policy = field.get(clientPolicy);
+            return copy ? policy.getClass().getConstructor(policy.getClass()).newInstance(policy) : policy;
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException(name + " is not supported by the in-memory Aerospike client", e);
+        }
+    }
+
+    private Object write(Object[] args, Function<Bin, Operation> operation) {
+        Bin[] bins = (Bin[]) args[2];
+        Operation[] operations = new Operation[bins.length];
+        for (int i = 0; i < bins.length; i++) {
+            operations[i] = operation.apply(bins[i]);
+        }
+        store.operate(writePolicy(args[0]), (Key) args[1], operations);
+        return null;
+    }
+
+    private boolean touched(Object[] args) {
+        try {
+            store.operate(writePolicy(args[0]), (Key) args[1], Operation.touch());
+            return true;
+        } catch (AerospikeException e) {
+            if (e.getResultCode() == ResultCode.KEY_NOT_FOUND_ERROR) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private Object get(Class<?>[] types, Object[] args, boolean headerOnly) {
+        if (types[1] == List.class) {
+            return readBatch(batchPolicy(args[0]), (List<?>) args[1]);
+        }
+        if (types[1] != Key[].class) {
+            String[] binNames = args.length > 2 ? (String[]) args[2] : null;
+            return store.get(readPolicy(args[0]), (Key) args[1], binNames, headerOnly);
+        }
+        BatchPolicy policy = batchPolicy(args[0]);
+        Key[] keys = (Key[]) args[1];
+        Record[] records = new Record[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (args.length > 2 && args[2] instanceof Operation[] operations) {
+                records[i] = store.operate(new WritePolicy(policy), keys[i], operations);
+            } else {
+                String[] binNames = args.length > 2 ? (String[]) args[2] : null;
+                records[i] = store.get(policy, keys[i], binNames, headerOnly);
+            }
+        }
+        return records;
+    }
+
+    private Object operate(Class<?>[] types, Object[] args) {
+        if (types[0] == BatchPolicy.class && types[1] == List.class) {
+            return operateBatch(batchPolicy(args[0]), (List<?>) args[1]);
+        }
+        if (types[0] == BatchPolicy.class) {
+            BatchPolicy policy = batchPolicy(args[0]);
+            WritePolicy writePolicy = writePolicy(policy, (BatchWritePolicy) args[1]);
+            Key[] keys = (Key[]) args[2];
+            Operation[] operations = (Operation[]) args[3];
+            BatchRecord[] records = new BatchRecord[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                records[i] = new BatchRecord(keys[i], true);
+                int index = i;
+                apply(records[i], () -> store.operate(writePolicy, keys[index], operations));
+            }
+            return new BatchResults(records, succeeded(Arrays.asList(records)));
+        }
+        return store.operate(writePolicy(args[0]), (Key) args[1], (Operation[]) args[2]);
+    }
+
+    private boolean readBatch(BatchPolicy policy, List<?> records) {
+        for (Object record : records) {
+            BatchRead read = (BatchRead) record;
+            apply(read, () -> read(policy, read));
+        }
+        return true;
+    }
+
+    private boolean operateBatch(BatchPolicy policy, List<?> records) {
+        for (Object record : records) {
+            if (record instanceof BatchRead read) {
+                apply(read, () -> read(policy, read));
+            } else if (record instanceof BatchWrite write) {
+                WritePolicy writePolicy = writePolicy(policy, write.policy);
+                apply(write, () -> store.operate(writePolicy, write.key, write.ops));
+            } else if (record instanceof BatchDelete delete) {
+                WritePolicy writePolicy = deletePolicy(policy, delete.policy);
+                apply(delete, () -> store.delete(writePolicy, delete.key) ? new Record(null, 0, 0) : null);
+            } else {
+                throw new UnsupportedOperationException(
+                        record.getClass().getSimpleName() + " is not supported by the in-memory Aerospike client");
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<BatchRecord> batchRecords = (List<BatchRecord>) records;
+        return succeeded(batchRecords);
+    }
+
+    private Record read(BatchPolicy policy, BatchRead read) {
+        Policy readPolicy = policy;
+        if (read.policy != null && read.policy.filterExp != null) {
+            readPolicy = new Policy(policy);
+            readPolicy.filterExp = read.policy.filterExp;
+        }
+        if (read.ops != null) {
+            WritePolicy operatePolicy = new WritePolicy(readPolicy);
+            return store.operate(operatePolicy, read.key, read.ops);
+        }
+        return store.get(readPolicy, read.key, read.binNames, !read.readAllBins && read.binNames == null);
+    }
+
+    private BatchResults deleteBatch(BatchPolicy policy, BatchDeletePolicy deletePolicy, Key[] keys) {
+        WritePolicy writePolicy = deletePolicy(policy, deletePolicy);
+        BatchRecord[] records = new BatchRecord[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            records[i] = new BatchRecord(keys[i], true);
+            Key key = keys[i];
+            apply(records[i], () -> store.delete(writePolicy, key) ? new Record(null, 0, 0) : null);
+        }
+        return new BatchResults(records, succeeded(Arrays.asList(records)));
+    }
+
+    private boolean[] existsBatch(BatchPolicy policy, Key[] keys) {
+        boolean[] exists = new boolean[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            exists[i] = store.exists(policy, keys[i]);
+        }
+        return exists;
+    }
+
+    private static void apply(BatchRecord record, Supplier<Record> command) {
+        try {
+            record.record = command.get();
+            record.resultCode = record.record != null ? ResultCode.OK : ResultCode.KEY_NOT_FOUND_ERROR;
+        } catch (AerospikeException e) {
+            record.record = null;
+            record.resultCode = e.getResultCode();
+        }
+    }
+
+    private static boolean succeeded(List<? extends BatchRecord> records) {
+        return records.stream().allMatch(record -> record.resultCode == ResultCode.OK
+                || record.resultCode == ResultCode.KEY_NOT_FOUND_ERROR);
+    }
+
+    /**
+     * Handles {@code scanAll(policy, namespace, set, [callback], binNames)} and
+     * {@code scanPartitions(policy, partitionFilter, namespace, set, [callback], binNames)}.
+     */
+    private Object scan(Class<?>[] types, Object[] args, int namespaceIndex, PartitionFilter partitionFilter,
+                        boolean async) {
+        ScanPolicy policy = args[0] != null ? (ScanPolicy) args[0] : clientPolicy.scanPolicyDefault;
+        String namespace = (String) args[namespaceIndex];
+        String setName = (String) args[namespaceIndex + 1];
+        boolean hasCallback = types.length > namespaceIndex + 2 && types[namespaceIndex + 2] == ScanCallback.class;
+        String[] binNames = (String[]) args[args.length - 1];
+        List<KeyRecord> records = store.select(policy, namespace, setName, null, null, partitionFilter, binNames,
+                policy.includeBinData, policy.maxRecords);
+        if (async || !hasCallback) {
+            return records;
+        }
+        ScanCallback callback = (ScanCallback) args[namespaceIndex + 2];
+        records.forEach(keyRecord -> callback.scanCallback(keyRecord.key, keyRecord.record));
+        return null;
+    }
+
+    /**
+     * Handles {@code query(policy, statement, [partitionFilter], [listener])} and
+     * {@code queryPartitions(policy, statement, partitionFilter)}.
+     */
+    private Object query(Class<?>[] types, Object[] args, boolean async) {
+        QueryPolicy policy = args[0] != null ? (QueryPolicy) args[0] : clientPolicy.queryPolicyDefault;
+        Statement statement = (Statement) args[1];
+        PartitionFilter partitionFilter = types.length > 2 && types[2] == PartitionFilter.class
+                ? (PartitionFilter) args[2]
+                : null;
+        List<KeyRecord> records = store.select(policy, statement.getNamespace(), statement.getSetName(),
+                statement.getFilter(), statement.getIndexName(), partitionFilter, statement.getBinNames(),
+                policy.includeBinData, statement.getMaxRecords());
+        if (async) {
+            return records;
+        }
+        if (types[types.length - 1] == QueryListener.class) {
+            QueryListener listener = (QueryListener) args[args.length - 1];
+            records.forEach(keyRecord -> listener.onRecord(keyRecord.key, keyRecord.record));
+            return null;
+        }
+        return new InMemoryRecordSet(records);
+    }
+
+    /**
+     * Handles {@code createIndex(policy, namespace, set, indexName, binName, indexType, [collectionType, ctx])}.
+     */
+    private Object createIndex(Class<?>[] types, Object[] args) {
+        IndexCollectionType collectionType = types.length > 6 ? (IndexCollectionType) args[6] : null;
+        store.createIndex((String) args[1], (String) args[2], (String) args[3], (String) args[4],
+                (IndexType) args[5], collectionType);
+        return indexTask(args, true);
+    }
+
+    /**
+     * Index changes apply immediately. The returned task has no cluster to poll,
+     * so it must not be waited on.
+     */
+    private static IndexTask indexTask(Object[] args, boolean isCreate) {
+        Policy policy = args[0] != null ? (Policy) args[0] : new Policy();
+        return new IndexTask(null, policy, (String) args[1], (String) args[3], isCreate);
+    }
+
+    private Policy readPolicy(Object policy) {
+        return policy != null ? (Policy) policy : clientPolicy.readPolicyDefault;
+    }
+
+    private WritePolicy writePolicy(Object policy) {
+        return policy != null ? (WritePolicy) policy : clientPolicy.writePolicyDefault;
+    }
+
+    private BatchPolicy batchPolicy(Object policy) {
+        return policy != null ? (BatchPolicy) policy : clientPolicy.batchPolicyDefault;
+    }
+
+    private WritePolicy writePolicy(BatchPolicy parent, BatchWritePolicy policy) {
+        BatchWritePolicy batchWritePolicy = policy != null ? policy : clientPolicy.batchWritePolicyDefault;
+        WritePolicy writePolicy = new WritePolicy(parent);
+        if (batchWritePolicy.filterExp != null) {
+            writePolicy.filterExp = batchWritePolicy.filterExp;
+        }
+        writePolicy.recordExistsAction = batchWritePolicy.recordExistsAction;
+        writePolicy.generationPolicy = batchWritePolicy.generationPolicy;
+        writePolicy.generation = batchWritePolicy.generation;
+        writePolicy.expiration = batchWritePolicy.expiration;
+        writePolicy.durableDelete = batchWritePolicy.durableDelete;
+        writePolicy.sendKey = batchWritePolicy.sendKey || parent.sendKey;
+        return writePolicy;
+    }
+
+    private WritePolicy deletePolicy(BatchPolicy parent, BatchDeletePolicy policy) {
+        BatchDeletePolicy batchDeletePolicy = policy != null ? policy : clientPolicy.batchDeletePolicyDefault;
+        WritePolicy writePolicy = new WritePolicy(parent);
+        if (batchDeletePolicy.filterExp != null) {
+            writePolicy.filterExp = batchDeletePolicy.filterExp;
+        }
+        writePolicy.generationPolicy = batchDeletePolicy.generationPolicy;
+        writePolicy.generation = batchDeletePolicy.generation;
+        writePolicy.durableDelete = batchDeletePolicy.durableDelete;
+        return writePolicy;
+    }
+}
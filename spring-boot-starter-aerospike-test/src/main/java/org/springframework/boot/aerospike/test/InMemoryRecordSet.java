@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.query.IQueryExecutor;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.RecordSet;
+
+import java.util.List;
+
+/**
+ * {@link RecordSet} over records selected up front, so that iteration never blocks.
+ */
+final class InMemoryRecordSet extends RecordSet {
+
+    private static final IQueryExecutor COMPLETED = new IQueryExecutor() {
+
+        @Override
+        public void checkForException() {
+        }
+
+        @Override
+        public void stopThreads(Exception cause) {
+        }
+    };
+
+    InMemoryRecordSet(List<KeyRecord> records) {
+        super(COMPLETED, records.size() + 1);
+        records.forEach(this::put);
+        put(END);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.command.ParticleType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal MessagePack reader for the subset used by Aerospike filter expressions and CDT particles.
+ * <p>
+ * Strings and byte arrays are returned as raw {@code byte[]}, callers decide whether they carry
+ * a leading particle type with {@link #particle(byte[])}. Extension values (list and map order flags)
+ * are skipped.
+ */
+final class MsgPackReader {
+
+    private static final Object EXTENSION = new Object();
+
+    private final byte[] buffer;
+    private int offset;
+
+    MsgPackReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * Unpacks a list or map particle, converting nested strings and blobs by their particle type.
+     */
+    static Object unpackParticle(byte[] buffer, int offset) {
+        return particles(new MsgPackReader(buffer, offset).read());
+    }
+
+    /**
+     * Converts a raw string or blob to its particle value: {@link String} for string and GeoJSON particles,
+     * {@code byte[]} for anything else.
+     */
+    static Object particle(byte[] raw) {
+        if (raw.length > 0) {
+            int type = raw[0] & 0xFF;
+            if (type == ParticleType.STRING || type == ParticleType.GEOJSON) {
+                return new String(raw, 1, raw.length - 1, StandardCharsets.UTF_8);
+            }
+            if (type == ParticleType.BLOB) {
+                byte[] bytes = new byte[raw.length - 1];
+                System.arraycopy(raw, 1, bytes, 0, bytes.length);
+                return bytes;
+            }
+        }
+        return raw;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object particles(Object value) {
+        if (value instanceof byte[] raw) {
+            return particle(raw);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> converted = new ArrayList<>(list.size());
+            list.forEach(item -> converted.add(particles(item)));
+            return converted;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> converted = new LinkedHashMap<>();
+            ((Map<Object, Object>) map).forEach((k, v) -> converted.put(particles(k), particles(v)));
+            return converted;
+        }
+        return value;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    /**
+     * Reads the next value as {@link Long}, {@link Double}, {@link Boolean}, raw {@code byte[]},
+     * {@link List}, {@link Map} or {@code null}.
+     */
+    Object read() {
+        Object value = readAny();
+        return value == EXTENSION ? null : value;
+    }
+
+    private Object readAny() {
+        int type = buffer[offset++] & 0xFF;
+        if (type <= 0x7f) {
+            return (long) type;
+        }
+        if (type >= 0xe0) {
+            return (long) (byte) type;
+        }
+        if ((type & 0xf0) == 0x80) {
+            return readMap(type & 0x0f);
+        }
+        if ((type & 0xf0) == 0x90) {
+            return readList(type & 0x0f);
+        }
+        if ((type & 0xe0) == 0xa0) {
+            return readBytes(type & 0x1f);
+        }
+        return switch (type) {
+            case 0xc0 -> null;
+            case 0xc2 -> Boolean.FALSE;
+            case 0xc3 -> Boolean.TRUE;
+            case 0xc4, 0xd9 -> readBytes(readUnsigned(1));
+            case 0xc5, 0xda -> readBytes(readUnsigned(2));
+            case 0xc6, 0xdb -> readBytes(readUnsigned(4));
+            case 0xc7 -> skipExtension(readUnsigned(1));
+            case 0xc8 -> skipExtension(readUnsigned(2));
+            case 0xc9 -> skipExtension(readUnsigned(4));
+            case 0xca -> (double) Float.intBitsToFloat((int) readUnsigned(4));
+            case 0xcb -> Double.longBitsToDouble(readLong(8));
+            case 0xcc -> (long) readUnsigned(1);
+            case 0xcd -> (long) readUnsigned(2);
+            case 0xce -> readLong(4) & 0xFFFFFFFFL;
+            case 0xcf, 0xd3 -> readLong(8);
+            case 0xd0 -> (long) buffer[offset++];
+            case 0xd1 -> (long) (short) readUnsigned(2);
+            case 0xd2 -> (long) (int) readLong(4);
+            case 0xd4 -> skipExtension(1);
+            case 0xd5 -> skipExtension(2);
+            case 0xd6 -> skipExtension(4);
+            case 0xd7 -> skipExtension(8);
+            case 0xd8 -> skipExtension(16);
+            case 0xdc -> readList(readUnsigned(2));
+            case 0xdd -> readList(readUnsigned(4));
+            case 0xde -> readMap(readUnsigned(2));
+            case 0xdf -> readMap(readUnsigned(4));
+            default -> throw new AerospikeException(ResultCode.PARSE_ERROR,
+                    "Unsupported MessagePack type 0x" + Integer.toHexString(type));
+        };
+    }
+
+    private List<Object> readList(int size) {
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Object item = readAny();
+            if (item != EXTENSION) {
+                list.add(item);
+            }
+        }
+        return list;
+    }
+
+    private Map<Object, Object> readMap(int size) {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            Object key = readAny();
+            Object value = readAny();
+            if (key != EXTENSION) {
+                map.put(key, value);
+            }
+        }
+        return map;
+    }
+
+    private byte[] readBytes(int length) {
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, offset, bytes, 0, length);
+        offset += length;
+        return bytes;
+    }
+
+    private Object skipExtension(int length) {
+        offset += 1 + length;
+        return EXTENSION;
+    }
+
+    private int readUnsigned(int length) {
+        return (int) readLong(length);
+    }
+
+    private long readLong(int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | (buffer[offset++] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.command.ParticleType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MessagePack writer for list and map particles, the counterpart of {@link MsgPackReader}.
+ * Strings and byte arrays are written with a leading particle type, as the Aerospike client expects.
+ */
+final class MsgPackWriter {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private MsgPackWriter() {
+    }
+
+    static byte[] pack(Object value) {
+        MsgPackWriter writer = new MsgPackWriter();
+        writer.write(value);
+        return writer.out.toByteArray();
+    }
+
+    private void write(Object value) {
+        if (value == null) {
+            out.write(0xc0);
+        } else if (value instanceof Boolean b) {
+            out.write(b ? 0xc3 : 0xc2);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.write(0xcb);
+            writeLong(Double.doubleToLongBits(((Number) value).doubleValue()), 8);
+        } else if (value instanceof Number number) {
+            writeInteger(number.longValue());
+        } else if (value instanceof String string) {
+            writeParticle(ParticleType.STRING, string.getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[] bytes) {
+            writeParticle(ParticleType.BLOB, bytes);
+        } else if (value instanceof List<?> list) {
+            writeHeader(list.size(), 0x90, 0xdc, 0xdd);
+            list.forEach(this::write);
+        } else if (value instanceof Map<?, ?> map) {
+            writeHeader(map.size(), 0x80, 0xde, 0xdf);
+            map.forEach((k, v) -> {
+                write(k);
+                write(v);
+            });
+        } else {
+            writeParticle(ParticleType.STRING, value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeInteger(long value) {
+        if (value >= 0 && value < 128 || value < 0 && value >= -32) {
+            out.write((int) value);
+        } else {
+            out.write(0xd3);
+            writeLong(value, 8);
+        }
+    }
+
+    private void writeParticle(int particleType, byte[] bytes) {
+        int size = bytes.length + 1;
+        if (size < 32) {
+            out.write(0xa0 | size);
+        } else if (size < 256) {
+            out.write(0xd9);
+            out.write(size);
+        } else if (size < 65536) {
+            out.write(0xda);
+            writeLong(size, 2);
+        } else {
+            out.write(0xdb);
+            writeLong(size, 4);
+        }
+        out.write(particleType);
+        out.writeBytes(bytes);
+    }
+
+    private void writeHeader(int size, int fixType, int type16, int type32) {
+        if (size < 16) {
+            out.write(fixType | size);
+        } else if (size < 65536) {
+            out.write(type16);
+            writeLong(size, 2);
+        } else {
+            out.write(type32);
+            writeLong(size, 4);
+        }
+    }
+
+    private void writeLong(long value, int length) {
+        for (int shift = (length - 1) * 8; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+}
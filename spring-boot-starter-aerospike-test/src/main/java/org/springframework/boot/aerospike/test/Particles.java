@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.command.ParticleType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts bin values between their wire particle encoding and the Java types stored by {@link InMemoryAerospikeStore}.
+ */
+final class Particles {
+
+    private Particles() {
+    }
+
+    static Object decode(int particleType, byte[] buffer, int offset, int length) {
+        return switch (particleType) {
+            case ParticleType.NULL -> null;
+            case ParticleType.INTEGER -> ByteBuffer.wrap(buffer, offset, length).getLong();
+            case ParticleType.DOUBLE -> ByteBuffer.wrap(buffer, offset, length).getDouble();
+            case ParticleType.STRING -> new String(buffer, offset, length, StandardCharsets.UTF_8);
+            case ParticleType.BOOL -> buffer[offset] != 0;
+            case ParticleType.LIST, ParticleType.MAP -> MsgPackReader.unpackParticle(buffer, offset);
+            case ParticleType.GEOJSON -> {
+                int cells = ((buffer[offset + 1] & 0xFF) << 8) | (buffer[offset + 2] & 0xFF);
+                int header = 3 + cells * 8;
+                yield new String(buffer, offset + header, length - header, StandardCharsets.UTF_8);
+            }
+            default -> Arrays.copyOfRange(buffer, offset, offset + length);
+        };
+    }
+
+    static int type(Object value) {
+        return FilterExpression.particleType(value);
+    }
+
+    static byte[] encode(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof Long l) {
+            return ByteBuffer.allocate(8).putLong(l).array();
+        }
+        if (value instanceof Double d) {
+            return ByteBuffer.allocate(8).putDouble(d).array();
+        }
+        if (value instanceof String s) {
+            return s.getBytes(StandardCharsets.UTF_8);
+        }
+        if (value instanceof Boolean b) {
+            return new byte[]{(byte) (b ? 1 : 0)};
+        }
+        if (value instanceof List<?> || value instanceof Map<?, ?>) {
+            return MsgPackWriter.pack(value);
+        }
+        return (byte[]) value;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Single node of an {@link AerospikeStandInServer}. Keeps its name and port across {@link #stop()} and
+ * {@link #start()}, so the client sees a node failure followed by the same node rejoining.
+ */
+public final class StandInNode {
+
+    private final AerospikeStandInServer server;
+    private final ExecutorService executor;
+    private final String name;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private volatile ServerSocket serverSocket;
+    private volatile int port;
+    private volatile long latencyNanos;
+
+    StandInNode(AerospikeStandInServer server, ExecutorService executor, int index) {
+        this.server = server;
+        this.executor = executor;
+        this.name = "BB9%013X".formatted(index + 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public boolean isRunning() {
+        return serverSocket != null;
+    }
+
+    /**
+     * Extra latency added by this node only, on top of the server wide latency, for slow node scenarios.
+     */
+    public void setLatency(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+
+    long latencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * Starts accepting connections, on the same port as before if the node was already started once.
+     */
+    public synchronized void start() {
+        if (serverSocket != null) {
+            return;
+        }
+        try {
+            ServerSocket socket = new ServerSocket();
+            socket.setReuseAddress(true);
+            socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            port = socket.getLocalPort();
+            serverSocket = socket;
+            executor.execute(() -> accept(socket));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start stand-in node " + name, e);
+        }
+        server.membershipChanged();
+    }
+
+    /**
+     * Closes the listening socket and all open connections, as if the node crashed.
+     */
+    public synchronized void stop() {
+        ServerSocket socket = serverSocket;
+        if (socket == null) {
+            return;
+        }
+        serverSocket = null;
+        closeQuietly(socket);
+        connections.forEach(StandInNode::closeQuietly);
+        connections.clear();
+        server.membershipChanged();
+    }
+
+    private void accept(ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try {
+                Socket connection = socket.accept();
+                connection.setTcpNoDelay(true);
+                connections.add(connection);
+                executor.execute(() -> serve(connection));
+            } catch (IOException e) {
+                // closed by stop()
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+             OutputStream out = new BufferedOutputStream(connection.getOutputStream())) {
+            while (true) {
+                long header = in.readLong();
+                int type = (int) (header >>> 48) & 0xFF;
+                byte[] body = readBody(in, header & 0xFFFFFFFFFFFFL);
+                out.write(server.handle(this, type, body));
+                out.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            // connection closed by the client or by stop(), or a proto the stand-in does not understand
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private static byte[] readBody(DataInputStream in, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Proto of " + size + " bytes is too large");
+        }
+        byte[] body = new byte[(int) size];
+        in.readFully(body);
+        return body;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // ignore
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + "@127.0.0.1:" + port;
+    }
+}
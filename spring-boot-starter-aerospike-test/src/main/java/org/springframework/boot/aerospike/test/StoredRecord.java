@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+
+import java.util.Map;
+
+/**
+ * Immutable state of a stored record. Writes replace the whole instance, so readers never observe
+ * a partially applied command.
+ *
+ * @param digest     record digest
+ * @param setName    set name, {@code null} for the null set
+ * @param userKey    user key, stored only when written with {@code sendKey}
+ * @param bins       bin values, normalized to the types returned by the client
+ * @param generation record generation
+ * @param voidTime   expiration epoch milliseconds, {@code 0} for records that never expire
+ * @param lastUpdate last update epoch milliseconds
+ */
+record StoredRecord(byte[] digest, String setName, Value userKey, Map<String, Object> bins, int generation,
+                    long voidTime, long lastUpdate) {
+
+    /**
+     * Seconds between the Unix epoch and the Aerospike epoch (2010-01-01T00:00:00Z).
+     */
+    static final long CITRUSLEAF_EPOCH_SECONDS = 1262304000L;
+
+    boolean isExpired(long now) {
+        return voidTime != 0 && voidTime <= now;
+    }
+
+    Key key(String namespace) {
+        return new Key(namespace, digest, setName, userKey);
+    }
+
+    Record toRecord(Map<String, Object> selectedBins) {
+        return new Record(selectedBins, generation, expiration());
+    }
+
+    /**
+     * Expiration in seconds since the Aerospike epoch, as reported by {@link Record#expiration}.
+     */
+    int expiration() {
+        return voidTime == 0 ? 0 : (int) (voidTime / 1000 - CITRUSLEAF_EPOCH_SECONDS);
+    }
+
+    /**
+     * Approximate record size used by size expressions.
+     */
+    long size() {
+        long size = 0;
+        for (Map.Entry<String, Object> bin : bins.entrySet()) {
+            size += bin.getKey().length() + Value.get(bin.getValue()).estimateSize();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.Value;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.exp.Expression;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexCollectionType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Parsed {@code AS_MSG} request: the 22 byte message header followed by fields and operations.
+ * Also used for the sub-requests of a batch, which carry the same attributes in a shorter header.
+ */
+final class WireMessage {
+
+    static final int HEADER_SIZE = 22;
+
+    static final int INFO1_READ = 1;
+    static final int INFO1_GET_ALL = 1 << 1;
+    static final int INFO1_NOBINDATA = 1 << 5;
+    static final int INFO2_WRITE = 1;
+    static final int INFO2_DELETE = 1 << 1;
+    static final int INFO2_GENERATION = 1 << 2;
+    static final int INFO2_GENERATION_GT = 1 << 3;
+    static final int INFO2_DURABLE_DELETE = 1 << 4;
+    static final int INFO2_CREATE_ONLY = 1 << 5;
+    static final int INFO3_LAST = 1;
+    static final int INFO3_UPDATE_ONLY = 1 << 3;
+    static final int INFO3_CREATE_OR_REPLACE = 1 << 4;
+    static final int INFO3_REPLACE_ONLY = 1 << 5;
+
+    static final int FIELD_NAMESPACE = 0;
+    static final int FIELD_SET = 1;
+    static final int FIELD_KEY = 2;
+    static final int FIELD_DIGEST = 4;
+    static final int FIELD_PID_ARRAY = 11;
+    static final int FIELD_DIGEST_ARRAY = 12;
+    static final int FIELD_MAX_RECORDS = 13;
+    static final int FIELD_INDEX_NAME = 21;
+    static final int FIELD_INDEX_RANGE = 22;
+    static final int FIELD_INDEX_TYPE = 26;
+    static final int FIELD_BATCH_INDEX = 41;
+    static final int FIELD_BATCH_INDEX_WITH_SET = 42;
+    static final int FIELD_FILTER_EXP = 43;
+
+    private static final Operation.Type[] OPERATION_TYPES = new Operation.Type[32];
+
+    static {
+        for (Operation.Type type : Operation.Type.values()) {
+            if (type.protocolType < OPERATION_TYPES.length && OPERATION_TYPES[type.protocolType] == null) {
+                OPERATION_TYPES[type.protocolType] = type;
+            }
+        }
+    }
+
+    final int info1;
+    final int info2;
+    final int info3;
+    final int generation;
+    final int expiration;
+    private final byte[][] fields = new byte[256][];
+    private final List<Operation> operations = new ArrayList<>();
+    private int end;
+
+    WireMessage(int info1, int info2, int info3, int generation, int expiration) {
+        this.info1 = info1;
+        this.info2 = info2;
+        this.info3 = info3;
+        this.generation = generation;
+        this.expiration = expiration;
+    }
+
+    /**
+     * Parses a message body, the proto header already stripped.
+     */
+    static WireMessage parse(byte[] buffer) {
+        ByteBuffer header = ByteBuffer.wrap(buffer);
+        WireMessage message = new WireMessage(buffer[1] & 0xFF, buffer[2] & 0xFF, buffer[3] & 0xFF,
+                header.getInt(6), header.getInt(10));
+        message.parseFieldsAndOperations(buffer, HEADER_SIZE, header.getShort(18) & 0xFFFF,
+                header.getShort(20) & 0xFFFF);
+        return message;
+    }
+
+    /**
+     * Parses fields and operations starting at {@code offset}.
+     *
+     * @return offset right after the last operation
+     */
+    int parseFieldsAndOperations(byte[] buffer, int offset, int fieldCount, int operationCount) {
+        ByteBuffer data = ByteBuffer.wrap(buffer);
+        for (int i = 0; i < fieldCount; i++) {
+            int size = data.getInt(offset);
+            int type = buffer[offset + 4] & 0xFF;
+            byte[] value = new byte[size - 1];
+            System.arraycopy(buffer, offset + 5, value, 0, value.length);
+            fields[type] = value;
+            offset += 4 + size;
+        }
+        for (int i = 0; i < operationCount; i++) {
+            int size = data.getInt(offset);
+            int operationType = buffer[offset + 4] & 0xFF;
+            int particleType = buffer[offset + 5] & 0xFF;
+            int nameLength = buffer[offset + 7] & 0xFF;
+            String name = nameLength == 0 ? null : new String(buffer, offset + 8, nameLength, StandardCharsets.UTF_8);
+            int valueOffset = offset + 8 + nameLength;
+            Object value = Particles.decode(particleType, buffer, valueOffset, size - 4 - nameLength);
+            operations.add(new Operation(operationType(operationType), name, Value.get(value)));
+            offset += 4 + size;
+        }
+        end = offset;
+        return offset;
+    }
+
+    /**
+     * Copy of a batch sub-request for a {@code BATCH_MSG_REPEAT} entry, which reuses everything but the key.
+     */
+    WireMessage repeat() {
+        WireMessage copy = new WireMessage(info1, info2, info3, generation, expiration);
+        System.arraycopy(fields, 0, copy.fields, 0, fields.length);
+        copy.fields[FIELD_KEY] = null;
+        copy.operations.addAll(operations);
+        return copy;
+    }
+
+    boolean hasField(int type) {
+        return fields[type] != null;
+    }
+
+    byte[] field(int type) {
+        return fields[type];
+    }
+
+    void setDefaultField(int type, byte[] value) {
+        if (fields[type] == null) {
+            fields[type] = value;
+        }
+    }
+
+    String string(int type) {
+        byte[] value = fields[type];
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    int end() {
+        return end;
+    }
+
+    Key key() {
+        return key(fields[FIELD_DIGEST]);
+    }
+
+    Key key(byte[] digest) {
+        byte[] userKey = fields[FIELD_KEY];
+        Value value = userKey == null
+                ? null
+                : Value.get(Particles.decode(userKey[0] & 0xFF, userKey, 1, userKey.length - 1));
+        return new Key(string(FIELD_NAMESPACE), digest, string(FIELD_SET), value);
+    }
+
+    boolean isWrite() {
+        return (info2 & INFO2_WRITE) != 0;
+    }
+
+    boolean isDelete() {
+        return (info2 & INFO2_DELETE) != 0;
+    }
+
+    boolean includeBinData() {
+        return (info1 & INFO1_NOBINDATA) == 0;
+    }
+
+    Operation[] operations() {
+        return operations.toArray(new Operation[0]);
+    }
+
+    /**
+     * Operations of a read command: header only, all bins or the requested bins.
+     */
+    Operation[] readOperations() {
+        if (!includeBinData()) {
+            return new Operation[]{Operation.getHeader()};
+        }
+        if ((info1 & INFO1_GET_ALL) != 0 || operations.isEmpty()) {
+            return new Operation[]{Operation.get()};
+        }
+        return operations();
+    }
+
+    String[] binNames() {
+        return operations.isEmpty() ? null : operations.stream().map(op -> op.binName).toArray(String[]::new);
+    }
+
+    Expression filterExpression() {
+        byte[] filter = fields[FIELD_FILTER_EXP];
+        return filter == null ? null : Expression.fromBytes(filter);
+    }
+
+    WritePolicy writePolicy() {
+        WritePolicy policy = new WritePolicy();
+        policy.generation = generation;
+        policy.expiration = expiration;
+        if ((info2 & INFO2_GENERATION) != 0) {
+            policy.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+        } else if ((info2 & INFO2_GENERATION_GT) != 0) {
+            policy.generationPolicy = GenerationPolicy.EXPECT_GEN_GT;
+        }
+        if ((info2 & INFO2_CREATE_ONLY) != 0) {
+            policy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+        } else if ((info3 & INFO3_UPDATE_ONLY) != 0) {
+            policy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
+        } else if ((info3 & INFO3_CREATE_OR_REPLACE) != 0) {
+            policy.recordExistsAction = RecordExistsAction.REPLACE;
+        } else if ((info3 & INFO3_REPLACE_ONLY) != 0) {
+            policy.recordExistsAction = RecordExistsAction.REPLACE_ONLY;
+        }
+        policy.durableDelete = (info2 & INFO2_DURABLE_DELETE) != 0;
+        policy.sendKey = fields[FIELD_KEY] != null;
+        policy.filterExp = filterExpression();
+        // the client decides whether a filtered out record fails the command
+        policy.failOnFilteredOut = true;
+        return policy;
+    }
+
+    /**
+     * Partitions requested by a partition query or scan, all partitions if none are listed.
+     */
+    IntPredicate partitions() {
+        byte[] ids = fields[FIELD_PID_ARRAY];
+        byte[] digests = fields[FIELD_DIGEST_ARRAY];
+        if (ids == null && digests == null) {
+            return partitionId -> true;
+        }
+        BitSet partitions = new BitSet(Digest.PARTITIONS);
+        for (int i = 0; ids != null && i + 1 < ids.length; i += 2) {
+            partitions.set((ids[i] & 0xFF) | (ids[i + 1] & 0xFF) << 8);
+        }
+        for (int i = 0; digests != null && i + 20 <= digests.length; i += 20) {
+            partitions.set(((digests[i] & 0xFF) | (digests[i + 1] & 0xFF) << 8) & (Digest.PARTITIONS - 1));
+        }
+        return partitions::get;
+    }
+
+    long maxRecords() {
+        byte[] maxRecords = fields[FIELD_MAX_RECORDS];
+        return maxRecords == null ? 0 : ByteBuffer.wrap(maxRecords).getLong();
+    }
+
+    /**
+     * Secondary index filter of a query: name, particle type and begin and end values.
+     */
+    Filter filter() {
+        byte[] range = fields[FIELD_INDEX_RANGE];
+        if (range == null) {
+            return null;
+        }
+        byte[] indexType = fields[FIELD_INDEX_TYPE];
+        IndexCollectionType collectionType = indexType == null
+                ? IndexCollectionType.DEFAULT
+                : IndexCollectionType.values()[indexType[0]];
+        ByteBuffer data = ByteBuffer.wrap(range);
+        data.get();
+        byte[] name = new byte[data.get() & 0xFF];
+        data.get(name);
+        int particleType = data.get() & 0xFF;
+        byte[] begin = new byte[data.getInt()];
+        data.get(begin);
+        byte[] end = new byte[data.getInt()];
+        data.get(end);
+        String binName = new String(name, StandardCharsets.UTF_8);
+        return switch (particleType) {
+            case ParticleType.INTEGER -> Filter.range(binName, collectionType,
+                    ByteBuffer.wrap(begin).getLong(), ByteBuffer.wrap(end).getLong());
+            case ParticleType.STRING -> collectionType == IndexCollectionType.DEFAULT
+                    ? Filter.equal(binName, new String(begin, StandardCharsets.UTF_8))
+                    : Filter.contains(binName, collectionType, new String(begin, StandardCharsets.UTF_8));
+            default -> throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                    "Index filter particle type " + particleType + " is not supported by the stand-in server");
+        };
+    }
+
+    private static Operation.Type operationType(int protocolType) {
+        Operation.Type type = protocolType < OPERATION_TYPES.length ? OPERATION_TYPES[protocolType] : null;
+        if (type == null) {
+            throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Unknown operation type " + protocolType);
+        }
+        return type;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Builds {@code AS_MSG} responses: one or more records, each with an optional key and bins as read operations,
+ * split into protos of at most {@value #RECORDS_PER_PROTO} records.
+ */
+final class WireResponse {
+
+    static final int PROTO_VERSION = 2;
+    static final int PROTO_TYPE_INFO = 1;
+    static final int PROTO_TYPE_MESSAGE = 3;
+
+    private static final int RECORDS_PER_PROTO = 1000;
+    private static final int OPERATION_READ = 1;
+
+    private final ByteArrayOutputStream protos = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private int recordCount;
+
+    static byte[] proto(int type, byte[] body) {
+        ByteBuffer proto = ByteBuffer.allocate(8 + body.length);
+        proto.putLong((long) PROTO_VERSION << 56 | (long) type << 48 | body.length);
+        return proto.put(body).array();
+    }
+
+    /**
+     * Adds a record of a single-record or batch response.
+     */
+    WireResponse record(int resultCode, Record record, int batchIndex) {
+        return record(resultCode, 0, record, batchIndex, null);
+    }
+
+    /**
+     * Adds a record of a query response, carrying its key.
+     */
+    WireResponse record(Key key, Record record) {
+        return record(0, 0, record, 0, key);
+    }
+
+    /**
+     * Adds the record that ends a batch or query stream.
+     */
+    WireResponse last(int resultCode) {
+        return record(resultCode, WireMessage.INFO3_LAST, null, 0, null);
+    }
+
+    byte[] toByteArray() {
+        flush();
+        return protos.toByteArray();
+    }
+
+    private WireResponse record(int resultCode, int info3, Record record, int batchIndex, Key key) {
+        Map<String, Object> bins = record == null || record.bins == null ? Map.of() : record.bins;
+        ByteBuffer header = ByteBuffer.allocate(WireMessage.HEADER_SIZE);
+        header.put((byte) WireMessage.HEADER_SIZE)
+                .put((byte) 0)
+                .put((byte) 0)
+                .put((byte) info3)
+                .put((byte) 0)
+                .put((byte) resultCode)
+                .putInt(record == null ? 0 : record.generation)
+                .putInt(record == null ? 0 : record.expiration)
+                .putInt(batchIndex)
+                .putShort((short) (key == null ? 0 : key.userKey == null ? 3 : 4))
+                .putShort((short) bins.size());
+        records.writeBytes(header.array());
+        if (key != null) {
+            field(WireMessage.FIELD_DIGEST, key.digest);
+            field(WireMessage.FIELD_NAMESPACE, key.namespace.getBytes(StandardCharsets.UTF_8));
+            field(WireMessage.FIELD_SET,
+                    key.setName == null ? new byte[0] : key.setName.getBytes(StandardCharsets.UTF_8));
+            if (key.userKey != null) {
+                Object userKey = InMemoryAerospikeStore.normalize(key.userKey);
+                byte[] value = Particles.encode(userKey);
+                byte[] field = new byte[value.length + 1];
+                field[0] = (byte) Particles.type(userKey);
+                System.arraycopy(value, 0, field, 1, value.length);
+                field(WireMessage.FIELD_KEY, field);
+            }
+        }
+        bins.forEach(this::bin);
+        if (++recordCount == RECORDS_PER_PROTO) {
+            flush();
+        }
+        return this;
+    }
+
+    private void field(int type, byte[] value) {
+        records.writeBytes(ByteBuffer.allocate(5).putInt(value.length + 1).put((byte) type).array());
+        records.writeBytes(value);
+    }
+
+    private void bin(String name, Object value) {
+        byte[] binName = name.getBytes(StandardCharsets.UTF_8);
+        byte[] particle = Particles.encode(value);
+        records.writeBytes(ByteBuffer.allocate(8)
+                .putInt(4 + binName.length + particle.length)
+                .put((byte) OPERATION_READ)
+                .put((byte) Particles.type(value))
+                .put((byte) 0)
+                .put((byte) binName.length)
+                .array());
+        records.writeBytes(binName);
+        records.writeBytes(particle);
+    }
+
+    private void flush() {
+        if (records.size() > 0) {
+            protos.writeBytes(proto(PROTO_TYPE_MESSAGE, records.toByteArray()));
+            records.reset();
+            recordCount = 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.aerospike.test.autoconfigure;
+
+import org.springframework.boot.aerospike.test.AerospikeStandInServer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContextAnnotationUtils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ContextCustomizerFactory} starting an {@link AerospikeStandInServer} for test classes annotated with
+ * {@link AutoConfigureAerospikeStandIn @AutoConfigureAerospikeStandIn}.
+ */
+class AerospikeStandInContextCustomizerFactory implements ContextCustomizerFactory {
+
+    private static final String DEFAULT_NAMESPACE = "test";
+
+    @Override
+    public ContextCustomizer createContextCustomizer(Class<?> testClass,
+                                                     List<ContextConfigurationAttributes> configAttributes) {
+        AutoConfigureAerospikeStandIn annotation =
+                TestContextAnnotationUtils.findMergedAnnotation(testClass, AutoConfigureAerospikeStandIn.class);
+        return annotation != null ? new StandInContextCustomizer(annotation.nodes()) : null;
+    }
+
+    /**
+     * Equal for equal annotations, so that the application context is cached across test classes.
+     */
+    private record StandInContextCustomizer(int nodes) implements ContextCustomizer {
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context,
+                                     MergedContextConfiguration mergedConfig) {
+            ConfigurableEnvironment environment = context.getEnvironment();
+            String namespace = environment.getProperty("spring.data.aerospike.namespace", DEFAULT_NAMESPACE);
+            AerospikeStandInServer server = AerospikeStandInServer.start(nodes, namespace);
+            environment.getPropertySources().addFirst(new MapPropertySource("aerospikeStandIn", Map.of(
+                    "spring.aerospike.hosts", server.getHosts(),
+                    "spring.data.aerospike.namespace", namespace)));
+            context.getBeanFactory().registerSingleton("aerospikeStandInServer", server);
+            context.addApplicationListener((ApplicationListener<ContextClosedEvent>) event -> {
+                if (event.getApplicationContext() == context) {
+                    server.close();
+                }
+            });
+        }
+    }
+}
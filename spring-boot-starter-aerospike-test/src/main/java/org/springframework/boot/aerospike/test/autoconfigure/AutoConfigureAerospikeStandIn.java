@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.aerospike.test.autoconfigure;
+
+import org.springframework.boot.aerospike.test.AerospikeStandInServer;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Connects the application context of a test to an {@link AerospikeStandInServer} started with the context and
+ * closed with it, instead of the cluster in {@code spring.aerospike.hosts}.
+ * <p>
+ * The server serves the namespace in {@code spring.data.aerospike.namespace}, {@code test} if not set.
+ * It lives as long as the cached context, so test classes sharing the context also share the data.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface AutoConfigureAerospikeStandIn {
+
+    /**
+     * Number of stand-in nodes.
+     */
+    int nodes() default 1;
+}
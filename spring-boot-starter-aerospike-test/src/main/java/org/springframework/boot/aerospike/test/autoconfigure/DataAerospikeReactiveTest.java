@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.aerospike.test.autoconfigure;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.OverrideAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.filter.TypeExcludeFilters;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.BootstrapWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for a reactive Spring Data Aerospike test that focuses only on Aerospike components.
+ * <p>
+ * Disables full auto-configuration and applies only the Aerospike Reactor client, reactive data and reactive
+ * repositories auto-configuration listed in {@link AutoConfigureDataAerospikeReactive}. Components scanned from the
+ * application are limited to those matched by {@code includeFilters}. Test classes with the same configuration share
+ * their application context. Combine with {@link AutoConfigureAerospikeStandIn} to connect to an in-process
+ * stand-in server instead of a cluster.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@BootstrapWith(DataAerospikeReactiveTestContextBootstrapper.class)
+@ExtendWith(SpringExtension.class)
+@OverrideAutoConfiguration(enabled = false)
+@TypeExcludeFilters(DataAerospikeReactiveTypeExcludeFilter.class)
+@AutoConfigureDataAerospikeReactive
+@ImportAutoConfiguration
+public @interface DataAerospikeReactiveTest {
+
+    /**
+     * Properties in form {@literal key=value} that should be added to the Spring
+     * {@link org.springframework.core.env.Environment Environment} before the test runs.
+     */
+    String[] properties() default {};
+
+    /**
+     * Whether to use the default filters of {@code @SpringBootApplication} component scanning.
+     */
+    boolean useDefaultFilters() default true;
+
+    /**
+     * Additional filters of beans to add to the application context.
+     */
+    Filter[] includeFilters() default {};
+
+    /**
+     * Filters of beans to exclude from the application context.
+     */
+    Filter[] excludeFilters() default {};
+
+    /**
+     * Auto-configuration exclusions that should be applied for this test.
+     */
+    @AliasFor(annotation = ImportAutoConfiguration.class, attribute = "exclude")
+    Class<?>[] excludeAutoConfiguration() default {};
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Host;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.RecordSet;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link AerospikeStandInServer} using the real client over loopback connections.
+ */
+public class AerospikeStandInServerTest {
+
+    private static final String NAMESPACE = "test";
+
+    private AerospikeStandInServer server;
+    private AerospikeClient client;
+
+    @BeforeEach
+    public void setUp() {
+        server = AerospikeStandInServer.start(2, NAMESPACE);
+        ClientPolicy policy = new ClientPolicy();
+        policy.tendInterval = 50;
+        client = new AerospikeClient(policy, Host.parseHosts(server.getHosts(), 3000));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void client_discoversAllNodes() {
+        assertThat(client.getNodes()).hasSize(2);
+    }
+
+    @Test
+    public void put_andGet() {
+        Key key = new Key(NAMESPACE, "customers", "key1");
+        client.put(null, key, new Bin("name", "Dave"), new Bin("tags", List.of("a", "b")));
+
+        Record record = client.get(null, key);
+
+        assertThat(record.bins).containsEntry("name", "Dave").containsEntry("tags", List.of("a", "b"));
+        assertThat(record.generation).isEqualTo(1);
+        assertThat(client.exists(null, new Key(NAMESPACE, "customers", "missing"))).isFalse();
+        assertThat(client.delete(null, key)).isTrue();
+        assertThat(client.get(null, key)).isNull();
+    }
+
+    @Test
+    public void batchGet_readsFromAllNodes() {
+        Key[] keys = IntStream.range(0, 20).mapToObj(i -> new Key(NAMESPACE, "batch", i)).toArray(Key[]::new);
+        for (int i = 0; i < keys.length; i += 2) {
+            client.put(null, keys[i], new Bin("value", i));
+        }
+
+        Record[] records = client.get(null, keys);
+
+        for (int i = 0; i < keys.length; i++) {
+            if (i % 2 == 0) {
+                assertThat(records[i].getLong("value")).isEqualTo(i);
+            } else {
+                assertThat(records[i]).isNull();
+            }
+        }
+    }
+
+    @Test
+    public void query_usesSecondaryIndex() {
+        client.createIndex(null, NAMESPACE, "people", "age_idx", "age", IndexType.NUMERIC).waitTillComplete();
+        for (int i = 0; i < 10; i++) {
+            client.put(null, new Key(NAMESPACE, "people", i), new Bin("age", 20 + i));
+        }
+        Statement statement = new Statement();
+        statement.setNamespace(NAMESPACE);
+        statement.setSetName("people");
+        statement.setFilter(Filter.range("age", 22, 24));
+
+        List<Long> ages = new ArrayList<>();
+        try (RecordSet recordSet = client.query(null, statement)) {
+            while (recordSet.next()) {
+                ages.add(recordSet.getRecord().getLong("age"));
+            }
+        }
+
+        assertThat(ages).containsExactlyInAnyOrder(22L, 23L, 24L);
+    }
+
+    @Test
+    public void get_timesOut_whenNodeIsSlow() {
+        Key key = new Key(NAMESPACE, "slow", 1);
+        client.put(null, key, new Bin("value", 1));
+        server.setLatency(Duration.ofMillis(200));
+        Policy policy = new Policy();
+        policy.socketTimeout = 50;
+        policy.totalTimeout = 50;
+        policy.maxRetries = 0;
+
+        assertThatThrownBy(() -> client.get(policy, key)).isInstanceOf(AerospikeException.Timeout.class);
+    }
+
+    @Test
+    public void stoppedNode_partitionsMoveToRemainingNode() throws InterruptedException {
+        server.node(1).stop();
+        awaitNodes(1);
+
+        for (int i = 0; i < 50; i++) {
+            Key key = new Key(NAMESPACE, "failover", i);
+            client.put(null, key, new Bin("value", i));
+            assertThat(client.get(null, key).getLong("value")).isEqualTo(i);
+        }
+
+        server.node(1).start();
+        awaitNodes(2);
+    }
+
+    @Test
+    public void replicas_areEmpty_whenAllNodesStopped() {
+        server.node(0).stop();
+        server.node(1).stop();
+
+        String replicas = server.info(server.node(0), "replicas");
+
+        String bitmap = replicas.substring(replicas.lastIndexOf(',') + 1);
+        assertThat(replicas).startsWith(NAMESPACE + ":");
+        assertThat(Base64.getDecoder().decode(bitmap)).containsOnly(0);
+    }
+
+    private void awaitNodes(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (client.getNodes().length != count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(client.getNodes()).hasSize(count);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchResults;
+import com.aerospike.client.Bin;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.RecordSet;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link InMemoryAerospikeClient}.
+ */
+public class InMemoryAerospikeClientTest {
+
+    private static final String NAMESPACE = "test";
+
+    private final MutableClock clock = new MutableClock();
+    private final IAerospikeClient client = InMemoryAerospikeClient.create(new ClientPolicy(), clock, null);
+
+    @Test
+    public void put_andGet() {
+        Key key = new Key(NAMESPACE, "customers", "key1");
+        client.put(null, key, new Bin("name", "Dave"), new Bin("age", 42));
+
+        Record record = client.get(null, key);
+
+        assertThat(record.bins).containsEntry("name", "Dave").containsEntry("age", 42L);
+        assertThat(record.generation).isEqualTo(1);
+        assertThat(client.get(null, key, "age").bins).containsOnlyKeys("age");
+    }
+
+    @Test
+    public void operate_appliesOperationsInOrder() {
+        Key key = new Key(NAMESPACE, "counters", 1);
+        client.put(null, key, new Bin("count", 1));
+
+        Record record = client.operate(null, key, Operation.add(new Bin("count", 2)), Operation.get("count"));
+
+        assertThat(record.getLong("count")).isEqualTo(3);
+        assertThat(record.generation).isEqualTo(2);
+    }
+
+    @Test
+    public void put_checksRecordExistsActionAndGeneration() {
+        Key key = new Key(NAMESPACE, "customers", "key2");
+        WritePolicy createOnly = new WritePolicy();
+        createOnly.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+        client.put(createOnly, key, new Bin("name", "Dave"));
+
+        assertThatThrownBy(() -> client.put(createOnly, key, new Bin("name", "Carter")))
+                .isInstanceOfSatisfying(AerospikeException.class,
+                        e -> assertThat(e.getResultCode()).isEqualTo(ResultCode.KEY_EXISTS_ERROR));
+
+        WritePolicy expectGeneration = new WritePolicy();
+        expectGeneration.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+        expectGeneration.generation = 2;
+        assertThatThrownBy(() -> client.put(expectGeneration, key, new Bin("name", "Carter")))
+                .isInstanceOfSatisfying(AerospikeException.class,
+                        e -> assertThat(e.getResultCode()).isEqualTo(ResultCode.GENERATION_ERROR));
+    }
+
+    @Test
+    public void replace_dropsOtherBins() {
+        Key key = new Key(NAMESPACE, "customers", "key3");
+        client.put(null, key, new Bin("firstName", "Dave"), new Bin("lastName", "Matthews"));
+        WritePolicy replace = new WritePolicy();
+        replace.recordExistsAction = RecordExistsAction.REPLACE;
+
+        client.put(replace, key, new Bin("firstName", "Carter"));
+
+        assertThat(client.get(null, key).bins).containsOnlyKeys("firstName");
+    }
+
+    @Test
+    public void expiration_removesRecordAfterTtl() {
+        Key key = new Key(NAMESPACE, "sessions", "key4");
+        WritePolicy policy = new WritePolicy();
+        policy.expiration = 10;
+        client.put(policy, key, new Bin("token", "abc"));
+
+        long expectedExpiration = clock.instant().getEpochSecond() + 10 - StoredRecord.CITRUSLEAF_EPOCH_SECONDS;
+        assertThat(client.get(null, key).expiration).isEqualTo((int) expectedExpiration);
+
+        clock.advance(Duration.ofSeconds(11));
+
+        assertThat(client.exists(null, key)).isFalse();
+    }
+
+    @Test
+    public void delete_returnsWhetherRecordExisted() {
+        Key key = new Key(NAMESPACE, "customers", "key5");
+        client.put(null, key, new Bin("name", "Dave"));
+
+        assertThat(client.delete(null, key)).isTrue();
+        assertThat(client.delete(null, key)).isFalse();
+        assertThat(client.get(null, key)).isNull();
+    }
+
+    @Test
+    public void batch_readsAndWrites() {
+        Key[] keys = IntStream.range(0, 3).mapToObj(i -> new Key(NAMESPACE, "batch", i)).toArray(Key[]::new);
+
+        BatchResults results = client.operate(null, null, keys, Operation.put(new Bin("value", 7)));
+        Record[] records = client.get(null, new Key[]{keys[0], new Key(NAMESPACE, "batch", 42)});
+
+        assertThat(results.status).isTrue();
+        assertThat(results.records).extracting(record -> record.resultCode).containsOnly(ResultCode.OK);
+        assertThat(records[0].getLong("value")).isEqualTo(7);
+        assertThat(records[1]).isNull();
+    }
+
+    @Test
+    public void query_requiresIndexAndFiltersByRange() {
+        IntStream.range(0, 10).forEach(i ->
+                client.put(null, new Key(NAMESPACE, "people", i), new Bin("age", i * 10)));
+        Statement statement = new Statement();
+        statement.setNamespace(NAMESPACE);
+        statement.setSetName("people");
+        statement.setFilter(Filter.range("age", 20, 40));
+
+        assertThatThrownBy(() -> client.query(null, statement))
+                .isInstanceOfSatisfying(AerospikeException.class,
+                        e -> assertThat(e.getResultCode()).isEqualTo(ResultCode.INDEX_NOTFOUND));
+
+        client.createIndex(null, NAMESPACE, "people", "age_idx", "age", IndexType.NUMERIC);
+
+        assertThat(ages(client.query(null, statement))).containsExactlyInAnyOrder(20L, 30L, 40L);
+    }
+
+    @Test
+    public void query_appliesFilterExpression() {
+        client.put(null, new Key(NAMESPACE, "people", "dave"), new Bin("lastName", "Matthews"), new Bin("age", 50));
+        client.put(null, new Key(NAMESPACE, "people", "carter"), new Bin("lastName", "Beauford"), new Bin("age", 60));
+        Statement statement = new Statement();
+        statement.setNamespace(NAMESPACE);
+        statement.setSetName("people");
+        QueryPolicy policy = new QueryPolicy();
+        policy.filterExp = Exp.build(Exp.and(
+                Exp.eq(Exp.stringBin("lastName"), Exp.val("Matthews")),
+                Exp.ge(Exp.intBin("age"), Exp.val(18))));
+
+        assertThat(ages(client.query(policy, statement))).containsExactly(50L);
+    }
+
+    @Test
+    public void queryPartitions_returnsRecordsOfRequestedPartitions() {
+        List<Key> keys = IntStream.range(0, 100).mapToObj(i -> new Key(NAMESPACE, "scan", i)).toList();
+        keys.forEach(key -> client.put(null, key, new Bin("value", 1)));
+        Statement statement = new Statement();
+        statement.setNamespace(NAMESPACE);
+        statement.setSetName("scan");
+
+        List<Key> firstHalf = new ArrayList<>();
+        try (RecordSet recordSet = client.queryPartitions(null, statement, PartitionFilter.range(0, 2048))) {
+            recordSet.forEach(keyRecord -> firstHalf.add(keyRecord.key));
+        }
+
+        assertThat(firstHalf).isNotEmpty().hasSizeLessThan(keys.size())
+                .allMatch(key -> Digest.partitionId(key.digest) < 2048);
+    }
+
+    private static List<Object> ages(RecordSet recordSet) {
+        List<Object> ages = new ArrayList<>();
+        try (recordSet) {
+            for (KeyRecord keyRecord : recordSet) {
+                ages.add(keyRecord.record.getValue("age"));
+            }
+        }
+        return ages;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.aerospike.test.autoconfigure;
+
+import com.aerospike.client.IAerospikeClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.aerospike.test.AerospikeStandInServer;
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link DataAerospikeTest @DataAerospikeTest} with
+ * {@link AutoConfigureAerospikeStandIn @AutoConfigureAerospikeStandIn}.
+ */
+@DataAerospikeTest(properties = "spring.data.aerospike.namespace=test")
+@AutoConfigureAerospikeStandIn
+public class DataAerospikeTestIntegrationTest {
+
+    @Autowired
+    private CityRepository repository;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    public void repository_savesToStandIn() {
+        repository.save(new City("paris", "Paris"));
+
+        assertThat(repository.findById("paris")).map(City::getName).contains("Paris");
+        assertThat(context.getBean(IAerospikeClient.class).getNodes()).hasSize(1);
+    }
+
+    @Test
+    public void slice_loadsOnlyAerospikeComponents() {
+        assertThat(context.getBeansOfType(AerospikeStandInServer.class)).hasSize(1);
+        assertThat(context.getBeansOfType(CityService.class)).isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.test.index;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.aerospike.test.AerospikeStandInServer;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeAsyncIndexCreator;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeIndexProgress;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Repository queries on an index created by {@link AerospikeAsyncIndexCreator}, while the stand-in server builds it
+ * and once it is built.
+ */
+@SpringBootTest(
+        classes = IndexCreationTestApplication.class,
+        properties = {
+                "spring.data.aerospike.namespace=test",
+                "spring.data.aerospike.index-creation.async=true",
+                "spring.data.aerospike.index-creation.poll-interval=50ms",
+                "spring.data.aerospike.index-creation.pending-queries=fallback"
+        }
+)
+public class AsyncIndexCreationIntegrationTest {
+
+    private static final AerospikeStandInServer server = AerospikeStandInServer.start();
+
+    @Autowired
+    private ResidentRepository repository;
+
+    @Autowired
+    private AerospikeAsyncIndexCreator indexCreator;
+
+    @DynamicPropertySource
+    static void aerospikeProperties(DynamicPropertyRegistry registry) {
+        server.setIndexLoadPercent(50);
+        registry.add("spring.aerospike.hosts", server::getHosts);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void findByLastName_scansWhileIndexIsBuilt_andUsesIndexOnceBuilt() throws InterruptedException {
+        repository.save(new Resident("andrea", "Bocelli"));
+        repository.save(new Resident("luciano", "Pavarotti"));
+        await().atMost(Duration.ofSeconds(5))
+                .ignoreExceptions()
+                .until(() -> index().getState() == AerospikeIndexProgress.State.BUILDING);
+
+        // the server rejects queries on the index, the pending index interceptor turns them into scans
+        assertThat(repository.findByLastName("Bocelli")).extracting(Resident::getId).containsExactly("andrea");
+        assertThat(server.getIndexQueryCount()).isZero();
+
+        server.setIndexLoadPercent(100);
+        assertThat(index().await(Duration.ofSeconds(5))).isTrue();
+
+        assertThat(repository.findByLastName("Bocelli")).extracting(Resident::getId).containsExactly("andrea");
+        assertThat(server.getIndexQueryCount()).isEqualTo(1);
+    }
+
+    private AerospikeIndexProgress index() {
+        return indexCreator.getIndexes().stream()
+                .filter(index -> index.getName().equals("resident_last_name_idx"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
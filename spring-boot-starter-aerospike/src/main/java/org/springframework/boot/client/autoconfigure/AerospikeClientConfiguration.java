@@ -29,8 +29,10 @@ import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.IsClientOnly;
+import org.springframework.boot.autoconfigure.util.AerospikeRuntimeHints;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for Aerospike client.
@@ -42,6 +44,7 @@ import org.springframework.context.annotation.Conditional;
 @Conditional(IsClientOnly.class)
 @ConditionalOnClass(IAerospikeClient.class)
 @AutoConfigureAfter({AerospikeAutoConfiguration.class})
+@ImportRuntimeHints(AerospikeRuntimeHints.class)
 @Slf4j
 public class AerospikeClientConfiguration {
 
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.aerospike.reactive.data;
+
+import com.aerospike.client.IAerospikeClient;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Fails startup when the {@link IAerospikeClient} used by the reactor client has no event loops.
+ * The reactor client runs every command on them, so a client defined by the application without
+ * {@code ClientPolicy.eventLoops} would only fail on the first reactive command.
+ */
+public class AerospikeEventLoopsVerifier implements InitializingBean {
+
+    private final IAerospikeClient client;
+
+    public AerospikeEventLoopsVerifier(IAerospikeClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (client.getCluster().eventLoops == null) {
+            throw new IllegalStateException("The Aerospike client " + client.getClass().getName()
+                    + " has no event loops, which the reactive data starter needs. Set ClientPolicy.eventLoops "
+                    + "on the IAerospikeClient bean or remove it to let the starter create the client");
+        }
+    }
+}
@@ -17,20 +17,41 @@
 package org.springframework.boot.aerospike.reactive.data;
 
 import com.aerospike.client.Host;
+import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.async.EventLoops;
 import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.reactor.IAerospikeReactorClient;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeComponentsIndex;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataCommonConfiguration;
 import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataProperties;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataRuntimeHints;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeEntityScanner;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeReadCoalescer;
+import org.springframework.boot.autoconfigure.util.AerospikeClientAdvisingPostProcessor;
 import org.springframework.boot.autoconfigure.util.EventLoopsFactory;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.env.Environment;
 import org.springframework.data.aerospike.config.AbstractReactiveAerospikeDataConfiguration;
 import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.config.AerospikeSettings;
+import org.springframework.util.ClassUtils;
 
 import java.util.Collection;
+import java.util.Set;
 
 import static org.springframework.boot.autoconfigure.util.AerospikeConfigurationUtils.*;
+import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_DATA;
 
 /**
  * Configure Spring Data's Aerospike support.
@@ -41,12 +62,20 @@ import static org.springframework.boot.autoconfigure.util.AerospikeConfiguration
  */
 @Slf4j
 @Configuration
+@Import(AerospikeDataCommonConfiguration.class)
+@ImportRuntimeHints(AerospikeDataRuntimeHints.class)
 public class AerospikeReactiveDataConfiguration extends AbstractReactiveAerospikeDataConfiguration {
 
     @Autowired
     private AerospikeProperties properties;
     @Autowired
     private AerospikeDataProperties dataProperties;
+    @Autowired
+    private ObjectProvider<SslBundles> sslBundles;
+    @Autowired
+    private ListableBeanFactory beanFactory;
+    @Autowired
+    private Environment environment;
 
     @Override
     protected Collection<Host> getHosts() {
@@ -65,11 +94,51 @@ public class AerospikeReactiveDataConfiguration extends AbstractReactiveAerospik
 
     @Override
     protected ClientPolicy getClientPolicy() {
-        return getClientPolicyConfig(super.getClientPolicy(), properties);
+        return getClientPolicyConfig(super.getClientPolicy(), properties, sslBundles.getIfAvailable());
+    }
+
+    @Override
+    protected Set<Class<?>> getInitialEntitySet() throws ClassNotFoundException {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        if (AerospikeComponentsIndex.load(classLoader, environment) != null) {
+            return AerospikeEntityScanner.scan(beanFactory, classLoader, environment);
+        }
+        return super.getInitialEntitySet();
     }
 
     @Override
     protected void configureDataSettings(AerospikeDataSettings aerospikeDataSettings) {
         getDataSettings(dataProperties, aerospikeDataSettings);
     }
+
+    /**
+     * Reuses an {@link IAerospikeClient} that is already defined by the application, which must have event loops
+     * configured, see {@link AerospikeEventLoopsVerifier}.
+     */
+    @Bean(name = "aerospikeClient", destroyMethod = "close")
+    @ConditionalOnMissingBean(IAerospikeClient.class)
+    @Override
+    public IAerospikeClient aerospikeClient(AerospikeSettings settings) {
+        return super.aerospikeClient(settings);
+    }
+
+    @Bean
+    public AerospikeEventLoopsVerifier aerospikeEventLoopsVerifier(IAerospikeClient aerospikeClient) {
+        return new AerospikeEventLoopsVerifier(aerospikeClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_DATA, name = "read-coalescing.enabled", havingValue = "true")
+    public static AerospikeReadCoalescer aerospikeReadCoalescer(Environment environment) {
+        return new AerospikeReadCoalescer(
+                AerospikeDataCommonConfiguration.bindDataProperties(environment).getReadCoalescing());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CONFIG_PREFIX_DATA, name = "read-coalescing.enabled", havingValue = "true")
+    public static AerospikeClientAdvisingPostProcessor aerospikeReadCoalescingPostProcessor(
+            AerospikeReadCoalescer aerospikeReadCoalescer) {
+        return new AerospikeClientAdvisingPostProcessor(IAerospikeReactorClient.class, aerospikeReadCoalescer,
+                AerospikeClientAdvisingPostProcessor.READ_COALESCING_ORDER);
+    }
 }
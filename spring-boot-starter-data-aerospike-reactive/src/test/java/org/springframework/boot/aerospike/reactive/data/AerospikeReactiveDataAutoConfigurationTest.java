@@ -17,8 +17,11 @@
 package org.springframework.boot.aerospike.reactive.data;
 
 import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.cluster.Cluster;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.aerospike.data.AerospikeDataAutoConfiguration;
 import org.springframework.boot.aerospike.reactive.data.city.City;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.aerospike.AerospikeAutoConfiguration;
@@ -36,6 +39,8 @@ import org.springframework.data.util.TypeInformation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.springframework.boot.aerospike.reactive.data.TestUtils.getField;
 import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_CONNECTION;
 import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_DATA;
@@ -197,6 +202,36 @@ public class AerospikeReactiveDataAutoConfigurationTest {
                     assertThat(context).hasSingleBean(AerospikeProperties.class);
                     assertThat(context).hasSingleBean(AerospikeDataProperties.class);
                     assertThat(context).hasSingleBean(AerospikeMappingContext.class);
+                    assertThat(context).hasSingleBean(AerospikeEventLoopsVerifier.class);
                 });
     }
+
+    @Test
+    public void bothDataStartersShareOneClientAndEventLoops() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(AerospikeDataAutoConfiguration.class))
+                .withPropertyValues(CONFIG_PREFIX_CONNECTION + ".hosts=localhost:3000")
+                .withPropertyValues(CONFIG_PREFIX_DATA + ".namespace=TEST")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(IAerospikeClient.class);
+                    assertThat(context).hasSingleBean(EventLoops.class);
+                    assertThat(context).hasSingleBean(AerospikeMappingContext.class);
+                    assertThat(context).hasSingleBean(AerospikeTemplate.class);
+                    assertThat(context).hasSingleBean(ReactiveAerospikeTemplate.class);
+                    IAerospikeClient client = context.getBean(IAerospikeClient.class);
+                    assertThat(context.getBean(AerospikeTemplate.class).getAerospikeClient()).isSameAs(client);
+                    assertThat(client.getCluster().eventLoops).isSameAs(context.getBean(EventLoops.class));
+                });
+    }
+
+    @Test
+    public void clientWithoutEventLoopsIsRejected() {
+        IAerospikeClient client = mock(IAerospikeClient.class);
+        // a mocked cluster has no event loops
+        when(client.getCluster()).thenReturn(mock(Cluster.class));
+
+        assertThatThrownBy(() -> new AerospikeEventLoopsVerifier(client).afterPropertiesSet())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("has no event loops");
+    }
 }
@@ -21,7 +21,9 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.aerospike.AerospikeAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataProperties;
 import org.springframework.boot.autoconfigure.condition.IsClientOnly;
 import org.springframework.boot.autoconfigure.condition.IsNotClientOnly;
@@ -29,25 +31,37 @@ import org.springframework.boot.client.autoconfigure.AerospikeClientConfiguratio
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.aerospike.config.AbstractReactiveAerospikeDataConfiguration;
 import org.springframework.data.aerospike.repository.AerospikeRepository;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for Spring Data's Aerospike support.
+ * Runs after the reactive data auto-configuration, whose client and Spring Data infrastructure are reused
+ * when both data starters are present, see {@link AerospikeTemplateConfiguration}.
  *
  * @author Igor Ermolenko
  * @author Anastasiia Smirnova
  */
 @AutoConfiguration
 @ConditionalOnClass({IAerospikeClient.class, AerospikeRepository.class})
-@AutoConfigureAfter({AerospikeAutoConfiguration.class})
+@AutoConfigureAfter(value = AerospikeAutoConfiguration.class,
+        name = "org.springframework.boot.aerospike.reactive.data.AerospikeReactiveDataAutoConfiguration")
 public class AerospikeDataAutoConfiguration {
 
     @Conditional(IsNotClientOnly.class)
+    @ConditionalOnMissingBean(AbstractReactiveAerospikeDataConfiguration.class)
     @EnableConfigurationProperties(AerospikeDataProperties.class)
     @Import(AerospikeDataConfiguration.class)
     static class DataConfigurationImport {
     }
 
+    @Conditional(IsNotClientOnly.class)
+    @ConditionalOnBean(AbstractReactiveAerospikeDataConfiguration.class)
+    // Import only the template if the reactive data configuration defines the client and the infrastructure
+    @Import(AerospikeTemplateConfiguration.class)
+    static class TemplateConfigurationImport {
+    }
+
     @Conditional(IsClientOnly.class)
     // Import client configuration if 'namespace' is missing
     @Import(AerospikeClientConfiguration.class)
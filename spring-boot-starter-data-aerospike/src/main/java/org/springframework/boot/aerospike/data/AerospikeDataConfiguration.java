@@ -17,17 +17,36 @@
 package org.springframework.boot.aerospike.data;
 
 import com.aerospike.client.Host;
+import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.policy.ClientPolicy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeComponentsIndex;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataCommonConfiguration;
 import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataProperties;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataRuntimeHints;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeEntityScanner;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeWriteBehind;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.env.Environment;
 import org.springframework.data.aerospike.config.AbstractAerospikeDataConfiguration;
 import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.config.AerospikeSettings;
+import org.springframework.data.aerospike.core.AerospikeTemplate;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.util.ClassUtils;
 
 import java.util.Collection;
+import java.util.Set;
 
 import static org.springframework.boot.autoconfigure.util.AerospikeConfigurationUtils.*;
 
@@ -41,12 +60,20 @@ import static org.springframework.boot.autoconfigure.util.AerospikeConfiguration
 @Slf4j
 @Configuration
 @AutoConfigureAfter({AerospikeDataAutoConfiguration.class})
+@Import(AerospikeDataCommonConfiguration.class)
+@ImportRuntimeHints(AerospikeDataRuntimeHints.class)
 public class AerospikeDataConfiguration extends AbstractAerospikeDataConfiguration {
 
     @Autowired
     private AerospikeProperties properties;
     @Autowired
     private AerospikeDataProperties dataProperties;
+    @Autowired
+    private ObjectProvider<SslBundles> sslBundles;
+    @Autowired
+    private ListableBeanFactory beanFactory;
+    @Autowired
+    private Environment environment;
 
     @Override
     protected Collection<Host> getHosts() {
@@ -60,11 +87,40 @@ public class AerospikeDataConfiguration extends AbstractAerospikeDataConfigurati
 
     @Override
     protected ClientPolicy getClientPolicy() {
-        return getClientPolicyConfig(super.getClientPolicy(), properties);
+        return getClientPolicyConfig(super.getClientPolicy(), properties, sslBundles.getIfAvailable());
+    }
+
+    @Override
+    protected Set<Class<?>> getInitialEntitySet() throws ClassNotFoundException {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        if (AerospikeComponentsIndex.load(classLoader, environment) != null) {
+            return AerospikeEntityScanner.scan(beanFactory, classLoader, environment);
+        }
+        return super.getInitialEntitySet();
     }
 
     @Override
     protected void configureDataSettings(AerospikeDataSettings aerospikeDataSettings) {
         getDataSettings(dataProperties, aerospikeDataSettings);
     }
+
+    /**
+     * Reuses an {@link IAerospikeClient} that is already defined by the application, so that it shares
+     * one cluster connection with the starter.
+     */
+    @Bean(name = "aerospikeClient", destroyMethod = "close")
+    @ConditionalOnMissingBean(IAerospikeClient.class)
+    @Override
+    public IAerospikeClient aerospikeClient(AerospikeSettings settings) {
+        return super.aerospikeClient(settings);
+    }
+
+    @Bean
+    public static AerospikeWriteBehind aerospikeWriteBehind(Environment environment,
+                                                            ObjectProvider<AerospikeMappingContext> mappingContext,
+                                                            ObjectProvider<AerospikeTemplate> aerospikeTemplate) {
+        return new AerospikeWriteBehind(AerospikeDataCommonConfiguration.bindDataProperties(environment),
+                mappingContext,
+                entities -> aerospikeTemplate.getObject().saveAll(entities));
+    }
 }
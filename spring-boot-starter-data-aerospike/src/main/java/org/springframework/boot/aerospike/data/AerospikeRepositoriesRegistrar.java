@@ -16,10 +16,18 @@
 
 package org.springframework.boot.aerospike.data;
 
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanNameGenerator;
 import org.springframework.boot.autoconfigure.data.AbstractRepositoryConfigurationSourceSupport;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeComponentsIndex;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeRepositoriesBootstrap;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.aerospike.repository.config.AerospikeRepositoryConfigurationExtension;
 import org.springframework.data.aerospike.repository.config.EnableAerospikeRepositories;
+import org.springframework.data.repository.config.BootstrapMode;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
 
 import java.lang.annotation.Annotation;
@@ -31,6 +39,9 @@ import java.lang.annotation.Annotation;
  */
 public class AerospikeRepositoriesRegistrar extends AbstractRepositoryConfigurationSourceSupport {
 
+    private BootstrapMode bootstrapMode = BootstrapMode.DEFAULT;
+    private Environment environment;
+
     @Override
     protected Class<? extends Annotation> getAnnotation() {
         return EnableAerospikeRepositories.class;
@@ -46,6 +57,31 @@ public class AerospikeRepositoriesRegistrar extends AbstractRepositoryConfigurat
         return new AerospikeRepositoryConfigurationExtension();
     }
 
+    @Override
+    protected BootstrapMode getBootstrapMode() {
+        return bootstrapMode;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        super.setEnvironment(environment);
+        this.environment = environment;
+        this.bootstrapMode = AerospikeRepositoriesBootstrap.getBootstrapMode(environment);
+    }
+
+    @Override
+    public void setResourceLoader(ResourceLoader resourceLoader) {
+        super.setResourceLoader(AerospikeComponentsIndex.repositories(resourceLoader, environment));
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry,
+                                        BeanNameGenerator importBeanNameGenerator) {
+        AerospikeRepositoriesBootstrap.register(registry, bootstrapMode,
+                getRepositoryConfigurationExtension().getRepositoryFactoryBeanClassName(),
+                () -> super.registerBeanDefinitions(importingClassMetadata, registry, importBeanNameGenerator));
+    }
+
     @EnableAerospikeRepositories
     private static class EnableAerospikeRepositoriesConfiguration {
     }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.aerospike.data;
+
+import com.aerospike.client.Host;
+import com.aerospike.client.IAerospikeClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.data.aerospike.AerospikeWriteBehind;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.aerospike.config.AbstractAerospikeDataConfiguration;
+import org.springframework.data.aerospike.config.AerospikeSettings;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeExceptionTranslator;
+import org.springframework.data.aerospike.core.AerospikeTemplate;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
+import org.springframework.data.aerospike.query.QueryEngine;
+import org.springframework.data.aerospike.query.StatementBuilder;
+import org.springframework.data.aerospike.query.cache.IndexRefresher;
+import org.springframework.data.aerospike.query.cache.IndexesCacheUpdater;
+import org.springframework.data.aerospike.server.version.ServerVersionSupport;
+
+import java.util.Collection;
+
+/**
+ * Configure Spring Data's blocking Aerospike support next to the reactive one.
+ * Imported instead of {@link AerospikeDataConfiguration} when the reactive data starter is present as well.
+ * <p>
+ * The reactive data configuration then defines the client with its event loops, the mapping context, the converter,
+ * the index cache and the index creator, and this configuration only adds the {@link AerospikeTemplate} and the beans
+ * it needs, so both templates share one client. The beans are created by Spring Data's own bean methods, which
+ * cannot be registered as a configuration class here, as its shared beans would be defined a second time.
+ */
+@Configuration
+public class AerospikeTemplateConfiguration {
+
+    private final AbstractAerospikeDataConfiguration dataConfiguration = new AbstractAerospikeDataConfiguration() {
+
+        // hosts and namespace are only used to create the client, which is defined by the reactive configuration
+
+        @Override
+        protected Collection<Host> getHosts() {
+            return null;
+        }
+
+        @Override
+        protected String nameSpace() {
+            return null;
+        }
+    };
+
+    @Bean(name = "aerospikeQueryEngine")
+    public QueryEngine queryEngine(IAerospikeClient aerospikeClient, StatementBuilder statementBuilder,
+                                   FilterExpressionsBuilder filterExpressionsBuilder, AerospikeSettings settings) {
+        return dataConfiguration.queryEngine(aerospikeClient, statementBuilder, filterExpressionsBuilder, settings);
+    }
+
+    @Bean(name = "aerospikeIndexRefresher")
+    public IndexRefresher indexRefresher(IAerospikeClient aerospikeClient, IndexesCacheUpdater indexesCacheUpdater,
+                                         ServerVersionSupport serverVersionSupport, AerospikeSettings settings) {
+        return dataConfiguration.indexRefresher(aerospikeClient, indexesCacheUpdater, serverVersionSupport, settings);
+    }
+
+    @Bean(name = "aerospikeTemplate")
+    public AerospikeTemplate aerospikeTemplate(IAerospikeClient aerospikeClient,
+                                               MappingAerospikeConverter mappingAerospikeConverter,
+                                               AerospikeMappingContext aerospikeMappingContext,
+                                               AerospikeExceptionTranslator aerospikeExceptionTranslator,
+                                               QueryEngine queryEngine, IndexRefresher indexRefresher,
+                                               ServerVersionSupport serverVersionSupport, AerospikeSettings settings) {
+        return dataConfiguration.aerospikeTemplate(aerospikeClient, mappingAerospikeConverter,
+                aerospikeMappingContext, aerospikeExceptionTranslator, queryEngine, indexRefresher,
+                serverVersionSupport, settings);
+    }
+
+    @Bean
+    public static AerospikeWriteBehind aerospikeWriteBehind(Environment environment,
+                                                            ObjectProvider<AerospikeMappingContext> mappingContext,
+                                                            ObjectProvider<AerospikeTemplate> aerospikeTemplate) {
+        return AerospikeDataConfiguration.aerospikeWriteBehind(environment, mappingContext, aerospikeTemplate);
+    }
+}
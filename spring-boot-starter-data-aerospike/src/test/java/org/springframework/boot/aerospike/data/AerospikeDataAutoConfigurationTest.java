@@ -16,6 +16,7 @@
 
 package org.springframework.boot.aerospike.data;
 
+import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.reactor.AerospikeReactorClient;
 import com.aerospike.client.reactor.retry.AerospikeReactorRetryClient;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.aerospike.data.city.City;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.aerospike.AerospikeAutoConfiguration;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeClientsVerifier;
 import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
 import org.springframework.boot.autoconfigure.data.aerospike.AerospikeDataProperties;
 import org.springframework.boot.client.autoconfigure.AerospikeClientConfiguration;
@@ -259,4 +261,20 @@ public class AerospikeDataAutoConfigurationTest {
                     assertThat(context).hasSingleBean(AerospikeMappingContext.class);
                 });
     }
+
+    @Test
+    public void existingClientIsReused() {
+        contextRunner
+                .withPropertyValues(CONFIG_PREFIX_CONNECTION + ".hosts=localhost:3000")
+                .withPropertyValues(CONFIG_PREFIX_DATA + ".namespace=TEST")
+                .withBean("applicationAerospikeClient", IAerospikeClient.class,
+                        () -> new AerospikeClient("localhost", 3000))
+                .run(context -> {
+                    assertThat(context).hasSingleBean(IAerospikeClient.class);
+                    assertThat(context).hasSingleBean(AerospikeClientsVerifier.class);
+                    assertThat(context.getBean(AerospikeTemplate.class).getAerospikeClient())
+                            .isSameAs(context.getBean(IAerospikeClient.class));
+                    assertThat(context).doesNotHaveBean("aerospikeClient");
+                });
+    }
 }
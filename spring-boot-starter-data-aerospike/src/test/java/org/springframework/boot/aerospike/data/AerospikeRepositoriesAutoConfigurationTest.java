@@ -24,8 +24,13 @@ import org.springframework.boot.aerospike.data.city.City;
 import org.springframework.boot.aerospike.data.city.CityRepository;
 import org.springframework.boot.aerospike.data.empty.EmptyDataPackage;
 import org.springframework.boot.autoconfigure.aerospike.AerospikeAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_CONNECTION;
 import static org.springframework.data.aerospike.config.AerospikeDataConfigurationSupport.CONFIG_PREFIX_DATA;
@@ -84,6 +89,63 @@ public class AerospikeRepositoriesAutoConfigurationTest {
                 });
     }
 
+    @Test
+    public void repositoryIsLazy_forBootstrapModeLazy() {
+        contextRunner
+                .withUserConfiguration(DefaultConfiguration.class)
+                .withPropertyValues(CONFIG_PREFIX_DATA + ".repositories.bootstrap-mode=lazy")
+                .run(context -> {
+                    Assertions.assertThat(context.getBeanFactory().getBeanDefinition("cityRepository")
+                            .isLazyInit()).isTrue();
+                    Assertions.assertThat(context).hasSingleBean(CityRepository.class);
+                });
+    }
+
+    @Test
+    public void repositoryIsInitializedInBackground_forBootstrapModeDeferred() {
+        contextRunner
+                .withUserConfiguration(BootstrapExecutorConfiguration.class)
+                .withPropertyValues(CONFIG_PREFIX_DATA + ".repositories.bootstrap-mode=deferred")
+                .run(context -> {
+                    Assertions.assertThat(context.getBeanFactory().getBeanDefinition("cityRepository")
+                            .isBackgroundInit()).isTrue();
+                    Assertions.assertThat(context).hasSingleBean(CityRepository.class);
+                });
+    }
+
+    @Test
+    public void repositoryIsCreated_forBootstrapModeDeferredWithoutBootstrapExecutor() {
+        contextRunner
+                .withUserConfiguration(DefaultConfiguration.class)
+                .withPropertyValues(CONFIG_PREFIX_DATA + ".repositories.bootstrap-mode=deferred")
+                .run(context -> {
+                    Assertions.assertThat(context.getBeanFactory().getBeanDefinition("cityRepository")
+                            .isBackgroundInit()).isFalse();
+                    Assertions.assertThat(context).hasSingleBean(CityRepository.class);
+                });
+    }
+
+    @Test
+    public void repositoryIsInitializedInBackground_forBootstrapModeDeferredWithApplicationTaskExecutor() {
+        contextRunner
+                .withUserConfiguration(ApplicationTaskExecutorConfiguration.class)
+                .withPropertyValues(CONFIG_PREFIX_DATA + ".repositories.bootstrap-mode=deferred")
+                .run(context -> {
+                    Assertions.assertThat(context.getBeanFactory().getBeanDefinition("cityRepository")
+                            .isBackgroundInit()).isTrue();
+                    Assertions.assertThat(context).hasSingleBean(CityRepository.class);
+                });
+    }
+
+    @Test
+    public void contextFails_forInvalidBootstrapMode() {
+        contextRunner
+                .withUserConfiguration(DefaultConfiguration.class)
+                .withPropertyValues(CONFIG_PREFIX_DATA + ".repositories.bootstrap-mode=eager")
+                .run(context -> Assertions.assertThat(context).getFailure()
+                        .hasStackTraceContaining("Failed to bind properties under '"
+                                + CONFIG_PREFIX_DATA + ".repositories.bootstrap-mode'"));
+    }
 
     @Configuration
     @TestAutoConfigurationPackage(City.class)
@@ -94,4 +156,24 @@ public class AerospikeRepositoriesAutoConfigurationTest {
     @TestAutoConfigurationPackage(EmptyDataPackage.class)
     static class NoRepositoryConfiguration {
     }
+
+    @Configuration
+    @Import(DefaultConfiguration.class)
+    static class BootstrapExecutorConfiguration {
+
+        @Bean(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+        public SimpleAsyncTaskExecutor bootstrapExecutor() {
+            return new SimpleAsyncTaskExecutor("bootstrap-");
+        }
+    }
+
+    @Configuration
+    @Import(DefaultConfiguration.class)
+    static class ApplicationTaskExecutorConfiguration {
+
+        @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+        public SimpleAsyncTaskExecutor applicationTaskExecutor() {
+            return new SimpleAsyncTaskExecutor("task-");
+        }
+    }
 }
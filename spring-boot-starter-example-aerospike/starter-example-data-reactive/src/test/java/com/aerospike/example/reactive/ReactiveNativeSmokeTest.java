@@ -0,0 +1,53 @@
+package com.aerospike.example.reactive;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.aerospike.test.AerospikeStandInServer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@link ReactiveIntegrationTest} scenarios without Docker against an {@link AerospikeStandInServer},
+ * also as a native image with {@code -PnativeTest}.
+ */
+@SpringBootTest(
+        classes = ReactiveSpringDataAerospikeExampleApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "embedded.containers.enabled=false",
+                "embedded.aerospike.enabled=false",
+                "spring.data.aerospike.namespace=test"
+        }
+)
+public class ReactiveNativeSmokeTest extends ReactiveIntegrationTest {
+
+    private static final AerospikeStandInServer server = AerospikeStandInServer.start();
+
+    @Autowired
+    AerospikeMappingContext mappingContext;
+
+    @DynamicPropertySource
+    static void aerospikeProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.aerospike.hosts", server::getHosts);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    /**
+     * Entities are registered at build time in a native image, where the classpath cannot be scanned.
+     */
+    @Order(-1)
+    @Test
+    void knowsEntitiesOnStartup() {
+        assertThat(mappingContext.hasPersistentEntityFor(Customer.class)).isTrue();
+    }
+}
@@ -0,0 +1,50 @@
+package com.aerospike.example.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Synthetic customers as JSON request bodies. Identifiers {@code customer-0} to {@code customer-<records - 1>}
+ * are seeded before the measurement, last names repeat so that searches hit the secondary index
+ * with a bounded result size.
+ */
+public class CustomerGenerator {
+
+    static final int LAST_NAMES = 1000;
+
+    private static final List<String> FIRST_NAMES = List.of("Ada", "Alan", "Barbara", "Brian", "Claude", "Donald",
+            "Edsger", "Frances", "Grace", "John", "Ken", "Leslie", "Margaret", "Niklaus", "Radia", "Tony");
+
+    private final int records;
+
+    public CustomerGenerator(int records) {
+        this.records = records;
+    }
+
+    public int getRecords() {
+        return records;
+    }
+
+    public String seededId(int index) {
+        return "customer-" + index;
+    }
+
+    public String randomSeededId() {
+        return seededId(ThreadLocalRandom.current().nextInt(records));
+    }
+
+    public String randomLastName() {
+        return lastName(ThreadLocalRandom.current().nextInt(LAST_NAMES));
+    }
+
+    public String customer(String id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "{\"id\":\"%s\",\"firstName\":\"%s\",\"lastName\":\"%s\",\"age\":%d}".formatted(id,
+                FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())), lastName(random.nextInt(LAST_NAMES)),
+                18 + random.nextInt(80));
+    }
+
+    private static String lastName(int index) {
+        return "Name" + index;
+    }
+}
@@ -0,0 +1,185 @@
+package com.aerospike.example.loadtest;
+
+import com.aerospike.example.loadtest.RequestMix.Operation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against the customer API: every worker thread sends its next request as soon as
+ * the previous response arrived, so throughput is bounded by latency and {@code concurrency}.
+ */
+public class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUri;
+    private final CustomerGenerator customers;
+    private final RequestMix mix;
+    private final int concurrency;
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+    private final AtomicLong createdIds = new AtomicLong();
+
+    public LoadGenerator(String baseUri, CustomerGenerator customers, RequestMix mix, int concurrency) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.baseUri = baseUri;
+        this.customers = customers;
+        this.mix = mix;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Creates the records that reads, updates and searches address.
+     */
+    public void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < customers.getRecords(); i++) {
+            HttpResponse<Void> response = client.send(post(customers.seededId(i)),
+                    HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode());
+            }
+        }
+    }
+
+    /**
+     * Runs the request mix for the given duration and returns the latencies of all completed requests.
+     */
+    public Result run(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Recorder> recorders = new ArrayList<>(concurrency);
+        List<Thread> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            Thread worker = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    execute(mix.next(), recorder);
+                }
+            }, "load-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return Result.merge(recorders, duration);
+    }
+
+    private void execute(Operation operation, Recorder recorder) {
+        HttpRequest request = request(operation);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long latency = System.nanoTime() - start;
+            if (response.statusCode() / 100 == 2) {
+                recorder.latencies(operation).add(latency);
+            } else {
+                recorder.errors.merge(operation, 1L, Long::sum);
+            }
+        } catch (IOException e) {
+            recorder.errors.merge(operation, 1L, Long::sum);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        return switch (operation) {
+            case GET -> builder("/customer/" + customers.randomSeededId()).GET().build();
+            case CREATE -> {
+                String id = "created-" + createdIds.incrementAndGet();
+                created.add(id);
+                yield post(id);
+            }
+            case UPDATE -> {
+                String id = customers.randomSeededId();
+                yield builder("/customer/" + id).PUT(HttpRequest.BodyPublishers.ofString(customers.customer(id)))
+                        .header("Content-Type", "application/json")
+                        .build();
+            }
+            case DELETE -> {
+                String id = created.poll();
+                yield builder("/customer/" + (id != null ? id : customers.randomSeededId())).DELETE().build();
+            }
+            case SEARCH -> builder("/customers/search?lastName=" + customers.randomLastName()).GET().build();
+        };
+    }
+
+    private HttpRequest post(String id) {
+        return builder("/customer").POST(HttpRequest.BodyPublishers.ofString(customers.customer(id)))
+                .header("Content-Type", "application/json")
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private static class Recorder {
+
+        private final Map<Operation, Latencies> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+        Latencies latencies(Operation operation) {
+            return latencies.computeIfAbsent(operation, key -> new Latencies());
+        }
+    }
+
+    private static class Latencies {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * Sorted latencies in nanoseconds and error counts per operation.
+     */
+    public record Result(Duration duration, Map<Operation, long[]> latencies, Map<Operation, Long> errors) {
+
+        static Result merge(List<Recorder> recorders, Duration duration) {
+            Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+            Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                long[] merged = recorders.stream()
+                        .map(recorder -> recorder.latencies.get(operation))
+                        .filter(Objects::nonNull)
+                        .flatMapToLong(values -> Arrays.stream(values.values, 0, values.size))
+                        .sorted()
+                        .toArray();
+                long errorCount = recorders.stream()
+                        .mapToLong(recorder -> recorder.errors.getOrDefault(operation, 0L))
+                        .sum();
+                if (merged.length > 0 || errorCount > 0) {
+                    latencies.put(operation, merged);
+                    errors.put(operation, errorCount);
+                }
+            }
+            return new Result(duration, latencies, errors);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.aerospike.example.loadtest;
+
+import com.aerospike.example.loadtest.LoadGenerator.Result;
+import com.aerospike.example.loadtest.RequestMix.Operation;
+import org.springframework.boot.autoconfigure.aerospike.AerospikeProperties;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles of a load test run, printed as a table and optionally appended to
+ * a CSV file, one row per operation, so that runs against different starter versions can be compared.
+ */
+public class LoadTestReport {
+
+    private static final String CSV_HEADER = "version,target,mix,concurrency,operation,requests,errors,"
+            + "throughput,p50_us,p90_us,p99_us,p999_us,max_us";
+
+    private final String version;
+    private final LoadTestTarget target;
+    private final RequestMix mix;
+    private final int concurrency;
+    private final Result result;
+
+    public LoadTestReport(LoadTestTarget target, RequestMix mix, int concurrency, Result result) {
+        String implementationVersion = AerospikeProperties.class.getPackage().getImplementationVersion();
+        this.version = implementationVersion != null ? implementationVersion : "unknown";
+        this.target = target;
+        this.mix = mix;
+        this.concurrency = concurrency;
+        this.result = result;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("starters %s, target %s, mix %s, concurrency %d, %d s%n", version, target, mix, concurrency,
+                result.duration().toSeconds());
+        out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n", "op", "requests", "errors", "ops/s",
+                "p50 us", "p90 us", "p99 us", "p99.9 us", "max us");
+        for (List<String> row : rows()) {
+            out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n", row.subList(4, row.size()).toArray());
+        }
+    }
+
+    public void appendCsv(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(file)) {
+            lines.add(CSV_HEADER);
+        }
+        rows().forEach(row -> lines.add(String.join(",", row)));
+        Files.write(file, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private List<List<String>> rows() {
+        List<List<String>> rows = new ArrayList<>();
+        long[] all = result.latencies().values().stream()
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        long allErrors = result.errors().values().stream().mapToLong(Long::longValue).sum();
+        for (Map.Entry<Operation, long[]> entry : result.latencies().entrySet()) {
+            rows.add(row(entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue(),
+                    result.errors().get(entry.getKey())));
+        }
+        rows.add(row("total", all, allErrors));
+        return rows;
+    }
+
+    private List<String> row(String operation, long[] sorted, long errors) {
+        double seconds = result.duration().toNanos() / 1e9;
+        return List.of(version, target.name(), "\"" + mix + "\"", String.valueOf(concurrency), operation,
+                String.valueOf(sorted.length), String.valueOf(errors),
+                String.valueOf(Math.round(sorted.length / seconds)),
+                micros(sorted, 0.5), micros(sorted, 0.9), micros(sorted, 0.99), micros(sorted, 0.999),
+                micros(sorted, 1.0));
+    }
+
+    private static String micros(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return String.valueOf(sorted[Math.max(index, 0)] / 1000);
+    }
+}
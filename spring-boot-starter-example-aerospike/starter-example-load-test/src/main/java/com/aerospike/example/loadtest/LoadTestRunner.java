@@ -0,0 +1,100 @@
+package com.aerospike.example.loadtest;
+
+import org.springframework.boot.aerospike.test.AerospikeStandInServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Starts an example application against an {@link AerospikeStandInServer} on a random port, seeds customers,
+ * runs a warm-up and a measured closed-loop load and reports throughput and latency percentiles.
+ * <p>
+ * Options: {@code --target=SYNC|SYNC_VIRTUAL_THREADS|REACTIVE}, {@code --concurrency=64},
+ * {@code --duration=60s}, {@code --warmup=20s}, {@code --mix=get=70,create=10,update=10,delete=5,search=5},
+ * {@code --records=10000}, {@code --latency=0ms} (per command on the stand-in server) and
+ * {@code --output=results.csv}. Remaining {@code --} arguments are passed to the application.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArguments = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator > 2 && arg.startsWith("--") ? arg.substring(2, separator) : null;
+            if (name != null && List.of("target", "concurrency", "duration", "warmup", "mix", "records", "latency",
+                    "output").contains(name)) {
+                options.put(name, arg.substring(separator + 1));
+            } else {
+                applicationArguments.add(arg);
+            }
+        }
+        LoadTestTarget target = LoadTestTarget.valueOf(options.getOrDefault("target", "SYNC")
+                .toUpperCase(Locale.ROOT));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        Duration duration = duration(options.getOrDefault("duration", "60s"));
+        Duration warmup = duration(options.getOrDefault("warmup", "20s"));
+        RequestMix mix = RequestMix.parse(options.getOrDefault("mix", RequestMix.DEFAULT));
+        CustomerGenerator customers = new CustomerGenerator(Integer.parseInt(options.getOrDefault("records", "10000")));
+
+        try (AerospikeStandInServer server = AerospikeStandInServer.start(1, "test")) {
+            server.setLatency(duration(options.getOrDefault("latency", "0ms")));
+            try (ConfigurableApplicationContext context = start(target, server, applicationArguments)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                LoadGenerator generator = new LoadGenerator("http://localhost:" + port + target.getBasePath(),
+                        customers, mix, concurrency);
+                generator.seed();
+                if (!warmup.isZero()) {
+                    generator.run(warmup);
+                }
+                LoadTestReport report = new LoadTestReport(target, mix, concurrency, generator.run(duration));
+                report.print(System.out);
+                if (options.containsKey("output")) {
+                    report.appendCsv(Path.of(options.get("output")));
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestTarget target, AerospikeStandInServer server,
+                                                        List<String> applicationArguments) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.aerospike.hosts=" + server.getHosts(),
+                "--spring.data.aerospike.namespace=test",
+                "--spring.data.aerospike.scans-enabled=true",
+                "--spring.cloud.bootstrap.enabled=false",
+                "--embedded.containers.enabled=false",
+                "--server.port=0",
+                "--logging.level.com.aerospike.example=WARN"));
+        arguments.addAll(List.of(target.getArguments()));
+        arguments.addAll(applicationArguments);
+        return new SpringApplicationBuilder(target.getApplication())
+                .web(target.getWebApplicationType())
+                .run(arguments.toArray(new String[0]));
+    }
+
+    private static Duration duration(String value) {
+        String lower = value.trim().toLowerCase(Locale.ROOT);
+        if (lower.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(lower.substring(0, lower.length() - 2)));
+        }
+        if (lower.endsWith("us")) {
+            return Duration.ofNanos(Long.parseLong(lower.substring(0, lower.length() - 2)) * 1000);
+        }
+        if (lower.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(lower.substring(0, lower.length() - 1)));
+        }
+        if (lower.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(lower.substring(0, lower.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(lower));
+    }
+}
@@ -0,0 +1,54 @@
+package com.aerospike.example.loadtest;
+
+import org.springframework.boot.WebApplicationType;
+
+/**
+ * Example applications the load test can drive.
+ */
+public enum LoadTestTarget {
+
+    /**
+     * {@code CustomerController} on Tomcat with the default request thread pool.
+     */
+    SYNC(SyncTargetApplication.class, WebApplicationType.SERVLET, "/sync"),
+
+    /**
+     * {@code CustomerController} on Tomcat with virtual threads, requires Java 21.
+     */
+    SYNC_VIRTUAL_THREADS(SyncTargetApplication.class, WebApplicationType.SERVLET, "/sync",
+            "--spring.threads.virtual.enabled=true"),
+
+    /**
+     * {@code ReactiveCustomerController} on Netty.
+     */
+    REACTIVE(ReactiveTargetApplication.class, WebApplicationType.REACTIVE, "/reactive");
+
+    private final Class<?> application;
+    private final WebApplicationType webApplicationType;
+    private final String basePath;
+    private final String[] arguments;
+
+    LoadTestTarget(Class<?> application, WebApplicationType webApplicationType, String basePath,
+                   String... arguments) {
+        this.application = application;
+        this.webApplicationType = webApplicationType;
+        this.basePath = basePath;
+        this.arguments = arguments;
+    }
+
+    public Class<?> getApplication() {
+        return application;
+    }
+
+    public WebApplicationType getWebApplicationType() {
+        return webApplicationType;
+    }
+
+    public String getBasePath() {
+        return basePath;
+    }
+
+    public String[] getArguments() {
+        return arguments.clone();
+    }
+}
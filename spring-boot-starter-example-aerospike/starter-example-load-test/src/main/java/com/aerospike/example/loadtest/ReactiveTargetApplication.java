@@ -0,0 +1,25 @@
+package com.aerospike.example.loadtest;
+
+import com.aerospike.example.reactive.ReactiveCustomerController;
+import com.aerospike.example.reactive.ReactiveCustomerRepository;
+import org.springframework.boot.aerospike.data.AerospikeDataAutoConfiguration;
+import org.springframework.boot.aerospike.data.AerospikeRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.aerospike.repository.config.EnableReactiveAerospikeRepositories;
+
+/**
+ * The {@code starter-example-data-reactive} application without component scanning.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAutoConfiguration(exclude = {AerospikeDataAutoConfiguration.class,
+        AerospikeRepositoriesAutoConfiguration.class})
+@EnableReactiveAerospikeRepositories(basePackageClasses = ReactiveCustomerRepository.class,
+        includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                classes = ReactiveCustomerRepository.class))
+@Import(ReactiveCustomerController.class)
+public class ReactiveTargetApplication {
+}
@@ -0,0 +1,25 @@
+package com.aerospike.example.loadtest;
+
+import com.aerospike.example.CustomerController;
+import com.aerospike.example.CustomerRepository;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.aerospike.reactive.data.AerospikeReactiveDataAutoConfiguration;
+import org.springframework.boot.aerospike.reactive.data.AerospikeReactiveRepositoriesAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.aerospike.repository.config.EnableAerospikeRepositories;
+
+/**
+ * The {@code starter-example-data} application without component scanning, so the reactive example
+ * on the same classpath stays out of it.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAutoConfiguration(exclude = {AerospikeReactiveDataAutoConfiguration.class,
+        AerospikeReactiveRepositoriesAutoConfiguration.class})
+@EnableAerospikeRepositories(basePackageClasses = CustomerRepository.class,
+        includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CustomerRepository.class))
+@Import(CustomerController.class)
+public class SyncTargetApplication {
+}